@@ -0,0 +1,71 @@
+package com.mogilan.task1.benchmark;
+
+import com.mogilan.task1.ArrayList;
+import com.mogilan.task1.ConcurrentArrayList;
+import com.mogilan.task1.LockFreeAppendList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures appends from many producer threads into a shared list: {@link LockFreeAppendList} against
+ * {@link ConcurrentArrayList} and {@link ArrayList} with every call wrapped in a {@code synchronized} block.
+ *
+ * <p>Each iteration starts with empty lists, and every thread adds {@value #ADDS_PER_THREAD} elements; the score
+ * is the time of the whole iteration. Run with different numbers of threads (for example {@code -t 1},
+ * {@code -t 4}, {@code -t 16}) to see how appends scale with the number of producers.</p>
+ *
+ * @author Ilya Mogilan
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 20, batchSize = AppendBenchmark.ADDS_PER_THREAD)
+@Measurement(iterations = 20, batchSize = AppendBenchmark.ADDS_PER_THREAD)
+@Fork(2)
+@State(Scope.Benchmark)
+public class AppendBenchmark {
+
+    static final int ADDS_PER_THREAD = 100000;
+
+    private static final Integer ELEMENT = 42;
+
+    private LockFreeAppendList<Integer> lockFreeList;
+
+    private ConcurrentArrayList<Integer> concurrentList;
+
+    private ArrayList<Integer> synchronizedList;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        lockFreeList = new LockFreeAppendList<>();
+        concurrentList = new ConcurrentArrayList<>();
+        synchronizedList = new ArrayList<>();
+    }
+
+    @Benchmark
+    public void lockFreeAdd() {
+        lockFreeList.add(ELEMENT);
+    }
+
+    @Benchmark
+    public void concurrentAdd() {
+        concurrentList.add(ELEMENT);
+    }
+
+    @Benchmark
+    public void synchronizedAdd() {
+        synchronized (synchronizedList) {
+            synchronizedList.add(ELEMENT);
+        }
+    }
+}
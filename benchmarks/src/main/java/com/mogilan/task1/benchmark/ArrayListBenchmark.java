@@ -0,0 +1,179 @@
+package com.mogilan.task1.benchmark;
+
+import com.mogilan.task1.ArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures every single-element operation of {@link ArrayList} and the same operation of
+ * {@link java.util.ArrayList} on a list of the same size. Benchmarks of {@link java.util.ArrayList} are prefixed
+ * with {@code jdk}.
+ *
+ * <p>Operations that change the size of the list are paired with a cheap operation at the end of the list that
+ * restores the size, so that every invocation works on a list of the same length.</p>
+ *
+ * @author Ilya Mogilan
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Thread)
+public class ArrayListBenchmark {
+
+    private static final int RANDOM_INDICES = 1024;
+
+    @Param({"10", "1000", "100000", "10000000"})
+    private int size;
+
+    private ArrayList<Integer> list;
+
+    private java.util.ArrayList<Integer> jdkList;
+
+    private int[] randomIndices;
+
+    private int currentIndex;
+
+    private Integer value;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        var elements = InputDistribution.RANDOM.generate(size);
+        list = new ArrayList<>();
+        jdkList = new java.util.ArrayList<>();
+        for (Integer element : elements) {
+            list.add(element);
+            jdkList.add(element);
+        }
+        var random = new Random(size);
+        randomIndices = new int[RANDOM_INDICES];
+        for (int i = 0; i < RANDOM_INDICES; i++) {
+            randomIndices[i] = random.nextInt(size);
+        }
+        value = -1;
+    }
+
+    private int nextIndex() {
+        currentIndex = (currentIndex + 1) & (RANDOM_INDICES - 1);
+        return randomIndices[currentIndex];
+    }
+
+    @Benchmark
+    public ArrayList<Integer> add() {
+        var result = new ArrayList<Integer>();
+        for (int i = 0; i < size; i++) {
+            result.add(value);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public java.util.ArrayList<Integer> jdkAdd() {
+        var result = new java.util.ArrayList<Integer>();
+        for (int i = 0; i < size; i++) {
+            result.add(value);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Integer addAtIndex() {
+        list.add(size / 2, value);
+        return list.remove(size);
+    }
+
+    @Benchmark
+    public Integer jdkAddAtIndex() {
+        jdkList.add(size / 2, value);
+        return jdkList.remove(size);
+    }
+
+    @Benchmark
+    public Integer get() {
+        return list.get(nextIndex());
+    }
+
+    @Benchmark
+    public Integer jdkGet() {
+        return jdkList.get(nextIndex());
+    }
+
+    @Benchmark
+    public Integer set() {
+        return list.set(nextIndex(), value);
+    }
+
+    @Benchmark
+    public Integer jdkSet() {
+        return jdkList.set(nextIndex(), value);
+    }
+
+    @Benchmark
+    public boolean removeByValue() {
+        var removingElement = list.get(size / 2);
+        var result = list.remove(removingElement);
+        list.add(removingElement);
+        return result;
+    }
+
+    @Benchmark
+    public boolean jdkRemoveByValue() {
+        var removingElement = jdkList.get(size / 2);
+        var result = jdkList.remove(removingElement);
+        jdkList.add(removingElement);
+        return result;
+    }
+
+    @Benchmark
+    public Integer removeByIndex() {
+        var result = list.remove(size / 2);
+        list.add(result);
+        return result;
+    }
+
+    @Benchmark
+    public Integer jdkRemoveByIndex() {
+        var result = jdkList.remove(size / 2);
+        jdkList.add(result);
+        return result;
+    }
+
+    @Benchmark
+    public String toStringOfList() {
+        return list.toString();
+    }
+
+    @Benchmark
+    public String jdkToStringOfList() {
+        return jdkList.toString();
+    }
+
+    @Benchmark
+    public void fullScan(Blackhole blackhole) {
+        for (int i = 0; i < size; i++) {
+            blackhole.consume(list.get(i));
+        }
+    }
+
+    @Benchmark
+    public void jdkFullScan(Blackhole blackhole) {
+        for (int i = 0; i < size; i++) {
+            blackhole.consume(jdkList.get(i));
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.mogilan.task1.benchmark;
+
+import com.mogilan.task1.ArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures applying random positional inserts and removes to a list of size elements: recorded
+ * in a ListBatch and committed at once, against add(int, E) and remove(int) called one by one, each of which
+ * moves the tail of the list. Both variants produce the same list.
+ *
+ * @author Ilya Mogilan
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class BatchBenchmark {
+
+    @Param({"10000", "100000"})
+    private int size;
+
+    @Param({"100", "10000"})
+    private int operations;
+
+    private Integer[] initialElements;
+
+    /**
+     * Original indexes of the operations, sorted in descending order so that applying them one by one from
+     * the end gives the same result as the batch.
+     */
+    private int[] indexes;
+
+    private boolean[] inserts;
+
+    @Setup
+    public void setUp() {
+        initialElements = InputDistribution.RANDOM.generate(size);
+        var random = new Random(42);
+        indexes = new int[operations];
+        inserts = new boolean[operations];
+        var used = new boolean[size];
+        for (int i = 0; i < operations; i++) {
+            int index;
+            do {
+                index = random.nextInt(size);
+            } while (used[index]);
+            used[index] = true;
+            indexes[i] = index;
+        }
+        Arrays.sort(indexes);
+        for (int i = 0; i < operations / 2; i++) {
+            int swapped = indexes[i];
+            indexes[i] = indexes[operations - 1 - i];
+            indexes[operations - 1 - i] = swapped;
+        }
+        for (int i = 0; i < operations; i++) {
+            inserts[i] = random.nextBoolean();
+        }
+    }
+
+    @Benchmark
+    public ArrayList<Integer> batch() {
+        var list = newList();
+        var batch = list.batch();
+        for (int i = 0; i < operations; i++) {
+            if (inserts[i]) {
+                batch.add(indexes[i], i);
+            } else {
+                batch.remove(indexes[i]);
+            }
+        }
+        batch.commit();
+        return list;
+    }
+
+    @Benchmark
+    public ArrayList<Integer> oneByOne() {
+        var list = newList();
+        for (int i = 0; i < operations; i++) {
+            if (inserts[i]) {
+                list.add(indexes[i], i);
+            } else {
+                list.remove(indexes[i]);
+            }
+        }
+        return list;
+    }
+
+    private ArrayList<Integer> newList() {
+        var list = new ArrayList<Integer>(size);
+        list.addAll(initialElements);
+        return list;
+    }
+}
@@ -0,0 +1,85 @@
+package com.mogilan.task1.benchmark;
+
+import com.mogilan.task1.ArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures inserting a batch of batchSize elements into the middle of a list of size elements: the bulk method
+ * addAll(int, List) against a loop of add(int, E), which moves the tail of the list once per element.
+ *
+ * @author Ilya Mogilan
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class BulkBenchmark {
+
+    @Param({"10000", "100000"})
+    private int size;
+
+    @Param({"10", "10000"})
+    private int batchSize;
+
+    private Integer[] initialElements;
+
+    private Integer[] batchArray;
+
+    private ArrayList<Integer> batch;
+
+    private java.util.List<Integer> jdkBatch;
+
+    @Setup
+    public void setUp() {
+        initialElements = InputDistribution.RANDOM.generate(size);
+        batchArray = InputDistribution.RANDOM.generate(batchSize);
+        batch = new ArrayList<>(batchSize);
+        batch.addAll(batchArray);
+        jdkBatch = Arrays.asList(batchArray);
+    }
+
+    @Benchmark
+    public ArrayList<Integer> bulkInsert() {
+        var list = newList();
+        list.addAll(size / 2, batch);
+        return list;
+    }
+
+    @Benchmark
+    public ArrayList<Integer> elementwiseInsert() {
+        var list = newList();
+        int index = size / 2;
+        for (Integer element : batchArray) {
+            list.add(index++, element);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public java.util.ArrayList<Integer> jdkBulkInsert() {
+        var list = new java.util.ArrayList<>(Arrays.asList(initialElements));
+        list.addAll(size / 2, jdkBatch);
+        return list;
+    }
+
+    private ArrayList<Integer> newList() {
+        var list = new ArrayList<Integer>(size);
+        list.addAll(initialElements);
+        return list;
+    }
+}
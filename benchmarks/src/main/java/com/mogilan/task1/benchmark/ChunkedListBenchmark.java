@@ -0,0 +1,69 @@
+package com.mogilan.task1.benchmark;
+
+import com.mogilan.task1.ArrayList;
+import com.mogilan.task1.ChunkedArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures filling an empty list with size elements: {@link ChunkedArrayList}, which allocates a new page
+ * when it is full, against {@link ArrayList} and {@link java.util.ArrayList}, which copy the whole array.
+ *
+ * <p>The same element is added every time, so the measured allocations are those of the lists themselves.
+ * Run with the GC profiler and the G1 log to compare allocation rate and pauses, for example:</p>
+ * <pre>
+ * java -jar benchmarks/target/benchmarks.jar ChunkedListBenchmark -p size=100000000 -prof gc -jvmArgsAppend -Xlog:gc
+ * </pre>
+ *
+ * @author Ilya Mogilan
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(value = 2, jvmArgsAppend = {"-XX:+UseG1GC", "-Xms3g", "-Xmx3g"})
+@State(Scope.Benchmark)
+public class ChunkedListBenchmark {
+
+    private static final Integer ELEMENT = 42;
+
+    @Param({"1000000", "100000000"})
+    private int size;
+
+    @Benchmark
+    public ChunkedArrayList<Integer> chunkedFill() {
+        var list = new ChunkedArrayList<Integer>();
+        for (int i = 0; i < size; i++) {
+            list.add(ELEMENT);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public ArrayList<Integer> fill() {
+        var list = new ArrayList<Integer>();
+        for (int i = 0; i < size; i++) {
+            list.add(ELEMENT);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public java.util.ArrayList<Integer> jdkFill() {
+        var list = new java.util.ArrayList<Integer>();
+        for (int i = 0; i < size; i++) {
+            list.add(ELEMENT);
+        }
+        return list;
+    }
+}
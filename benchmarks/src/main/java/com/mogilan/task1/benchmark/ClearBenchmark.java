@@ -0,0 +1,91 @@
+package com.mogilan.task1.benchmark;
+
+import com.mogilan.task1.ArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link ArrayList#clear()} against {@link java.util.ArrayList#clear()}. Clearing destroys the state,
+ * so the list is refilled before every invocation; the refill is not included in the measured time.
+ *
+ * @author Ilya Mogilan
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 20, batchSize = 1)
+@Measurement(iterations = 20, batchSize = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class ClearBenchmark {
+
+    @State(Scope.Thread)
+    public static class ListState {
+
+        @Param({"10", "1000", "100000", "10000000"})
+        private int size;
+
+        private Integer[] elements;
+
+        private ArrayList<Integer> list;
+
+        @Setup(Level.Trial)
+        public void generateElements() {
+            elements = InputDistribution.RANDOM.generate(size);
+            list = new ArrayList<>(size);
+        }
+
+        @Setup(Level.Invocation)
+        public void fillList() {
+            for (Integer element : elements) {
+                list.add(element);
+            }
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class JdkListState {
+
+        @Param({"10", "1000", "100000", "10000000"})
+        private int size;
+
+        private Integer[] elements;
+
+        private java.util.ArrayList<Integer> list;
+
+        @Setup(Level.Trial)
+        public void generateElements() {
+            elements = InputDistribution.RANDOM.generate(size);
+            list = new java.util.ArrayList<>(size);
+        }
+
+        @Setup(Level.Invocation)
+        public void fillList() {
+            for (Integer element : elements) {
+                list.add(element);
+            }
+        }
+    }
+
+    @Benchmark
+    public ArrayList<Integer> clear(ListState state) {
+        state.list.clear();
+        return state.list;
+    }
+
+    @Benchmark
+    public java.util.ArrayList<Integer> jdkClear(JdkListState state) {
+        state.list.clear();
+        return state.list;
+    }
+}
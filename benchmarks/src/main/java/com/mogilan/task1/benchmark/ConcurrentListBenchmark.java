@@ -0,0 +1,119 @@
+package com.mogilan.task1.benchmark;
+
+import com.mogilan.task1.ArrayList;
+import com.mogilan.task1.ConcurrentArrayList;
+import com.mogilan.task1.CopyOnWriteArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures throughput of reads from a list shared between threads: {@link ConcurrentArrayList} and
+ * {@link CopyOnWriteArrayList} against {@link ArrayList} with every call wrapped in a {@code synchronized} block.
+ *
+ * <p>Benchmarks without a group are read-only; run them with different numbers of threads
+ * (for example {@code -t 1}, {@code -t 4}, {@code -t 16}) to see how read throughput scales.
+ * Group benchmarks run seven reader threads and one writer thread that keeps replacing elements.</p>
+ *
+ * @author Ilya Mogilan
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class ConcurrentListBenchmark {
+
+    @Param({"1000", "1000000"})
+    private int size;
+
+    private ConcurrentArrayList<Integer> concurrentList;
+
+    private ArrayList<Integer> synchronizedList;
+
+    private CopyOnWriteArrayList<Integer> copyOnWriteList;
+
+    @Setup
+    public void setUp() {
+        concurrentList = new ConcurrentArrayList<>(size);
+        synchronizedList = new ArrayList<>(size);
+        copyOnWriteList = new CopyOnWriteArrayList<>();
+        var elements = InputDistribution.RANDOM.generate(size);
+        for (Integer element : elements) {
+            concurrentList.add(element);
+            synchronizedList.add(element);
+        }
+        copyOnWriteList.update(list -> {
+            for (Integer element : elements) {
+                list.add(element);
+            }
+        });
+    }
+
+    @Benchmark
+    public Integer concurrentGet() {
+        return concurrentList.get(ThreadLocalRandom.current().nextInt(size));
+    }
+
+    @Benchmark
+    public Integer copyOnWriteGet() {
+        return copyOnWriteList.get(ThreadLocalRandom.current().nextInt(size));
+    }
+
+    @Benchmark
+    public Integer synchronizedGet() {
+        var index = ThreadLocalRandom.current().nextInt(size);
+        synchronized (synchronizedList) {
+            return synchronizedList.get(index);
+        }
+    }
+
+    @Benchmark
+    @Group("concurrentReadWrite")
+    @GroupThreads(7)
+    public Integer concurrentReader() {
+        return concurrentList.get(ThreadLocalRandom.current().nextInt(size));
+    }
+
+    @Benchmark
+    @Group("concurrentReadWrite")
+    @GroupThreads(1)
+    public Integer concurrentWriter() {
+        var index = ThreadLocalRandom.current().nextInt(size);
+        return concurrentList.set(index, index);
+    }
+
+    @Benchmark
+    @Group("synchronizedReadWrite")
+    @GroupThreads(7)
+    public Integer synchronizedReader() {
+        var index = ThreadLocalRandom.current().nextInt(size);
+        synchronized (synchronizedList) {
+            return synchronizedList.get(index);
+        }
+    }
+
+    @Benchmark
+    @Group("synchronizedReadWrite")
+    @GroupThreads(1)
+    public Integer synchronizedWriter() {
+        var index = ThreadLocalRandom.current().nextInt(size);
+        synchronized (synchronizedList) {
+            return synchronizedList.set(index, index);
+        }
+    }
+}
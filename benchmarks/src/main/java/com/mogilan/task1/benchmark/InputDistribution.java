@@ -0,0 +1,103 @@
+package com.mogilan.task1.benchmark;
+
+import java.util.Random;
+
+/**
+ * Shapes of input data used by the benchmarks. All inputs are generated from a fixed seed,
+ * so every run of a benchmark works on exactly the same data.
+ *
+ * @author Ilya Mogilan
+ */
+public enum InputDistribution {
+
+    /**
+     * Uniformly distributed random integers.
+     */
+    RANDOM {
+        @Override
+        Integer[] generate(int size, Random random) {
+            var result = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                result[i] = random.nextInt();
+            }
+            return result;
+        }
+    },
+
+    /**
+     * Integers in ascending order.
+     */
+    SORTED {
+        @Override
+        Integer[] generate(int size, Random random) {
+            var result = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                result[i] = i;
+            }
+            return result;
+        }
+    },
+
+    /**
+     * Integers in ascending order where about one percent of elements are swapped with random positions,
+     * like appended timestamps that arrive slightly out of order.
+     */
+    NEARLY_SORTED {
+        @Override
+        Integer[] generate(int size, Random random) {
+            var result = SORTED.generate(size, random);
+            for (int i = 0; i < size / 100; i++) {
+                int first = random.nextInt(size);
+                int second = random.nextInt(size);
+                var temp = result[first];
+                result[first] = result[second];
+                result[second] = temp;
+            }
+            return result;
+        }
+    },
+
+    /**
+     * Integers in descending order.
+     */
+    REVERSED {
+        @Override
+        Integer[] generate(int size, Random random) {
+            var result = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                result[i] = size - i;
+            }
+            return result;
+        }
+    },
+
+    /**
+     * Random integers taken from a small set of distinct values, so most keys are repeated many times.
+     */
+    DUPLICATES {
+        @Override
+        Integer[] generate(int size, Random random) {
+            var result = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                result[i] = random.nextInt(DISTINCT_DUPLICATE_VALUES);
+            }
+            return result;
+        }
+    };
+
+    private static final int DISTINCT_DUPLICATE_VALUES = 16;
+
+    private static final long SEED = 42L;
+
+    /**
+     * Returns a new array of the specified size filled according to this distribution.
+     *
+     * @param size number of elements to generate
+     * @return generated array
+     */
+    public Integer[] generate(int size) {
+        return generate(size, new Random(SEED));
+    }
+
+    abstract Integer[] generate(int size, Random random);
+}
@@ -0,0 +1,68 @@
+package com.mogilan.task1.benchmark;
+
+import java.util.Comparator;
+import java.util.Random;
+
+/**
+ * Copy of the random-pivot quicksort that {@code SortUtil.quicksort} used before it was replaced by introsort.
+ * Kept only as a baseline for {@link QuicksortEngineBenchmark}.
+ *
+ * @author Ilya Mogilan
+ */
+final class LegacyQuicksort {
+
+    private LegacyQuicksort() {
+    }
+
+    static <T> void quicksort(Object[] array, Comparator<? super T> comparator, int highIndex) {
+        quicksort(array, comparator, 0, highIndex);
+    }
+
+    private static <T> void quicksort(Object[] array, Comparator<? super T> comparator, int lowIndex, int highIndex) {
+        if (lowIndex >= highIndex) {
+            return;
+        }
+
+        T pivot = getPivot(array, lowIndex, highIndex);
+
+        int leftPointer = partition(array, comparator, lowIndex, highIndex, pivot);
+        quicksort(array, comparator, lowIndex, leftPointer - 1);
+        quicksort(array, comparator, leftPointer + 1, highIndex);
+    }
+
+    private static <T> T getPivot(Object[] array, int lowIndex, int highIndex) {
+        int pivotIndex = new Random().nextInt(highIndex - lowIndex) + lowIndex;
+        T pivot = (T) array[pivotIndex];
+        swap(array, pivotIndex, highIndex);
+        return pivot;
+    }
+
+    private static <T> int partition(Object[] array, Comparator<? super T> comparator, int lowIndex, int highIndex, T pivot) {
+        int leftPointer = lowIndex;
+        int rightPointer = highIndex;
+        while (leftPointer < rightPointer) {
+            while (compare(comparator, array[leftPointer], pivot) <= 0 && leftPointer < rightPointer) {
+                leftPointer++;
+            }
+            while (compare(comparator, array[rightPointer], pivot) >= 0 && leftPointer < rightPointer) {
+                rightPointer--;
+            }
+            swap(array, leftPointer, rightPointer);
+        }
+        swap(array, leftPointer, highIndex);
+        return leftPointer;
+    }
+
+    private static <T> int compare(Comparator<? super T> comparator, Object element, T pivot) {
+        if (comparator != null) {
+            return comparator.compare((T) element, pivot);
+        }
+        return ((Comparable<T>) element).compareTo(pivot);
+    }
+
+    private static void swap(Object[] array, int firstIndex, int secondIndex) {
+        Object temp = array[firstIndex];
+        array[firstIndex] = array[secondIndex];
+        array[secondIndex] = temp;
+    }
+}
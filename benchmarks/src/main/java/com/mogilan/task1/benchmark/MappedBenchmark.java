@@ -0,0 +1,76 @@
+package com.mogilan.task1.benchmark;
+
+import com.mogilan.task1.ArrayList;
+import com.mogilan.task1.ElementCodec;
+import com.mogilan.task1.MappedArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the start of an application that needs a filled list of {@code long} values: opening
+ * a {@link MappedArrayList} that was filled and closed before, against filling an {@link ArrayList} again.
+ * Opening reads the first element as well, so at least one page of the file is actually accessed.
+ *
+ * @author Ilya Mogilan
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(value = 2, jvmArgsAppend = {"-Xms3g", "-Xmx3g"})
+@State(Scope.Benchmark)
+public class MappedBenchmark {
+
+    @Param({"1000000", "10000000"})
+    private int size;
+
+    private Path path;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        path = Files.createTempFile("mapped-benchmark", ".list");
+        Files.delete(path);
+        try (var list = MappedArrayList.open(path, ElementCodec.ofLong())) {
+            for (long i = 0; i < size; i++) {
+                list.add(i);
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(path);
+    }
+
+    @Benchmark
+    public long reopen() throws IOException {
+        try (var list = MappedArrayList.open(path, ElementCodec.ofLong())) {
+            return list.get(0) + list.size();
+        }
+    }
+
+    @Benchmark
+    public long rebuild() {
+        var list = new ArrayList<Long>();
+        for (long i = 0; i < size; i++) {
+            list.add(i);
+        }
+        return list.get(0) + list.size();
+    }
+}
@@ -0,0 +1,67 @@
+package com.mogilan.task1.benchmark;
+
+import com.mogilan.task1.ArrayList;
+import com.mogilan.task1.ListMetrics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of {@link ListMetrics}: appends with resizes, insertions at the front and a sort, in a JVM
+ * with metrics disabled (the default) and in a JVM with metrics enabled. With metrics disabled the results should
+ * not differ from a build without instrumentation.
+ *
+ * @author Ilya Mogilan
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Thread)
+public class MetricsBenchmark {
+
+    @Param({"10000"})
+    private int size;
+
+    private Integer[] input;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        input = InputDistribution.RANDOM.generate(size);
+    }
+
+    @Benchmark
+    @Fork(value = 2)
+    public ArrayList<Integer> operationsDisabled() {
+        return operations();
+    }
+
+    @Benchmark
+    @Fork(value = 2, jvmArgsAppend = "-Dcom.mogilan.task1.metrics=true")
+    public ArrayList<Integer> operationsEnabled() {
+        return operations();
+    }
+
+    private ArrayList<Integer> operations() {
+        var list = new ArrayList<Integer>(0);
+        for (Integer element : input) {
+            list.add(element);
+        }
+        for (int i = 0; i < 100; i++) {
+            list.add(0, input[i]);
+        }
+        list.sort(null);
+        return list;
+    }
+}
@@ -0,0 +1,100 @@
+package com.mogilan.task1.benchmark;
+
+import com.mogilan.task1.ArrayList;
+import com.mogilan.task1.ElementCodec;
+import com.mogilan.task1.OffHeapArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link OffHeapArrayList} of {@code long} values against {@link ArrayList} of {@link Long}: filling an
+ * empty list, a full scan by get(int), and a full garbage collection while a filled list is alive, which shows
+ * the marking work that the off-heap list saves. Every benchmark gets its own state, so the GC benchmarks drop
+ * the list they don't measure.
+ *
+ * <p>Run with {@code -prof gc} to compare the allocation of filling.</p>
+ *
+ * @author Ilya Mogilan
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(value = 2, jvmArgsAppend = {"-XX:+UseG1GC", "-Xms3g", "-Xmx3g", "-XX:MaxDirectMemorySize=2g"})
+@State(Scope.Benchmark)
+public class OffHeapBenchmark {
+
+    @Param({"1000000", "10000000"})
+    private int size;
+
+    private OffHeapArrayList<Long> filledOffHeapList;
+
+    private ArrayList<Long> filledList;
+
+    @Setup
+    public void setUp() {
+        filledOffHeapList = offHeapFill();
+        filledList = fill();
+    }
+
+    @Benchmark
+    public OffHeapArrayList<Long> offHeapFill() {
+        var list = new OffHeapArrayList<>(ElementCodec.ofLong());
+        for (long i = 0; i < size; i++) {
+            list.add(i);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public ArrayList<Long> fill() {
+        var list = new ArrayList<Long>();
+        for (long i = 0; i < size; i++) {
+            list.add(i);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public long offHeapScan() {
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += filledOffHeapList.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long scan() {
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += filledList.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public OffHeapArrayList<Long> offHeapFullGc() {
+        filledList = null;
+        System.gc();
+        return filledOffHeapList;
+    }
+
+    @Benchmark
+    public ArrayList<Long> fullGc() {
+        filledOffHeapList = null;
+        System.gc();
+        return filledList;
+    }
+}
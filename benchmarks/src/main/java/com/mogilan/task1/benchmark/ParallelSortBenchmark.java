@@ -0,0 +1,104 @@
+package com.mogilan.task1.benchmark;
+
+import com.mogilan.task1.ArrayList;
+import com.mogilan.task1.SortUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how {@link ArrayList#parallelSort(Comparator, ForkJoinPool)} scales with the number of threads of
+ * the pool. Parallelism 1 is the baseline; the speedup for N threads is the score for parallelism 1 divided by
+ * the score for parallelism N. {@link ArrayList#sort(Comparator)} and {@link Arrays#parallelSort(Object[])} are
+ * measured as sequential and JDK references.
+ *
+ * @author Ilya Mogilan
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, batchSize = 1)
+@Measurement(iterations = 10, batchSize = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+@State(Scope.Benchmark)
+public class ParallelSortBenchmark {
+
+    private static final Comparator<Integer> COMPARATOR = Integer::compare;
+
+    @Param({"1000000", "10000000", "50000000"})
+    private int size;
+
+    @Param({"1", "2", "4", "8", "16", "32"})
+    private int parallelism;
+
+    @Param({"" + SortUtil.DEFAULT_PARALLEL_THRESHOLD})
+    private int threshold;
+
+    private Integer[] input;
+
+    private Integer[] array;
+
+    private ArrayList<Integer> list;
+
+    private ForkJoinPool pool;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        input = InputDistribution.RANDOM.generate(size);
+        array = new Integer[size];
+        list = new ArrayList<>(size);
+        pool = new ForkJoinPool(parallelism);
+    }
+
+    @Setup(Level.Invocation)
+    public void copyInput() {
+        System.arraycopy(input, 0, array, 0, size);
+        list.clear();
+        for (Integer element : input) {
+            list.add(element);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void shutdownPool() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public ArrayList<Integer> parallelSort() {
+        list.parallelSort(COMPARATOR, pool);
+        return list;
+    }
+
+    @Benchmark
+    public Object[] parallelQuicksort() {
+        SortUtil.parallelQuicksort(array, COMPARATOR, size - 1, pool, threshold);
+        return array;
+    }
+
+    @Benchmark
+    public ArrayList<Integer> sequentialSort() {
+        list.sort(COMPARATOR);
+        return list;
+    }
+
+    @Benchmark
+    public Object[] jdkParallelSort() {
+        Arrays.parallelSort(array, COMPARATOR);
+        return array;
+    }
+}
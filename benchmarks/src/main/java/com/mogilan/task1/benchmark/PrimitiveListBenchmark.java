@@ -0,0 +1,133 @@
+package com.mogilan.task1.benchmark;
+
+import com.mogilan.task1.ArrayList;
+import com.mogilan.task1.IntArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link IntArrayList} with {@link ArrayList} of {@link Integer} on full scans, appends and natural
+ * order sort. Run with {@code -prof gc} to compare allocation rates of the boxed and primitive lists.
+ *
+ * @author Ilya Mogilan
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Thread)
+public class PrimitiveListBenchmark {
+
+    @Param({"1000", "100000", "10000000"})
+    private int size;
+
+    private Integer[] input;
+
+    private ArrayList<Integer> boxedList;
+
+    private IntArrayList intList;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        input = InputDistribution.RANDOM.generate(size);
+        boxedList = new ArrayList<>(size);
+        intList = new IntArrayList(size);
+        for (Integer element : input) {
+            boxedList.add(element);
+            intList.addInt(element);
+        }
+    }
+
+    @Benchmark
+    public long boxedScan() {
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += boxedList.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long primitiveScan() {
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += intList.getInt(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public ArrayList<Integer> boxedAdd() {
+        var result = new ArrayList<Integer>();
+        for (int i = 0; i < size; i++) {
+            result.add(i);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public IntArrayList primitiveAdd() {
+        var result = new IntArrayList();
+        for (int i = 0; i < size; i++) {
+            result.addInt(i);
+        }
+        return result;
+    }
+
+    @State(Scope.Thread)
+    public static class SortState {
+
+        @Param({"1000", "100000", "10000000"})
+        private int size;
+
+        private Integer[] input;
+
+        private ArrayList<Integer> boxedList;
+
+        private IntArrayList intList;
+
+        @Setup(Level.Trial)
+        public void generateInput() {
+            input = InputDistribution.RANDOM.generate(size);
+            boxedList = new ArrayList<>(size);
+            intList = new IntArrayList(size);
+        }
+
+        @Setup(Level.Invocation)
+        public void fillLists() {
+            boxedList.clear();
+            intList.clear();
+            for (Integer element : input) {
+                boxedList.add(element);
+                intList.addInt(element);
+            }
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    public ArrayList<Integer> boxedSort(SortState state) {
+        state.boxedList.sort(null);
+        return state.boxedList;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    public IntArrayList primitiveSort(SortState state) {
+        state.intList.sort(null);
+        return state.intList;
+    }
+}
@@ -0,0 +1,134 @@
+package com.mogilan.task1.benchmark;
+
+import com.mogilan.task1.ArrayList;
+import com.mogilan.task1.CircularArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures using a list as a work queue: draining all elements from the front with remove(0) and filling a list
+ * with add(0, element). {@link CircularArrayList} against {@link ArrayList} and {@link java.util.ArrayList},
+ * which move the whole tail of the list on every such call. Also measures filling a list by inserting
+ * in the middle, where CircularArrayList moves half of the elements by array copies split at the end of its
+ * circular buffer.
+ *
+ * @author Ilya Mogilan
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(2)
+@State(Scope.Benchmark)
+public class QueueBenchmark {
+
+    private static final Integer ELEMENT = 42;
+
+    @Param({"10000", "100000"})
+    private int size;
+
+    private CircularArrayList<Integer> circularList;
+
+    private ArrayList<Integer> arrayList;
+
+    private java.util.ArrayList<Integer> jdkList;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        circularList = new CircularArrayList<>();
+        arrayList = new ArrayList<>();
+        jdkList = new java.util.ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            circularList.add(ELEMENT);
+            arrayList.add(ELEMENT);
+            jdkList.add(ELEMENT);
+        }
+    }
+
+    @Benchmark
+    public int circularDrain() {
+        int drained = 0;
+        while (circularList.size() > 0) {
+            circularList.remove(0);
+            drained++;
+        }
+        return drained;
+    }
+
+    @Benchmark
+    public int drain() {
+        int drained = 0;
+        while (arrayList.size() > 0) {
+            arrayList.remove(0);
+            drained++;
+        }
+        return drained;
+    }
+
+    @Benchmark
+    public int jdkDrain() {
+        int drained = 0;
+        while (!jdkList.isEmpty()) {
+            jdkList.remove(0);
+            drained++;
+        }
+        return drained;
+    }
+
+    @Benchmark
+    public CircularArrayList<Integer> circularFrontInsert() {
+        var list = new CircularArrayList<Integer>();
+        for (int i = 0; i < size; i++) {
+            list.add(0, ELEMENT);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public ArrayList<Integer> frontInsert() {
+        var list = new ArrayList<Integer>();
+        for (int i = 0; i < size; i++) {
+            list.add(0, ELEMENT);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public java.util.ArrayList<Integer> jdkFrontInsert() {
+        var list = new java.util.ArrayList<Integer>();
+        for (int i = 0; i < size; i++) {
+            list.add(0, ELEMENT);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public CircularArrayList<Integer> circularMiddleInsert() {
+        var list = new CircularArrayList<Integer>();
+        for (int i = 0; i < size; i++) {
+            list.add(i >> 1, ELEMENT);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public ArrayList<Integer> middleInsert() {
+        var list = new ArrayList<Integer>();
+        for (int i = 0; i < size; i++) {
+            list.add(i >> 1, ELEMENT);
+        }
+        return list;
+    }
+}
@@ -0,0 +1,69 @@
+package com.mogilan.task1.benchmark;
+
+import com.mogilan.task1.SortUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the introsort engine of {@link SortUtil#quicksort(Object[], Comparator, int)} with the random-pivot
+ * quicksort it replaced ({@link LegacyQuicksort}). Sizes are limited because the legacy sort is quadratic
+ * on inputs with many equal keys.
+ *
+ * @author Ilya Mogilan
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 10, batchSize = 1)
+@Measurement(iterations = 10, batchSize = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms2g", "-Xmx2g", "-Xss64m"})
+@State(Scope.Thread)
+public class QuicksortEngineBenchmark {
+
+    private static final Comparator<Integer> COMPARATOR = Integer::compare;
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    @Param({"RANDOM", "SORTED", "NEARLY_SORTED", "REVERSED", "DUPLICATES"})
+    private InputDistribution distribution;
+
+    private Integer[] input;
+
+    private Integer[] array;
+
+    @Setup(Level.Trial)
+    public void generateInput() {
+        input = distribution.generate(size);
+        array = new Integer[size];
+    }
+
+    @Setup(Level.Invocation)
+    public void copyInput() {
+        System.arraycopy(input, 0, array, 0, size);
+    }
+
+    @Benchmark
+    public Object[] introsort() {
+        SortUtil.quicksort(array, COMPARATOR, size - 1);
+        return array;
+    }
+
+    @Benchmark
+    public Object[] legacyQuicksort() {
+        LegacyQuicksort.quicksort(array, COMPARATOR, size - 1);
+        return array;
+    }
+}
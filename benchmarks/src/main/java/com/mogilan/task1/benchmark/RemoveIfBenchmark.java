@@ -0,0 +1,84 @@
+package com.mogilan.task1.benchmark;
+
+import com.mogilan.task1.ArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * Measures removing about 10% of the elements of a list of size elements: removeIf() and parallelRemoveIf(),
+ * which move every remaining element once, against remove(int) in a loop, which moves the tail of the list for
+ * every removed element, and against removeIf() of the JDK ArrayList.
+ *
+ * @author Ilya Mogilan
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class RemoveIfBenchmark {
+
+    private static final Predicate<Integer> FILTER = element -> element % 10 == 0;
+
+    @Param({"10000", "1000000"})
+    private int size;
+
+    private Integer[] initialElements;
+
+    @Setup
+    public void setUp() {
+        initialElements = InputDistribution.RANDOM.generate(size);
+    }
+
+    @Benchmark
+    public ArrayList<Integer> removeIf() {
+        var list = newList();
+        list.removeIf(FILTER);
+        return list;
+    }
+
+    @Benchmark
+    public ArrayList<Integer> parallelRemoveIf() {
+        var list = newList();
+        list.parallelRemoveIf(FILTER);
+        return list;
+    }
+
+    @Benchmark
+    public ArrayList<Integer> removeInLoop() {
+        var list = newList();
+        for (int i = list.size() - 1; i >= 0; i--) {
+            if (FILTER.test(list.get(i))) {
+                list.remove(i);
+            }
+        }
+        return list;
+    }
+
+    @Benchmark
+    public java.util.ArrayList<Integer> jdkRemoveIf() {
+        var list = new java.util.ArrayList<>(Arrays.asList(initialElements));
+        list.removeIf(FILTER);
+        return list;
+    }
+
+    private ArrayList<Integer> newList() {
+        var list = new ArrayList<Integer>(size);
+        list.addAll(initialElements);
+        return list;
+    }
+}
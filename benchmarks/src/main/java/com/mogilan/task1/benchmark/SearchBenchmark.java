@@ -0,0 +1,97 @@
+package com.mogilan.task1.benchmark;
+
+import com.mogilan.task1.ArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures search by value in {@link ArrayList} with and without the hash index: indexOf() of a random element,
+ * and remove() of a random element by value followed by add() of it to the end, against the same operations
+ * of {@link java.util.ArrayList}.
+ *
+ * @author Ilya Mogilan
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgs = {"-Xmx3g"})
+@State(Scope.Benchmark)
+public class SearchBenchmark {
+
+    @Param({"1000", "1000000"})
+    private int size;
+
+    private Integer[] array;
+
+    private ArrayList<Integer> list;
+
+    private ArrayList<Integer> indexedList;
+
+    private java.util.ArrayList<Integer> jdkList;
+
+    private Random random;
+
+    @Setup
+    public void setUp() {
+        array = InputDistribution.RANDOM.generate(size);
+        list = new ArrayList<>(size);
+        list.addAll(array);
+        indexedList = new ArrayList<>(size);
+        indexedList.addAll(array);
+        indexedList.setHashIndexEnabled(true);
+        jdkList = new java.util.ArrayList<>(java.util.Arrays.asList(array));
+        random = new Random(42);
+    }
+
+    @Benchmark
+    public int indexOf() {
+        return list.indexOf(array[random.nextInt(size)]);
+    }
+
+    @Benchmark
+    public int indexedIndexOf() {
+        return indexedList.indexOf(array[random.nextInt(size)]);
+    }
+
+    @Benchmark
+    public int jdkIndexOf() {
+        return jdkList.indexOf(array[random.nextInt(size)]);
+    }
+
+    @Benchmark
+    public boolean removeAndAdd() {
+        var element = list.get(random.nextInt(size));
+        var removed = list.remove(element);
+        list.add(element);
+        return removed;
+    }
+
+    @Benchmark
+    public boolean indexedRemoveAndAdd() {
+        var element = indexedList.get(random.nextInt(size));
+        var removed = indexedList.remove(element);
+        indexedList.add(element);
+        return removed;
+    }
+
+    @Benchmark
+    public boolean jdkRemoveAndAdd() {
+        var element = jdkList.get(random.nextInt(size));
+        var removed = jdkList.remove(element);
+        jdkList.add(element);
+        return removed;
+    }
+}
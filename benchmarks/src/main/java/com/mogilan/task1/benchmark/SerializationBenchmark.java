@@ -0,0 +1,101 @@
+package com.mogilan.task1.benchmark;
+
+import com.mogilan.task1.ArrayList;
+import com.mogilan.task1.ElementCodec;
+import com.mogilan.task1.IntArrayList;
+import com.mogilan.task1.SerializationUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a round trip of a list of {@code int} values through a byte array: Java serialization
+ * of {@link java.util.ArrayList} of {@link Integer}, {@link SerializationUtil} with {@link ElementCodec#ofInt()}
+ * for {@link ArrayList} of {@link Integer}, and the primitive path of {@link SerializationUtil} for
+ * {@link IntArrayList}, read back through a channel and from a {@link ByteBuffer}.
+ *
+ * @author Ilya Mogilan
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Thread)
+public class SerializationBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    private java.util.ArrayList<Integer> jdkList;
+
+    private ArrayList<Integer> boxedList;
+
+    private IntArrayList intList;
+
+    private ElementCodec<Integer> codec;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        var input = InputDistribution.RANDOM.generate(size);
+        jdkList = new java.util.ArrayList<>(size);
+        boxedList = new ArrayList<>(size);
+        intList = new IntArrayList(size);
+        for (Integer element : input) {
+            jdkList.add(element);
+            boxedList.add(element);
+            intList.addInt(element);
+        }
+        codec = ElementCodec.ofInt();
+    }
+
+    @Benchmark
+    public Object javaSerialization() throws IOException, ClassNotFoundException {
+        var output = new ByteArrayOutputStream();
+        try (var objectOutput = new ObjectOutputStream(output)) {
+            objectOutput.writeObject(jdkList);
+        }
+        try (var objectInput = new ObjectInputStream(new ByteArrayInputStream(output.toByteArray()))) {
+            return objectInput.readObject();
+        }
+    }
+
+    @Benchmark
+    public ArrayList<Integer> codec() throws IOException {
+        var output = new ByteArrayOutputStream();
+        SerializationUtil.write(boxedList, codec, Channels.newChannel(output));
+        return SerializationUtil.read(Channels.newChannel(new ByteArrayInputStream(output.toByteArray())), codec);
+    }
+
+    @Benchmark
+    public IntArrayList primitiveChannel() throws IOException {
+        var output = new ByteArrayOutputStream();
+        SerializationUtil.write(intList, Channels.newChannel(output));
+        return SerializationUtil.readInts(Channels.newChannel(new ByteArrayInputStream(output.toByteArray())));
+    }
+
+    @Benchmark
+    public IntArrayList primitiveBuffer() throws IOException {
+        var output = new ByteArrayOutputStream();
+        SerializationUtil.write(intList, Channels.newChannel(output));
+        return SerializationUtil.readInts(ByteBuffer.wrap(output.toByteArray()));
+    }
+}
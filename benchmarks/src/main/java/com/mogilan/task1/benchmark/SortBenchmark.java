@@ -0,0 +1,123 @@
+package com.mogilan.task1.benchmark;
+
+import com.mogilan.task1.ArrayList;
+import com.mogilan.task1.SortStrategy;
+import com.mogilan.task1.SortUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link ArrayList#sort(Comparator)}, {@link SortUtil#quicksort(Object[], Comparator, int)} and
+ * {@link SortUtil#mergesort(Object[], Comparator, int)} against
+ * {@link java.util.ArrayList#sort(Comparator)} and {@link Arrays#sort(Object[], Comparator)} on inputs of
+ * different shapes (see {@link InputDistribution}).
+ *
+ * <p>Every invocation sorts a fresh copy of the same input, the copying is not included in the measured time.</p>
+ *
+ * @author Ilya Mogilan
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 10, batchSize = 1)
+@Measurement(iterations = 10, batchSize = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms4g", "-Xmx4g", "-Xss64m"})
+@State(Scope.Thread)
+public class SortBenchmark {
+
+    private static final Comparator<Integer> COMPARATOR = Integer::compare;
+
+    @Param({"10", "1000", "100000", "10000000"})
+    private int size;
+
+    @Param({"RANDOM", "SORTED", "NEARLY_SORTED", "REVERSED", "DUPLICATES"})
+    private InputDistribution distribution;
+
+    private Integer[] input;
+
+    private Integer[] array;
+
+    private ArrayList<Integer> list;
+
+    private java.util.ArrayList<Integer> jdkList;
+
+    private ArrayList<Integer> mergesortList;
+
+    @Setup(Level.Trial)
+    public void generateInput() {
+        input = distribution.generate(size);
+        array = new Integer[size];
+        list = new ArrayList<>(size);
+        mergesortList = new ArrayList<>(size);
+        mergesortList.setSortStrategy(SortStrategy.MERGESORT);
+        jdkList = new java.util.ArrayList<>(size);
+    }
+
+    @Setup(Level.Invocation)
+    public void copyInput() {
+        System.arraycopy(input, 0, array, 0, size);
+        list.clear();
+        mergesortList.clear();
+        jdkList.clear();
+        for (Integer element : input) {
+            list.add(element);
+            mergesortList.add(element);
+            jdkList.add(element);
+        }
+    }
+
+    @Benchmark
+    public ArrayList<Integer> sort() {
+        list.sort(COMPARATOR);
+        return list;
+    }
+
+    @Benchmark
+    public ArrayList<Integer> sortNaturalOrder() {
+        list.sort(null);
+        return list;
+    }
+
+    @Benchmark
+    public Object[] quicksort() {
+        SortUtil.quicksort(array, COMPARATOR, size - 1);
+        return array;
+    }
+
+    @Benchmark
+    public ArrayList<Integer> sortMergesortStrategy() {
+        mergesortList.sort(COMPARATOR);
+        return mergesortList;
+    }
+
+    @Benchmark
+    public Object[] mergesort() {
+        SortUtil.mergesort(array, COMPARATOR, size - 1);
+        return array;
+    }
+
+    @Benchmark
+    public java.util.ArrayList<Integer> jdkSort() {
+        jdkList.sort(COMPARATOR);
+        return jdkList;
+    }
+
+    @Benchmark
+    public Object[] jdkArraysSort() {
+        Arrays.sort(array, COMPARATOR);
+        return array;
+    }
+}
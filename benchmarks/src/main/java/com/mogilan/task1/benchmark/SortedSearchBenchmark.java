@@ -0,0 +1,101 @@
+package com.mogilan.task1.benchmark;
+
+import com.mogilan.task1.ArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures lookups and ordered inserts in a sorted {@link ArrayList}: binarySearch() against indexOf(),
+ * insertSorted() followed by remove() of the inserted element, and a repeated sort() of a sorted list, against
+ * {@link Collections#binarySearch(java.util.List, Object, Comparator)} and sort() of {@link java.util.ArrayList}.
+ *
+ * @author Ilya Mogilan
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class SortedSearchBenchmark {
+
+    private static final Comparator<Integer> COMPARATOR = Integer::compare;
+
+    @Param({"1000", "1000000"})
+    private int size;
+
+    private Integer[] array;
+
+    private ArrayList<Integer> list;
+
+    private java.util.ArrayList<Integer> jdkList;
+
+    private Random random;
+
+    @Setup
+    public void setUp() {
+        array = InputDistribution.RANDOM.generate(size);
+        list = new ArrayList<>(size + 1);
+        list.addAll(array);
+        list.sort(COMPARATOR);
+        jdkList = new java.util.ArrayList<>(java.util.Arrays.asList(array));
+        jdkList.sort(COMPARATOR);
+        random = new Random(42);
+    }
+
+    @Benchmark
+    public int indexOf() {
+        return list.indexOf(array[random.nextInt(size)]);
+    }
+
+    @Benchmark
+    public int binarySearch() {
+        return list.binarySearch(array[random.nextInt(size)], COMPARATOR);
+    }
+
+    @Benchmark
+    public int jdkBinarySearch() {
+        return Collections.binarySearch(jdkList, array[random.nextInt(size)], COMPARATOR);
+    }
+
+    @Benchmark
+    public Integer insertSortedAndRemove() {
+        int index = list.insertSorted(array[random.nextInt(size)], COMPARATOR);
+        return list.remove(index);
+    }
+
+    @Benchmark
+    public Integer jdkInsertSortedAndRemove() {
+        var element = array[random.nextInt(size)];
+        int index = Collections.binarySearch(jdkList, element, COMPARATOR);
+        index = index < 0 ? -index - 1 : index;
+        jdkList.add(index, element);
+        return jdkList.remove(index);
+    }
+
+    @Benchmark
+    public ArrayList<Integer> sortSorted() {
+        list.sort(COMPARATOR);
+        return list;
+    }
+
+    @Benchmark
+    public java.util.ArrayList<Integer> jdkSortSorted() {
+        jdkList.sort(COMPARATOR);
+        return jdkList;
+    }
+}
@@ -0,0 +1,72 @@
+package com.mogilan.task1.benchmark;
+
+import com.mogilan.task1.ArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a filter-map-sum reduction over the stream of a list: sequential and parallel streams of
+ * {@link ArrayList} against the same streams of {@link java.util.ArrayList}.
+ *
+ * <p>Parallel streams use the common pool; its parallelism can be changed with
+ * {@code -jvmArgsAppend -Djava.util.concurrent.ForkJoinPool.common.parallelism=N}.</p>
+ *
+ * @author Ilya Mogilan
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class StreamBenchmark {
+
+    @Param({"1000000", "100000000"})
+    private int size;
+
+    private ArrayList<Integer> list;
+
+    private java.util.ArrayList<Integer> jdkList;
+
+    @Setup
+    public void setUp() {
+        list = new ArrayList<>(size);
+        jdkList = new java.util.ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Integer element = i & 1023;
+            list.add(element);
+            jdkList.add(element);
+        }
+    }
+
+    @Benchmark
+    public long stream() {
+        return list.stream().filter(element -> (element & 1) == 0).mapToLong(element -> element * 3L).sum();
+    }
+
+    @Benchmark
+    public long parallelStream() {
+        return list.parallelStream().filter(element -> (element & 1) == 0).mapToLong(element -> element * 3L).sum();
+    }
+
+    @Benchmark
+    public long jdkStream() {
+        return jdkList.stream().filter(element -> (element & 1) == 0).mapToLong(element -> element * 3L).sum();
+    }
+
+    @Benchmark
+    public long jdkParallelStream() {
+        return jdkList.parallelStream().filter(element -> (element & 1) == 0).mapToLong(element -> element * 3L).sum();
+    }
+}
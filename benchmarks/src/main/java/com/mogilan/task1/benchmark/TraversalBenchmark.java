@@ -0,0 +1,101 @@
+package com.mogilan.task1.benchmark;
+
+import com.mogilan.task1.ArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a full scan of a list that sums its elements: a loop of get(int), the for-each loop over the iterator,
+ * forEach() and forEachIndexed() of {@link ArrayList}, against the same loop over a raw array and the for-each
+ * loop over {@link java.util.ArrayList}.
+ *
+ * <p>Run with {@code -prof gc} to check that the iterator allocation is eliminated.</p>
+ *
+ * @author Ilya Mogilan
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class TraversalBenchmark {
+
+    @Param({"1000", "1000000"})
+    private int size;
+
+    private Integer[] array;
+
+    private ArrayList<Integer> list;
+
+    private java.util.ArrayList<Integer> jdkList;
+
+    @Setup
+    public void setUp() {
+        array = InputDistribution.RANDOM.generate(size);
+        list = new ArrayList<>(size);
+        list.addAll(array);
+        jdkList = new java.util.ArrayList<>(java.util.Arrays.asList(array));
+    }
+
+    @Benchmark
+    public long rawArrayLoop() {
+        long sum = 0;
+        for (Integer element : array) {
+            sum += element;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long getLoop() {
+        long sum = 0;
+        for (int i = 0; i < list.size(); i++) {
+            sum += list.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long iteratorLoop() {
+        long sum = 0;
+        for (Integer element : list) {
+            sum += element;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long forEach() {
+        long[] sum = new long[1];
+        list.forEach(element -> sum[0] += element);
+        return sum[0];
+    }
+
+    @Benchmark
+    public long forEachIndexed() {
+        long[] sum = new long[1];
+        list.forEachIndexed((index, element) -> sum[0] += element);
+        return sum[0];
+    }
+
+    @Benchmark
+    public long jdkIteratorLoop() {
+        long sum = 0;
+        for (Integer element : jdkList) {
+            sum += element;
+        }
+        return sum;
+    }
+}
@@ -1,27 +1,62 @@
 package com.mogilan.task1;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 
 /**
  * Resizable-array implementation of the {@link List} interface.
  * <p>Implements all {@link List} methods and permits all elements, including
  * {@code null}. In addition ArrayList overrides toString() method that returns a string representation
- * of this ArrayList.</p>
+ * of this ArrayList. For large lists, toString(int) limits the number of elements in the string, and appendTo()
+ * and writeTo() stream the string representation without building it in memory.</p>
  *
  * <p>The main field of ArrayList is field elements, which represent an array that store all the elements
  * of this ArrayList.</p>
  * <p>Constructor without parameters creates an ArrayList with length of array of the field elements equal to
  * DEFAULT_CAPACITY. Creating an ArrayList it's possible to specify in constructor initialCapacity, which creates for
- * elements field an array with length equal to this initialCapacity.</p>
+ * elements field an array with length equal to this initialCapacity, and a {@link GrowthPolicy}.</p>
  * <p>Capacity corresponds to the length of array of the field elements, but does not correspond to the number
  * of elements in this ArrayList. The number of elements in this ArrayList is stored in the field size.</p>
  * <p>If the length of the array elements is not enough to perform operations on elements of this ArrayList
  * (adding new element to the end of this ArrayList or moving elements of this ArrayList when adding an element to the
  * beginning or middle of this ArrayList), before performing of such operations a new array of a larger size is created
- * (by methods grow() or moveElementsRightFromIndex(int index)) and all elements are copied from the old array into
- * a new one. The old array is subsequently destroyed by the garbage collector.</p>
+ * and all elements are copied from the old array into a new one. The old array is subsequently destroyed by
+ * the garbage collector. The length of the new array is chosen by the {@link GrowthPolicy} in the field growthPolicy,
+ * which also decides whether the array is shrunk after elements are removed. ensureCapacity() and trimToSize()
+ * change the capacity explicitly.</p>
+ * <p>Method subList() returns a view that shares the array of the field elements with this ArrayList. A view of
+ * a view refers to this ArrayList directly, so reading through a view of any depth accesses the array at once.</p>
+ * <p>Every modification that changes the size or the order of elements increments the field modCount.
+ * Iterators, spliterators and the methods forEach() and forEachIndexed() read the array of the field elements
+ * directly and throw {@link ConcurrentModificationException} if modCount changed since the traversal started.</p>
+ * <p>In the indexed mode, turned on by {@link #setHashIndexEnabled(boolean)}, the ArrayList keeps a {@link HashIndex}
+ * of its elements in the field hashIndex, so indexOf(), contains() and remove() by value take expected constant time
+ * instead of a scan of the array. Every modification updates the index.</p>
+ * <p>If {@link ListMetrics} are enabled, resizes of the array of the field elements and the elements moved
+ * by insertions and removals are counted. Independently of ListMetrics, resizes and moves of elements that take
+ * longer than a threshold are emitted to Java Flight Recorder as {@link ResizeEvent} and {@link ShiftEvent}, and sorts
+ * as {@link SortEvent} by {@link SortUtil}. Each event is created, begun and completed around the operation. While
+ * JFR doesn't record the event, begin() and complete() do nothing and the JIT compiler removes the allocation
+ * of the event.</p>
+ * <p>After sort() the ArrayList remembers that its elements are sorted and by which {@link Comparator}, until
+ * a modification that can break the order: add(), set(), addAll() or setAll(). Removing elements keeps the order.
+ * While the elements are known to be sorted by a comparator, binarySearch() and insertSorted() with this comparator
+ * take logarithmic time to find the position, and sort() with this comparator returns at once.</p>
  *
  * @param <E> the type of elements in this list
  * @author Ilya Mogilan
@@ -30,15 +65,27 @@ import java.util.Objects;
 public class ArrayList<E> implements List<E> {
 
     /**
-     * Initial capacity that is used:
-     * <ul>
-     *     <li>in constructor without parameters to create an ArrayList with length of array of the field elements
-     *     equal to DEFAULT_CAPACITY;</li>
-     *     <li>to expand an empty array of the field elements when the first element is added.</li>
-     * </ul>
+     * Initial capacity that is used in constructor without parameters to create an ArrayList with length of array
+     * of the field elements equal to DEFAULT_CAPACITY.
      */
     private static final int DEFAULT_CAPACITY = 10;
 
+    /**
+     * The growth policy used by the constructors without a growth policy.
+     */
+    private static final GrowthPolicy DEFAULT_GROWTH_POLICY = GrowthPolicy.geometric(1.5);
+
+    /**
+     * The number of characters of the buffer through which writeTo() writes the string representation.
+     */
+    private static final int WRITE_BUFFER_CHARS = 8192;
+
+    /**
+     * The number of elements of a chunk that parallelRemoveIf() tests and compacts in one task. A multiple
+     * of Long.SIZE, so the chunks don't share words of the mask of removed elements.
+     */
+    private static final int REMOVE_CHUNK_SIZE = 1 << 14;
+
     /**
      * <p>The array into which the elements of the ArrayList are stored.</p>
      * <p>The capacity of the ArrayList is the length of this array.</p>
@@ -50,11 +97,43 @@ public class ArrayList<E> implements List<E> {
      */
     private int size;
 
+    /**
+     * The policy that chooses the length of a new array of the field elements
+     */
+    private final GrowthPolicy growthPolicy;
+
+    /**
+     * The algorithm used by sort() method
+     */
+    private SortStrategy sortStrategy = SortStrategy.QUICKSORT;
+
+    /**
+     * The number of modifications that changed the size of this ArrayList or the order of its elements.
+     * Used by iterators and traversing methods to detect such modifications during traversal.
+     */
+    private int modCount;
+
+    /**
+     * The index of the elements used in the indexed mode, or {@code null} if the indexed mode is off.
+     */
+    private HashIndex hashIndex;
+
+    /**
+     * Whether the elements are known to be sorted by the comparator in the field sortedBy.
+     */
+    private boolean sorted;
+
+    /**
+     * The comparator by which the elements were sorted last time, or {@code null} for the natural ordering.
+     * Meaningful only if the field sorted is true.
+     */
+    private Comparator<? super E> sortedBy;
+
     /**
      * Creates an ArrayList with length of array of the field elements equal to DEFAULT_CAPACITY
      */
     public ArrayList() {
-        elements = new Object[DEFAULT_CAPACITY];
+        this(DEFAULT_CAPACITY, DEFAULT_GROWTH_POLICY);
     }
 
     /**
@@ -62,23 +141,62 @@ public class ArrayList<E> implements List<E> {
      * to the initialCapacity specified in the constructor.
      */
     public ArrayList(int initialCapacity) {
+        this(initialCapacity, DEFAULT_GROWTH_POLICY);
+    }
+
+    /**
+     * Creates an ArrayList with length of array of the field elements equal to DEFAULT_CAPACITY, which grows
+     * the array by the specified growth policy.
+     *
+     * @param growthPolicy the policy that chooses the length of a new array of the field elements
+     * @throws NullPointerException if the specified growth policy is {@code null}
+     */
+    public ArrayList(GrowthPolicy growthPolicy) {
+        this(DEFAULT_CAPACITY, growthPolicy);
+    }
+
+    /**
+     * Creates an ArrayList with capacity (the length of the array of field elements) equal
+     * to the initialCapacity specified in the constructor, which grows the array by the specified growth policy.
+     *
+     * @param initialCapacity the length of the array of the field elements
+     * @param growthPolicy    the policy that chooses the length of a new array of the field elements
+     * @throws NullPointerException if the specified growth policy is {@code null}
+     */
+    public ArrayList(int initialCapacity, GrowthPolicy growthPolicy) {
+        this.growthPolicy = Objects.requireNonNull(growthPolicy);
         elements = new Object[initialCapacity];
     }
 
+    /**
+     * Creates an ArrayList that uses the specified array as the array of the field elements and contains its first
+     * size elements. The array is not copied, so the caller must not use it after passing it to this constructor.
+     */
+    ArrayList(Object[] elements, int size) {
+        this.elements = elements;
+        this.size = size;
+        growthPolicy = DEFAULT_GROWTH_POLICY;
+    }
+
     /**
      * Adds the element passed in the parameters to the end of this ArrayList.
      * <p>If the capacity is not enough to perform addition, before performing of such operation a new array of a larger
-     * size is created by methods grow() and all elements are copied from the old array into a new one. The old array
-     * is subsequently destroyed by the garbage collector</p>
+     * size, chosen by the growth policy, is created and all elements are copied from the old array into a new one.
+     * The old array is subsequently destroyed by the garbage collector</p>
      *
      * @param element element to be added to this list
      */
     @Override
     public void add(E element) {
+        modCount++;
+        sorted = false;
         if (size == elements.length) {
-            elements = grow();
+            grow(size + 1);
         }
         elements[size++] = element;
+        if (hashIndex != null) {
+            hashIndex.add(element, size - 1);
+        }
     }
 
     /**
@@ -88,8 +206,9 @@ public class ArrayList<E> implements List<E> {
      * <p>Allows to add element to 0 (zero) index even if size of ArrayList == 0, i.e. in case if
      * {@code ((size() == 0) && (index == 0))} </p>
      * <p>If the capacity is not enough to perform addition, before performing of such operation a new array of a larger
-     * size is created by methods moveElementsRightFromIndex(int index) and all elements are copied from the old array
-     * into a new one. The old array is subsequently destroyed by the garbage collector</p>
+     * size, chosen by the growth policy, is created by methods moveElementsRightFromIndex(int index) and all elements
+     * are copied from the old array into a new one. The old array is subsequently destroyed by the garbage
+     * collector</p>
      *
      * @param index   index at which the element should be inserted
      * @param element element to be added to this list
@@ -106,20 +225,24 @@ public class ArrayList<E> implements List<E> {
         } else {
             Objects.checkIndex(index, size);
         }
-        moveElementsRightFromIndex(index);
-        elements[index] = element;
-        size++;
+        insertElement(index, element);
     }
 
     /**
-     * Removes all elements from this ArrayList and set the size as 0.
+     * Removes all elements from this ArrayList and set the size as 0. The array of the field elements is kept unless
+     * the growth policy shrinks it.
      */
     @Override
     public void clear() {
+        modCount++;
         for (int i = 0; i < size; i++) {
             elements[i] = null;
         }
         size = 0;
+        if (hashIndex != null) {
+            hashIndex.clear();
+        }
+        shrinkIfNeeded();
     }
 
     /**
@@ -136,10 +259,36 @@ public class ArrayList<E> implements List<E> {
         return (E) elements[index];
     }
 
+    /**
+     * Returns the index of the first occurrence of the specified element in this ArrayList.
+     * <p>In the indexed mode takes expected constant time, otherwise scans the array of the field elements.</p>
+     *
+     * @param element element to search for. {@code null} is also a valid option
+     * @return the lowest index of the specified element, or -1 if this ArrayList doesn't contain it
+     */
+    @Override
+    public int indexOf(E element) {
+        if (hashIndex != null) {
+            return hashIndex.firstPosition(element, elements, size);
+        }
+        for (int index = 0; index < size; index++) {
+            var currentElement = elements[index];
+            if (element == null) {
+                if (currentElement == null) {
+                    return index;
+                }
+            } else if (currentElement != null && currentElement.equals(element)) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
     /**
      * Removes the specified element from this ArrayList.
      * <p>If an element occurs two or more times in this ArrayList, then only the first element (the element with the
-     * lowest index) will be removed.</p>
+     * lowest index) will be removed. The element is found by {@link #indexOf(Object)}, which takes expected
+     * constant time in the indexed mode.</p>
      * <p>Elements that were to the right from the index of removed element are moved to
      * the left on one position.</p>
      *
@@ -151,19 +300,12 @@ public class ArrayList<E> implements List<E> {
      */
     @Override
     public boolean remove(E element) {
-        for (int index = 0; index < size; index++) {
-            var currentElement = elements[index];
-            if (element == null) {
-                if (currentElement == null) {
-                    simpleRemoveElement(index);
-                    return true;
-                }
-            } else if (currentElement.equals(element)) {
-                simpleRemoveElement(index);
-                return true;
-            }
+        int index = indexOf(element);
+        if (index < 0) {
+            return false;
         }
-        return false;
+        simpleRemoveElement(index);
+        return true;
     }
 
     /**
@@ -196,9 +338,7 @@ public class ArrayList<E> implements List<E> {
     @Override
     public E set(int index, E element) {
         Objects.checkIndex(index, size);
-        var replacingElement = (E) elements[index];
-        elements[index] = element;
-        return replacingElement;
+        return replaceElement(index, element);
     }
 
     /**
@@ -212,12 +352,17 @@ public class ArrayList<E> implements List<E> {
     }
 
     /**
-     * Sorts this ArrayList using quicksort algorithm (using quicksort() from {@link SortUtil}) and according to the conditions settled by specified
-     * {@link Comparator} or, if {@code null} is passed instead of the {@link Comparator}, according to the elements'
-     * {@linkplain Comparable natural ordering} settled by implementation of {@link Comparable} interface.
+     * Sorts this ArrayList using the algorithm settled by {@link #setSortStrategy(SortStrategy)} and according
+     * to the conditions settled by specified {@link Comparator} or, if {@code null} is passed instead of
+     * the {@link Comparator}, according to the elements' {@linkplain Comparable natural ordering} settled by
+     * implementation of {@link Comparable} interface.
+     * <p>By default quicksort algorithm is used (using quicksort() from {@link SortUtil}).</p>
      * <p>
-     * Note: the sort realisation is not stable: method might reorder equal elements.
+     * Note: with {@link SortStrategy#QUICKSORT} the sort realisation is not stable: method might reorder equal
+     * elements. With {@link SortStrategy#MERGESORT} (using mergesort() from {@link SortUtil}) the sort is stable.
      * </p>
+     * <p>If the elements are already known to be sorted by the same comparator (see {@link #isSortedBy(Comparator)}),
+     * returns at once without comparing elements.</p>
      *
      * @param comparator the {@code Comparator} used to compare ArrayList elements. {@code null} value is also valid
      *                   option indicating that the elements' {@linkplain Comparable natural ordering} should be used
@@ -231,66 +376,1410 @@ public class ArrayList<E> implements List<E> {
      */
     @Override
     public void sort(Comparator<? super E> comparator) {
+        if (isSortedBy(comparator)) {
+            return;
+        }
+        modCount++;
+        sorted = false;
         if (size > 1) {
-            SortUtil.quicksort(elements, comparator, size - 1);
+            switch (sortStrategy) {
+                case QUICKSORT -> SortUtil.quicksort(elements, comparator, size - 1);
+                case MERGESORT -> SortUtil.mergesort(elements, comparator, size - 1);
+            }
+            markElementsMoved(0);
         }
+        setSortedBy(comparator);
     }
 
     /**
-     * Returns a string representation of this ArrayList, that consists of all ArrayList elements separated by the characters ", " (comma and space) and enclosed in square brackets ("[]").
+     * Returns the algorithm used by {@link #sort(Comparator)}.
      *
-     * @return string representation of this ArrayList
+     * @return the algorithm used by sort() method
      */
-    @Override
-    public String toString() {
-        if (size == 0) {
-            return "[]";
+    public SortStrategy getSortStrategy() {
+        return sortStrategy;
+    }
+
+    /**
+     * Setts the algorithm used by {@link #sort(Comparator)}. Does not affect {@link #parallelSort(Comparator)},
+     * which always uses quicksort.
+     *
+     * @param sortStrategy the algorithm to be used by sort() method
+     * @throws NullPointerException if the specified sortStrategy is {@code null}
+     */
+    public void setSortStrategy(SortStrategy sortStrategy) {
+        this.sortStrategy = Objects.requireNonNull(sortStrategy);
+    }
+
+    /**
+     * Returns whether the elements of this ArrayList are known to be sorted by the specified {@link Comparator}:
+     * they were sorted by sort() or parallelSort() with an equal comparator, and since then only removed or added
+     * by {@link #insertSorted(Object, Comparator)} with an equal comparator.
+     * <p>Comparators are compared by equals(), so a lambda is equal only to itself.</p>
+     *
+     * @param comparator the {@code Comparator} to check. {@code null} value means the natural ordering
+     * @return true - if the elements are known to be sorted by the specified comparator; false - if they are not
+     * sorted or it is unknown
+     */
+    public boolean isSortedBy(Comparator<? super E> comparator) {
+        return sorted && Objects.equals(sortedBy, comparator);
+    }
+
+    /**
+     * Searches this ArrayList for an element equal to the specified element according to the specified
+     * {@link Comparator}, i.e. for which the comparator returns 0.
+     * <p>If the elements are known to be sorted by this comparator (see {@link #isSortedBy(Comparator)}), uses
+     * binary search that takes logarithmic time and finds the first of equal elements. Otherwise compares the
+     * elements one by one, from the first to the last one.</p>
+     *
+     * @param element    element to search for
+     * @param comparator the {@code Comparator} used to compare elements. {@code null} value is also valid
+     *                   option indicating that the elements' {@linkplain Comparable natural ordering} should be used
+     * @return the index of the first element equal to the specified element, if there is such an element;
+     * otherwise {@code (-(insertion point) - 1)}. The insertion point is the index of the first element greater than
+     * the specified element, or size() if there is no such element or the elements are not known to be sorted.
+     * So the return value is not negative only if the element is found.
+     * @throws ClassCastException   if {@code null} is passed instead of the {@link Comparator} and
+     *                              class of elements of this ArrayList doesn't implement {@link Comparable}.
+     * @throws NullPointerException if the specified element or elements of this ArrayList are {@code null} and the
+     *                              {@link Comparator} or realisation of {@link Comparable} interface don't define
+     *                              how to compare elements with null values.
+     */
+    public int binarySearch(E element, Comparator<? super E> comparator) {
+        if (!isSortedBy(comparator)) {
+            for (int index = 0; index < size; index++) {
+                if (compare(comparator, elements[index], element) == 0) {
+                    return index;
+                }
+            }
+            return -size - 1;
         }
-        StringBuilder stringBuilder = new StringBuilder();
-        stringBuilder.append("[");
-        int currentElementIndex = 0;
-        for (Object element : elements) {
-            stringBuilder.append(element);
-            if (currentElementIndex != (size - 1)) {
-                stringBuilder.append(", ");
-            } else {
-                stringBuilder.append("]");
-                break;
+        int index = findFirstNotLess(element, comparator);
+        if (index < size && compare(comparator, elements[index], element) == 0) {
+            return index;
+        }
+        return -index - 1;
+    }
+
+    /**
+     * Adds the specified element to this ArrayList at the position which keeps the elements sorted by the specified
+     * {@link Comparator}: after all elements that are less than or equal to it and before all greater elements.
+     * <p>If the elements are known to be sorted by this comparator (see {@link #isSortedBy(Comparator)}), finds the
+     * position by binary search and moves the elements after it to the right by one array copy. Otherwise first
+     * checks by one pass that the elements are in order, and never reorders them. After the insertion the elements
+     * are known to be sorted by this comparator.</p>
+     *
+     * @param element    element to be added to this list
+     * @param comparator the {@code Comparator} used to compare elements. {@code null} value is also valid
+     *                   option indicating that the elements' {@linkplain Comparable natural ordering} should be used
+     * @return the index at which the element was inserted
+     * @throws IllegalStateException if the elements are not sorted by the specified comparator
+     * @throws ClassCastException    in the same cases as {@link #binarySearch(Object, Comparator)}
+     * @throws NullPointerException  in the same cases as {@link #binarySearch(Object, Comparator)}
+     */
+    public int insertSorted(E element, Comparator<? super E> comparator) {
+        if (!isSortedBy(comparator)) {
+            for (int i = 1; i < size; i++) {
+                if (compare(comparator, elements[i - 1], (E) elements[i]) > 0) {
+                    throw new IllegalStateException("Elements are not sorted by the comparator at index " + i);
+                }
             }
-            currentElementIndex++;
+            setSortedBy(comparator);
         }
-        return stringBuilder.toString();
+        int index = findFirstGreater(element, comparator);
+        insertElement(index, element);
+        setSortedBy(comparator);
+        return index;
     }
 
-    private Object[] grow() {
-        var currentCapacity = elements.length;
-        if (currentCapacity == 0) {
-            return new Object[DEFAULT_CAPACITY];
+    /**
+     * Returns whether the indexed mode is on.
+     *
+     * @return true - if this ArrayList keeps a hash index of its elements; false - otherwise
+     */
+    public boolean isHashIndexEnabled() {
+        return hashIndex != null;
+    }
+
+    /**
+     * Turns the indexed mode on or off. When it is turned on, a {@link HashIndex} of all elements is built, which
+     * takes linear time; when it is turned off, the index is dropped.
+     * <p>In the indexed mode indexOf(), contains() and remove() by value take expected constant time to find
+     * the element. In exchange every added, set and removed element updates the index in expected constant time.
+     * The positions of the elements moved by add() or remove() by index, addAll(), removeRange() or sort() are not
+     * updated at once: the next search that needs them repairs them by one pass over the moved elements. The index
+     * needs memory for about two keys per distinct element. Elements must not change their hashCode() and equals()
+     * while they are in this ArrayList.</p>
+     *
+     * @param enabled true - to turn the indexed mode on; false - to turn it off
+     */
+    public void setHashIndexEnabled(boolean enabled) {
+        if (!enabled) {
+            hashIndex = null;
+        } else if (hashIndex == null) {
+            hashIndex = new HashIndex(elements, size);
         }
-        var newCapacity = (int) Math.ceil(currentCapacity * 1.5) + 1;
-        return Arrays.copyOf(elements, newCapacity);
     }
 
-    private void moveElementsRightFromIndex(int index) {
-        if (size == elements.length) {
-            var newArray = new Object[getNewCapacityForMovingElements()];
+    /**
+     * Sorts this ArrayList in the same way as {@link #sort(Comparator)} does, but uses threads of the
+     * {@linkplain ForkJoinPool#commonPool() common pool} (using parallelQuicksort() from {@link SortUtil}).
+     * <p>
+     * Note: the sort realisation is not stable: method might reorder equal elements.
+     * </p>
+     *
+     * @param comparator the {@code Comparator} used to compare ArrayList elements. {@code null} value is also valid
+     *                   option indicating that the elements' {@linkplain Comparable natural ordering} should be used
+     * @throws ClassCastException   in the same cases as {@link #sort(Comparator)}
+     * @throws NullPointerException in the same cases as {@link #sort(Comparator)}
+     * @see #parallelSort(Comparator, ForkJoinPool)
+     */
+    public void parallelSort(Comparator<? super E> comparator) {
+        parallelSort(comparator, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Sorts this ArrayList in the same way as {@link #sort(Comparator)} does, but uses threads of the specified
+     * {@link ForkJoinPool} (using parallelQuicksort() from {@link SortUtil}). Small lists and small partitions
+     * are sorted sequentially. Returns at once if the elements are already known to be sorted by the same
+     * comparator.
+     * <p>
+     * Note: the sort realisation is not stable: method might reorder equal elements.
+     * </p>
+     *
+     * @param comparator the {@code Comparator} used to compare ArrayList elements. {@code null} value is also valid
+     *                   option indicating that the elements' {@linkplain Comparable natural ordering} should be used
+     * @param pool       the pool which threads are used for sorting
+     * @throws ClassCastException   in the same cases as {@link #sort(Comparator)}
+     * @throws NullPointerException if the specified pool is {@code null}, or in the same cases as
+     *                              {@link #sort(Comparator)}
+     */
+    public void parallelSort(Comparator<? super E> comparator, ForkJoinPool pool) {
+        Objects.requireNonNull(pool);
+        if (isSortedBy(comparator)) {
+            return;
+        }
+        modCount++;
+        sorted = false;
+        if (size > 1) {
+            SortUtil.parallelQuicksort(elements, comparator, size - 1, pool);
+            markElementsMoved(0);
+        }
+        setSortedBy(comparator);
+    }
+
+    /**
+     * Adds all elements of the specified array to the end of this ArrayList, in the order of the array.
+     * <p>If the capacity is not enough, the array of the field elements is grown once, to at least the required
+     * capacity, and the specified array is copied into it by one array copy.</p>
+     *
+     * @param newElements elements to be added to this list
+     * @throws NullPointerException if the specified array is {@code null}
+     */
+    @Override
+    public void addAll(E[] newElements) {
+        int count = newElements.length;
+        modCount++;
+        sorted = false;
+        int requiredCapacity = requiredCapacity(count);
+        if (requiredCapacity > elements.length) {
+            grow(requiredCapacity);
+        }
+        System.arraycopy(newElements, 0, elements, size, count);
+        if (hashIndex != null) {
+            for (int i = 0; i < count; i++) {
+                hashIndex.add(newElements[i], size + i);
+            }
+        }
+        size += count;
+    }
+
+    /**
+     * Adds all elements of the specified list to this ArrayList at the specified index, in the order of
+     * the specified list.
+     * <p>The elements from the specified index and to the end of this ArrayList are moved to the right by one array
+     * copy. If the capacity is not enough, a new array of at least the required capacity is created and the elements
+     * before and after the index are copied into it directly to their new positions. Elements of another ArrayList are
+     * copied from its array by one array copy.</p>
+     * <p>Allows to add elements to 0 (zero) index even if size of ArrayList == 0, i.e. in case if
+     * {@code ((size() == 0) && (index == 0))}. An ArrayList can be added to itself.</p>
+     *
+     * @param index       index at which the first element should be inserted
+     * @param newElements list which elements should be added to this list
+     * @throws IndexOutOfBoundsException if {@code ((size() == 0) && (index != 0))}, or if index is out of range
+     *                                   {@code (index < 0 || index >= size())}
+     * @throws NullPointerException      if the specified list is {@code null}
+     */
+    @Override
+    public void addAll(int index, List<? extends E> newElements) {
+        if (size == 0) {
+            if (index != 0) {
+                throw new IndexOutOfBoundsException();
+            }
+        } else {
+            Objects.checkIndex(index, size);
+        }
+        Object[] source;
+        int count = newElements.size();
+        if (newElements instanceof ArrayList<?> arrayList && arrayList != this) {
+            source = arrayList.elements;
+        } else {
+            source = new Object[count];
+            for (int i = 0; i < count; i++) {
+                source[i] = newElements.get(i);
+            }
+        }
+        if (count == 0) {
+            return;
+        }
+        modCount++;
+        sorted = false;
+        int requiredCapacity = requiredCapacity(count);
+        if (ListMetrics.ENABLED) {
+            recordShift(index, size - index, requiredCapacity > elements.length);
+        }
+        var event = new ShiftEvent();
+        event.begin();
+        int oldCapacity = elements.length;
+        if (requiredCapacity > elements.length) {
+            var newArray = new Object[newCapacity(requiredCapacity)];
             System.arraycopy(elements, 0, newArray, 0, index);
-            System.arraycopy(elements, index, newArray, index + 1, size - index);
+            System.arraycopy(elements, index, newArray, index + count, size - index);
             elements = newArray;
         } else {
-            System.arraycopy(elements, index, elements, index + 1, size - index);
+            System.arraycopy(elements, index, elements, index + count, size - index);
+        }
+        event.complete(this, index, size - index, size, oldCapacity, elements.length);
+        System.arraycopy(source, 0, elements, index, count);
+        size += count;
+        if (hashIndex != null) {
+            hashIndex.markMoved(index);
+            for (int i = 0; i < count; i++) {
+                hashIndex.add(source[i], index + i);
+            }
         }
     }
 
-    private int getNewCapacityForMovingElements() {
-        var currentCapacity = elements.length;
-        return (int) Math.ceil(currentCapacity * 1.5) + 1;
+    /**
+     * Removes all elements with indexes from fromIndex, inclusive, to toIndex, exclusive.
+     * <p>Elements that were to the right from the removed range are moved to the left by one array copy.</p>
+     *
+     * @param fromIndex index of the first element to be removed
+     * @param toIndex   index after the last element to be removed
+     * @throws IndexOutOfBoundsException if {@code (fromIndex < 0 || fromIndex > toIndex || toIndex > size())}
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, size);
+        modCount++;
+        if (hashIndex != null) {
+            hashIndex.markMoved(fromIndex);
+            for (int i = fromIndex; i < toIndex; i++) {
+                hashIndex.remove(elements[i], i, elements, size);
+            }
+        }
+        if (ListMetrics.ENABLED && fromIndex != toIndex && toIndex != size) {
+            ListMetrics.recordShift(size - toIndex);
+        }
+        var event = new ShiftEvent();
+        event.begin();
+        System.arraycopy(elements, toIndex, elements, fromIndex, size - toIndex);
+        event.complete(this, fromIndex, size - toIndex, size, elements.length, elements.length);
+        int newSize = size - (toIndex - fromIndex);
+        Arrays.fill(elements, newSize, size, null);
+        size = newSize;
+        shrinkIfNeeded();
     }
 
-    private void simpleRemoveElement(int index) {
-        if (index != size - 1) {
-            System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+    /**
+     * Setts the elements of the specified array at the positions starting from fromIndex by one array copy,
+     * replacing the previous elements. The ArrayList size does not change. In the indexed mode the elements are set
+     * one by one to update the index.
+     *
+     * @param fromIndex   index of the first element to be replaced
+     * @param newElements elements to be set to this list
+     * @throws IndexOutOfBoundsException if {@code (fromIndex < 0 || fromIndex + newElements.length > size())}
+     * @throws NullPointerException      if the specified array is {@code null}
+     */
+    @Override
+    public void setAll(int fromIndex, E[] newElements) {
+        Objects.checkFromIndexSize(fromIndex, newElements.length, size);
+        sorted = false;
+        if (hashIndex != null) {
+            for (int i = 0; i < newElements.length; i++) {
+                replaceElement(fromIndex + i, newElements[i]);
+            }
+        } else {
+            System.arraycopy(newElements, 0, elements, fromIndex, newElements.length);
+        }
+    }
+
+    /**
+     * Removes all elements of this ArrayList that match the specified predicate. First the elements are tested and
+     * the removed ones are marked in a bit mask, without changing the array of the field elements. Then every
+     * remaining element after the first removed one is moved once, directly to its final position, and the freed
+     * tail of the array is cleared once. Takes linear time, while remove() by index in a loop moves the tail
+     * of the array for every removed element. The remaining elements keep their order, so the elements stay known
+     * to be sorted.
+     * <p>If the predicate throws an exception, the elements tested before remain removed and the other elements
+     * remain in this ArrayList. If the predicate structurally modifies this ArrayList, nothing is removed
+     * and {@link ConcurrentModificationException} is thrown.</p>
+     *
+     * @param filter predicate that returns true for the elements to be removed
+     * @return true - if any elements were removed; false - otherwise
+     * @throws NullPointerException            if the specified predicate is {@code null}
+     * @throws ConcurrentModificationException if the predicate structurally modified this ArrayList
+     * @see #parallelRemoveIf(Predicate, ForkJoinPool)
+     */
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        Objects.requireNonNull(filter);
+        int expectedModCount = modCount;
+        int oldSize = size;
+        var array = elements;
+        var event = new ShiftEvent();
+        event.begin();
+        int firstRemoved = 0;
+        while (firstRemoved < oldSize && !filter.test((E) array[firstRemoved])) {
+            firstRemoved++;
+        }
+        if (firstRemoved == oldSize) {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            return false;
+        }
+        var removed = new long[(oldSize - firstRemoved + Long.SIZE - 1) / Long.SIZE];
+        removed[0] = 1L;
+        int tested = firstRemoved + 1;
+        boolean modified;
+        try {
+            for (; tested < oldSize; tested++) {
+                if (filter.test((E) array[tested])) {
+                    int bit = tested - firstRemoved;
+                    removed[bit >>> 6] |= 1L << bit;
+                }
+            }
+        } finally {
+            modified = modCount != expectedModCount;
+            if (!modified) {
+                int write = firstRemoved;
+                for (int read = firstRemoved + 1; read < tested; read++) {
+                    int bit = read - firstRemoved;
+                    if ((removed[bit >>> 6] & 1L << bit) == 0) {
+                        array[write++] = array[read];
+                    }
+                }
+                System.arraycopy(array, tested, array, write, oldSize - tested);
+                completeRemoval(write + oldSize - tested, firstRemoved, event);
+            }
+        }
+        if (modified) {
+            throw new ConcurrentModificationException();
+        }
+        return true;
+    }
+
+    /**
+     * Removes all elements of this ArrayList that match the specified predicate in the same way as
+     * {@link #removeIf(Predicate)} does, but tests the elements using threads of the
+     * {@linkplain ForkJoinPool#commonPool() common pool}.
+     *
+     * @param filter predicate that returns true for the elements to be removed
+     * @return true - if any elements were removed; false - otherwise
+     * @throws NullPointerException            if the specified predicate is {@code null}
+     * @throws ConcurrentModificationException if the predicate structurally modified this ArrayList
+     * @see #parallelRemoveIf(Predicate, ForkJoinPool)
+     */
+    public boolean parallelRemoveIf(Predicate<? super E> filter) {
+        return parallelRemoveIf(filter, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Removes all elements of this ArrayList that match the specified predicate in the same way as
+     * {@link #removeIf(Predicate)} does, but uses threads of the specified {@link ForkJoinPool}. Worth it for
+     * large lists or expensive predicates; lists of less than two chunks are filtered by removeIf().
+     * <p>The array of the field elements is split into chunks of REMOVE_CHUNK_SIZE elements. First the tasks
+     * of the chunks test all elements and mark the removed ones in a bit mask, so if the predicate throws
+     * an exception, this ArrayList is not changed. Then every chunk is compacted in parallel within its own range,
+     * the prefix sums of the numbers of remaining elements give the final position of every chunk, and the chunks
+     * are stitched together by one array copy each.</p>
+     * <p>The predicate is called from several threads at once, so it must be thread safe. It must not modify
+     * this ArrayList.</p>
+     *
+     * @param filter predicate that returns true for the elements to be removed
+     * @param pool   the pool which threads are used for testing and compacting the elements
+     * @return true - if any elements were removed; false - otherwise
+     * @throws NullPointerException            if the specified predicate or pool is {@code null}
+     * @throws ConcurrentModificationException if the predicate structurally modified this ArrayList
+     */
+    public boolean parallelRemoveIf(Predicate<? super E> filter, ForkJoinPool pool) {
+        Objects.requireNonNull(filter);
+        Objects.requireNonNull(pool);
+        int chunks = (int) (((long) size + REMOVE_CHUNK_SIZE - 1) / REMOVE_CHUNK_SIZE);
+        if (chunks < 2) {
+            return removeIf(filter);
+        }
+        int expectedModCount = modCount;
+        int oldSize = size;
+        var array = elements;
+        var removed = new long[(oldSize + Long.SIZE - 1) / Long.SIZE];
+        var remaining = new int[chunks];
+        pool.invoke(new ChunkTask(0, chunks, chunk -> {
+            int from = chunk * REMOVE_CHUNK_SIZE;
+            int to = Math.min(from + REMOVE_CHUNK_SIZE, oldSize);
+            int count = 0;
+            for (int i = from; i < to; i++) {
+                if (filter.test((E) array[i])) {
+                    removed[i >>> 6] |= 1L << i;
+                } else {
+                    count++;
+                }
+            }
+            remaining[chunk] = count;
+        }));
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+        var offsets = new int[chunks];
+        int newSize = 0;
+        for (int chunk = 0; chunk < chunks; chunk++) {
+            offsets[chunk] = newSize;
+            newSize += remaining[chunk];
+        }
+        if (newSize == oldSize) {
+            return false;
+        }
+        var event = new ShiftEvent();
+        event.begin();
+        pool.invoke(new ChunkTask(0, chunks, chunk -> {
+            int from = chunk * REMOVE_CHUNK_SIZE;
+            int to = Math.min(from + REMOVE_CHUNK_SIZE, oldSize);
+            int write = from;
+            for (int i = from; i < to; i++) {
+                if ((removed[i >>> 6] & 1L << i) == 0) {
+                    array[write++] = array[i];
+                }
+            }
+        }));
+        for (int chunk = 0; chunk < chunks; chunk++) {
+            int from = chunk * REMOVE_CHUNK_SIZE;
+            if (offsets[chunk] != from) {
+                System.arraycopy(array, from, array, offsets[chunk], remaining[chunk]);
+            }
+        }
+        int firstWord = 0;
+        while (removed[firstWord] == 0) {
+            firstWord++;
+        }
+        completeRemoval(newSize, firstWord * Long.SIZE + Long.numberOfTrailingZeros(removed[firstWord]), event);
+        return true;
+    }
+
+    /**
+     * Replaces every element of this ArrayList by the result of the specified operator applied to it, writing
+     * the results directly into the array of the field elements. In the indexed mode the index is rebuilt once.
+     *
+     * @param operator the operator applied to every element
+     * @throws NullPointerException            if the specified operator is {@code null}
+     * @throws ConcurrentModificationException if the operator structurally modified this ArrayList
+     */
+    @Override
+    public void replaceAll(UnaryOperator<E> operator) {
+        Objects.requireNonNull(operator);
+        int expectedModCount = modCount;
+        sorted = false;
+        try {
+            for (int i = 0; i < size && modCount == expectedModCount; i++) {
+                elements[i] = operator.apply((E) elements[i]);
+            }
+        } finally {
+            if (hashIndex != null) {
+                hashIndex.rebuild(elements, size);
+            }
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Returns a view of the elements of this ArrayList with indexes from fromIndex, inclusive, to toIndex,
+     * exclusive. Takes constant time and doesn't copy elements.
+     * <p>The view supports all {@link List} methods. It reads and writes the array of the field elements of this
+     * ArrayList directly, at the offset of the view. Modifications through the view are visible in this ArrayList
+     * and in the views which the view was created from. Views of the view can be created by subList() as well;
+     * they also refer to this ArrayList directly.</p>
+     * <p>If this ArrayList is structurally modified in any way except through the view or its views (for example
+     * by add() or remove() of this ArrayList or of another view), the view becomes invalid, and all its methods
+     * throw {@link ConcurrentModificationException}.</p>
+     *
+     * @param fromIndex index of the first element of the view
+     * @param toIndex   index after the last element of the view
+     * @return a view of the specified range of this ArrayList
+     * @throws IndexOutOfBoundsException if {@code (fromIndex < 0 || fromIndex > toIndex || toIndex > size())}
+     */
+    @Override
+    public List<E> subList(int fromIndex, int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, size);
+        return new SubList(null, fromIndex, toIndex - fromIndex);
+    }
+
+    /**
+     * Returns an iterator over the elements of this ArrayList, from the first to the last one.
+     * <p>The iterator reads the array of the field elements directly. It is fail-fast: if this ArrayList is
+     * structurally modified after the iterator is created, in any way except through the iterator's own remove()
+     * method, the next call of next() or remove() throws {@link ConcurrentModificationException}.</p>
+     *
+     * @return an iterator over the elements of this ArrayList
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Itr();
+    }
+
+    /**
+     * Returns a {@link Spliterator} over the elements of this ArrayList, that reports {@link Spliterator#SIZED},
+     * {@link Spliterator#SUBSIZED} and {@link Spliterator#ORDERED}. Used by {@link #stream()} and
+     * {@link #parallelStream()}.
+     * <p>The spliterator reads the array of the field elements directly and splits its range into two halves
+     * without copying, so a parallel stream processes the elements of this ArrayList in place. It binds to
+     * the size of this ArrayList at the first traversal or split, and is fail-fast: it throws
+     * {@link ConcurrentModificationException} if this ArrayList was structurally modified after binding.</p>
+     *
+     * @return a spliterator over the elements of this ArrayList
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        return new Split(0, -1, 0);
+    }
+
+    /**
+     * Performs the specified action for each element of this ArrayList, from the first element to the last one.
+     * <p>Walks the array of the field elements directly, without checking every index.</p>
+     *
+     * @param action the action to be performed for each element
+     * @throws NullPointerException            if the specified action is {@code null}
+     * @throws ConcurrentModificationException if the action structurally modifies this ArrayList
+     */
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        Objects.requireNonNull(action);
+        int expectedModCount = modCount;
+        Object[] currentElements = elements;
+        int currentSize = size;
+        for (int i = 0; i < currentSize && modCount == expectedModCount; i++) {
+            action.accept((E) currentElements[i]);
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Performs the specified action for each element of this ArrayList and its index, from the first element
+     * to the last one.
+     * <p>Walks the array of the field elements directly, without checking every index.</p>
+     *
+     * @param action the action to be performed for each element
+     * @throws NullPointerException            if the specified action is {@code null}
+     * @throws ConcurrentModificationException if the action structurally modifies this ArrayList
+     */
+    @Override
+    public void forEachIndexed(IndexedConsumer<? super E> action) {
+        Objects.requireNonNull(action);
+        int expectedModCount = modCount;
+        Object[] currentElements = elements;
+        int currentSize = size;
+        for (int i = 0; i < currentSize && modCount == expectedModCount; i++) {
+            action.accept(i, (E) currentElements[i]);
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Returns a string representation of this ArrayList, that consists of all ArrayList elements separated by the characters ", " (comma and space) and enclosed in square brackets ("[]").
+     *
+     * @return string representation of this ArrayList
+     * @throws ConcurrentModificationException if toString() of an element structurally modifies this ArrayList
+     */
+    @Override
+    public String toString() {
+        return toString(size);
+    }
+
+    /**
+     * Returns a string representation of at most maxElements first elements of this ArrayList, in the same format
+     * as toString(). If the ArrayList has more elements, the rest are replaced by the number of them, for example
+     * "[1, 2, ... (8 more)]" for an ArrayList of 10 elements and maxElements equal to 2.
+     * <p>The time and the memory taken don't depend on the size of this ArrayList, so the method is suited
+     * for logging lists of any size.</p>
+     *
+     * @param maxElements the maximal number of elements to be included
+     * @return string representation of this ArrayList
+     * @throws IllegalArgumentException        if maxElements is negative
+     * @throws ConcurrentModificationException if toString() of an element structurally modifies this ArrayList
+     */
+    public String toString(int maxElements) {
+        if (maxElements < 0) {
+            throw new IllegalArgumentException("Illegal max elements: " + maxElements);
+        }
+        StringBuilder stringBuilder = new StringBuilder();
+        try {
+            appendElements(stringBuilder, 0, size, maxElements);
+        } catch (IOException e) {
+            throw new AssertionError("StringBuilder doesn't throw IOException", e);
+        }
+        return stringBuilder.toString();
+    }
+
+    /**
+     * Appends the string representation of this ArrayList, the same as returned by toString(), to the specified
+     * {@link Appendable} element by element, without building the whole string in memory.
+     *
+     * @param appendable the destination of the string representation
+     * @throws IOException                     if the appendable throws IOException
+     * @throws NullPointerException            if the specified appendable is {@code null}
+     * @throws ConcurrentModificationException if toString() of an element structurally modifies this ArrayList
+     */
+    public void appendTo(Appendable appendable) throws IOException {
+        Objects.requireNonNull(appendable);
+        appendElements(appendable, 0, size, size);
+    }
+
+    /**
+     * Writes the string representation of this ArrayList, the same as returned by toString(), to the specified
+     * {@link Writer} and flushes it. The characters are collected in a buffer of WRITE_BUFFER_CHARS characters
+     * before they are written, so the writer receives a small number of large writes and the memory taken doesn't
+     * depend on the size of this ArrayList.
+     *
+     * @param writer the destination of the string representation
+     * @throws IOException                     if the writer throws IOException
+     * @throws NullPointerException            if the specified writer is {@code null}
+     * @throws ConcurrentModificationException if toString() of an element structurally modifies this ArrayList
+     */
+    public void writeTo(Writer writer) throws IOException {
+        var bufferedWriter = new BufferedWriter(Objects.requireNonNull(writer), WRITE_BUFFER_CHARS);
+        appendElements(bufferedWriter, 0, size, size);
+        bufferedWriter.flush();
+    }
+
+    /**
+     * Returns a new {@link ListBatch} that records insertions, removals and replacements of elements of this
+     * ArrayList by index and applies them all at once by commit(), moving every element at most twice.
+     * The indexes refer to the positions of the elements at the moment of this call.
+     * <p>Many add() and remove() calls by index in the middle of a large ArrayList move the tail of the array
+     * for every call. Recording them in a batch and committing it takes linear time in total instead.</p>
+     *
+     * @return new batch of operations on this ArrayList
+     */
+    public ListBatch<E> batch() {
+        return new ListBatch<>(this, modCount, size);
+    }
+
+    /**
+     * Returns the growth policy of this ArrayList.
+     *
+     * @return the policy that chooses the length of a new array of the field elements
+     */
+    public GrowthPolicy getGrowthPolicy() {
+        return growthPolicy;
+    }
+
+    /**
+     * Increases the capacity of this ArrayList, if necessary, so that it can hold at least minCapacity elements
+     * without creating a new array. The new capacity is chosen by the growth policy.
+     * <p>Useful before adding a known number of elements one by one: the array of the field elements is created
+     * once instead of several times.</p>
+     *
+     * @param minCapacity the desired minimum capacity
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > elements.length) {
+            grow(minCapacity);
+        }
+    }
+
+    /**
+     * Reduces the capacity of this ArrayList to its size, replacing the array of the field elements by an array
+     * of the length equal to size(). Releases the memory of the unused part of the array, for example after
+     * the ArrayList was large for a short time.
+     */
+    public void trimToSize() {
+        if (size < elements.length) {
+            if (ListMetrics.ENABLED) {
+                ListMetrics.recordResize(size);
+            }
+            var event = new ResizeEvent();
+            event.begin();
+            int oldCapacity = elements.length;
+            elements = Arrays.copyOf(elements, size);
+            event.complete(this, oldCapacity, size, size);
+        }
+    }
+
+    /**
+     * Returns the capacity of this ArrayList, the length of the array of the field elements.
+     */
+    int capacity() {
+        return elements.length;
+    }
+
+    /**
+     * Returns the array of the field elements without copying it. Only the first size() elements of the array
+     * belong to this ArrayList.
+     */
+    Object[] elements() {
+        return elements;
+    }
+
+    /**
+     * Takes the array of the field elements away from this ArrayList and returns it, leaving this ArrayList empty
+     * with a new empty array. modCount is incremented, so iterators and views created before fail fast instead
+     * of writing into the returned array.
+     */
+    Object[] detach() {
+        var detached = elements;
+        elements = new Object[0];
+        size = 0;
+        modCount++;
+        sorted = false;
+        if (hashIndex != null) {
+            hashIndex.clear();
+        }
+        return detached;
+    }
+
+    /**
+     * Applies the operations recorded by a {@link ListBatch}: replaces the elements at setIndexes, removes
+     * the elements whose indexes are set in removed and inserts the elements before the insertIndexes, which
+     * must be sorted. All indexes refer to the positions before the operations; insertIndexes are overwritten.
+     */
+    void applyBatch(int expectedModCount, int[] setIndexes, Object[] setElements, int sets, BitSet removed,
+                    int[] insertIndexes, Object[] insertElements, int inserts) {
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+        for (int i = 0; i < sets; i++) {
+            replaceElement(setIndexes[i], (E) setElements[i]);
+        }
+        int firstRemoved = removed.nextSetBit(0);
+        if (firstRemoved < 0 && inserts == 0) {
+            return;
+        }
+        modCount++;
+        var event = new ShiftEvent();
+        event.begin();
+        int oldSize = size;
+        int oldCapacity = elements.length;
+        int firstIndex = Math.min(firstRemoved < 0 ? size : firstRemoved, inserts == 0 ? size : insertIndexes[0]);
+        int shifted = 0;
+        if (hashIndex != null) {
+            hashIndex.markMoved(firstIndex);
+        }
+        if (firstRemoved >= 0) {
+            int removedBefore = 0;
+            int removedIndex = firstRemoved;
+            for (int i = 0; i < inserts; i++) {
+                while (removedIndex >= 0 && removedIndex < insertIndexes[i]) {
+                    removedBefore++;
+                    removedIndex = removed.nextSetBit(removedIndex + 1);
+                }
+                insertIndexes[i] -= removedBefore;
+            }
+            if (hashIndex != null) {
+                for (int i = firstRemoved; i >= 0; i = removed.nextSetBit(i + 1)) {
+                    hashIndex.remove(elements[i], i, elements, size);
+                }
+            }
+            int write = firstRemoved;
+            int read = firstRemoved;
+            while (read < size) {
+                int kept = removed.nextClearBit(read);
+                if (kept >= size) {
+                    break;
+                }
+                int nextRemoved = removed.nextSetBit(kept);
+                int runEnd = nextRemoved < 0 ? size : nextRemoved;
+                System.arraycopy(elements, kept, elements, write, runEnd - kept);
+                shifted += runEnd - kept;
+                write += runEnd - kept;
+                read = runEnd;
+            }
+            Arrays.fill(elements, write, size, null);
+            size = write;
+        }
+        if (inserts > 0) {
+            sorted = false;
+            int newSize = requiredCapacity(inserts);
+            boolean resize = newSize > elements.length;
+            var target = resize ? new Object[newCapacity(newSize)] : elements;
+            int read = size;
+            int write = newSize;
+            for (int i = inserts - 1; i >= 0; i--) {
+                int count = read - insertIndexes[i];
+                write -= count;
+                read -= count;
+                System.arraycopy(elements, read, target, write, count);
+                shifted += count;
+                target[--write] = insertElements[i];
+            }
+            if (resize) {
+                System.arraycopy(elements, 0, target, 0, read);
+                if (ListMetrics.ENABLED) {
+                    ListMetrics.recordResize(read);
+                }
+            }
+            elements = target;
+            size = newSize;
+            if (hashIndex != null) {
+                for (int i = 0; i < inserts; i++) {
+                    hashIndex.add(insertElements[i], insertIndexes[i] + i);
+                }
+            }
+        }
+        if (ListMetrics.ENABLED && shifted > 0) {
+            ListMetrics.recordShift(shifted);
+        }
+        event.complete(this, firstIndex, shifted, oldSize, oldCapacity, elements.length);
+        shrinkIfNeeded();
+    }
+
+    /**
+     * Finishes a removal by removeIf() or parallelRemoveIf() after the remaining elements were moved to the first
+     * newSize positions: clears the freed tail of the array, updates the size and rebuilds the index.
+     */
+    private void completeRemoval(int newSize, int firstRemoved, ShiftEvent event) {
+        int oldSize = size;
+        int shifted = newSize - firstRemoved;
+        Arrays.fill(elements, newSize, oldSize, null);
+        size = newSize;
+        modCount++;
+        if (hashIndex != null) {
+            hashIndex.rebuild(elements, size);
+        }
+        if (ListMetrics.ENABLED && shifted > 0) {
+            ListMetrics.recordShift(shifted);
+        }
+        event.complete(this, firstRemoved, shifted, oldSize, elements.length, elements.length);
+        shrinkIfNeeded();
+    }
+
+    private void moveElementsRightFromIndex(int index) {
+        if (ListMetrics.ENABLED) {
+            recordShift(index, size - index, size == elements.length);
+        }
+        var event = new ShiftEvent();
+        event.begin();
+        int oldCapacity = elements.length;
+        if (size == elements.length) {
+            var newArray = new Object[newCapacity(size + 1)];
+            System.arraycopy(elements, 0, newArray, 0, index);
+            System.arraycopy(elements, index, newArray, index + 1, size - index);
+            elements = newArray;
+        } else {
+            System.arraycopy(elements, index, elements, index + 1, size - index);
+        }
+        event.complete(this, index, size - index, size, oldCapacity, elements.length);
+    }
+
+    /**
+     * Returns the capacity needed to add count elements, and checks that it can be allocated.
+     */
+    private int requiredCapacity(int count) {
+        int requiredCapacity = size + count;
+        if (requiredCapacity < 0) {
+            throw new OutOfMemoryError("Required array length " + ((long) size + count) + " is too large");
+        }
+        return requiredCapacity;
+    }
+
+    /**
+     * Returns the capacity of a new array of the field elements that can hold at least minCapacity elements,
+     * chosen by the growth policy.
+     */
+    private int newCapacity(int minCapacity) {
+        return Math.max(minCapacity, growthPolicy.grow(elements.length, minCapacity));
+    }
+
+    private void grow(int minCapacity) {
+        if (ListMetrics.ENABLED) {
+            ListMetrics.recordResize(size);
+        }
+        var event = new ResizeEvent();
+        event.begin();
+        int oldCapacity = elements.length;
+        elements = Arrays.copyOf(elements, newCapacity(minCapacity));
+        event.complete(this, oldCapacity, elements.length, size);
+    }
+
+    /**
+     * Records in {@link ListMetrics} an insertion at the specified index that moves the specified number of elements,
+     * and whether the array is resized for it, copying the elements before the index into the new array.
+     */
+    private static void recordShift(int index, int shiftedElements, boolean resize) {
+        if (resize) {
+            ListMetrics.recordResize(index);
+        }
+        if (shiftedElements > 0) {
+            ListMetrics.recordShift(shiftedElements);
+        }
+    }
+
+    /**
+     * Replaces the array of the field elements by a shorter one if the growth policy shrinks it.
+     */
+    private void shrinkIfNeeded() {
+        int newCapacity = growthPolicy.shrink(elements.length, size);
+        if (newCapacity < elements.length) {
+            if (ListMetrics.ENABLED) {
+                ListMetrics.recordResize(size);
+            }
+            var event = new ResizeEvent();
+            event.begin();
+            int oldCapacity = elements.length;
+            elements = Arrays.copyOf(elements, Math.max(newCapacity, size));
+            event.complete(this, oldCapacity, elements.length, size);
+        }
+    }
+
+    private void insertElement(int index, E element) {
+        modCount++;
+        sorted = false;
+        moveElementsRightFromIndex(index);
+        elements[index] = element;
+        size++;
+        if (hashIndex != null) {
+            if (index != size - 1) {
+                hashIndex.markMoved(index);
+            }
+            hashIndex.add(element, index);
+        }
+    }
+
+    private void simpleRemoveElement(int index) {
+        modCount++;
+        var removingElement = elements[index];
+        if (index != size - 1) {
+            if (ListMetrics.ENABLED) {
+                ListMetrics.recordShift(size - index - 1);
+            }
+            var event = new ShiftEvent();
+            event.begin();
+            System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+            event.complete(this, index, size - index - 1, size, elements.length, elements.length);
+        }
+        elements[--size] = null;
+        if (hashIndex != null) {
+            if (index != size) {
+                hashIndex.markMoved(index);
+            }
+            hashIndex.remove(removingElement, index, elements, size);
+        }
+        shrinkIfNeeded();
+    }
+
+    private E replaceElement(int index, E element) {
+        sorted = false;
+        var replacingElement = (E) elements[index];
+        elements[index] = element;
+        if (hashIndex != null && !Objects.equals(replacingElement, element)) {
+            hashIndex.remove(replacingElement, index, elements, size);
+            hashIndex.add(element, index);
+        }
+        return replacingElement;
+    }
+
+    private void setSortedBy(Comparator<? super E> comparator) {
+        sorted = true;
+        sortedBy = comparator;
+    }
+
+    /**
+     * Returns the index of the first element that is not less than the specified element, or size if there is no
+     * such element. The elements must be sorted by the specified comparator.
+     */
+    private int findFirstNotLess(E element, Comparator<? super E> comparator) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (compare(comparator, elements[middle], element) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the index of the first element that is greater than the specified element, or size if there is no
+     * such element. The elements must be sorted by the specified comparator.
+     */
+    private int findFirstGreater(E element, Comparator<? super E> comparator) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (compare(comparator, elements[middle], element) <= 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private static <T> int compare(Comparator<? super T> comparator, Object element, T other) {
+        if (comparator != null) {
+            return comparator.compare((T) element, other);
+        }
+        return ((Comparable<T>) element).compareTo(other);
+    }
+
+    /**
+     * Appends the elements from offset to offset + length, separated by ", " and enclosed in "[]". Only the first
+     * maxElements of them are appended, followed by the number of the rest if there are any.
+     */
+    private void appendElements(Appendable appendable, int offset, int length, int maxElements) throws IOException {
+        int expectedModCount = modCount;
+        Object[] currentElements = elements;
+        int shownElements = Math.min(length, maxElements);
+        appendable.append('[');
+        for (int i = 0; i < shownElements; i++) {
+            if (i != 0) {
+                appendable.append(", ");
+            }
+            appendable.append(String.valueOf(currentElements[offset + i]));
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+        if (shownElements < length) {
+            if (shownElements != 0) {
+                appendable.append(", ");
+            }
+            appendable.append("... (").append(Integer.toString(length - shownElements)).append(" more)");
+        }
+        appendable.append(']');
+    }
+
+    private void markElementsMoved(int fromIndex) {
+        if (hashIndex != null) {
+            hashIndex.markMoved(fromIndex);
+        }
+    }
+
+    /**
+     * Task that performs an action for every chunk from fromChunk, inclusive, to toChunk, exclusive, splitting
+     * the range of chunks in halves between threads of a {@link ForkJoinPool}.
+     */
+    private static class ChunkTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int fromChunk;
+
+        private final int toChunk;
+
+        private final IntConsumer action;
+
+        ChunkTask(int fromChunk, int toChunk, IntConsumer action) {
+            this.fromChunk = fromChunk;
+            this.toChunk = toChunk;
+            this.action = action;
+        }
+
+        @Override
+        protected void compute() {
+            if (toChunk - fromChunk == 1) {
+                action.accept(fromChunk);
+                return;
+            }
+            int middle = (fromChunk + toChunk) >>> 1;
+            invokeAll(new ChunkTask(fromChunk, middle, action), new ChunkTask(middle, toChunk, action));
+        }
+    }
+
+    /**
+     * Fail-fast iterator over the elements of an ArrayList.
+     */
+    private class Itr implements Iterator<E> {
+
+        /**
+         * Index of the element to be returned by the next call of next().
+         */
+        private int cursor;
+
+        /**
+         * Index of the element returned by the last call of next(), or -1 if there is no such element.
+         */
+        private int lastReturned = -1;
+
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return cursor != size;
+        }
+
+        @Override
+        public E next() {
+            checkForComodification();
+            int index = cursor;
+            if (index >= size) {
+                throw new NoSuchElementException();
+            }
+            Object[] currentElements = elements;
+            cursor = index + 1;
+            lastReturned = index;
+            return (E) currentElements[index];
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned < 0) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            ArrayList.this.remove(lastReturned);
+            cursor = lastReturned;
+            lastReturned = -1;
+            expectedModCount = modCount;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    /**
+     * Spliterator over the range [index, fence) of the array of the field elements of an ArrayList. The fence
+     * is -1 until the spliterator is bound to the size of the list.
+     */
+    private class Split implements Spliterator<E> {
+
+        private int index;
+
+        private int fence;
+
+        private int expectedModCount;
+
+        Split(int index, int fence, int expectedModCount) {
+            this.index = index;
+            this.fence = fence;
+            this.expectedModCount = expectedModCount;
+        }
+
+        @Override
+        public Split trySplit() {
+            int low = index;
+            int middle = (low + getFence()) >>> 1;
+            if (low >= middle) {
+                return null;
+            }
+            index = middle;
+            return new Split(low, middle, expectedModCount);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super E> action) {
+            Objects.requireNonNull(action);
+            int currentFence = getFence();
+            int currentIndex = index;
+            if (currentIndex >= currentFence) {
+                return false;
+            }
+            index = currentIndex + 1;
+            action.accept((E) elements[currentIndex]);
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super E> action) {
+            Objects.requireNonNull(action);
+            int currentFence = getFence();
+            Object[] currentElements = elements;
+            for (int i = index; i < currentFence; i++) {
+                action.accept((E) currentElements[i]);
+            }
+            index = currentFence;
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        @Override
+        public long estimateSize() {
+            return getFence() - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+
+        private int getFence() {
+            if (fence < 0) {
+                expectedModCount = modCount;
+                fence = size;
+            }
+            return fence;
+        }
+    }
+
+    /**
+     * View of the range [offset, offset + size) of an ArrayList. Reads and writes the array of the ArrayList
+     * directly; the field parent (the view which this view was created from, or {@code null}) is used only to
+     * update sizes of the parent views after a structural modification.
+     */
+    private class SubList implements List<E> {
+
+        private final SubList parent;
+
+        private final int offset;
+
+        private int size;
+
+        private int expectedModCount;
+
+        SubList(SubList parent, int offset, int size) {
+            this.parent = parent;
+            this.offset = offset;
+            this.size = size;
+            this.expectedModCount = modCount;
+        }
+
+        @Override
+        public void add(E element) {
+            checkForComodification();
+            insertElement(offset + size, element);
+            updateSizeAndModCount(1);
+        }
+
+        @Override
+        public void add(int index, E element) {
+            checkForComodification();
+            if (size == 0) {
+                if (index != 0) {
+                    throw new IndexOutOfBoundsException();
+                }
+            } else {
+                Objects.checkIndex(index, size);
+            }
+            insertElement(offset + index, element);
+            updateSizeAndModCount(1);
+        }
+
+        @Override
+        public void clear() {
+            removeRange(0, size);
+        }
+
+        @Override
+        public E get(int index) {
+            checkForComodification();
+            Objects.checkIndex(index, size);
+            return (E) elements[offset + index];
+        }
+
+        @Override
+        public boolean remove(E element) {
+            checkForComodification();
+            for (int index = 0; index < size; index++) {
+                if (Objects.equals(element, elements[offset + index])) {
+                    simpleRemoveElement(offset + index);
+                    updateSizeAndModCount(-1);
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public E remove(int index) {
+            checkForComodification();
+            Objects.checkIndex(index, size);
+            var removingElement = (E) elements[offset + index];
+            simpleRemoveElement(offset + index);
+            updateSizeAndModCount(-1);
+            return removingElement;
+        }
+
+        @Override
+        public void removeRange(int fromIndex, int toIndex) {
+            checkForComodification();
+            Objects.checkFromToIndex(fromIndex, toIndex, size);
+            ArrayList.this.removeRange(offset + fromIndex, offset + toIndex);
+            updateSizeAndModCount(fromIndex - toIndex);
+        }
+
+        @Override
+        public E set(int index, E element) {
+            checkForComodification();
+            Objects.checkIndex(index, size);
+            return replaceElement(offset + index, element);
+        }
+
+        @Override
+        public int size() {
+            checkForComodification();
+            return size;
+        }
+
+        @Override
+        public void sort(Comparator<? super E> comparator) {
+            checkForComodification();
+            modCount++;
+            sorted = false;
+            if (size > 1) {
+                switch (sortStrategy) {
+                    case QUICKSORT -> SortUtil.quicksort(elements, comparator, offset, offset + size - 1);
+                    case MERGESORT -> SortUtil.mergesort(elements, comparator, offset, offset + size - 1);
+                }
+                markElementsMoved(offset);
+            }
+            updateSizeAndModCount(0);
+        }
+
+        @Override
+        public List<E> subList(int fromIndex, int toIndex) {
+            checkForComodification();
+            Objects.checkFromToIndex(fromIndex, toIndex, size);
+            return new SubList(this, offset + fromIndex, toIndex - fromIndex);
+        }
+
+        @Override
+        public String toString() {
+            checkForComodification();
+            StringBuilder stringBuilder = new StringBuilder();
+            try {
+                appendElements(stringBuilder, offset, size, size);
+            } catch (IOException e) {
+                throw new AssertionError("StringBuilder doesn't throw IOException", e);
+            }
+            return stringBuilder.toString();
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        private void updateSizeAndModCount(int sizeChange) {
+            for (SubList view = this; view != null; view = view.parent) {
+                view.size += sizeChange;
+                view.expectedModCount = modCount;
+            }
         }
-        elements[--size] = null;
     }
 }
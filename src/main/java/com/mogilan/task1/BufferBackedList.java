@@ -0,0 +1,506 @@
+package com.mogilan.task1;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * Base implementation of the {@link List} interface that stores elements serialized by an {@link ElementCodec}
+ * in a sequence of {@link ByteBuffer}s (chunks), instead of references to objects in an array. Subclasses decide
+ * where the chunks are allocated by implementing {@link #newChunk(int, int)}.
+ *
+ * <p>Every chunk holds the same number of elements, which is a power of two, so the element with index i is stored
+ * in the chunk {@code i >>> chunkShift} at the byte {@code (i & chunkMask) * width}, and an element never crosses
+ * the border of a chunk. When all chunks are full, a new chunk is added; the existing elements are not copied.
+ * All chunks use the {@link ByteOrder#LITTLE_ENDIAN} byte order.</p>
+ *
+ * <p>Elements are decoded by every get() and encoded by every add() and set(). Moving elements (when adding or
+ * removing an element by index) copies their bytes between chunks through a small array on the heap. Sorting
+ * is a heapsort that permutes the bytes of elements in place, so the memory used on the heap doesn't depend
+ * on the number of elements: only the directory of chunks grows with it, by one reference per chunk.</p>
+ *
+ * @param <E> the type of elements in this list
+ * @author Ilya Mogilan
+ * @see OffHeapArrayList
+ * @see List
+ */
+abstract class BufferBackedList<E> implements List<E> {
+
+    /**
+     * The largest number of bytes of one chunk.
+     */
+    static final int MAX_CHUNK_BYTES = 1 << 30;
+
+    /**
+     * The number of bytes of the array used to copy elements between chunks.
+     */
+    private static final int SCRATCH_BYTES = 1 << 13;
+
+    private final ElementCodec<E> codec;
+
+    /**
+     * The number of bytes of one element
+     */
+    private final int width;
+
+    private final int chunkShift;
+
+    private final int chunkMask;
+
+    /**
+     * The directory of chunks. Only the first chunkCount chunks are used.
+     */
+    private ByteBuffer[] chunks = new ByteBuffer[4];
+
+    private int chunkCount;
+
+    /**
+     * The number of elements in this list
+     */
+    private int size;
+
+    /**
+     * Array used to copy the bytes of several elements between chunks.
+     */
+    private final byte[] scratch;
+
+    /**
+     * Array of the bytes of one element, used to encode an element before moving other elements and to keep
+     * an element while sorting.
+     */
+    private final byte[] record;
+
+    private final ByteBuffer recordBuffer;
+
+    /**
+     * Creates a list that stores elements by the specified codec, in chunks that hold the largest power of two
+     * elements that is not greater than chunkCapacity.
+     *
+     * @throws NullPointerException     if the specified codec is {@code null}
+     * @throws IllegalArgumentException if the width of the codec or the chunkCapacity is not positive, or if a chunk
+     *                                  would be larger than {@link #MAX_CHUNK_BYTES}
+     */
+    BufferBackedList(ElementCodec<E> codec, int chunkCapacity) {
+        this.codec = Objects.requireNonNull(codec);
+        width = codec.width();
+        if (width <= 0) {
+            throw new IllegalArgumentException("Illegal element width: " + width);
+        }
+        if (chunkCapacity <= 0 || (long) Integer.highestOneBit(chunkCapacity) * width > MAX_CHUNK_BYTES) {
+            throw new IllegalArgumentException("Illegal chunk capacity: " + chunkCapacity);
+        }
+        int capacity = Integer.highestOneBit(chunkCapacity);
+        chunkShift = Integer.numberOfTrailingZeros(capacity);
+        chunkMask = capacity - 1;
+        scratch = new byte[Math.max(width, Math.min(SCRATCH_BYTES, capacity * width))];
+        record = new byte[width];
+        recordBuffer = ByteBuffer.wrap(record).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Returns the largest power of two number of elements of the specified codec that fit into the specified
+     * number of bytes, or 1 if none fits.
+     */
+    static int chunkCapacityFor(ElementCodec<?> codec, int chunkBytes) {
+        return Integer.highestOneBit(Math.max(1, chunkBytes / Math.max(1, codec.width())));
+    }
+
+    /**
+     * Creates the chunk with the specified index. Called when all existing chunks are full.
+     *
+     * @param chunkIndex the index of the new chunk, equal to the number of existing chunks
+     * @param bytes      the number of bytes the chunk must have
+     * @return the new chunk
+     */
+    abstract ByteBuffer newChunk(int chunkIndex, int bytes);
+
+    /**
+     * Called after every change of the number of elements. Does nothing by default; subclasses that keep the number
+     * of elements outside of this object override it.
+     *
+     * @param size the new number of elements
+     */
+    void sizeChanged(int size) {
+    }
+
+    /**
+     * Adds the element passed in the parameters to the end of this list.
+     *
+     * @param element element to be added to this list
+     * @throws IllegalStateException if this list already contains {@link Integer#MAX_VALUE} elements
+     */
+    @Override
+    public void add(E element) {
+        ensureCapacity(requiredCapacity(1));
+        write(size, element);
+        updateSize(size + 1);
+    }
+
+    /**
+     * Adds the element passed in the parameters to this list at the specified index.
+     * <p>The bytes of all elements of this list, from the specified index and to the end of the list,
+     * are moved to the right on one element. The element is encoded before the move, so if the codec throws
+     * an exception, the list is not changed.</p>
+     * <p>Allows to add element to 0 (zero) index even if size of list == 0, i.e. in case if
+     * {@code ((size() == 0) && (index == 0))} </p>
+     *
+     * @param index   index at which the element should be inserted
+     * @param element element to be added to this list
+     * @throws IndexOutOfBoundsException if {@code ((size() == 0) && (index != 0))}, or if index is out of range
+     *                                   {@code (index < 0 || index >= size())}
+     * @throws IllegalStateException     if this list already contains {@link Integer#MAX_VALUE} elements
+     */
+    @Override
+    public void add(int index, E element) {
+        checkIndexForAdding(index);
+        codec.encode(element, recordBuffer, 0);
+        ensureCapacity(requiredCapacity(1));
+        copyElements(index, index + 1, size - index);
+        putBytes(index, record, 0, 1);
+        updateSize(size + 1);
+    }
+
+    /**
+     * Removes all elements from this list and set the size as 0. Keeps only the first chunk.
+     */
+    @Override
+    public void clear() {
+        updateSize(0);
+        if (chunkCount > 1) {
+            Arrays.fill(chunks, 1, chunkCount, null);
+            chunkCount = 1;
+        }
+    }
+
+    /**
+     * Returns the element at the specified index in this list, decoded from its bytes.
+     *
+     * @param index index of the element to be returned
+     * @return the element at the specified index in this list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     *                                   ({@code index < 0 || index >= size()})
+     */
+    @Override
+    public E get(int index) {
+        Objects.checkIndex(index, size);
+        return read(index);
+    }
+
+    /**
+     * Removes the specified element from this list.
+     * <p>If an element occurs two or more times in this list, then only the first element (the element with the
+     * lowest index) will be removed. Elements are decoded one by one and compared by equals().</p>
+     *
+     * @param element element to be removed from this list
+     * @return true - if the specified element was found in this list and removed;
+     * false - if the specified element wasn't found in this list
+     */
+    @Override
+    public boolean remove(E element) {
+        int index = indexOf(element);
+        if (index < 0) {
+            return false;
+        }
+        removeElement(index);
+        return true;
+    }
+
+    /**
+     * Removes the element that is at the specified index in this list.
+     * <p>The bytes of the elements that were to the right from the specified index are moved to the left
+     * on one element.</p>
+     *
+     * @param index index of the element to be removed
+     * @return the element that was removed
+     * @throws IndexOutOfBoundsException if the index is out of range
+     *                                   ({@code index < 0 || index >= size()})
+     */
+    @Override
+    public E remove(int index) {
+        Objects.checkIndex(index, size);
+        var removingElement = read(index);
+        removeElement(index);
+        return removingElement;
+    }
+
+    /**
+     * Setts a new element at the specified position, replacing the bytes of the previous element.
+     * The list size does not change.
+     *
+     * @param index   index of the element to be replaced by new value
+     * @param element element to be added to this list at the specified position
+     * @return the element that was replaced by new value
+     * @throws IndexOutOfBoundsException if the index is out of range
+     *                                   ({@code index < 0 || index >= size()})
+     */
+    @Override
+    public E set(int index, E element) {
+        Objects.checkIndex(index, size);
+        var replacingElement = read(index);
+        write(index, element);
+        return replacingElement;
+    }
+
+    /**
+     * Returns the number of elements in this list.
+     *
+     * @return the number of elements in this list
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Sorts this list using heapsort algorithm, that permutes the bytes of elements in place and doesn't
+     * allocate memory for all elements. Elements are decoded to be compared.
+     * <p>
+     * Note: the sort realisation is not stable: method might reorder equal elements.
+     * </p>
+     *
+     * @param comparator the {@code Comparator} used to compare list elements. {@code null} value is also valid
+     *                   option indicating that the elements' {@linkplain Comparable natural ordering} should be used
+     * @throws ClassCastException   if {@code null} is passed instead of the {@link Comparator} and
+     *                              class of elements of this list doesn't implement {@link Comparable}.
+     * @throws NullPointerException if the codec decodes elements as {@code null} and {@link Comparator} or
+     *                              realisation of {@link Comparable} interface don't define how to compare elements
+     *                              with null values.
+     */
+    @Override
+    public void sort(Comparator<? super E> comparator) {
+        for (int index = (size >>> 1) - 1; index >= 0; index--) {
+            siftDown(comparator, index, size);
+        }
+        for (int last = size - 1; last > 0; last--) {
+            getBytes(last, record, 0, 1);
+            copyElements(0, last, 1);
+            putBytes(0, record, 0, 1);
+            siftDown(comparator, 0, last);
+        }
+    }
+
+    /**
+     * Adds all elements of the specified list to this list at the specified index, in the order of the specified
+     * list. The bytes of the elements from the specified index and to the end of this list are moved once.
+     *
+     * @param index       index at which the first element should be inserted
+     * @param newElements list which elements should be added to this list
+     * @throws IndexOutOfBoundsException if {@code ((size() == 0) && (index != 0))}, or if index is out of range
+     *                                   {@code (index < 0 || index >= size())}
+     * @throws NullPointerException      if the specified list is {@code null}
+     */
+    @Override
+    public void addAll(int index, List<? extends E> newElements) {
+        checkIndexForAdding(index);
+        var source = new Object[newElements.size()];
+        for (int i = 0; i < source.length; i++) {
+            source[i] = newElements.get(i);
+        }
+        ensureCapacity(requiredCapacity(source.length));
+        copyElements(index, index + source.length, size - index);
+        for (int i = 0; i < source.length; i++) {
+            write(index + i, (E) source[i]);
+        }
+        updateSize(size + source.length);
+    }
+
+    /**
+     * Removes all elements with indexes from fromIndex, inclusive, to toIndex, exclusive.
+     * <p>The bytes of the elements that were to the right from the removed range are moved to the left once.</p>
+     *
+     * @param fromIndex index of the first element to be removed
+     * @param toIndex   index after the last element to be removed
+     * @throws IndexOutOfBoundsException if {@code (fromIndex < 0 || fromIndex > toIndex || toIndex > size())}
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, size);
+        copyElements(toIndex, fromIndex, size - toIndex);
+        updateSize(size - (toIndex - fromIndex));
+    }
+
+    /**
+     * Returns a string representation of this list, that consists of all elements separated by the characters
+     * ", " (comma and space) and enclosed in square brackets ("[]").
+     *
+     * @return string representation of this list
+     */
+    @Override
+    public String toString() {
+        StringBuilder stringBuilder = new StringBuilder();
+        stringBuilder.append("[");
+        for (int i = 0; i < size; i++) {
+            if (i != 0) {
+                stringBuilder.append(", ");
+            }
+            stringBuilder.append(read(i));
+        }
+        stringBuilder.append("]");
+        return stringBuilder.toString();
+    }
+
+    /**
+     * Returns the number of bytes of one element.
+     */
+    int width() {
+        return width;
+    }
+
+    /**
+     * Returns the number of elements in one chunk.
+     */
+    int chunkCapacity() {
+        return chunkMask + 1;
+    }
+
+    /**
+     * Returns the number of chunks.
+     */
+    int chunkCount() {
+        return chunkCount;
+    }
+
+    /**
+     * Returns the chunk with the specified index.
+     */
+    ByteBuffer chunk(int chunkIndex) {
+        Objects.checkIndex(chunkIndex, chunkCount);
+        return chunks[chunkIndex];
+    }
+
+    /**
+     * Setts the number of elements, for subclasses that restore a list from existing chunks. Creates the chunks
+     * that hold the elements by {@link #newChunk(int, int)}.
+     */
+    void restoreSize(int size) {
+        ensureCapacity(size);
+        this.size = size;
+    }
+
+    /**
+     * Adds new chunks until the chunks can hold minCapacity elements.
+     */
+    void ensureCapacity(int minCapacity) {
+        while ((long) chunkCount << chunkShift < minCapacity) {
+            if (chunkCount == chunks.length) {
+                chunks = Arrays.copyOf(chunks, chunkCount << 1);
+            }
+            var chunk = newChunk(chunkCount, (chunkMask + 1) * width);
+            chunks[chunkCount++] = chunk.order(ByteOrder.LITTLE_ENDIAN);
+        }
+    }
+
+    private int requiredCapacity(int count) {
+        int requiredCapacity = size + count;
+        if (requiredCapacity < 0) {
+            throw new IllegalStateException(getClass().getSimpleName() + " can't contain more than "
+                    + Integer.MAX_VALUE + " elements");
+        }
+        return requiredCapacity;
+    }
+
+    private void checkIndexForAdding(int index) {
+        if (size == 0) {
+            if (index != 0) {
+                throw new IndexOutOfBoundsException();
+            }
+        } else {
+            Objects.checkIndex(index, size);
+        }
+    }
+
+    private E read(int index) {
+        return codec.decode(chunks[index >>> chunkShift], (index & chunkMask) * width);
+    }
+
+    private void write(int index, E element) {
+        codec.encode(element, chunks[index >>> chunkShift], (index & chunkMask) * width);
+    }
+
+    private void removeElement(int index) {
+        copyElements(index + 1, index, size - index - 1);
+        updateSize(size - 1);
+    }
+
+    private void updateSize(int newSize) {
+        size = newSize;
+        sizeChanged(newSize);
+    }
+
+    /**
+     * Moves the element at the specified index down the heap [0, length). The bytes of the element are kept
+     * in the array record, and the greater children are moved up in its place.
+     */
+    private void siftDown(Comparator<? super E> comparator, int index, int length) {
+        getBytes(index, record, 0, 1);
+        var element = codec.decode(recordBuffer, 0);
+        while (index < length >>> 1) {
+            int child = 2 * index + 1;
+            var childElement = read(child);
+            if (child + 1 < length) {
+                var rightElement = read(child + 1);
+                if (compare(comparator, childElement, rightElement) < 0) {
+                    child++;
+                    childElement = rightElement;
+                }
+            }
+            if (compare(comparator, element, childElement) >= 0) {
+                break;
+            }
+            copyElements(child, index, 1);
+            index = child;
+        }
+        putBytes(index, record, 0, 1);
+    }
+
+    /**
+     * Copies the bytes of count elements starting at the index from to the elements starting at the index to.
+     * The ranges can overlap: the elements are copied in runs through the array scratch, from the end if they
+     * are moved to the right, so no element is overwritten before it is copied. A run doesn't cross the border
+     * of a chunk either in the source or in the destination.
+     */
+    private void copyElements(int from, int to, int count) {
+        int scratchCapacity = scratch.length / width;
+        int chunkCapacity = chunkMask + 1;
+        if (to > from) {
+            int remaining = count;
+            while (remaining > 0) {
+                int sourceEnd = from + remaining;
+                int destinationEnd = to + remaining;
+                int run = Math.min(Math.min(remaining, scratchCapacity),
+                        Math.min(((sourceEnd - 1) & chunkMask) + 1, ((destinationEnd - 1) & chunkMask) + 1));
+                getBytes(sourceEnd - run, scratch, 0, run);
+                putBytes(destinationEnd - run, scratch, 0, run);
+                remaining -= run;
+            }
+        } else if (to < from) {
+            int copied = 0;
+            while (copied < count) {
+                int source = from + copied;
+                int destination = to + copied;
+                int run = Math.min(Math.min(count - copied, scratchCapacity),
+                        Math.min(chunkCapacity - (source & chunkMask), chunkCapacity - (destination & chunkMask)));
+                getBytes(source, scratch, 0, run);
+                putBytes(destination, scratch, 0, run);
+                copied += run;
+            }
+        }
+    }
+
+    private void getBytes(int index, byte[] destination, int offset, int count) {
+        chunks[index >>> chunkShift].get((index & chunkMask) * width, destination, offset, count * width);
+    }
+
+    private void putBytes(int index, byte[] source, int offset, int count) {
+        chunks[index >>> chunkShift].put((index & chunkMask) * width, source, offset, count * width);
+    }
+
+    private static <T> int compare(Comparator<? super T> comparator, T element, T other) {
+        if (comparator != null) {
+            return comparator.compare(element, other);
+        }
+        return ((Comparable<T>) element).compareTo(other);
+    }
+}
@@ -0,0 +1,373 @@
+package com.mogilan.task1;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * Implementation of the {@link List} interface that stores elements in fixed-size pages instead of a single array.
+ * Intended for very large lists: growing it never copies elements and never allocates a large array.
+ *
+ * <p>Implements all {@link List} methods and permits all elements, including {@code null}.</p>
+ *
+ * <p>Elements are stored in pages of {@value #PAGE_SIZE} elements. The field pages (the page directory) is an array
+ * of references to the pages: the element with index i is stored in the page {@code i >>> PAGE_SHIFT} at the
+ * position {@code i & PAGE_MASK}, so get() and set() take constant time. When all pages are full, add() allocates
+ * one new page; only the page directory, which is {@value #PAGE_SIZE} times shorter than the list, is copied when
+ * it is full. With the garbage collector G1 no array of this list becomes a humongous object, unlike the array
+ * of a large {@link ArrayList}.</p>
+ *
+ * <p>Adding by index and removing move the elements to the right of the index across the pages by one
+ * position, as in {@link ArrayList}.</p>
+ *
+ * @param <E> the type of elements in this list
+ * @author Ilya Mogilan
+ * @see ArrayList
+ * @see List
+ */
+public class ChunkedArrayList<E> implements List<E> {
+
+    private static final int PAGE_SHIFT = 12;
+
+    /**
+     * The number of elements in one page.
+     */
+    public static final int PAGE_SIZE = 1 << PAGE_SHIFT;
+
+    private static final int PAGE_MASK = PAGE_SIZE - 1;
+
+    /**
+     * Initial length of the page directory, used by the constructor without parameters.
+     */
+    private static final int DEFAULT_DIRECTORY_CAPACITY = 8;
+
+    /**
+     * The page directory. The first pageCount references are allocated pages; the rest are {@code null}.
+     */
+    private Object[][] pages;
+
+    /**
+     * The number of allocated pages.
+     */
+    private int pageCount;
+
+    /**
+     * The number of elements in this ChunkedArrayList
+     */
+    private int size;
+
+    /**
+     * Creates an empty ChunkedArrayList. Pages are allocated when elements are added.
+     */
+    public ChunkedArrayList() {
+        pages = new Object[DEFAULT_DIRECTORY_CAPACITY][];
+    }
+
+    /**
+     * Creates an empty ChunkedArrayList with a page directory long enough to hold initialCapacity elements
+     * without being copied. Pages are allocated when elements are added.
+     *
+     * @throws IllegalArgumentException if the specified initialCapacity is negative
+     */
+    public ChunkedArrayList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+        }
+        pages = new Object[Math.max(1, pageCountFor(initialCapacity))][];
+    }
+
+    /**
+     * Adds the element passed in the parameters to the end of this ChunkedArrayList.
+     * <p>If all pages are full, a new page is allocated. Existing elements are never copied.</p>
+     *
+     * @param element element to be added to this list
+     */
+    @Override
+    public void add(E element) {
+        ensureCapacityForNewElement();
+        pages[size >>> PAGE_SHIFT][size & PAGE_MASK] = element;
+        size++;
+    }
+
+    /**
+     * Adds the element passed in the parameters to this ChunkedArrayList at the specified index.
+     * <p>All elements of this list, from the specified index and to the end of the entire list,
+     * are moved to the right on one position: inside every page by one array copy, and the last element
+     * of each page to the beginning of the next page.</p>
+     * <p>Allows to add element to 0 (zero) index even if size of list == 0, i.e. in case if
+     * {@code ((size() == 0) && (index == 0))} </p>
+     *
+     * @param index   index at which the element should be inserted
+     * @param element element to be added to this list
+     * @throws IndexOutOfBoundsException if {@code ((size() == 0) && (index != 0))}, or if index is out of range
+     *                                   {@code (index < 0 || index >= size())}
+     */
+    @Override
+    public void add(int index, E element) {
+        if (size == 0) {
+            if (index != 0) {
+                throw new IndexOutOfBoundsException();
+            }
+        } else {
+            Objects.checkIndex(index, size);
+        }
+        ensureCapacityForNewElement();
+        int indexPage = index >>> PAGE_SHIFT;
+        int lastPage = size >>> PAGE_SHIFT;
+        for (int pageIndex = lastPage; pageIndex > indexPage; pageIndex--) {
+            var page = pages[pageIndex];
+            int count = pageIndex == lastPage ? size & PAGE_MASK : PAGE_MASK;
+            System.arraycopy(page, 0, page, 1, count);
+            page[0] = pages[pageIndex - 1][PAGE_MASK];
+        }
+        var page = pages[indexPage];
+        int offset = index & PAGE_MASK;
+        int end = indexPage == lastPage ? size & PAGE_MASK : PAGE_MASK;
+        System.arraycopy(page, offset, page, offset + 1, end - offset);
+        page[offset] = element;
+        size++;
+    }
+
+    /**
+     * Removes all elements from this ChunkedArrayList and set the size as 0.
+     * <p>All pages except the first one are released, so their memory can be reclaimed by the garbage
+     * collector.</p>
+     */
+    @Override
+    public void clear() {
+        if (pageCount > 0) {
+            Arrays.fill(pages[0], 0, Math.min(size, PAGE_SIZE), null);
+            Arrays.fill(pages, 1, pageCount, null);
+            pageCount = 1;
+        }
+        size = 0;
+    }
+
+    /**
+     * Returns the element at the specified index in this ChunkedArrayList.
+     *
+     * @param index index of the element to be returned
+     * @return the element at the specified index in this list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     *                                   ({@code index < 0 || index >= size()})
+     */
+    @Override
+    public E get(int index) {
+        Objects.checkIndex(index, size);
+        return (E) pages[index >>> PAGE_SHIFT][index & PAGE_MASK];
+    }
+
+    /**
+     * Removes the specified element from this ChunkedArrayList.
+     * <p>If an element occurs two or more times in this list, then only the first element (the element with the
+     * lowest index) will be removed.</p>
+     * <p>Elements that were to the right from the index of removed element are moved to
+     * the left on one position.</p>
+     *
+     * @param element element to be removed from this list. {@code null} is also a valid option
+     * @return true - if the specified element was found in this list and removed;
+     * false - if the specified element wasn't found in this list
+     */
+    @Override
+    public boolean remove(E element) {
+        int usedPages = pageCountFor(size);
+        for (int pageIndex = 0; pageIndex < usedPages; pageIndex++) {
+            var page = pages[pageIndex];
+            int firstIndex = pageIndex << PAGE_SHIFT;
+            int count = Math.min(PAGE_SIZE, size - firstIndex);
+            for (int offset = 0; offset < count; offset++) {
+                if (Objects.equals(element, page[offset])) {
+                    simpleRemoveElement(firstIndex + offset);
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Removes the element that is at the specified index in this ChunkedArrayList.
+     * <p>Elements that were to the right from the specified index are moved to the left on one position.</p>
+     *
+     * @param index index of the element to be removed
+     * @return the element that was removed
+     * @throws IndexOutOfBoundsException if the index is out of range
+     *                                   ({@code index < 0 || index >= size()})
+     */
+    @Override
+    public E remove(int index) {
+        Objects.checkIndex(index, size);
+        var removingElement = (E) pages[index >>> PAGE_SHIFT][index & PAGE_MASK];
+        simpleRemoveElement(index);
+        return removingElement;
+    }
+
+    /**
+     * Setts a new element at the specified position, replacing the previous element.
+     * The size does not change.
+     *
+     * @param index   index of the element to be replaced by new value
+     * @param element element to be added to this list at the specified position
+     * @return the element that was replaced by new value
+     * @throws IndexOutOfBoundsException if the index is out of range
+     *                                   ({@code index < 0 || index >= size()})
+     */
+    @Override
+    public E set(int index, E element) {
+        Objects.checkIndex(index, size);
+        var page = pages[index >>> PAGE_SHIFT];
+        var replacingElement = (E) page[index & PAGE_MASK];
+        page[index & PAGE_MASK] = element;
+        return replacingElement;
+    }
+
+    /**
+     * Returns the number of elements in this ChunkedArrayList.
+     *
+     * @return the number of elements in this list
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Sorts this ChunkedArrayList using merge sort algorithm and according to the conditions settled by specified
+     * {@link Comparator} or, if {@code null} is passed instead of the {@link Comparator}, according to the
+     * elements' {@linkplain Comparable natural ordering} settled by implementation of {@link Comparable} interface.
+     * <p>Every page is sorted by mergesort() from {@link SortUtil}, then sorted runs of pages are merged pairwise
+     * into a second set of pages, and the two sets swap their roles after every pass. The sort allocates pages
+     * for the second set, but never a single large array.</p>
+     * <p>The sort is stable: equal elements are not reordered.</p>
+     *
+     * @param comparator the {@code Comparator} used to compare list elements. {@code null} value is also valid
+     *                   option indicating that the elements' {@linkplain Comparable natural ordering} should be used
+     * @throws ClassCastException   if {@code null} is passed instead of the {@link Comparator} and
+     *                              class of elements of this list doesn't implement {@link Comparable}.
+     * @throws NullPointerException if this list contains elements with {@code null} value and {@link Comparator} or
+     *                              realisation of {@link Comparable} interface don't define how to compare elements
+     *                              with null values.
+     */
+    @Override
+    public void sort(Comparator<? super E> comparator) {
+        if (size < 2) {
+            return;
+        }
+        int usedPages = pageCountFor(size);
+        for (int pageIndex = 0; pageIndex < usedPages; pageIndex++) {
+            int count = Math.min(PAGE_SIZE, size - (pageIndex << PAGE_SHIFT));
+            SortUtil.mergesort(pages[pageIndex], comparator, count - 1);
+        }
+        if (usedPages == 1) {
+            return;
+        }
+        var source = pages;
+        var target = new Object[pages.length][];
+        for (int pageIndex = 0; pageIndex < usedPages; pageIndex++) {
+            target[pageIndex] = new Object[PAGE_SIZE];
+        }
+        for (long width = PAGE_SIZE; width < size; width <<= 1) {
+            for (long low = 0; low < size; low += width << 1) {
+                int middle = (int) Math.min(low + width, size);
+                int high = (int) Math.min(low + (width << 1), size);
+                merge(source, target, (int) low, middle, high, comparator);
+            }
+            var swap = source;
+            source = target;
+            target = swap;
+        }
+        if (source != pages) {
+            pages = source;
+            pageCount = usedPages;
+        }
+    }
+
+    /**
+     * Returns a string representation of this ChunkedArrayList, that consists of all elements separated by
+     * the characters ", " (comma and space) and enclosed in square brackets ("[]").
+     *
+     * @return string representation of this list
+     */
+    @Override
+    public String toString() {
+        StringBuilder stringBuilder = new StringBuilder();
+        stringBuilder.append("[");
+        for (int i = 0; i < size; i++) {
+            if (i != 0) {
+                stringBuilder.append(", ");
+            }
+            stringBuilder.append(pages[i >>> PAGE_SHIFT][i & PAGE_MASK]);
+        }
+        stringBuilder.append("]");
+        return stringBuilder.toString();
+    }
+
+    private static int pageCountFor(int numberOfElements) {
+        return (int) ((numberOfElements + (long) PAGE_MASK) >>> PAGE_SHIFT);
+    }
+
+    private long capacity() {
+        return (long) pageCount << PAGE_SHIFT;
+    }
+
+    private void ensureCapacityForNewElement() {
+        if (size == Integer.MAX_VALUE) {
+            throw new IllegalStateException("ChunkedArrayList can't contain more than " + Integer.MAX_VALUE + " elements");
+        }
+        if (size == capacity()) {
+            addPage();
+        }
+    }
+
+    private void addPage() {
+        if (pageCount == pages.length) {
+            pages = Arrays.copyOf(pages, pages.length + (pages.length >> 1) + 1);
+        }
+        pages[pageCount++] = new Object[PAGE_SIZE];
+    }
+
+    private void simpleRemoveElement(int index) {
+        int lastIndex = size - 1;
+        int indexPage = index >>> PAGE_SHIFT;
+        int lastPage = lastIndex >>> PAGE_SHIFT;
+        int offset = index & PAGE_MASK;
+        for (int pageIndex = indexPage; pageIndex <= lastPage; pageIndex++) {
+            var page = pages[pageIndex];
+            int end = pageIndex == lastPage ? lastIndex & PAGE_MASK : PAGE_MASK;
+            System.arraycopy(page, offset + 1, page, offset, end - offset);
+            page[end] = pageIndex == lastPage ? null : pages[pageIndex + 1][0];
+            offset = 0;
+        }
+        size--;
+    }
+
+    /**
+     * Merges the sorted ranges [low, middle) and [middle, high) of the source pages into the range [low, high)
+     * of the target pages. Elements of the first range go first among equal elements.
+     */
+    private static <T> void merge(Object[][] source, Object[][] target, int low, int middle, int high,
+                                  Comparator<? super T> comparator) {
+        int left = low;
+        int right = middle;
+        for (int index = low; index < high; index++) {
+            Object element;
+            if (right >= high || left < middle
+                    && compare(comparator, source[left >>> PAGE_SHIFT][left & PAGE_MASK],
+                    source[right >>> PAGE_SHIFT][right & PAGE_MASK]) <= 0) {
+                element = source[left >>> PAGE_SHIFT][left & PAGE_MASK];
+                left++;
+            } else {
+                element = source[right >>> PAGE_SHIFT][right & PAGE_MASK];
+                right++;
+            }
+            target[index >>> PAGE_SHIFT][index & PAGE_MASK] = element;
+        }
+    }
+
+    private static <T> int compare(Comparator<? super T> comparator, Object first, Object second) {
+        if (comparator != null) {
+            return comparator.compare((T) first, (T) second);
+        }
+        return ((Comparable<Object>) first).compareTo(second);
+    }
+}
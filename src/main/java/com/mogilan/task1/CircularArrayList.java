@@ -0,0 +1,423 @@
+package com.mogilan.task1;
+
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Implementation of the {@link List} interface on a circular buffer, that can also be used as a double-ended queue.
+ * Adding and removing elements at both ends take amortized constant time, so the list can be drained from the
+ * front like a work queue.
+ *
+ * <p>Implements all {@link List} methods and permits all elements, including {@code null}. In addition
+ * provides methods addFirst(), addLast(), getFirst(), getLast(), removeFirst() and removeLast().</p>
+ *
+ * <p>The elements are stored in the field elements, whose length is always a power of two, starting at the
+ * position head and wrapping around the end of the array: the element with index i is stored at the position
+ * {@code (head + i) & (elements.length - 1)}. Adding an element to the front moves head one position back
+ * instead of moving all elements. Adding or removing an element by index moves the elements of the shorter side,
+ * before or after the index, by one position, so edits near either end are cheap. The elements are moved
+ * by {@link System#arraycopy}, split at the end of the array if they wrap around it. When the array is full,
+ * a new array twice as large is created and the elements are copied into it starting at position 0.</p>
+ *
+ * @param <E> the type of elements in this list
+ * @author Ilya Mogilan
+ * @see ArrayList
+ * @see List
+ */
+public class CircularArrayList<E> implements List<E> {
+
+    /**
+     * Capacity used by the constructor without parameters.
+     */
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /**
+     * The largest power of two that can be the length of an array.
+     */
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    /**
+     * The circular buffer of elements. Its length is a power of two.
+     */
+    private Object[] elements;
+
+    /**
+     * The position of the first element in the array elements.
+     */
+    private int head;
+
+    /**
+     * The number of elements in this CircularArrayList
+     */
+    private int size;
+
+    /**
+     * Creates a CircularArrayList with capacity equal to DEFAULT_CAPACITY.
+     */
+    public CircularArrayList() {
+        elements = new Object[DEFAULT_CAPACITY];
+    }
+
+    /**
+     * Creates a CircularArrayList with capacity equal to the smallest power of two that is not less
+     * than initialCapacity.
+     *
+     * @throws IllegalArgumentException if the specified initialCapacity is negative or greater than 2^30
+     */
+    public CircularArrayList(int initialCapacity) {
+        if (initialCapacity < 0 || initialCapacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+        }
+        elements = new Object[initialCapacity <= 1 ? 1 : Integer.highestOneBit(initialCapacity - 1) << 1];
+    }
+
+    /**
+     * Adds the element passed in the parameters to the end of this CircularArrayList.
+     * The same as {@link #addLast(Object)}.
+     *
+     * @param element element to be added to this list
+     */
+    @Override
+    public void add(E element) {
+        addLast(element);
+    }
+
+    /**
+     * Adds the element passed in the parameters to this CircularArrayList at the specified index.
+     * <p>If the index is in the first half of this list, the elements before the index are moved to the left
+     * on one position; otherwise the elements from the specified index and to the end of the list are moved
+     * to the right on one position.</p>
+     * <p>Allows to add element to 0 (zero) index even if size of list == 0, i.e. in case if
+     * {@code ((size() == 0) && (index == 0))} </p>
+     *
+     * @param index   index at which the element should be inserted
+     * @param element element to be added to this list
+     * @throws IndexOutOfBoundsException if {@code ((size() == 0) && (index != 0))}, or if index is out of range
+     *                                   {@code (index < 0 || index >= size())}
+     */
+    @Override
+    public void add(int index, E element) {
+        if (size == 0) {
+            if (index != 0) {
+                throw new IndexOutOfBoundsException();
+            }
+        } else {
+            Objects.checkIndex(index, size);
+        }
+        ensureCapacityForNewElement();
+        int mask = elements.length - 1;
+        if (index < size >> 1) {
+            moveLeft(head, index);
+            head = (head - 1) & mask;
+        } else {
+            moveRight((head + index) & mask, size - index);
+        }
+        elements[(head + index) & mask] = element;
+        size++;
+    }
+
+    /**
+     * Adds the element passed in the parameters to the beginning of this CircularArrayList.
+     * Does not move other elements.
+     *
+     * @param element element to be added to this list
+     */
+    public void addFirst(E element) {
+        ensureCapacityForNewElement();
+        head = (head - 1) & (elements.length - 1);
+        elements[head] = element;
+        size++;
+    }
+
+    /**
+     * Adds the element passed in the parameters to the end of this CircularArrayList.
+     *
+     * @param element element to be added to this list
+     */
+    public void addLast(E element) {
+        ensureCapacityForNewElement();
+        elements[(head + size) & (elements.length - 1)] = element;
+        size++;
+    }
+
+    /**
+     * Removes all elements from this CircularArrayList and set the size as 0.
+     */
+    @Override
+    public void clear() {
+        int mask = elements.length - 1;
+        for (int i = 0; i < size; i++) {
+            elements[(head + i) & mask] = null;
+        }
+        head = 0;
+        size = 0;
+    }
+
+    /**
+     * Returns the element at the specified index in this CircularArrayList.
+     *
+     * @param index index of the element to be returned
+     * @return the element at the specified index in this list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     *                                   ({@code index < 0 || index >= size()})
+     */
+    @Override
+    public E get(int index) {
+        Objects.checkIndex(index, size);
+        return (E) elements[(head + index) & (elements.length - 1)];
+    }
+
+    /**
+     * Returns the first element of this CircularArrayList.
+     *
+     * @return the first element of this list
+     * @throws NoSuchElementException if this list is empty
+     */
+    public E getFirst() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return (E) elements[head];
+    }
+
+    /**
+     * Returns the last element of this CircularArrayList.
+     *
+     * @return the last element of this list
+     * @throws NoSuchElementException if this list is empty
+     */
+    public E getLast() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return (E) elements[(head + size - 1) & (elements.length - 1)];
+    }
+
+    /**
+     * Removes the specified element from this CircularArrayList.
+     * <p>If an element occurs two or more times in this list, then only the first element (the element with the
+     * lowest index) will be removed.</p>
+     *
+     * @param element element to be removed from this list. {@code null} is also a valid option
+     * @return true - if the specified element was found in this list and removed;
+     * false - if the specified element wasn't found in this list
+     */
+    @Override
+    public boolean remove(E element) {
+        int mask = elements.length - 1;
+        for (int index = 0; index < size; index++) {
+            if (Objects.equals(element, elements[(head + index) & mask])) {
+                simpleRemoveElement(index);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Removes the element that is at the specified index in this CircularArrayList.
+     * <p>If the index is in the first half of this list, the elements before the index are moved to the right
+     * on one position; otherwise the elements after the index are moved to the left on one position.</p>
+     *
+     * @param index index of the element to be removed
+     * @return the element that was removed
+     * @throws IndexOutOfBoundsException if the index is out of range
+     *                                   ({@code index < 0 || index >= size()})
+     */
+    @Override
+    public E remove(int index) {
+        Objects.checkIndex(index, size);
+        var removingElement = (E) elements[(head + index) & (elements.length - 1)];
+        simpleRemoveElement(index);
+        return removingElement;
+    }
+
+    /**
+     * Removes the first element of this CircularArrayList. Does not move other elements.
+     *
+     * @return the element that was removed
+     * @throws NoSuchElementException if this list is empty
+     */
+    public E removeFirst() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        var removingElement = (E) elements[head];
+        elements[head] = null;
+        head = (head + 1) & (elements.length - 1);
+        size--;
+        return removingElement;
+    }
+
+    /**
+     * Removes the last element of this CircularArrayList.
+     *
+     * @return the element that was removed
+     * @throws NoSuchElementException if this list is empty
+     */
+    public E removeLast() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        int tail = (head + size - 1) & (elements.length - 1);
+        var removingElement = (E) elements[tail];
+        elements[tail] = null;
+        size--;
+        return removingElement;
+    }
+
+    /**
+     * Setts a new element at the specified position, replacing the previous element.
+     * The size does not change.
+     *
+     * @param index   index of the element to be replaced by new value
+     * @param element element to be added to this list at the specified position
+     * @return the element that was replaced by new value
+     * @throws IndexOutOfBoundsException if the index is out of range
+     *                                   ({@code index < 0 || index >= size()})
+     */
+    @Override
+    public E set(int index, E element) {
+        Objects.checkIndex(index, size);
+        int position = (head + index) & (elements.length - 1);
+        var replacingElement = (E) elements[position];
+        elements[position] = element;
+        return replacingElement;
+    }
+
+    /**
+     * Returns the number of elements in this CircularArrayList.
+     *
+     * @return the number of elements in this list
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Sorts this CircularArrayList using quicksort algorithm (using quicksort() from {@link SortUtil}).
+     * <p>If the elements don't start at position 0 of the array, they are first copied into a new array
+     * of the same capacity starting at position 0.</p>
+     * <p>
+     * Note: the sort realisation is not stable: method might reorder equal elements.
+     * </p>
+     *
+     * @param comparator the {@code Comparator} used to compare list elements. {@code null} value is also valid
+     *                   option indicating that the elements' {@linkplain Comparable natural ordering} should be used
+     * @throws ClassCastException   if {@code null} is passed instead of the {@link Comparator} and
+     *                              class of elements of this list doesn't implement {@link Comparable}.
+     * @throws NullPointerException if this list contains elements with {@code null} value and {@link Comparator} or
+     *                              realisation of {@link Comparable} interface don't define how to compare elements
+     *                              with null values.
+     */
+    @Override
+    public void sort(Comparator<? super E> comparator) {
+        if (size > 1) {
+            if (head != 0) {
+                elements = copyElements(elements.length);
+                head = 0;
+            }
+            SortUtil.quicksort(elements, comparator, size - 1);
+        }
+    }
+
+    /**
+     * Returns a string representation of this CircularArrayList, that consists of all elements separated by
+     * the characters ", " (comma and space) and enclosed in square brackets ("[]").
+     *
+     * @return string representation of this list
+     */
+    @Override
+    public String toString() {
+        int mask = elements.length - 1;
+        StringBuilder stringBuilder = new StringBuilder();
+        stringBuilder.append("[");
+        for (int i = 0; i < size; i++) {
+            if (i != 0) {
+                stringBuilder.append(", ");
+            }
+            stringBuilder.append(elements[(head + i) & mask]);
+        }
+        stringBuilder.append("]");
+        return stringBuilder.toString();
+    }
+
+    private void ensureCapacityForNewElement() {
+        if (size == elements.length) {
+            if (elements.length == MAX_CAPACITY) {
+                throw new IllegalStateException("CircularArrayList can't contain more than " + MAX_CAPACITY + " elements");
+            }
+            elements = copyElements(elements.length << 1);
+            head = 0;
+        }
+    }
+
+    /**
+     * Copies the elements into a new array of the specified capacity, starting at position 0.
+     */
+    private Object[] copyElements(int capacity) {
+        var newElements = new Object[capacity];
+        int firstPartLength = Math.min(size, elements.length - head);
+        System.arraycopy(elements, head, newElements, 0, firstPartLength);
+        System.arraycopy(elements, 0, newElements, firstPartLength, size - firstPartLength);
+        return newElements;
+    }
+
+    private void simpleRemoveElement(int index) {
+        int mask = elements.length - 1;
+        if (index < size >> 1) {
+            moveRight(head, index);
+            elements[head] = null;
+            head = (head + 1) & mask;
+        } else {
+            moveLeft((head + index + 1) & mask, size - index - 1);
+            elements[(head + size - 1) & mask] = null;
+        }
+        size--;
+    }
+
+    /**
+     * Moves count elements, starting at the position start and wrapping around the end of the array, one position
+     * to the left. Splits the move at the end of the array into at most two array copies and one element.
+     * The count must be less than the length of the array.
+     */
+    private void moveLeft(int start, int count) {
+        if (count == 0) {
+            return;
+        }
+        int capacity = elements.length;
+        int end = start + count;
+        if (start == 0) {
+            elements[capacity - 1] = elements[0];
+            System.arraycopy(elements, 1, elements, 0, count - 1);
+        } else if (end <= capacity) {
+            System.arraycopy(elements, start, elements, start - 1, count);
+        } else {
+            System.arraycopy(elements, start, elements, start - 1, capacity - start);
+            elements[capacity - 1] = elements[0];
+            System.arraycopy(elements, 1, elements, 0, end - capacity - 1);
+        }
+    }
+
+    /**
+     * Moves count elements, starting at the position start and wrapping around the end of the array, one position
+     * to the right. Splits the move at the end of the array into at most two array copies and one element.
+     * The count must be less than the length of the array.
+     */
+    private void moveRight(int start, int count) {
+        if (count == 0) {
+            return;
+        }
+        int capacity = elements.length;
+        int end = start + count;
+        if (end < capacity) {
+            System.arraycopy(elements, start, elements, start + 1, count);
+        } else {
+            System.arraycopy(elements, 0, elements, 1, end - capacity);
+            elements[0] = elements[capacity - 1];
+            System.arraycopy(elements, start, elements, start + 1, capacity - 1 - start);
+        }
+    }
+}
@@ -0,0 +1,608 @@
+package com.mogilan.task1;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * Thread-safe resizable-array implementation of the {@link List} interface.
+ * <p>Implements all {@link List} methods with the same semantics as {@link ArrayList} and permits all elements,
+ * including {@code null}. An instance can be shared between threads without external synchronization.</p>
+ *
+ * <p>Access to the fields elements and size is guarded by a {@link StampedLock}:</p>
+ * <ul>
+ *     <li>methods get() and size() use an optimistic read: they read the fields without acquiring the lock and
+ *     then validate that no write happened in the meantime. Concurrent readers therefore don't block each other
+ *     and don't write to shared memory. Only if validation fails (a write overlapped the read) the read is repeated
+ *     under the read lock;</li>
+ *     <li>methods that read the whole list (toString()) use the read lock;</li>
+ *     <li>methods that modify the list (add(), set(), remove(), clear(), sort()), including growth of the array
+ *     of the field elements, use the exclusive write lock.</li>
+ * </ul>
+ * <p>Each method is atomic, but a sequence of calls is not: for example the size returned by size() might be
+ * out of date by the time get() is called.</p>
+ *
+ * @param <E> the type of elements in this list
+ * @author Ilya Mogilan
+ * @see ArrayList
+ * @see List
+ */
+public class ConcurrentArrayList<E> implements List<E> {
+
+    /**
+     * Initial capacity that is used in constructor without parameters and to expand an empty array of the field
+     * elements when the first element is added.
+     */
+    private static final int DEFAULT_CAPACITY = 10;
+
+    private final StampedLock lock = new StampedLock();
+
+    /**
+     * <p>The array into which the elements of the ConcurrentArrayList are stored.</p>
+     * <p>The capacity of the ConcurrentArrayList is the length of this array.</p>
+     */
+    private Object[] elements;
+
+    /**
+     * The number of elements in this ConcurrentArrayList
+     */
+    private int size;
+
+    /**
+     * Creates a ConcurrentArrayList with length of array of the field elements equal to DEFAULT_CAPACITY
+     */
+    public ConcurrentArrayList() {
+        elements = new Object[DEFAULT_CAPACITY];
+    }
+
+    /**
+     * Creates a ConcurrentArrayList with capacity (the length of the array of field elements) equal
+     * to the initialCapacity specified in the constructor.
+     */
+    public ConcurrentArrayList(int initialCapacity) {
+        elements = new Object[initialCapacity];
+    }
+
+    /**
+     * Adds the element passed in the parameters to the end of this ConcurrentArrayList.
+     *
+     * @param element element to be added to this list
+     */
+    @Override
+    public void add(E element) {
+        long stamp = lock.writeLock();
+        try {
+            if (size == elements.length) {
+                elements = grow();
+            }
+            elements[size++] = element;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Adds the element passed in the parameters to this ConcurrentArrayList at the specified index.
+     * <p>All elements of this ConcurrentArrayList, from the specified index and to the end of the entire list,
+     * are moved to the right on one position.</p>
+     *
+     * @param index   index at which the element should be inserted
+     * @param element element to be added to this list
+     * @throws IndexOutOfBoundsException if {@code ((size() == 0) && (index != 0))}, or if index is out of range
+     *                                   {@code (index < 0 || index >= size())}
+     */
+    @Override
+    public void add(int index, E element) {
+        long stamp = lock.writeLock();
+        try {
+            if (size == 0) {
+                if (index != 0) {
+                    throw new IndexOutOfBoundsException();
+                }
+            } else {
+                Objects.checkIndex(index, size);
+            }
+            moveElementsRightFromIndex(index);
+            elements[index] = element;
+            size++;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Removes all elements from this ConcurrentArrayList and set the size as 0.
+     */
+    @Override
+    public void clear() {
+        long stamp = lock.writeLock();
+        try {
+            Arrays.fill(elements, 0, size, null);
+            size = 0;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Returns the element at the specified index in this ConcurrentArrayList.
+     * <p>Does not block if no write is performed concurrently.</p>
+     *
+     * @param index index of the element to be returned
+     * @return the element at the specified index in this ConcurrentArrayList
+     * @throws IndexOutOfBoundsException if the index is out of range
+     *                                   ({@code index < 0 || index >= size()})
+     */
+    @Override
+    public E get(int index) {
+        long stamp = lock.tryOptimisticRead();
+        Object[] currentElements = elements;
+        int currentSize = size;
+        Object element = null;
+        if (index >= 0 && index < currentSize && index < currentElements.length) {
+            element = currentElements[index];
+        }
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                Objects.checkIndex(index, size);
+                return (E) elements[index];
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        Objects.checkIndex(index, currentSize);
+        return (E) element;
+    }
+
+    /**
+     * Removes the specified element from this ConcurrentArrayList.
+     * <p>If an element occurs two or more times in this list, then only the first element (the element with the
+     * lowest index) will be removed.</p>
+     *
+     * @param element element to be removed from this list. {@code null} is also a valid option
+     * @return true - if the specified element was found in this list and removed;
+     * false - if the specified element wasn't found in this list
+     */
+    @Override
+    public boolean remove(E element) {
+        long stamp = lock.writeLock();
+        try {
+            for (int index = 0; index < size; index++) {
+                if (Objects.equals(element, elements[index])) {
+                    simpleRemoveElement(index);
+                    return true;
+                }
+            }
+            return false;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified element in this ConcurrentArrayList.
+     * <p>The elements are compared under the read lock, so a concurrent modification can't make the search
+     * fail or skip elements.</p>
+     *
+     * @param element element to search for. {@code null} is also a valid option
+     * @return the lowest index of the specified element, or -1 if this list doesn't contain it
+     */
+    @Override
+    public int indexOf(E element) {
+        long stamp = lock.readLock();
+        try {
+            for (int index = 0; index < size; index++) {
+                if (Objects.equals(element, elements[index])) {
+                    return index;
+                }
+            }
+            return -1;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Returns whether this ConcurrentArrayList contains the specified element. The elements are compared
+     * under the read lock.
+     *
+     * @param element element to search for. {@code null} is also a valid option
+     * @return true - if this list contains at least one element equal to the specified element; false - otherwise
+     */
+    @Override
+    public boolean contains(E element) {
+        return indexOf(element) >= 0;
+    }
+
+    /**
+     * <p>Removes the element that is at the specified index in this ConcurrentArrayList. </p>
+     * <p>Elements that were to the right from the specified index are moved to the left on one position.</p>
+     *
+     * @param index index of the element to be removed
+     * @return the element that was removed
+     * @throws IndexOutOfBoundsException if the index is out of range
+     *                                   ({@code index < 0 || index >= size()})
+     */
+    @Override
+    public E remove(int index) {
+        long stamp = lock.writeLock();
+        try {
+            Objects.checkIndex(index, size);
+            var removingElement = (E) elements[index];
+            simpleRemoveElement(index);
+            return removingElement;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Setts a new element at the specified position, replacing the previous element.
+     * The size does not change.
+     *
+     * @param index   index of the element to be replaced by new value
+     * @param element element to be added to this list at the specified position
+     * @return the element that was replaced by new value
+     * @throws IndexOutOfBoundsException if the index is out of range
+     *                                   ({@code index < 0 || index >= size()})
+     */
+    @Override
+    public E set(int index, E element) {
+        long stamp = lock.writeLock();
+        try {
+            Objects.checkIndex(index, size);
+            var replacingElement = (E) elements[index];
+            elements[index] = element;
+            return replacingElement;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Returns the number of elements in this ConcurrentArrayList.
+     * <p>Does not block if no write is performed concurrently.</p>
+     *
+     * @return the number of elements in this list
+     */
+    @Override
+    public int size() {
+        long stamp = lock.tryOptimisticRead();
+        int currentSize = size;
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                currentSize = size;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return currentSize;
+    }
+
+    /**
+     * Sorts this ConcurrentArrayList using quicksort algorithm (using quicksort() from {@link SortUtil}).
+     * All other operations on this list wait until the sort is finished.
+     * <p>
+     * Note: the sort realisation is not stable: method might reorder equal elements.
+     * </p>
+     *
+     * @param comparator the {@code Comparator} used to compare list elements. {@code null} value is also valid
+     *                   option indicating that the elements' {@linkplain Comparable natural ordering} should be used
+     * @throws ClassCastException   if {@code null} is passed instead of the {@link Comparator} and
+     *                              class of elements of this list doesn't implement {@link Comparable}.
+     * @throws NullPointerException if this list contains elements with {@code null} value and {@link Comparator} or
+     *                              realisation of {@link Comparable} interface don't define how to compare elements
+     *                              with null values.
+     */
+    @Override
+    public void sort(Comparator<? super E> comparator) {
+        long stamp = lock.writeLock();
+        try {
+            if (size > 1) {
+                SortUtil.quicksort(elements, comparator, size - 1);
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Adds all elements of the specified array to the end of this ConcurrentArrayList atomically.
+     * <p>The array of the field elements is grown at most once, and the specified array is copied into it by one
+     * array copy.</p>
+     *
+     * @param newElements elements to be added to this list
+     * @throws NullPointerException if the specified array is {@code null}
+     */
+    @Override
+    public void addAll(E[] newElements) {
+        int count = newElements.length;
+        long stamp = lock.writeLock();
+        try {
+            ensureCapacity(requiredCapacity(count));
+            System.arraycopy(newElements, 0, elements, size, count);
+            size += count;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Adds all elements of the specified list to this ConcurrentArrayList at the specified index atomically.
+     * <p>The elements of the specified list are read before the write lock is acquired, unless it is this list.
+     * The elements from the specified index to the end of this list are moved to the right by one array copy.</p>
+     * <p>Allows to add elements to 0 (zero) index even if size of list == 0, i.e. in case if
+     * {@code ((size() == 0) && (index == 0))}. A ConcurrentArrayList can be added to itself.</p>
+     *
+     * @param index       index at which the first element should be inserted
+     * @param newElements list which elements should be added to this list
+     * @throws IndexOutOfBoundsException if {@code ((size() == 0) && (index != 0))}, or if index is out of range
+     *                                   {@code (index < 0 || index >= size())}
+     * @throws NullPointerException      if the specified list is {@code null}
+     */
+    @Override
+    public void addAll(int index, List<? extends E> newElements) {
+        Object[] source = newElements == this ? null : copyElements(newElements);
+        long stamp = lock.writeLock();
+        try {
+            if (size == 0) {
+                if (index != 0) {
+                    throw new IndexOutOfBoundsException();
+                }
+            } else {
+                Objects.checkIndex(index, size);
+            }
+            if (source == null) {
+                source = Arrays.copyOf(elements, size);
+            }
+            int count = source.length;
+            int requiredCapacity = requiredCapacity(count);
+            if (requiredCapacity > elements.length) {
+                var newArray = new Object[getNewCapacity(requiredCapacity)];
+                System.arraycopy(elements, 0, newArray, 0, index);
+                System.arraycopy(elements, index, newArray, index + count, size - index);
+                elements = newArray;
+            } else {
+                System.arraycopy(elements, index, elements, index + count, size - index);
+            }
+            System.arraycopy(source, 0, elements, index, count);
+            size += count;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Removes all elements with indexes from fromIndex, inclusive, to toIndex, exclusive, atomically.
+     * <p>Elements that were to the right from the removed range are moved to the left by one array copy.</p>
+     *
+     * @param fromIndex index of the first element to be removed
+     * @param toIndex   index after the last element to be removed
+     * @throws IndexOutOfBoundsException if {@code (fromIndex < 0 || fromIndex > toIndex || toIndex > size())}
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        long stamp = lock.writeLock();
+        try {
+            Objects.checkFromToIndex(fromIndex, toIndex, size);
+            System.arraycopy(elements, toIndex, elements, fromIndex, size - toIndex);
+            int newSize = size - (toIndex - fromIndex);
+            Arrays.fill(elements, newSize, size, null);
+            size = newSize;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Setts the elements of the specified array at the positions starting from fromIndex atomically, replacing
+     * the previous elements. The size does not change.
+     *
+     * @param fromIndex   index of the first element to be replaced
+     * @param newElements elements to be set to this list
+     * @throws IndexOutOfBoundsException if {@code (fromIndex < 0 || fromIndex + newElements.length > size())}
+     * @throws NullPointerException      if the specified array is {@code null}
+     */
+    @Override
+    public void setAll(int fromIndex, E[] newElements) {
+        int count = newElements.length;
+        long stamp = lock.writeLock();
+        try {
+            Objects.checkFromIndexSize(fromIndex, count, size);
+            System.arraycopy(newElements, 0, elements, fromIndex, count);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Removes all elements of this ConcurrentArrayList that match the specified predicate atomically, by one pass
+     * with a read and a write position that moves every remaining element at most once.
+     * <p>The predicate is called under the write lock, so it must not access this list. If it throws an exception,
+     * the elements tested before remain removed and the other elements remain in this list.</p>
+     *
+     * @param filter predicate that returns true for the elements to be removed
+     * @return true - if any elements were removed; false - otherwise
+     * @throws NullPointerException if the specified predicate is {@code null}
+     */
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        Objects.requireNonNull(filter);
+        long stamp = lock.writeLock();
+        int oldSize = size;
+        int read = 0;
+        int write = 0;
+        try {
+            for (; read < oldSize; read++) {
+                var element = (E) elements[read];
+                if (!filter.test(element)) {
+                    elements[write++] = element;
+                }
+            }
+        } finally {
+            System.arraycopy(elements, read, elements, write, oldSize - read);
+            write += oldSize - read;
+            Arrays.fill(elements, write, oldSize, null);
+            size = write;
+            lock.unlockWrite(stamp);
+        }
+        return write < oldSize;
+    }
+
+    /**
+     * Replaces every element of this ConcurrentArrayList by the result of the specified operator applied to it
+     * atomically. The operator is called under the write lock, so it must not access this list.
+     *
+     * @param operator the operator applied to every element
+     * @throws NullPointerException if the specified operator is {@code null}
+     */
+    @Override
+    public void replaceAll(UnaryOperator<E> operator) {
+        Objects.requireNonNull(operator);
+        long stamp = lock.writeLock();
+        try {
+            for (int i = 0; i < size; i++) {
+                elements[i] = operator.apply((E) elements[i]);
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Returns an iterator over a copy of the elements of this ConcurrentArrayList, taken atomically under the read
+     * lock. The iterator never throws an exception because of concurrent modifications, and doesn't see them.
+     * It doesn't support {@link Iterator#remove()}.
+     *
+     * @return an iterator over the elements of this list at the moment of the call
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return Arrays.asList((E[]) copyUnderReadLock()).iterator();
+    }
+
+    /**
+     * Performs the specified action for each element of this ConcurrentArrayList and its index, over a copy
+     * of the elements taken atomically under the read lock. The action is called without the lock, so it may
+     * modify this list, and it doesn't see the modifications.
+     *
+     * @param action the action to be performed for each element
+     * @throws NullPointerException if the specified action is {@code null}
+     */
+    @Override
+    public void forEachIndexed(IndexedConsumer<? super E> action) {
+        Objects.requireNonNull(action);
+        var copy = copyUnderReadLock();
+        for (int index = 0; index < copy.length; index++) {
+            action.accept(index, (E) copy[index]);
+        }
+    }
+
+    /**
+     * Returns a {@link Spliterator} over a copy of the elements of this ConcurrentArrayList, taken atomically under
+     * the read lock. The spliterator reports {@link Spliterator#SIZED}, {@link Spliterator#SUBSIZED} and
+     * {@link Spliterator#ORDERED}, and its size is the number of elements in the copy.
+     *
+     * @return a spliterator over the elements of this list at the moment of the call
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        return Spliterators.spliterator(copyUnderReadLock(), Spliterator.ORDERED);
+    }
+
+    /**
+     * Returns a string representation of this ConcurrentArrayList, that consists of all elements separated by
+     * the characters ", " (comma and space) and enclosed in square brackets ("[]").
+     *
+     * @return string representation of this list
+     */
+    @Override
+    public String toString() {
+        long stamp = lock.readLock();
+        try {
+            StringBuilder stringBuilder = new StringBuilder();
+            stringBuilder.append("[");
+            for (int i = 0; i < size; i++) {
+                if (i != 0) {
+                    stringBuilder.append(", ");
+                }
+                stringBuilder.append(elements[i]);
+            }
+            stringBuilder.append("]");
+            return stringBuilder.toString();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private Object[] grow() {
+        var currentCapacity = elements.length;
+        if (currentCapacity == 0) {
+            return new Object[DEFAULT_CAPACITY];
+        }
+        var newCapacity = (int) Math.ceil(currentCapacity * 1.5) + 1;
+        return Arrays.copyOf(elements, newCapacity);
+    }
+
+    private void moveElementsRightFromIndex(int index) {
+        if (size == elements.length) {
+            var newArray = new Object[(int) Math.ceil(elements.length * 1.5) + 1];
+            System.arraycopy(elements, 0, newArray, 0, index);
+            System.arraycopy(elements, index, newArray, index + 1, size - index);
+            elements = newArray;
+        } else {
+            System.arraycopy(elements, index, elements, index + 1, size - index);
+        }
+    }
+
+    private int requiredCapacity(int count) {
+        int requiredCapacity = size + count;
+        if (requiredCapacity < 0) {
+            throw new OutOfMemoryError("Required array length " + ((long) size + count) + " is too large");
+        }
+        return requiredCapacity;
+    }
+
+    private int getNewCapacity(int minCapacity) {
+        var grownCapacity = (int) Math.ceil(elements.length * 1.5) + 1;
+        return grownCapacity < 0 ? minCapacity : Math.max(minCapacity, grownCapacity);
+    }
+
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity > elements.length) {
+            elements = Arrays.copyOf(elements, getNewCapacity(minCapacity));
+        }
+    }
+
+    private Object[] copyUnderReadLock() {
+        long stamp = lock.readLock();
+        try {
+            return Arrays.copyOf(elements, size);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private static Object[] copyElements(List<?> list) {
+        var copy = new Object[list.size()];
+        for (int i = 0; i < copy.length; i++) {
+            copy[i] = list.get(i);
+        }
+        return copy;
+    }
+
+    private void simpleRemoveElement(int index) {
+        if (index != size - 1) {
+            System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+        }
+        elements[--size] = null;
+    }
+}
@@ -0,0 +1,520 @@
+package com.mogilan.task1;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * Thread-safe implementation of the {@link List} interface in which all modifications are performed on a fresh
+ * copy of the array of elements. Intended for data that is read often by many threads and modified rarely,
+ * such as configuration tables.
+ *
+ * <p>The elements are stored in an immutable snapshot (an array of elements and their number) that is published
+ * through a volatile field. Reading methods take the current snapshot and never block or write to shared memory.
+ * Modifying methods are serialized by a lock: each of them copies the array of the current snapshot, changes
+ * the copy and publishes it as a new snapshot. Readers that already took the old snapshot continue to see it
+ * unchanged.</p>
+ *
+ * <p>Every call of add(), set() or remove() copies the whole array. To apply a group of changes with a single
+ * copy, use {@link #update(Consumer)}. To read several elements consistently, take a {@link #snapshot()}.</p>
+ *
+ * <p>Permits all elements, including {@code null}.</p>
+ *
+ * @param <E> the type of elements in this list
+ * @author Ilya Mogilan
+ * @see ArrayList
+ * @see List
+ */
+public class CopyOnWriteArrayList<E> implements List<E> {
+
+    private static final Object[] EMPTY_ELEMENTS = new Object[0];
+
+    /**
+     * Chooses the capacity of the working copy of {@link #update(Consumer)}, so that elements appended
+     * by the mutation fit into the copy without growing it again.
+     */
+    private static final GrowthPolicy WORKING_COPY_GROWTH = GrowthPolicy.geometric(1.5);
+
+    private final Object lock = new Object();
+
+    private volatile Snapshot<E> snapshot = new Snapshot<>(EMPTY_ELEMENTS, 0);
+
+    /**
+     * Adds the element passed in the parameters to the end of this CopyOnWriteArrayList.
+     *
+     * @param element element to be added to this list
+     */
+    @Override
+    public void add(E element) {
+        synchronized (lock) {
+            var current = snapshot;
+            var newElements = Arrays.copyOf(current.elements, current.size + 1);
+            newElements[current.size] = element;
+            snapshot = new Snapshot<>(newElements, newElements.length);
+        }
+    }
+
+    /**
+     * Adds the element passed in the parameters to this CopyOnWriteArrayList at the specified index.
+     * <p>All elements of this list, from the specified index and to the end of the entire list,
+     * are moved to the right on one position.</p>
+     *
+     * @param index   index at which the element should be inserted
+     * @param element element to be added to this list
+     * @throws IndexOutOfBoundsException if {@code ((size() == 0) && (index != 0))}, or if index is out of range
+     *                                   {@code (index < 0 || index >= size())}
+     */
+    @Override
+    public void add(int index, E element) {
+        synchronized (lock) {
+            var current = snapshot;
+            if (current.size == 0) {
+                if (index != 0) {
+                    throw new IndexOutOfBoundsException();
+                }
+            } else {
+                Objects.checkIndex(index, current.size);
+            }
+            var newElements = new Object[current.size + 1];
+            System.arraycopy(current.elements, 0, newElements, 0, index);
+            newElements[index] = element;
+            System.arraycopy(current.elements, index, newElements, index + 1, current.size - index);
+            snapshot = new Snapshot<>(newElements, newElements.length);
+        }
+    }
+
+    /**
+     * Removes all elements from this CopyOnWriteArrayList.
+     */
+    @Override
+    public void clear() {
+        synchronized (lock) {
+            snapshot = new Snapshot<>(EMPTY_ELEMENTS, 0);
+        }
+    }
+
+    /**
+     * Returns the element at the specified index in this CopyOnWriteArrayList. Never blocks.
+     *
+     * @param index index of the element to be returned
+     * @return the element at the specified index in this list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     *                                   ({@code index < 0 || index >= size()})
+     */
+    @Override
+    public E get(int index) {
+        return snapshot.get(index);
+    }
+
+    /**
+     * Removes the specified element from this CopyOnWriteArrayList.
+     * <p>If an element occurs two or more times in this list, then only the first element (the element with the
+     * lowest index) will be removed.</p>
+     *
+     * @param element element to be removed from this list. {@code null} is also a valid option
+     * @return true - if the specified element was found in this list and removed;
+     * false - if the specified element wasn't found in this list
+     */
+    @Override
+    public boolean remove(E element) {
+        synchronized (lock) {
+            var current = snapshot;
+            for (int index = 0; index < current.size; index++) {
+                if (Objects.equals(element, current.elements[index])) {
+                    snapshot = current.without(index);
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified element in this CopyOnWriteArrayList.
+     * Never blocks: the search reads the current snapshot once, so concurrent modifications are not seen.
+     *
+     * @param element element to search for. {@code null} is also a valid option
+     * @return the lowest index of the specified element, or -1 if this list doesn't contain it
+     */
+    @Override
+    public int indexOf(E element) {
+        var current = snapshot;
+        for (int index = 0; index < current.size; index++) {
+            if (Objects.equals(element, current.elements[index])) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns whether the current snapshot of this CopyOnWriteArrayList contains the specified element.
+     * Never blocks.
+     *
+     * @param element element to search for. {@code null} is also a valid option
+     * @return true - if this list contains at least one element equal to the specified element; false - otherwise
+     */
+    @Override
+    public boolean contains(E element) {
+        return indexOf(element) >= 0;
+    }
+
+    /**
+     * Removes the element that is at the specified index in this CopyOnWriteArrayList.
+     * <p>Elements that were to the right from the specified index are moved to the left on one position.</p>
+     *
+     * @param index index of the element to be removed
+     * @return the element that was removed
+     * @throws IndexOutOfBoundsException if the index is out of range
+     *                                   ({@code index < 0 || index >= size()})
+     */
+    @Override
+    public E remove(int index) {
+        synchronized (lock) {
+            var current = snapshot;
+            var removingElement = current.get(index);
+            snapshot = current.without(index);
+            return removingElement;
+        }
+    }
+
+    /**
+     * Setts a new element at the specified position, replacing the previous element.
+     * The size does not change.
+     *
+     * @param index   index of the element to be replaced by new value
+     * @param element element to be added to this list at the specified position
+     * @return the element that was replaced by new value
+     * @throws IndexOutOfBoundsException if the index is out of range
+     *                                   ({@code index < 0 || index >= size()})
+     */
+    @Override
+    public E set(int index, E element) {
+        synchronized (lock) {
+            var current = snapshot;
+            var replacingElement = current.get(index);
+            var newElements = Arrays.copyOf(current.elements, current.size);
+            newElements[index] = element;
+            snapshot = new Snapshot<>(newElements, newElements.length);
+            return replacingElement;
+        }
+    }
+
+    /**
+     * Returns the number of elements in this CopyOnWriteArrayList. Never blocks.
+     *
+     * @return the number of elements in this list
+     */
+    @Override
+    public int size() {
+        return snapshot.size;
+    }
+
+    /**
+     * Sorts a copy of the elements of this CopyOnWriteArrayList using quicksort algorithm
+     * (using quicksort() from {@link SortUtil}) and publishes it.
+     * <p>
+     * Note: the sort realisation is not stable: method might reorder equal elements.
+     * </p>
+     *
+     * @param comparator the {@code Comparator} used to compare list elements. {@code null} value is also valid
+     *                   option indicating that the elements' {@linkplain Comparable natural ordering} should be used
+     * @throws ClassCastException   if {@code null} is passed instead of the {@link Comparator} and
+     *                              class of elements of this list doesn't implement {@link Comparable}.
+     * @throws NullPointerException if this list contains elements with {@code null} value and {@link Comparator} or
+     *                              realisation of {@link Comparable} interface don't define how to compare elements
+     *                              with null values.
+     */
+    @Override
+    public void sort(Comparator<? super E> comparator) {
+        synchronized (lock) {
+            var current = snapshot;
+            if (current.size > 1) {
+                var newElements = Arrays.copyOf(current.elements, current.size);
+                SortUtil.quicksort(newElements, comparator, newElements.length - 1);
+                snapshot = new Snapshot<>(newElements, newElements.length);
+            }
+        }
+    }
+
+    /**
+     * Adds all elements of the specified array to the end of this CopyOnWriteArrayList with a single copy
+     * of the array of elements.
+     *
+     * @param newElements elements to be added to this list
+     * @throws NullPointerException if the specified array is {@code null}
+     */
+    @Override
+    public void addAll(E[] newElements) {
+        Objects.requireNonNull(newElements);
+        update(list -> list.addAll(newElements), newElements.length);
+    }
+
+    /**
+     * Adds all elements of the specified list to this CopyOnWriteArrayList at the specified index with a single
+     * copy of the array of elements.
+     *
+     * @param index       index at which the first element should be inserted
+     * @param newElements list which elements should be added to this list
+     * @throws IndexOutOfBoundsException if {@code ((size() == 0) && (index != 0))}, or if index is out of range
+     *                                   {@code (index < 0 || index >= size())}
+     * @throws NullPointerException      if the specified list is {@code null}
+     */
+    @Override
+    public void addAll(int index, List<? extends E> newElements) {
+        Objects.requireNonNull(newElements);
+        update(list -> list.addAll(index, newElements == this ? snapshot : newElements), newElements.size());
+    }
+
+    /**
+     * Removes all elements with indexes from fromIndex, inclusive, to toIndex, exclusive, with a single copy
+     * of the array of elements.
+     *
+     * @param fromIndex index of the first element to be removed
+     * @param toIndex   index after the last element to be removed
+     * @throws IndexOutOfBoundsException if {@code (fromIndex < 0 || fromIndex > toIndex || toIndex > size())}
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        update(list -> list.removeRange(fromIndex, toIndex), 0);
+    }
+
+    /**
+     * Setts the elements of the specified array at the positions starting from fromIndex with a single copy
+     * of the array of elements. The size does not change.
+     *
+     * @param fromIndex   index of the first element to be replaced
+     * @param newElements elements to be set to this list
+     * @throws IndexOutOfBoundsException if {@code (fromIndex < 0 || fromIndex + newElements.length > size())}
+     * @throws NullPointerException      if the specified array is {@code null}
+     */
+    @Override
+    public void setAll(int fromIndex, E[] newElements) {
+        Objects.requireNonNull(newElements);
+        update(list -> list.setAll(fromIndex, newElements), 0);
+    }
+
+    /**
+     * Removes all elements of this CopyOnWriteArrayList that match the specified predicate with a single copy
+     * of the array of elements. If the predicate throws an exception, nothing is removed.
+     *
+     * @param filter predicate that returns true for the elements to be removed
+     * @return true - if any elements were removed; false - otherwise
+     * @throws NullPointerException if the specified predicate is {@code null}
+     */
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        Objects.requireNonNull(filter);
+        var removed = new boolean[1];
+        update(list -> removed[0] = list.removeIf(filter), 0);
+        return removed[0];
+    }
+
+    /**
+     * Replaces every element of this CopyOnWriteArrayList by the result of the specified operator applied to it
+     * with a single copy of the array of elements. If the operator throws an exception, nothing is replaced.
+     *
+     * @param operator the operator applied to every element
+     * @throws NullPointerException if the specified operator is {@code null}
+     */
+    @Override
+    public void replaceAll(UnaryOperator<E> operator) {
+        Objects.requireNonNull(operator);
+        update(list -> list.replaceAll(operator), 0);
+    }
+
+    /**
+     * Applies a group of modifications with a single copy of the array of elements.
+     * <p>The specified mutation receives an {@link ArrayList} with a copy of the current elements, and can call
+     * any of its methods. The copy has room for about half as many elements again as the current ones, so
+     * appending up to that many elements doesn't copy the array a second time. When the mutation returns, the contents of that ArrayList are published at once:
+     * readers see either none or all of the modifications. If the mutation throws an exception, nothing is
+     * published.</p>
+     * <p>The ArrayList is only valid inside the mutation. When the mutation returns, its array is taken away
+     * and published, and the ArrayList is left empty: if it is kept, writing to it doesn't change the published
+     * elements, and its iterators and views throw {@link java.util.ConcurrentModificationException}. Other
+     * modifications of this CopyOnWriteArrayList wait until the mutation is finished.</p>
+     *
+     * @param mutation modifications to be applied
+     * @throws NullPointerException if the specified mutation is {@code null}
+     */
+    public void update(Consumer<? super ArrayList<E>> mutation) {
+        update(mutation, 1);
+    }
+
+    /**
+     * Applies the mutation as {@link #update(Consumer)}, with a working copy that has room for at least
+     * additionalCapacity more elements. If additionalCapacity is 0, the copy has no spare room.
+     */
+    private void update(Consumer<? super ArrayList<E>> mutation, int additionalCapacity) {
+        Objects.requireNonNull(mutation);
+        synchronized (lock) {
+            var current = snapshot;
+            int capacity = additionalCapacity == 0
+                    ? current.size
+                    : WORKING_COPY_GROWTH.grow(current.size, current.size + additionalCapacity);
+            var workingCopy = new ArrayList<E>(Arrays.copyOf(current.elements, capacity), current.size);
+            mutation.accept(workingCopy);
+            int newSize = workingCopy.size();
+            snapshot = new Snapshot<>(workingCopy.detach(), newSize);
+        }
+    }
+
+    /**
+     * Returns the length of the array of the current snapshot of this CopyOnWriteArrayList.
+     */
+    int capacity() {
+        return snapshot.elements.length;
+    }
+
+    /**
+     * Returns an immutable view of the current elements of this CopyOnWriteArrayList. Does not copy anything.
+     * <p>Subsequent modifications of this CopyOnWriteArrayList are not visible through the returned list.
+     * All methods of the returned list that modify it throw {@link UnsupportedOperationException}.</p>
+     *
+     * @return immutable list of the current elements
+     */
+    public List<E> snapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Returns an iterator over the current snapshot of this CopyOnWriteArrayList. Does not copy anything.
+     * The iterator doesn't see subsequent modifications and doesn't support {@link Iterator#remove()}.
+     *
+     * @return an iterator over the elements of this list at the moment of the call
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return snapshot.iterator();
+    }
+
+    /**
+     * Performs the specified action for each element of the current snapshot of this CopyOnWriteArrayList and
+     * its index. Never blocks. The action may modify this list, and it doesn't see the modifications.
+     *
+     * @param action the action to be performed for each element
+     * @throws NullPointerException if the specified action is {@code null}
+     */
+    @Override
+    public void forEachIndexed(IndexedConsumer<? super E> action) {
+        Objects.requireNonNull(action);
+        var current = snapshot;
+        for (int index = 0; index < current.size; index++) {
+            action.accept(index, (E) current.elements[index]);
+        }
+    }
+
+    /**
+     * Returns a {@link Spliterator} over the current snapshot of this CopyOnWriteArrayList. Does not copy anything.
+     * The spliterator reports {@link Spliterator#SIZED}, {@link Spliterator#SUBSIZED}, {@link Spliterator#ORDERED}
+     * and {@link Spliterator#IMMUTABLE}, and its size is the size of the same snapshot.
+     *
+     * @return a spliterator over the elements of this list at the moment of the call
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        var current = snapshot;
+        return Spliterators.spliterator(current.elements, 0, current.size, Spliterator.ORDERED | Spliterator.IMMUTABLE);
+    }
+
+    /**
+     * Returns a string representation of this CopyOnWriteArrayList, that consists of all elements separated by
+     * the characters ", " (comma and space) and enclosed in square brackets ("[]").
+     *
+     * @return string representation of this list
+     */
+    @Override
+    public String toString() {
+        return snapshot.toString();
+    }
+
+    /**
+     * Immutable state of a CopyOnWriteArrayList: the first size elements of the array elements.
+     * The array is never modified after the snapshot is created.
+     */
+    private static final class Snapshot<E> implements List<E> {
+
+        private final Object[] elements;
+
+        private final int size;
+
+        Snapshot(Object[] elements, int size) {
+            this.elements = elements;
+            this.size = size;
+        }
+
+        Snapshot<E> without(int index) {
+            var newElements = new Object[size - 1];
+            System.arraycopy(elements, 0, newElements, 0, index);
+            System.arraycopy(elements, index + 1, newElements, index, size - index - 1);
+            return new Snapshot<>(newElements, newElements.length);
+        }
+
+        @Override
+        public E get(int index) {
+            Objects.checkIndex(index, size);
+            return (E) elements[index];
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public void add(E element) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void add(int index, E element) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void clear() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean remove(E element) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public E remove(int index) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public E set(int index, E element) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void sort(Comparator<? super E> comparator) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder stringBuilder = new StringBuilder();
+            stringBuilder.append("[");
+            for (int i = 0; i < size; i++) {
+                if (i != 0) {
+                    stringBuilder.append(", ");
+                }
+                stringBuilder.append(elements[i]);
+            }
+            stringBuilder.append("]");
+            return stringBuilder.toString();
+        }
+    }
+}
@@ -0,0 +1,406 @@
+package com.mogilan.task1;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * Resizable-array implementation of the {@link List} interface for {@code double} values.
+ * <p>Unlike {@link ArrayList}, which stores references to {@link Double} objects, DoubleArrayList stores the values themselves
+ * in an array of primitive {@code double}s. Each element occupies 8 bytes of the array instead of a reference plus
+ * a separate {@link Double} object, and sequential reads go through contiguous memory.</p>
+ *
+ * <p>Implements all {@link List} methods with the same semantics as {@link ArrayList}, except that {@code null}
+ * elements are not permitted. In addition DoubleArrayList provides methods that work with unboxed values, such as
+ * {@link #addDouble(double)}, {@link #getDouble(int)}, {@link #setDouble(int, double)}, {@link #removeDouble(int)} and
+ * {@link #removeValue(double)}; they never allocate wrapper objects and should be preferred over the boxed methods
+ * on hot paths.</p>
+ *
+ * <p>Capacity corresponds to the length of array of the field elements, the number of elements is stored in the
+ * field size. When the capacity is not enough, a new array of a larger size, chosen by the {@link GrowthPolicy}
+ * in the field growthPolicy, is created and all elements are copied from the old array into a new one, in the same
+ * way as in {@link ArrayList}.</p>
+ *
+ * @author Ilya Mogilan
+ * @see ArrayList
+ * @see List
+ */
+public class DoubleArrayList implements List<Double> {
+
+    /**
+     * Initial capacity that is used in constructor without parameters and to expand an empty array of the field
+     * elements when the first element is added.
+     */
+    private static final int DEFAULT_CAPACITY = 10;
+
+    /**
+     * The growth policy used by the constructors without a growth policy.
+     */
+    private static final GrowthPolicy DEFAULT_GROWTH_POLICY = GrowthPolicy.geometric(1.5);
+
+    /**
+     * <p>The array into which the elements of the DoubleArrayList are stored.</p>
+     * <p>The capacity of the DoubleArrayList is the length of this array.</p>
+     */
+    private double[] elements;
+
+    /**
+     * The number of elements in this DoubleArrayList
+     */
+    private int size;
+
+    /**
+     * The policy that chooses the length of a new array of the field elements
+     */
+    private final GrowthPolicy growthPolicy;
+
+    /**
+     * Creates a DoubleArrayList with length of array of the field elements equal to DEFAULT_CAPACITY
+     */
+    public DoubleArrayList() {
+        this(DEFAULT_CAPACITY, DEFAULT_GROWTH_POLICY);
+    }
+
+    /**
+     * Creates a DoubleArrayList with capacity (the length of the array of field elements) equal
+     * to the initialCapacity specified in the constructor.
+     */
+    public DoubleArrayList(int initialCapacity) {
+        this(initialCapacity, DEFAULT_GROWTH_POLICY);
+    }
+
+    /**
+     * Creates a DoubleArrayList with length of array of the field elements equal to DEFAULT_CAPACITY, which grows
+     * the array by the specified growth policy.
+     *
+     * @param growthPolicy the policy that chooses the length of a new array of the field elements
+     * @throws NullPointerException if the specified growth policy is {@code null}
+     */
+    public DoubleArrayList(GrowthPolicy growthPolicy) {
+        this(DEFAULT_CAPACITY, growthPolicy);
+    }
+
+    /**
+     * Creates a DoubleArrayList with capacity (the length of the array of field elements) equal
+     * to the initialCapacity specified in the constructor, which grows the array by the specified growth policy.
+     *
+     * @param initialCapacity the length of the array of the field elements
+     * @param growthPolicy    the policy that chooses the length of a new array of the field elements
+     * @throws NullPointerException if the specified growth policy is {@code null}
+     */
+    public DoubleArrayList(int initialCapacity, GrowthPolicy growthPolicy) {
+        this.growthPolicy = Objects.requireNonNull(growthPolicy);
+        elements = new double[initialCapacity];
+    }
+
+    /**
+     * Creates a DoubleArrayList that uses the specified array as the array of the field elements and contains its first
+     * size elements. The array is not copied, so the caller must not use it after passing it to this constructor.
+     */
+    DoubleArrayList(double[] elements, int size) {
+        this.elements = elements;
+        this.size = size;
+        growthPolicy = DEFAULT_GROWTH_POLICY;
+    }
+
+    /**
+     * Adds the element passed in the parameters to the end of this DoubleArrayList.
+     *
+     * @param element element to be added to this list
+     * @throws NullPointerException if the specified element is {@code null}
+     */
+    @Override
+    public void add(Double element) {
+        addDouble(element);
+    }
+
+    /**
+     * Adds the value passed in the parameters to the end of this DoubleArrayList without boxing it.
+     *
+     * @param element value to be added to this list
+     */
+    public void addDouble(double element) {
+        if (size == elements.length) {
+            grow(size + 1);
+        }
+        elements[size++] = element;
+    }
+
+    /**
+     * Adds the element passed in the parameters to this DoubleArrayList at the specified index.
+     * <p>All elements of this DoubleArrayList, from the specified index and to the end of the entire DoubleArrayList,
+     * are moved to the right on one position.</p>
+     *
+     * @param index   index at which the element should be inserted
+     * @param element element to be added to this list
+     * @throws IndexOutOfBoundsException if {@code ((size() == 0) && (index != 0))}, or if index is out of range
+     *                                   {@code (index < 0 || index >= size())}
+     * @throws NullPointerException      if the specified element is {@code null}
+     */
+    @Override
+    public void add(int index, Double element) {
+        addDouble(index, element);
+    }
+
+    /**
+     * Adds the value passed in the parameters to this DoubleArrayList at the specified index without boxing it.
+     * <p>All elements of this DoubleArrayList, from the specified index and to the end of the entire DoubleArrayList,
+     * are moved to the right on one position.</p>
+     *
+     * @param index   index at which the value should be inserted
+     * @param element value to be added to this list
+     * @throws IndexOutOfBoundsException if {@code ((size() == 0) && (index != 0))}, or if index is out of range
+     *                                   {@code (index < 0 || index >= size())}
+     */
+    public void addDouble(int index, double element) {
+        if (size == 0) {
+            if (index != 0) {
+                throw new IndexOutOfBoundsException();
+            }
+        } else {
+            Objects.checkIndex(index, size);
+        }
+        moveElementsRightFromIndex(index);
+        elements[index] = element;
+        size++;
+    }
+
+    /**
+     * Removes all elements from this DoubleArrayList and set the size as 0.
+     */
+    @Override
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Returns the element at the specified index in this DoubleArrayList.
+     *
+     * @param index index of the element to be returned
+     * @return the element at the specified index in this DoubleArrayList
+     * @throws IndexOutOfBoundsException if the index is out of range
+     *                                   ({@code index < 0 || index >= size()})
+     */
+    @Override
+    public Double get(int index) {
+        return getDouble(index);
+    }
+
+    /**
+     * Returns the value at the specified index in this DoubleArrayList without boxing it.
+     *
+     * @param index index of the value to be returned
+     * @return the value at the specified index in this DoubleArrayList
+     * @throws IndexOutOfBoundsException if the index is out of range
+     *                                   ({@code index < 0 || index >= size()})
+     */
+    public double getDouble(int index) {
+        Objects.checkIndex(index, size);
+        return elements[index];
+    }
+
+    /**
+     * Removes the specified element from this DoubleArrayList.
+     * <p>If an element occurs two or more times in this DoubleArrayList, then only the first element (the element with the
+     * lowest index) will be removed.</p>
+     *
+     * @param element element to be removed from this DoubleArrayList. As {@code null} elements are not permitted,
+     *                {@code null} is never found
+     * @return true - if the specified element was found in this DoubleArrayList and removed;
+     * false - if the specified element wasn't found in this DoubleArrayList
+     */
+    @Override
+    public boolean remove(Double element) {
+        if (element == null) {
+            return false;
+        }
+        return removeValue(element);
+    }
+
+    /**
+     * Removes the first occurrence of the specified value from this DoubleArrayList without boxing it.
+     * <p>Values are compared in the same way as {@link Double#equals(Object)} does.</p>
+     *
+     * @param element value to be removed from this DoubleArrayList
+     * @return true - if the specified value was found in this DoubleArrayList and removed;
+     * false - if the specified value wasn't found in this DoubleArrayList
+     */
+    public boolean removeValue(double element) {
+        for (int index = 0; index < size; index++) {
+            if (Double.doubleToLongBits(elements[index]) == Double.doubleToLongBits(element)) {
+                simpleRemoveElement(index);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * <p>Removes the element that is at the specified index in this DoubleArrayList. </p>
+     * <p>Elements that were to the right from the specified index are moved to the left on one position.</p>
+     *
+     * @param index index of the element to be removed
+     * @return the element that was removed
+     * @throws IndexOutOfBoundsException if the index is out of range
+     *                                   ({@code index < 0 || index >= size()})
+     */
+    @Override
+    public Double remove(int index) {
+        return removeDouble(index);
+    }
+
+    /**
+     * Removes the value that is at the specified index in this DoubleArrayList and returns it without boxing.
+     * <p>Elements that were to the right from the specified index are moved to the left on one position.</p>
+     *
+     * @param index index of the value to be removed
+     * @return the value that was removed
+     * @throws IndexOutOfBoundsException if the index is out of range
+     *                                   ({@code index < 0 || index >= size()})
+     */
+    public double removeDouble(int index) {
+        Objects.checkIndex(index, size);
+        var removingElement = elements[index];
+        simpleRemoveElement(index);
+        return removingElement;
+    }
+
+    /**
+     * Setts a new element at the specified position, replacing the previous element.
+     * The DoubleArrayList size does not change.
+     *
+     * @param index   index of the element to be replaced by new value
+     * @param element element to be added to this DoubleArrayList at the specified position
+     * @return the element that was replaced by new value
+     * @throws IndexOutOfBoundsException if the index is out of range
+     *                                   ({@code index < 0 || index >= size()})
+     * @throws NullPointerException      if the specified element is {@code null}
+     */
+    @Override
+    public Double set(int index, Double element) {
+        return setDouble(index, element);
+    }
+
+    /**
+     * Setts a new value at the specified position without boxing it, replacing the previous value.
+     * The DoubleArrayList size does not change.
+     *
+     * @param index   index of the value to be replaced by new value
+     * @param element value to be added to this DoubleArrayList at the specified position
+     * @return the value that was replaced by new value
+     * @throws IndexOutOfBoundsException if the index is out of range
+     *                                   ({@code index < 0 || index >= size()})
+     */
+    public double setDouble(int index, double element) {
+        Objects.checkIndex(index, size);
+        var replacingElement = elements[index];
+        elements[index] = element;
+        return replacingElement;
+    }
+
+    /**
+     * Returns the number of elements in this DoubleArrayList.
+     *
+     * @return the number of elements in this DoubleArrayList
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Sorts this DoubleArrayList according to the conditions settled by specified {@link Comparator} or, if {@code null} is
+     * passed instead of the {@link Comparator}, in ascending numerical order.
+     * <p>Sorting in ascending numerical order is performed directly on the array of primitive values
+     * (using quicksort(double[], int) from {@link SortUtil}) without boxing the elements. Ordering of values is
+     * the same as the one defined by {@link Double#compare(double, double)}.</p>
+     * <p>If a {@link Comparator} is specified, all elements are boxed, sorted with quicksort() from {@link SortUtil}
+     * and written back.</p>
+     * <p>
+     * Note: the sort realisation is not stable, but since elements are primitive values this is only
+     * observable through a {@link Comparator} that treats different values as equal.
+     * </p>
+     *
+     * @param comparator the {@code Comparator} used to compare elements. {@code null} value is also valid
+     *                   option indicating that the ascending numerical order should be used
+     */
+    @Override
+    public void sort(Comparator<? super Double> comparator) {
+        if (size <= 1) {
+            return;
+        }
+        if (comparator == null) {
+            SortUtil.quicksort(elements, size - 1);
+            return;
+        }
+        var boxedElements = new Object[size];
+        for (int i = 0; i < size; i++) {
+            boxedElements[i] = elements[i];
+        }
+        SortUtil.quicksort(boxedElements, comparator, size - 1);
+        for (int i = 0; i < size; i++) {
+            elements[i] = (Double) boxedElements[i];
+        }
+    }
+
+    /**
+     * Returns a string representation of this DoubleArrayList, that consists of all elements separated by the characters
+     * ", " (comma and space) and enclosed in square brackets ("[]").
+     *
+     * @return string representation of this DoubleArrayList
+     */
+    @Override
+    public String toString() {
+        if (size == 0) {
+            return "[]";
+        }
+        StringBuilder stringBuilder = new StringBuilder();
+        stringBuilder.append("[");
+        for (int i = 0; i < size; i++) {
+            stringBuilder.append(elements[i]);
+            if (i != (size - 1)) {
+                stringBuilder.append(", ");
+            }
+        }
+        stringBuilder.append("]");
+        return stringBuilder.toString();
+    }
+
+    /**
+     * Returns the array of the field elements without copying it. Only the first size() elements of the array
+     * belong to this DoubleArrayList.
+     */
+    double[] elements() {
+        return elements;
+    }
+
+    /**
+     * Returns the capacity of a new array of the field elements that can hold at least minCapacity elements,
+     * chosen by the growth policy.
+     */
+    private int newCapacity(int minCapacity) {
+        return Math.max(minCapacity, growthPolicy.grow(elements.length, minCapacity));
+    }
+
+    private void grow(int minCapacity) {
+        elements = Arrays.copyOf(elements, newCapacity(minCapacity));
+    }
+
+    private void moveElementsRightFromIndex(int index) {
+        if (size == elements.length) {
+            var newArray = new double[newCapacity(size + 1)];
+            System.arraycopy(elements, 0, newArray, 0, index);
+            System.arraycopy(elements, index, newArray, index + 1, size - index);
+            elements = newArray;
+        } else {
+            System.arraycopy(elements, index, elements, index + 1, size - index);
+        }
+    }
+
+    private void simpleRemoveElement(int index) {
+        if (index != size - 1) {
+            System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+        }
+        size--;
+    }
+}
@@ -0,0 +1,119 @@
+package com.mogilan.task1;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * Converts elements of a list to a fixed number of bytes and back. Used by lists that store elements serialized
+ * in a {@link ByteBuffer} instead of references to objects, such as {@link OffHeapArrayList}.
+ *
+ * <p>Every element occupies exactly {@link #width()} bytes. The methods use absolute positions of the buffer
+ * and must not change its position or limit. Factories {@link #ofInt()}, {@link #ofLong()} and {@link #ofDouble()}
+ * return codecs for boxed primitive values; they don't permit {@code null} elements.</p>
+ *
+ * @param <E> the type of elements
+ * @author Ilya Mogilan
+ * @see OffHeapArrayList
+ */
+public interface ElementCodec<E> {
+
+    /**
+     * Returns the number of bytes that every element occupies. Must be positive and must not change.
+     *
+     * @return the number of bytes of one element
+     */
+    int width();
+
+    /**
+     * Writes the specified element to the specified buffer, to width() bytes starting at the specified index.
+     *
+     * @param element element to be written
+     * @param buffer  buffer to write to
+     * @param index   index of the first byte of the element in the buffer
+     */
+    void encode(E element, ByteBuffer buffer, int index);
+
+    /**
+     * Reads an element from width() bytes of the specified buffer starting at the specified index.
+     *
+     * @param buffer buffer to read from
+     * @param index  index of the first byte of the element in the buffer
+     * @return the element
+     */
+    E decode(ByteBuffer buffer, int index);
+
+    /**
+     * Returns a codec that writes {@link Integer} values as 4 bytes.
+     *
+     * @return codec for {@code int} values
+     */
+    static ElementCodec<Integer> ofInt() {
+        return new ElementCodec<>() {
+
+            @Override
+            public int width() {
+                return Integer.BYTES;
+            }
+
+            @Override
+            public void encode(Integer element, ByteBuffer buffer, int index) {
+                buffer.putInt(index, Objects.requireNonNull(element));
+            }
+
+            @Override
+            public Integer decode(ByteBuffer buffer, int index) {
+                return buffer.getInt(index);
+            }
+        };
+    }
+
+    /**
+     * Returns a codec that writes {@link Long} values as 8 bytes.
+     *
+     * @return codec for {@code long} values
+     */
+    static ElementCodec<Long> ofLong() {
+        return new ElementCodec<>() {
+
+            @Override
+            public int width() {
+                return Long.BYTES;
+            }
+
+            @Override
+            public void encode(Long element, ByteBuffer buffer, int index) {
+                buffer.putLong(index, Objects.requireNonNull(element));
+            }
+
+            @Override
+            public Long decode(ByteBuffer buffer, int index) {
+                return buffer.getLong(index);
+            }
+        };
+    }
+
+    /**
+     * Returns a codec that writes {@link Double} values as 8 bytes.
+     *
+     * @return codec for {@code double} values
+     */
+    static ElementCodec<Double> ofDouble() {
+        return new ElementCodec<>() {
+
+            @Override
+            public int width() {
+                return Double.BYTES;
+            }
+
+            @Override
+            public void encode(Double element, ByteBuffer buffer, int index) {
+                buffer.putDouble(index, Objects.requireNonNull(element));
+            }
+
+            @Override
+            public Double decode(ByteBuffer buffer, int index) {
+                return buffer.getDouble(index);
+            }
+        };
+    }
+}
@@ -0,0 +1,176 @@
+package com.mogilan.task1;
+
+import java.util.Objects;
+
+/**
+ * Decides the capacity of the array of an {@link ArrayList} when the array has to grow, and whether it's shrunk
+ * when elements are removed. An ArrayList gets its GrowthPolicy in the constructor; the default policy is
+ * {@code geometric(1.5)}. {@link IntArrayList}, {@link LongArrayList} and {@link DoubleArrayList} grow their arrays
+ * by a GrowthPolicy in the same way, but never shrink them.
+ *
+ * <p>Factories {@link #geometric(double)}, {@link #additive(int)} and {@link #powerOfTwo()} return policies that never
+ * shrink the array. {@link #capped(GrowthPolicy, int)} limits the growth of another policy, and
+ * {@link #shrinking(GrowthPolicy, double)} adds shrinking to another policy. The policies give an empty array
+ * at least INITIAL_CAPACITY elements and never exceed MAX_CAPACITY unless more elements are required.</p>
+ *
+ * @author Ilya Mogilan
+ * @see ArrayList
+ */
+@FunctionalInterface
+public interface GrowthPolicy {
+
+    /**
+     * The capacity that the policies of the factories give to an array of length 0, unless more elements
+     * are required. Also the smallest capacity to which {@link #shrinking(GrowthPolicy, double)} shrinks an array.
+     */
+    int INITIAL_CAPACITY = 10;
+
+    /**
+     * The largest capacity that the policies of the factories choose, unless more elements are required.
+     * Some JVMs can't allocate arrays of a length close to {@link Integer#MAX_VALUE}.
+     */
+    int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    /**
+     * Returns the length of the new array for an array of the specified length that must hold minCapacity elements.
+     * Called only if minCapacity is greater than capacity.
+     *
+     * @param capacity    the length of the current array
+     * @param minCapacity the number of elements that the new array must hold
+     * @return the length of the new array, not less than minCapacity
+     */
+    int grow(int capacity, int minCapacity);
+
+    /**
+     * Returns the length to which an array of the specified length should be shrunk after elements were removed
+     * and size elements remain, or capacity if the array should not be shrunk. Never shrinks by default.
+     *
+     * @param capacity the length of the current array
+     * @param size     the number of elements in the array
+     * @return the length of the new array, or capacity to keep the current array
+     */
+    default int shrink(int capacity, int size) {
+        return capacity;
+    }
+
+    /**
+     * Returns a policy that multiplies the capacity by the specified factor and adds one, rounding up. For example,
+     * {@code geometric(1.5)} grows an array of 10 elements to 16 elements. Appending n elements one by one copies
+     * O(n) elements in total.
+     *
+     * @param factor the factor by which the capacity is multiplied
+     * @return geometric growth policy
+     * @throws IllegalArgumentException if factor is not greater than 1 or is infinite
+     */
+    static GrowthPolicy geometric(double factor) {
+        if (!(factor > 1) || Double.isInfinite(factor)) {
+            throw new IllegalArgumentException("Illegal growth factor: " + factor);
+        }
+        return (capacity, minCapacity) -> {
+            if (capacity == 0) {
+                return Math.max(minCapacity, INITIAL_CAPACITY);
+            }
+            double grownCapacity = Math.ceil(capacity * factor) + 1;
+            return Math.max(minCapacity, (int) Math.min(grownCapacity, MAX_CAPACITY));
+        };
+    }
+
+    /**
+     * Returns a policy that adds the specified number of elements to the capacity. Wastes at most increment
+     * elements, but appending n elements one by one copies O(n^2 / increment) elements in total.
+     *
+     * @param increment the number of elements added to the capacity
+     * @return additive growth policy
+     * @throws IllegalArgumentException if increment is not positive
+     */
+    static GrowthPolicy additive(int increment) {
+        if (increment <= 0) {
+            throw new IllegalArgumentException("Illegal growth increment: " + increment);
+        }
+        return (capacity, minCapacity) -> {
+            long grownCapacity = (long) capacity + increment;
+            return Math.max(minCapacity, (int) Math.min(grownCapacity, MAX_CAPACITY));
+        };
+    }
+
+    /**
+     * Returns a policy that grows the capacity to the smallest power of two that is greater than the capacity and
+     * not less than minCapacity and INITIAL_CAPACITY, or to MAX_CAPACITY if this power of two is too large.
+     *
+     * @return power of two growth policy
+     */
+    static GrowthPolicy powerOfTwo() {
+        return (capacity, minCapacity) -> {
+            int requiredCapacity = Math.max(Math.max(minCapacity, capacity + 1), INITIAL_CAPACITY);
+            if (requiredCapacity > 1 << 30) {
+                return Math.max(minCapacity, MAX_CAPACITY);
+            }
+            return Integer.highestOneBit(requiredCapacity - 1) << 1;
+        };
+    }
+
+    /**
+     * Returns a policy that grows the capacity as the specified policy, but by at most maxIncrement elements
+     * at once, unless more elements are required. Shrinks the capacity as the specified policy.
+     *
+     * @param policy       the policy whose growth is limited
+     * @param maxIncrement the maximal number of elements added to the capacity at once
+     * @return capped growth policy
+     * @throws IllegalArgumentException if maxIncrement is not positive
+     * @throws NullPointerException     if the specified policy is {@code null}
+     */
+    static GrowthPolicy capped(GrowthPolicy policy, int maxIncrement) {
+        if (maxIncrement <= 0) {
+            throw new IllegalArgumentException("Illegal max increment: " + maxIncrement);
+        }
+        Objects.requireNonNull(policy);
+        return new GrowthPolicy() {
+
+            @Override
+            public int grow(int capacity, int minCapacity) {
+                long maxCapacity = (long) capacity + maxIncrement;
+                return Math.max(minCapacity, (int) Math.min(policy.grow(capacity, minCapacity), maxCapacity));
+            }
+
+            @Override
+            public int shrink(int capacity, int size) {
+                return policy.shrink(capacity, size);
+            }
+        };
+    }
+
+    /**
+     * Returns a policy that grows the capacity as the specified policy and shrinks it when the elements occupy less
+     * than the specified fraction of the capacity. The new capacity is chosen so that the elements occupy twice
+     * the fraction of it, but is not less than INITIAL_CAPACITY, so the array is shrunk again only after half
+     * of the remaining elements are removed, and removing elements one by one copies O(n) elements in total.
+     *
+     * @param policy   the policy that grows the capacity
+     * @param fraction the fraction of the capacity below which the array is shrunk
+     * @return shrinking growth policy
+     * @throws IllegalArgumentException if fraction is not in the range {@code (0, 0.5]}
+     * @throws NullPointerException     if the specified policy is {@code null}
+     */
+    static GrowthPolicy shrinking(GrowthPolicy policy, double fraction) {
+        if (!(fraction > 0 && fraction <= 0.5)) {
+            throw new IllegalArgumentException("Illegal shrink fraction: " + fraction);
+        }
+        Objects.requireNonNull(policy);
+        return new GrowthPolicy() {
+
+            @Override
+            public int grow(int capacity, int minCapacity) {
+                return policy.grow(capacity, minCapacity);
+            }
+
+            @Override
+            public int shrink(int capacity, int size) {
+                if (size >= capacity * fraction) {
+                    return capacity;
+                }
+                int newCapacity = (int) Math.ceil(size / (2 * fraction));
+                return Math.min(capacity, Math.max(newCapacity, INITIAL_CAPACITY));
+            }
+        };
+    }
+}
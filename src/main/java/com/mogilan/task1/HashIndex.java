@@ -0,0 +1,294 @@
+package com.mogilan.task1;
+
+import java.util.Arrays;
+
+/**
+ * Hash index of the elements of an array-backed list, that maps every distinct element to the position of its
+ * first occurrence in the list and to the number of its occurrences. Used by {@link ArrayList} in the indexed mode
+ * to find elements in expected constant time.
+ *
+ * <p>The numbers of occurrences are always exact, but the positions are updated lazily. When elements are moved,
+ * the list only reports the lowest moved position by {@link #markMoved(int)}, which takes constant time. The stored
+ * positions below the field staleFrom are exact; a stored position at or above it only means that the first
+ * occurrence is also at or above it. A lookup that finds such a position scans the elements of the list from
+ * staleFrom, which is cheap for elements near staleFrom. When the scans since the last repair have visited
+ * REPAIR_COST times more elements than there are from staleFrom to the end of the list, the lookup repairs
+ * all these positions by one pass with a hash lookup per element instead. So the repair is paid for by the scans
+ * it saves, several moves between two repairs cost one pass, and lookups that follow every move cost about as much
+ * as a scan of the list without the index.</p>
+ *
+ * <p>The index is an open-addressing hash table with linear probing: keys, positions and counts are stored in three
+ * parallel arrays, whose length is a power of two and at least twice the number of keys. {@code null} elements are
+ * stored under a special key. Keys are removed by moving the following keys of the same probe sequence back, so the
+ * table never contains deleted markers.</p>
+ *
+ * <p>The index doesn't know about the list: the list passes its array of elements to the methods that need
+ * to look at the neighbours of a changed element. Elements must not change their hashCode() and equals() while
+ * they are in the list.</p>
+ *
+ * @author Ilya Mogilan
+ * @see ArrayList
+ */
+final class HashIndex {
+
+    /**
+     * The smallest length of the arrays of the table.
+     */
+    private static final int MIN_CAPACITY = 16;
+
+    /**
+     * The largest power of two that can be the length of an array.
+     */
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    /**
+     * The key under which {@code null} elements are stored.
+     */
+    private static final Object NULL_KEY = new Object();
+
+    /**
+     * How many elements a scan can visit for the cost of a hash lookup of one element during a repair.
+     */
+    private static final int REPAIR_COST = 32;
+
+    private Object[] keys;
+
+    private int[] positions;
+
+    private int[] counts;
+
+    /**
+     * The number of keys in the table
+     */
+    private int size;
+
+    /**
+     * The lowest position which elements were moved since the last repair, or {@link Integer#MAX_VALUE}
+     * if all stored positions are exact.
+     */
+    private int staleFrom = Integer.MAX_VALUE;
+
+    /**
+     * The number of elements visited by scans since the last repair.
+     */
+    private long scannedElements;
+
+    /**
+     * Creates an index of the first size elements of the specified array.
+     */
+    HashIndex(Object[] elements, int size) {
+        rebuild(elements, size);
+    }
+
+    /**
+     * Returns the position of the first occurrence of the specified element, or -1 if the element is not indexed.
+     * If the stored position is not exact, repairs the positions using the first size elements of the specified
+     * array, which must be the current elements of the list.
+     */
+    int firstPosition(Object element, Object[] elements, int size) {
+        var key = maskNull(element);
+        int slot = findSlot(key);
+        if (keys[slot] == null) {
+            return -1;
+        }
+        if (positions[slot] >= staleFrom) {
+            if (scannedElements < (long) REPAIR_COST * (size - staleFrom)) {
+                int position = scan(element, elements, staleFrom, size);
+                scannedElements += position - staleFrom + 1;
+                return position;
+            }
+            repair(elements, size);
+            slot = findSlot(key);
+        }
+        return positions[slot];
+    }
+
+    /**
+     * Registers an occurrence of the specified element at the specified position. The position becomes the position
+     * of the first occurrence if the element is not indexed yet or all its indexed occurrences are further.
+     * <p>If the occurrence was inserted before other elements, {@link #markMoved(int)} must be called first.</p>
+     */
+    void add(Object element, int position) {
+        var key = maskNull(element);
+        int slot = findSlot(key);
+        if (keys[slot] != null) {
+            counts[slot]++;
+            if (position < positions[slot]) {
+                positions[slot] = position;
+            }
+            return;
+        }
+        if ((size + 1) << 1 > keys.length && keys.length < MAX_CAPACITY) {
+            resize(keys.length << 1);
+            slot = findSlot(key);
+        } else if (size + 1 == keys.length) {
+            throw new IllegalStateException("HashIndex can't contain more than " + (MAX_CAPACITY - 1) + " elements");
+        }
+        keys[slot] = key;
+        positions[slot] = position;
+        counts[slot] = 1;
+        size++;
+    }
+
+    /**
+     * Unregisters the occurrence of the specified element that was at the specified position. If it was the first
+     * occurrence and the position is exact, searches the first size elements of the specified array for the next
+     * occurrence after the position.
+     * <p>If the occurrence is removed together with moving the following elements, {@link #markMoved(int)} must be
+     * called first, so the search is not needed.</p>
+     */
+    void remove(Object element, int position, Object[] elements, int size) {
+        int slot = findSlot(maskNull(element));
+        if (keys[slot] == null) {
+            return;
+        }
+        if (--counts[slot] == 0) {
+            deleteSlot(slot);
+            this.size--;
+        } else if (positions[slot] == position && position < staleFrom) {
+            positions[slot] = scan(element, elements, position + 1, size);
+        }
+    }
+
+    /**
+     * Reports that the elements from the specified position and to the end of the list were moved or reordered.
+     * Takes constant time: the positions are repaired by the next lookup that needs them.
+     */
+    void markMoved(int fromIndex) {
+        if (fromIndex < staleFrom) {
+            staleFrom = fromIndex;
+        }
+    }
+
+    /**
+     * Removes all keys and indexes the first size elements of the specified array again.
+     */
+    void rebuild(Object[] elements, int size) {
+        int capacity = MIN_CAPACITY;
+        while (capacity < MAX_CAPACITY && capacity < (long) size << 1) {
+            capacity <<= 1;
+        }
+        if (keys == null || keys.length != capacity) {
+            keys = new Object[capacity];
+            positions = new int[capacity];
+            counts = new int[capacity];
+        } else {
+            clear();
+        }
+        for (int i = 0; i < size; i++) {
+            add(elements[i], i);
+        }
+    }
+
+    /**
+     * Removes all keys from the table.
+     */
+    void clear() {
+        Arrays.fill(keys, null);
+        size = 0;
+        staleFrom = Integer.MAX_VALUE;
+        scannedElements = 0;
+    }
+
+    /**
+     * Returns the number of distinct elements in the index.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the position of the first occurrence of the specified element in the range [fromIndex, toIndex)
+     * of the specified array, or toIndex if there is no such element.
+     */
+    private static int scan(Object element, Object[] elements, int fromIndex, int toIndex) {
+        int i = fromIndex;
+        if (element == null) {
+            while (i < toIndex && elements[i] != null) {
+                i++;
+            }
+        } else {
+            while (i < toIndex && !element.equals(elements[i])) {
+                i++;
+            }
+        }
+        return i;
+    }
+
+    /**
+     * Setts the exact positions of the elements which first occurrences are at or above staleFrom. The elements are
+     * visited from the last one, so the position of the first occurrence is written last.
+     */
+    private void repair(Object[] elements, int size) {
+        int from = staleFrom;
+        for (int i = size - 1; i >= from; i--) {
+            int slot = findSlot(maskNull(elements[i]));
+            if (positions[slot] >= from) {
+                positions[slot] = i;
+            }
+        }
+        staleFrom = Integer.MAX_VALUE;
+        scannedElements = 0;
+    }
+
+    /**
+     * Returns the slot that contains the specified key, or the empty slot where it should be inserted.
+     */
+    private int findSlot(Object key) {
+        int mask = keys.length - 1;
+        int slot = hash(key) & mask;
+        Object current;
+        while ((current = keys[slot]) != null && current != key && !current.equals(key)) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    /**
+     * Empties the specified slot and moves back the following keys which probe sequences pass through it.
+     */
+    private void deleteSlot(int slot) {
+        int mask = keys.length - 1;
+        int hole = slot;
+        for (int i = (slot + 1) & mask; keys[i] != null; i = (i + 1) & mask) {
+            int home = hash(keys[i]) & mask;
+            if (((i - home) & mask) >= ((i - hole) & mask)) {
+                keys[hole] = keys[i];
+                positions[hole] = positions[i];
+                counts[hole] = counts[i];
+                hole = i;
+            }
+        }
+        keys[hole] = null;
+    }
+
+    private void resize(int newCapacity) {
+        var oldKeys = keys;
+        var oldPositions = positions;
+        var oldCounts = counts;
+        keys = new Object[newCapacity];
+        positions = new int[newCapacity];
+        counts = new int[newCapacity];
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != null) {
+                int slot = findSlot(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                positions[slot] = oldPositions[i];
+                counts[slot] = oldCounts[i];
+            }
+        }
+    }
+
+    private static Object maskNull(Object element) {
+        return element == null ? NULL_KEY : element;
+    }
+
+    /**
+     * Spreads the bits of the hash code, so that keys which hash codes differ only in the high bits get
+     * different slots.
+     */
+    private static int hash(Object key) {
+        int hash = key.hashCode() * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -0,0 +1,21 @@
+package com.mogilan.task1;
+
+/**
+ * An operation that accepts an element of a {@link List} and its index, and returns no result.
+ * Used by {@link List#forEachIndexed(IndexedConsumer)}.
+ *
+ * @param <E> the type of elements
+ * @author Ilya Mogilan
+ * @see List
+ */
+@FunctionalInterface
+public interface IndexedConsumer<E> {
+
+    /**
+     * Performs this operation on the specified element and its index.
+     *
+     * @param index   index of the element in the list
+     * @param element the element
+     */
+    void accept(int index, E element);
+}
@@ -0,0 +1,162 @@
+package com.mogilan.task1;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Histogram of non-negative values, such as durations in nanoseconds, that can be recorded concurrently by several
+ * threads without locks. Used by {@link ListMetrics} to record the duration of sorts.
+ *
+ * <p>Values are counted in buckets of a log-linear scale, in the same way as in HdrHistogram: values below
+ * SUB_BUCKETS have a bucket each, and every range between two powers of two above them is split into SUB_BUCKETS
+ * buckets of equal width. So a value is kept with a relative error of at most 1 / SUB_BUCKETS (about 3%), recording
+ * takes constant time and the histogram takes a fixed amount of memory for values of any magnitude.</p>
+ *
+ * @author Ilya Mogilan
+ * @see ListMetrics
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+
+    /**
+     * The number of buckets between two powers of two.
+     */
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    /**
+     * The number of buckets, enough for values up to {@link Long#MAX_VALUE}.
+     */
+    private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+
+    private final AtomicLong count = new AtomicLong();
+
+    private final AtomicLong sum = new AtomicLong();
+
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Records the specified value. Negative values are recorded as 0.
+     *
+     * @param value value to be recorded
+     */
+    public void record(long value) {
+        value = Math.max(value, 0);
+        counts.incrementAndGet(bucketOf(value));
+        count.incrementAndGet();
+        sum.addAndGet(value);
+        max.accumulateAndGet(value, Math::max);
+    }
+
+    /**
+     * Returns the number of recorded values.
+     *
+     * @return the number of recorded values
+     */
+    public long getCount() {
+        return count.get();
+    }
+
+    /**
+     * Returns the largest recorded value, exactly, or 0 if no values were recorded.
+     *
+     * @return the largest recorded value
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Returns the mean of the recorded values, exactly, or 0 if no values were recorded.
+     *
+     * @return the mean of the recorded values
+     */
+    public double getMean() {
+        long currentCount = count.get();
+        return currentCount == 0 ? 0 : (double) sum.get() / currentCount;
+    }
+
+    /**
+     * Returns the value below or equal to which the specified percentage of the recorded values fall, within
+     * the precision of the buckets: the largest value of the bucket of this value, but not more than getMax().
+     * Returns 0 if no values were recorded.
+     *
+     * @param percentile the percentage of values, from 0 to 100
+     * @return the value at the specified percentile
+     * @throws IllegalArgumentException if percentile is out of range {@code [0, 100]}
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (!(percentile >= 0 && percentile <= 100)) {
+            throw new IllegalArgumentException("Illegal percentile: " + percentile);
+        }
+        long currentCount = count.get();
+        if (currentCount == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * currentCount));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return Math.min(highestValueOf(i), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    /**
+     * Returns a new histogram with the values recorded in this histogram so far.
+     *
+     * @return copy of this histogram
+     */
+    public LatencyHistogram copy() {
+        var copy = new LatencyHistogram();
+        long copiedCount = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            long bucketCount = counts.get(i);
+            copy.counts.set(i, bucketCount);
+            copiedCount += bucketCount;
+        }
+        copy.count.set(copiedCount);
+        copy.sum.set(sum.get());
+        copy.max.set(max.get());
+        return copy;
+    }
+
+    /**
+     * Removes all recorded values.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts.set(i, 0);
+        }
+        count.set(0);
+        sum.set(0);
+        max.set(0);
+    }
+
+    @Override
+    public String toString() {
+        return "LatencyHistogram{count=" + getCount() + ", mean=" + getMean() + ", p50=" + getValueAtPercentile(50)
+                + ", p99=" + getValueAtPercentile(99) + ", max=" + getMax() + "}";
+    }
+
+    private static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int shift = Long.SIZE - 1 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return (shift + 1) * SUB_BUCKETS + (int) (value >>> shift) - SUB_BUCKETS;
+    }
+
+    private static long highestValueOf(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int shift = bucket / SUB_BUCKETS - 1;
+        long mantissa = bucket % SUB_BUCKETS + SUB_BUCKETS;
+        return ((mantissa + 1) << shift) - 1;
+    }
+}
@@ -1,25 +1,49 @@
 package com.mogilan.task1;
 
+import java.util.BitSet;
 import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * An ordered collection of elements. A simplified version of the {@link java.util.List}.
- * Does not implement the {@link java.util.Collection} and {@link Iterable} interfaces.
+ * Does not implement the {@link java.util.Collection} interface, but implements {@link Iterable},
+ * so a list can be traversed by the for-each loop and by {@link #forEach(java.util.function.Consumer)}.
  *
  * <p>Supports basic methods for working with a collection of elements:</p>
  * <ul>
  *     <li>methods for working with separate elements: adding an element, adding an element
  *     by index, getting an element by index, removing an element (by index or by value),
- *     setting an element by index;</li>
+ *     setting an element by index, searching for an element;</li>
  *     <li>methods for working with the entire collection: getting the size of the collection,
- *     clearing the entire collection, sorting all elements in the collection.</li>
+ *     clearing the entire collection, sorting all elements in the collection;</li>
+ *     <li>bulk methods for working with ranges of elements: adding an array of elements, adding all elements
+ *     of another list by index, removing a range of elements, setting an array of elements from an index.
+ *     Their default implementations call the methods for separate elements once per element; implementations
+ *     backed by an array override them to move elements only once;</li>
+ *     <li>bulk methods for working with all elements: removing the elements that match a predicate, removing
+ *     or retaining the elements contained in another list, replacing every element by the result of a function.
+ *     They move every remaining element at most once;</li>
+ *     <li>method for getting a view of a range of elements;</li>
+ *     <li>methods for traversing all elements: getting an {@link Iterator} or a {@link Spliterator}, performing
+ *     an action for each element, with or without its index, getting a sequential or parallel {@link Stream}
+ *     of the elements.</li>
  * </ul>
  *  @param <E> the type of elements in this list
  *
  * @author Ilya Mogilan
  * @see ArrayList
  */
-public interface List<E> {
+public interface List<E> extends Iterable<E> {
 
     /**
      * Adds the element passed in the parameters to the end of this list.
@@ -72,6 +96,32 @@ public interface List<E> {
      */
     boolean remove(E element);
 
+    /**
+     * Returns the index of the first occurrence of the specified element in this list.
+     * <p>The default implementation compares the elements one by one, from the first to the last one.</p>
+     *
+     * @param element element to search for. {@code null} is also a valid option
+     * @return the lowest index of the specified element, or -1 if this list doesn't contain it
+     */
+    default int indexOf(E element) {
+        for (int index = 0; index < size(); index++) {
+            if (Objects.equals(element, get(index))) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns whether this list contains the specified element.
+     *
+     * @param element element to search for. {@code null} is also a valid option
+     * @return true - if this list contains at least one element equal to the specified element; false - otherwise
+     */
+    default boolean contains(E element) {
+        return indexOf(element) >= 0;
+    }
+
     /**
      * Removes the element that is at the specified index in this list.
      * <p>Elements that were to the right from the specified index are moved to the left on one position.</p>
@@ -121,4 +171,255 @@ public interface List<E> {
      *                              with null values.
      */
     void sort(Comparator<? super E> comparator);
+
+    /**
+     * Adds all elements of the specified array to the end of this list, in the order of the array.
+     *
+     * @param elements elements to be added to this list
+     * @throws NullPointerException if the specified array is {@code null}
+     */
+    default void addAll(E[] elements) {
+        for (E element : elements) {
+            add(element);
+        }
+    }
+
+    /**
+     * Adds all elements of the specified list to this list at the specified index, in the order of the specified
+     * list. The first of them gets the specified index.
+     * <p>All elements of this list, from the specified index and to the end of the entire list,
+     * are moved to the right on the number of added elements.</p>
+     * <p>Allows to add elements to 0 (zero) index even if size of List == 0, i.e. in case if
+     * {@code ((size() == 0) && (index == 0))}. A list can be added to itself.</p>
+     *
+     * @param index    index at which the first element should be inserted
+     * @param elements list which elements should be added to this list
+     * @throws IndexOutOfBoundsException if {@code ((size() == 0) && (index != 0))}, or if index is out of range
+     *                                   {@code (index < 0 || index >= size())}
+     * @throws NullPointerException      if the specified list is {@code null}
+     */
+    default void addAll(int index, List<? extends E> elements) {
+        if (size() == 0) {
+            if (index != 0) {
+                throw new IndexOutOfBoundsException();
+            }
+        } else {
+            Objects.checkIndex(index, size());
+        }
+        var newElements = new Object[elements.size()];
+        for (int i = 0; i < newElements.length; i++) {
+            newElements[i] = elements.get(i);
+        }
+        for (int i = 0; i < newElements.length; i++) {
+            if (index + i == size()) {
+                add((E) newElements[i]);
+            } else {
+                add(index + i, (E) newElements[i]);
+            }
+        }
+    }
+
+    /**
+     * Removes all elements with indexes from fromIndex, inclusive, to toIndex, exclusive.
+     * <p>Elements that were to the right from the removed range are moved to the left on the number
+     * of removed elements.</p>
+     *
+     * @param fromIndex index of the first element to be removed
+     * @param toIndex   index after the last element to be removed
+     * @throws IndexOutOfBoundsException if {@code (fromIndex < 0 || fromIndex > toIndex || toIndex > size())}
+     */
+    default void removeRange(int fromIndex, int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, size());
+        for (int index = toIndex - 1; index >= fromIndex; index--) {
+            remove(index);
+        }
+    }
+
+    /**
+     * Setts the elements of the specified array at the positions starting from fromIndex, replacing the previous
+     * elements. The list size does not change.
+     *
+     * @param fromIndex index of the first element to be replaced
+     * @param elements  elements to be set to this list
+     * @throws IndexOutOfBoundsException if {@code (fromIndex < 0 || fromIndex + elements.length > size())}
+     * @throws NullPointerException      if the specified array is {@code null}
+     */
+    default void setAll(int fromIndex, E[] elements) {
+        Objects.checkFromIndexSize(fromIndex, elements.length, size());
+        for (int i = 0; i < elements.length; i++) {
+            set(fromIndex + i, elements[i]);
+        }
+    }
+
+    /**
+     * Removes all elements of this list that match the specified predicate. The remaining elements keep their order.
+     * <p>The default implementation tests all elements first, so if the predicate throws an exception, this list
+     * is not changed. Then it moves every remaining element by set() at most once to its final position and removes
+     * the tail by removeRange(), so it takes linear time for lists with constant time get() and set() instead
+     * of the quadratic time of remove() by index in a loop.</p>
+     *
+     * @param filter predicate that returns true for the elements to be removed
+     * @return true - if any elements were removed; false - otherwise
+     * @throws NullPointerException if the specified predicate is {@code null}
+     */
+    default boolean removeIf(Predicate<? super E> filter) {
+        Objects.requireNonNull(filter);
+        int size = size();
+        var removed = new BitSet(size);
+        for (int index = 0; index < size; index++) {
+            if (filter.test(get(index))) {
+                removed.set(index);
+            }
+        }
+        int write = removed.nextSetBit(0);
+        if (write < 0) {
+            return false;
+        }
+        for (int read = removed.nextClearBit(write); read < size; read = removed.nextClearBit(read + 1)) {
+            set(write++, get(read));
+        }
+        removeRange(write, size);
+        return true;
+    }
+
+    /**
+     * Removes all elements of this list that are contained in the specified list. The elements of the specified
+     * list are collected into a {@link HashSet} first, so the method takes linear expected time and relies
+     * on equals() and hashCode() of the elements.
+     *
+     * @param elements list of elements to be removed from this list
+     * @return true - if any elements were removed; false - otherwise
+     * @throws NullPointerException if the specified list is {@code null}
+     */
+    default boolean removeAll(List<? extends E> elements) {
+        var set = toSet(elements);
+        return removeIf(set::contains);
+    }
+
+    /**
+     * Retains only the elements of this list that are contained in the specified list, removing all other elements.
+     * The elements of the specified list are collected into a {@link HashSet} first, so the method takes linear
+     * expected time and relies on equals() and hashCode() of the elements.
+     *
+     * @param elements list of elements to be retained in this list
+     * @return true - if any elements were removed; false - otherwise
+     * @throws NullPointerException if the specified list is {@code null}
+     */
+    default boolean retainAll(List<? extends E> elements) {
+        var set = toSet(elements);
+        return removeIf(element -> !set.contains(element));
+    }
+
+    /**
+     * Replaces every element of this list by the result of the specified operator applied to it, from the first
+     * element to the last one. The list size does not change.
+     *
+     * @param operator the operator applied to every element
+     * @throws NullPointerException if the specified operator is {@code null}
+     */
+    default void replaceAll(UnaryOperator<E> operator) {
+        Objects.requireNonNull(operator);
+        for (int index = 0; index < size(); index++) {
+            set(index, operator.apply(get(index)));
+        }
+    }
+
+    /**
+     * Returns a view of the elements of this list with indexes from fromIndex, inclusive, to toIndex, exclusive.
+     * The elements are not copied: reads and writes through the view access this list, and modifications
+     * of this list through the view are visible in this list.
+     * <p>The default implementation returns a {@link ListView} that translates indexes by the offset of the range
+     * and calls the methods of this list. It detects modifications of this list not through the view by a change
+     * of size() and then throws {@link java.util.ConcurrentModificationException}.</p>
+     *
+     * @param fromIndex index of the first element of the view
+     * @param toIndex   index after the last element of the view
+     * @return a view of the specified range of this list
+     * @throws IndexOutOfBoundsException if {@code (fromIndex < 0 || fromIndex > toIndex || toIndex > size())}
+     */
+    default List<E> subList(int fromIndex, int toIndex) {
+        return new ListView<>(this, fromIndex, toIndex);
+    }
+
+    /**
+     * Returns an iterator over the elements of this list, from the first to the last one.
+     * <p>The default implementation calls size() and get() for every element, and doesn't support
+     * {@link Iterator#remove()}. Modifications of this list during iteration are not detected.</p>
+     *
+     * @return an iterator over the elements of this list
+     */
+    @Override
+    default Iterator<E> iterator() {
+        return new Iterator<>() {
+
+            private int cursor;
+
+            @Override
+            public boolean hasNext() {
+                return cursor < size();
+            }
+
+            @Override
+            public E next() {
+                if (cursor >= size()) {
+                    throw new NoSuchElementException();
+                }
+                return get(cursor++);
+            }
+        };
+    }
+
+    /**
+     * Performs the specified action for each element of this list and its index, from the first element
+     * to the last one.
+     *
+     * @param action the action to be performed for each element
+     * @throws NullPointerException if the specified action is {@code null}
+     */
+    default void forEachIndexed(IndexedConsumer<? super E> action) {
+        Objects.requireNonNull(action);
+        for (int index = 0; index < size(); index++) {
+            action.accept(index, get(index));
+        }
+    }
+
+    /**
+     * Returns a {@link Spliterator} over the elements of this list, that reports {@link Spliterator#SIZED}
+     * and {@link Spliterator#ORDERED}.
+     * <p>The default implementation is created from the iterator and splits by copying batches of elements
+     * into arrays. Implementations backed by an array override it to split without copying.</p>
+     *
+     * @return a spliterator over the elements of this list
+     */
+    @Override
+    default Spliterator<E> spliterator() {
+        return Spliterators.spliterator(iterator(), size(), Spliterator.ORDERED);
+    }
+
+    /**
+     * Returns a sequential {@link Stream} of the elements of this list.
+     *
+     * @return a sequential stream of the elements of this list
+     */
+    default Stream<E> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Returns a parallel {@link Stream} of the elements of this list. How well the work is split between threads
+     * depends on the {@link #spliterator()} of this list.
+     *
+     * @return a parallel stream of the elements of this list
+     */
+    default Stream<E> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    private static Set<Object> toSet(List<?> elements) {
+        var set = new HashSet<Object>();
+        for (int index = 0; index < elements.size(); index++) {
+            set.add(elements.get(index));
+        }
+        return set;
+    }
 }
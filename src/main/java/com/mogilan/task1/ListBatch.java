@@ -0,0 +1,209 @@
+package com.mogilan.task1;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.ConcurrentModificationException;
+import java.util.Objects;
+
+/**
+ * Records insertions, removals and replacements of elements of an {@link ArrayList} by index and applies them
+ * all at once by {@link #commit()}. Created by {@link ArrayList#batch()}.
+ *
+ * <p>All indexes refer to the positions of the elements in the ArrayList when the batch was created, not to
+ * the positions after the operations recorded before, so the operations can be recorded in any order:
+ * add(index, element) inserts the element before the element that was at the index (or at the end if the index
+ * is equal to the size), remove(index) removes the element that was at the index and set(index, element) replaces it.
+ * Elements inserted at the same index keep the order in which they were added.</p>
+ *
+ * <p>commit() applies k recorded operations to an ArrayList of n elements in O(n + k log k) time: the removed
+ * elements are dropped by one compacting pass, and the inserted elements are merged with the remaining ones
+ * by one pass from the end, creating a new array of the field elements at most once. Applying the same operations
+ * one by one moves the tail of the array for every insertion and removal, which takes O(n * k) time.</p>
+ *
+ * <p>The ArrayList is not changed until commit(). A batch is committed only once, and only if the ArrayList
+ * was not structurally modified since the batch was created. A batch is not thread safe.</p>
+ *
+ * @param <E> the type of elements in the list
+ * @author Ilya Mogilan
+ * @see ArrayList#batch()
+ */
+public class ListBatch<E> {
+
+    private static final int INITIAL_CAPACITY = 10;
+
+    private final ArrayList<E> list;
+
+    /**
+     * The modCount of the list when the batch was created.
+     */
+    private final int expectedModCount;
+
+    /**
+     * The size of the list when the batch was created. All indexes refer to the positions of this size.
+     */
+    private final int listSize;
+
+    /**
+     * Indexes of the inserted elements, in the order in which they were added.
+     */
+    private int[] insertIndexes = new int[0];
+
+    private Object[] insertElements = new Object[0];
+
+    private int inserts;
+
+    /**
+     * Whether the indexes in the field insertIndexes are not decreasing, so they need no sorting.
+     */
+    private boolean insertsOrdered = true;
+
+    private final BitSet removed = new BitSet();
+
+    private int[] setIndexes = new int[0];
+
+    private Object[] setElements = new Object[0];
+
+    private int sets;
+
+    private boolean committed;
+
+    ListBatch(ArrayList<E> list, int expectedModCount, int listSize) {
+        this.list = list;
+        this.expectedModCount = expectedModCount;
+        this.listSize = listSize;
+    }
+
+    /**
+     * Records an insertion of the specified element before the element that was at the specified index when
+     * the batch was created, or at the end of the list if the index is equal to its size.
+     *
+     * @param index   index before which the element is inserted
+     * @param element element to be inserted
+     * @return this batch
+     * @throws IndexOutOfBoundsException if the index is out of range ({@code index < 0 || index > size of the list})
+     * @throws IllegalStateException     if this batch was already committed
+     */
+    public ListBatch<E> add(int index, E element) {
+        checkNotCommitted();
+        Objects.checkIndex(index, listSize + 1);
+        if (inserts == insertIndexes.length) {
+            int newLength = Math.max(INITIAL_CAPACITY, inserts + (inserts >> 1));
+            insertIndexes = Arrays.copyOf(insertIndexes, newLength);
+            insertElements = Arrays.copyOf(insertElements, newLength);
+        }
+        if (inserts > 0 && index < insertIndexes[inserts - 1]) {
+            insertsOrdered = false;
+        }
+        insertIndexes[inserts] = index;
+        insertElements[inserts++] = element;
+        return this;
+    }
+
+    /**
+     * Records an insertion of the specified element at the end of the list, after the elements inserted
+     * at the end before.
+     *
+     * @param element element to be appended
+     * @return this batch
+     * @throws IllegalStateException if this batch was already committed
+     */
+    public ListBatch<E> add(E element) {
+        return add(listSize, element);
+    }
+
+    /**
+     * Records a removal of the element that was at the specified index when the batch was created.
+     *
+     * @param index index of the element to be removed
+     * @return this batch
+     * @throws IndexOutOfBoundsException if the index is out of range ({@code index < 0 || index >= size of the list})
+     * @throws IllegalArgumentException  if the removal of the element at this index is already recorded
+     * @throws IllegalStateException     if this batch was already committed
+     */
+    public ListBatch<E> remove(int index) {
+        checkNotCommitted();
+        Objects.checkIndex(index, listSize);
+        if (removed.get(index)) {
+            throw new IllegalArgumentException("Element at index " + index + " is already removed");
+        }
+        removed.set(index);
+        return this;
+    }
+
+    /**
+     * Records a replacement of the element that was at the specified index when the batch was created by
+     * the specified element. If several replacements of the same element are recorded, the last one wins.
+     *
+     * @param index   index of the element to be replaced
+     * @param element element to be set at the index
+     * @return this batch
+     * @throws IndexOutOfBoundsException if the index is out of range ({@code index < 0 || index >= size of the list})
+     * @throws IllegalArgumentException  if the removal of the element at this index is already recorded
+     * @throws IllegalStateException     if this batch was already committed
+     */
+    public ListBatch<E> set(int index, E element) {
+        checkNotCommitted();
+        Objects.checkIndex(index, listSize);
+        if (removed.get(index)) {
+            throw new IllegalArgumentException("Element at index " + index + " is removed");
+        }
+        if (sets == setIndexes.length) {
+            int newLength = Math.max(INITIAL_CAPACITY, sets + (sets >> 1));
+            setIndexes = Arrays.copyOf(setIndexes, newLength);
+            setElements = Arrays.copyOf(setElements, newLength);
+        }
+        setIndexes[sets] = index;
+        setElements[sets++] = element;
+        return this;
+    }
+
+    /**
+     * Returns the number of elements the list will have after commit().
+     *
+     * @return the size of the list after commit()
+     */
+    public int size() {
+        return listSize + inserts - removed.cardinality();
+    }
+
+    /**
+     * Applies all recorded operations to the list. After that the batch can't be used anymore.
+     *
+     * @throws ConcurrentModificationException if the list was structurally modified since the batch was created
+     * @throws IllegalStateException           if this batch was already committed
+     * @throws OutOfMemoryError                if the list would have more than {@link Integer#MAX_VALUE} elements
+     */
+    public void commit() {
+        checkNotCommitted();
+        committed = true;
+        if (!insertsOrdered) {
+            sortInserts();
+        }
+        list.applyBatch(expectedModCount, setIndexes, setElements, sets, removed, insertIndexes, insertElements,
+                inserts);
+    }
+
+    /**
+     * Sorts the insertions by index, keeping the order of insertions at the same index. The index and the number
+     * of the insertion are packed into one long key, so the sort of primitive values is stable for them.
+     */
+    private void sortInserts() {
+        var keys = new long[inserts];
+        for (int i = 0; i < inserts; i++) {
+            keys[i] = (long) insertIndexes[i] << Integer.SIZE | i;
+        }
+        SortUtil.quicksort(keys, inserts - 1);
+        var sortedElements = new Object[inserts];
+        for (int i = 0; i < inserts; i++) {
+            insertIndexes[i] = (int) (keys[i] >>> Integer.SIZE);
+            sortedElements[i] = insertElements[(int) keys[i]];
+        }
+        insertElements = sortedElements;
+    }
+
+    private void checkNotCommitted() {
+        if (committed) {
+            throw new IllegalStateException("Batch is already committed");
+        }
+    }
+}
@@ -0,0 +1,273 @@
+package com.mogilan.task1;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Comparator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Snapshot of the metrics of {@link ArrayList} and {@link SortUtil}: how often arrays of elements are resized,
+ * how many elements are copied by resizing and by shifting elements for insertion and removal, how many
+ * comparisons sorts make and how long they take. The metrics are collected for all lists and sorts of the JVM
+ * together.
+ *
+ * <p>Metrics are collected only if the system property {@code com.mogilan.task1.metrics} is {@code true}
+ * when the JVM starts, for example with {@code -Dcom.mogilan.task1.metrics=true}. The flag is read once into
+ * the static final field ENABLED, and every instrumented place checks it first, so when metrics are disabled
+ * the JIT compiler removes the instrumentation completely. When metrics are enabled, they are also published
+ * as {@link ListMetricsMXBean} in the platform MBean server.</p>
+ *
+ * <p>The counters are {@link LongAdder}s, so lists used by several threads don't contend on them. A sort counts
+ * comparisons through a comparator that wraps the given one, and its duration is recorded in a
+ * {@link LatencyHistogram}. Sorts of primitive values are not counted.</p>
+ *
+ * @author Ilya Mogilan
+ * @see ListMetricsMXBean
+ * @see LatencyHistogram
+ */
+public class ListMetrics {
+
+    /**
+     * Whether metrics are collected, from the system property {@code com.mogilan.task1.metrics}.
+     */
+    public static final boolean ENABLED = Boolean.getBoolean("com.mogilan.task1.metrics");
+
+    /**
+     * The name of the {@link ListMetricsMXBean} in the platform MBean server.
+     */
+    public static final String OBJECT_NAME = "com.mogilan.task1:type=ListMetrics";
+
+    private static final LongAdder RESIZES = new LongAdder();
+
+    private static final LongAdder ELEMENTS_COPIED = new LongAdder();
+
+    private static final LongAdder SHIFTS = new LongAdder();
+
+    private static final LongAdder SHIFTED_ELEMENTS = new LongAdder();
+
+    private static final LongAdder SORTS = new LongAdder();
+
+    private static final LongAdder COMPARISONS = new LongAdder();
+
+    private static final LatencyHistogram SORT_LATENCY = new LatencyHistogram();
+
+    static {
+        if (ENABLED) {
+            try {
+                ManagementFactory.getPlatformMBeanServer().registerMBean(new MXBean(), new ObjectName(OBJECT_NAME));
+            } catch (JMException e) {
+                // Already registered by another class loader: metrics stay available through snapshot()
+            }
+        }
+    }
+
+    private final long resizes;
+
+    private final long elementsCopied;
+
+    private final long shifts;
+
+    private final long shiftedElements;
+
+    private final long sorts;
+
+    private final long comparisons;
+
+    private final LatencyHistogram sortLatency;
+
+    private ListMetrics() {
+        resizes = RESIZES.sum();
+        elementsCopied = ELEMENTS_COPIED.sum();
+        shifts = SHIFTS.sum();
+        shiftedElements = SHIFTED_ELEMENTS.sum();
+        sorts = SORTS.sum();
+        comparisons = COMPARISONS.sum();
+        sortLatency = SORT_LATENCY.copy();
+    }
+
+    /**
+     * Returns the current values of all metrics. The values don't change after the method returns. If metrics
+     * are disabled, all values are 0.
+     *
+     * @return snapshot of the metrics
+     */
+    public static ListMetrics snapshot() {
+        return new ListMetrics();
+    }
+
+    /**
+     * Setts all metrics to 0. Metrics that are recorded concurrently with the reset may be lost.
+     */
+    public static void reset() {
+        RESIZES.reset();
+        ELEMENTS_COPIED.reset();
+        SHIFTS.reset();
+        SHIFTED_ELEMENTS.reset();
+        SORTS.reset();
+        COMPARISONS.reset();
+        SORT_LATENCY.reset();
+    }
+
+    /**
+     * Returns the number of times an array of elements was replaced by a larger or smaller one.
+     */
+    public long getResizes() {
+        return resizes;
+    }
+
+    /**
+     * Returns the number of elements copied from one position to another, by resizing arrays and by shifting
+     * elements. The elements added to a list are not counted.
+     */
+    public long getElementsCopied() {
+        return elementsCopied;
+    }
+
+    /**
+     * Returns the number of insertions and removals that moved elements after the changed position.
+     */
+    public long getShifts() {
+        return shifts;
+    }
+
+    /**
+     * Returns the number of elements moved by insertions and removals. Divided by getShifts(), gives the average
+     * number of elements moved by one of them.
+     */
+    public long getShiftedElements() {
+        return shiftedElements;
+    }
+
+    /**
+     * Returns the number of sorts of arrays of Objects.
+     */
+    public long getSorts() {
+        return sorts;
+    }
+
+    /**
+     * Returns the number of comparisons made by sorts. Divided by getSorts(), gives the average number
+     * of comparisons of one sort.
+     */
+    public long getComparisons() {
+        return comparisons;
+    }
+
+    /**
+     * Returns the histogram of the durations of sorts in nanoseconds. The histogram is a copy that doesn't change
+     * when new sorts are recorded.
+     */
+    public LatencyHistogram getSortLatency() {
+        return sortLatency;
+    }
+
+    @Override
+    public String toString() {
+        return "ListMetrics{resizes=" + resizes + ", elementsCopied=" + elementsCopied + ", shifts=" + shifts
+                + ", shiftedElements=" + shiftedElements + ", sorts=" + sorts + ", comparisons=" + comparisons
+                + ", sortLatency=" + sortLatency + "}";
+    }
+
+    /**
+     * Records that an array of elements was replaced by a new one, and copiedElements were copied into it.
+     */
+    static void recordResize(int copiedElements) {
+        RESIZES.increment();
+        ELEMENTS_COPIED.add(copiedElements);
+    }
+
+    /**
+     * Records that an insertion or removal moved the specified number of elements.
+     */
+    static void recordShift(int shiftedElements) {
+        SHIFTS.increment();
+        SHIFTED_ELEMENTS.add(shiftedElements);
+        ELEMENTS_COPIED.add(shiftedElements);
+    }
+
+    /**
+     * Runs the specified sort with a comparator that counts comparisons and then works as the specified one,
+     * or as the natural ordering if it's {@code null}, and records the number of comparisons and the duration
+     * of the sort.
+     */
+    static <T> void recordSort(Comparator<? super T> comparator, Consumer<Comparator<T>> sort) {
+        var sortComparisons = new LongAdder();
+        Comparator<T> countingComparator;
+        if (comparator == null) {
+            countingComparator = (first, second) -> {
+                sortComparisons.increment();
+                return ((Comparable<T>) first).compareTo(second);
+            };
+        } else {
+            countingComparator = (first, second) -> {
+                sortComparisons.increment();
+                return comparator.compare(first, second);
+            };
+        }
+        long start = System.nanoTime();
+        sort.accept(countingComparator);
+        SORT_LATENCY.record(System.nanoTime() - start);
+        SORTS.increment();
+        COMPARISONS.add(sortComparisons.sum());
+    }
+
+    private static class MXBean implements ListMetricsMXBean {
+
+        @Override
+        public long getResizes() {
+            return RESIZES.sum();
+        }
+
+        @Override
+        public long getElementsCopied() {
+            return ELEMENTS_COPIED.sum();
+        }
+
+        @Override
+        public long getShifts() {
+            return SHIFTS.sum();
+        }
+
+        @Override
+        public long getShiftedElements() {
+            return SHIFTED_ELEMENTS.sum();
+        }
+
+        @Override
+        public long getSorts() {
+            return SORTS.sum();
+        }
+
+        @Override
+        public long getComparisons() {
+            return COMPARISONS.sum();
+        }
+
+        @Override
+        public double getSortLatencyMean() {
+            return SORT_LATENCY.getMean();
+        }
+
+        @Override
+        public long getSortLatency50thPercentile() {
+            return SORT_LATENCY.getValueAtPercentile(50);
+        }
+
+        @Override
+        public long getSortLatency99thPercentile() {
+            return SORT_LATENCY.getValueAtPercentile(99);
+        }
+
+        @Override
+        public long getSortLatencyMax() {
+            return SORT_LATENCY.getMax();
+        }
+
+        @Override
+        public void reset() {
+            ListMetrics.reset();
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.mogilan.task1;
+
+/**
+ * Management interface through which the counters of {@link ListMetrics} are published to JMX, under the name
+ * {@code com.mogilan.task1:type=ListMetrics}. Registered in the platform MBean server only if metrics are enabled.
+ * Durations are in nanoseconds.
+ *
+ * @author Ilya Mogilan
+ * @see ListMetrics
+ */
+public interface ListMetricsMXBean {
+
+    long getResizes();
+
+    long getElementsCopied();
+
+    long getShifts();
+
+    long getShiftedElements();
+
+    long getSorts();
+
+    long getComparisons();
+
+    double getSortLatencyMean();
+
+    long getSortLatency50thPercentile();
+
+    long getSortLatency99thPercentile();
+
+    long getSortLatencyMax();
+
+    /**
+     * Resets all counters, see {@link ListMetrics#reset()}.
+     */
+    void reset();
+}
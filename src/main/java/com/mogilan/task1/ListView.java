@@ -0,0 +1,169 @@
+package com.mogilan.task1;
+
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Objects;
+
+/**
+ * View of a range of elements of another {@link List}, returned by the default {@link List#subList(int, int)}.
+ * Translates the indexes by the offset of the range and calls get(), set(), add(), remove() and removeRange()
+ * of the viewed list, so it works for any list and takes the same time as the methods of the list.
+ *
+ * <p>The view remembers the size of the viewed list and checks it before every operation. If the size was changed
+ * not through this view, the view becomes invalid and throws {@link ConcurrentModificationException}. Modifications
+ * that don't change the size, such as set() or sort() of the viewed list, are not detected. Views of the view can
+ * be created by subList() as well.</p>
+ *
+ * @param <E> the type of elements in the list
+ * @author Ilya Mogilan
+ * @see List#subList(int, int)
+ */
+class ListView<E> implements List<E> {
+
+    private final List<E> list;
+
+    private final int offset;
+
+    private int size;
+
+    /**
+     * The size of the viewed list after the last operation through this view.
+     */
+    private int expectedListSize;
+
+    ListView(List<E> list, int fromIndex, int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, list.size());
+        this.list = list;
+        this.offset = fromIndex;
+        this.size = toIndex - fromIndex;
+        this.expectedListSize = list.size();
+    }
+
+    @Override
+    public void add(E element) {
+        checkForComodification();
+        if (offset + size == list.size()) {
+            list.add(element);
+        } else {
+            list.add(offset + size, element);
+        }
+        updateSize(1);
+    }
+
+    @Override
+    public void add(int index, E element) {
+        checkForComodification();
+        if (size == 0) {
+            if (index != 0) {
+                throw new IndexOutOfBoundsException();
+            }
+            add(element);
+            return;
+        }
+        Objects.checkIndex(index, size);
+        list.add(offset + index, element);
+        updateSize(1);
+    }
+
+    @Override
+    public void clear() {
+        removeRange(0, size());
+    }
+
+    @Override
+    public E get(int index) {
+        checkForComodification();
+        Objects.checkIndex(index, size);
+        return list.get(offset + index);
+    }
+
+    @Override
+    public boolean remove(E element) {
+        int index = indexOf(element);
+        if (index < 0) {
+            return false;
+        }
+        remove(index);
+        return true;
+    }
+
+    @Override
+    public E remove(int index) {
+        checkForComodification();
+        Objects.checkIndex(index, size);
+        var removedElement = list.remove(offset + index);
+        updateSize(-1);
+        return removedElement;
+    }
+
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        checkForComodification();
+        Objects.checkFromToIndex(fromIndex, toIndex, size);
+        list.removeRange(offset + fromIndex, offset + toIndex);
+        updateSize(fromIndex - toIndex);
+    }
+
+    @Override
+    public E set(int index, E element) {
+        checkForComodification();
+        Objects.checkIndex(index, size);
+        return list.set(offset + index, element);
+    }
+
+    @Override
+    public int size() {
+        checkForComodification();
+        return size;
+    }
+
+    /**
+     * Sorts the elements of this view by copying them into an array, sorting the array by quicksort() from
+     * {@link SortUtil} and setting the sorted elements back one by one.
+     */
+    @Override
+    public void sort(Comparator<? super E> comparator) {
+        checkForComodification();
+        if (size < 2) {
+            return;
+        }
+        var array = new Object[size];
+        for (int i = 0; i < size; i++) {
+            array[i] = list.get(offset + i);
+        }
+        SortUtil.quicksort(array, comparator, size - 1);
+        for (int i = 0; i < size; i++) {
+            list.set(offset + i, (E) array[i]);
+        }
+    }
+
+    @Override
+    public List<E> subList(int fromIndex, int toIndex) {
+        checkForComodification();
+        return new ListView<>(this, fromIndex, toIndex);
+    }
+
+    @Override
+    public String toString() {
+        checkForComodification();
+        var stringBuilder = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                stringBuilder.append(", ");
+            }
+            stringBuilder.append(list.get(offset + i));
+        }
+        return stringBuilder.append(']').toString();
+    }
+
+    private void checkForComodification() {
+        if (list.size() != expectedListSize) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    private void updateSize(int sizeChange) {
+        size += sizeChange;
+        expectedListSize = list.size();
+    }
+}
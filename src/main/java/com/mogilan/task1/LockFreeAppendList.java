@@ -0,0 +1,243 @@
+package com.mogilan.task1;
+
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Lock-free append-only implementation of the {@link List} interface for many threads adding elements
+ * concurrently, for example collectors of events that are drained later.
+ *
+ * <p>Supports adding elements to the end of the list, getting and setting elements by index. All other modifying
+ * methods (adding by index, removing, clearing and sorting) throw {@link UnsupportedOperationException}, since
+ * they can't be combined with lock-free appends. Permits all elements, including {@code null}.</p>
+ *
+ * <p>Elements are stored in segments instead of a single array. The first segment has 16 slots, and each next
+ * segment is twice as large as the previous one, so the index of a segment and the position inside it are
+ * computed from the index of an element with a few bit operations. When the list needs more room, only a new
+ * segment is allocated: existing elements are never copied, and producers never wait for a resize.</p>
+ *
+ * <p>Method add() claims an index by an atomic increment of a counter of claimed slots, stores the element into
+ * the slot and then advances the published size over all contiguous slots that are already filled. Any thread
+ * that finished its write helps to advance the published size, so no thread waits for another one. The size
+ * returned by size() is the published size: every element with a lower index is completely written and can be
+ * read by get() from any thread.</p>
+ *
+ * @param <E> the type of elements in this list
+ * @author Ilya Mogilan
+ * @see List
+ */
+public class LockFreeAppendList<E> implements List<E> {
+
+    private static final int FIRST_SEGMENT_SHIFT = 4;
+
+    private static final int FIRST_SEGMENT_SIZE = 1 << FIRST_SEGMENT_SHIFT;
+
+    /**
+     * Number of segments needed to store {@link #MAX_SIZE} elements.
+     */
+    private static final int MAX_SEGMENTS = 31 - FIRST_SEGMENT_SHIFT;
+
+    /**
+     * Maximal number of elements in a LockFreeAppendList.
+     */
+    public static final int MAX_SIZE = Integer.MAX_VALUE - FIRST_SEGMENT_SIZE + 1;
+
+    /**
+     * Marker stored in a slot instead of {@code null} element, since an empty slot holds {@code null}.
+     */
+    private static final Object NULL_ELEMENT = new Object();
+
+    private final AtomicReferenceArray<AtomicReferenceArray<Object>> segments =
+            new AtomicReferenceArray<>(MAX_SEGMENTS);
+
+    /**
+     * The number of slots claimed by add(); some of them might be not written yet.
+     */
+    private final AtomicInteger claimedSize = new AtomicInteger();
+
+    /**
+     * The number of elements at the beginning of this list that are completely written.
+     */
+    private final AtomicInteger publishedSize = new AtomicInteger();
+
+    /**
+     * Adds the element passed in the parameters to the end of this LockFreeAppendList.
+     * <p>Never blocks. If the element is added concurrently with other elements, the order between them is the
+     * order in which the threads claimed their slots.</p>
+     *
+     * @param element element to be added to this list
+     * @throws IllegalStateException if the list already contains {@link #MAX_SIZE} elements
+     */
+    @Override
+    public void add(E element) {
+        int index = claimedSize.getAndIncrement();
+        if (index < 0 || index >= MAX_SIZE) {
+            throw new IllegalStateException("LockFreeAppendList can't contain more than " + MAX_SIZE + " elements");
+        }
+        getOrCreateSegment(segmentIndex(index)).set(offsetInSegment(index), encode(element));
+        advancePublishedSize();
+    }
+
+    /**
+     * Not supported.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void add(int index, E element) {
+        throw new UnsupportedOperationException("LockFreeAppendList supports only adding to the end");
+    }
+
+    /**
+     * Not supported.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException("LockFreeAppendList is append-only");
+    }
+
+    /**
+     * Returns the element at the specified index in this LockFreeAppendList. Never blocks.
+     *
+     * @param index index of the element to be returned
+     * @return the element at the specified index in this list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     *                                   ({@code index < 0 || index >= size()})
+     */
+    @Override
+    public E get(int index) {
+        Objects.checkIndex(index, publishedSize.get());
+        return decode(segments.get(segmentIndex(index)).get(offsetInSegment(index)));
+    }
+
+    /**
+     * Not supported.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public boolean remove(E element) {
+        throw new UnsupportedOperationException("LockFreeAppendList is append-only");
+    }
+
+    /**
+     * Not supported.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public E remove(int index) {
+        throw new UnsupportedOperationException("LockFreeAppendList is append-only");
+    }
+
+    /**
+     * Setts a new element at the specified position, replacing the previous element atomically.
+     * The size does not change.
+     *
+     * @param index   index of the element to be replaced by new value
+     * @param element element to be added to this list at the specified position
+     * @return the element that was replaced by new value
+     * @throws IndexOutOfBoundsException if the index is out of range
+     *                                   ({@code index < 0 || index >= size()})
+     */
+    @Override
+    public E set(int index, E element) {
+        Objects.checkIndex(index, publishedSize.get());
+        return decode(segments.get(segmentIndex(index)).getAndSet(offsetInSegment(index), encode(element)));
+    }
+
+    /**
+     * Returns the number of elements in this LockFreeAppendList that can be read by get().
+     * Elements which addition is still in progress are not counted.
+     *
+     * @return the number of elements in this list
+     */
+    @Override
+    public int size() {
+        return publishedSize.get();
+    }
+
+    /**
+     * Not supported.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void sort(Comparator<? super E> comparator) {
+        throw new UnsupportedOperationException("LockFreeAppendList can't be sorted in place");
+    }
+
+    /**
+     * Returns a string representation of the elements counted by size(), that consists of the elements separated
+     * by the characters ", " (comma and space) and enclosed in square brackets ("[]").
+     *
+     * @return string representation of this list
+     */
+    @Override
+    public String toString() {
+        int currentSize = publishedSize.get();
+        StringBuilder stringBuilder = new StringBuilder();
+        stringBuilder.append("[");
+        for (int i = 0; i < currentSize; i++) {
+            if (i != 0) {
+                stringBuilder.append(", ");
+            }
+            stringBuilder.append(get(i));
+        }
+        stringBuilder.append("]");
+        return stringBuilder.toString();
+    }
+
+    private static int segmentIndex(int index) {
+        return (31 - Integer.numberOfLeadingZeros(index + FIRST_SEGMENT_SIZE)) - FIRST_SEGMENT_SHIFT;
+    }
+
+    private static int offsetInSegment(int index) {
+        int position = index + FIRST_SEGMENT_SIZE;
+        return position ^ Integer.highestOneBit(position);
+    }
+
+    private AtomicReferenceArray<Object> getOrCreateSegment(int segmentIndex) {
+        var segment = segments.get(segmentIndex);
+        if (segment != null) {
+            return segment;
+        }
+        var newSegment = new AtomicReferenceArray<>(FIRST_SEGMENT_SIZE << segmentIndex);
+        if (segments.compareAndSet(segmentIndex, null, newSegment)) {
+            return newSegment;
+        }
+        return segments.get(segmentIndex);
+    }
+
+    /**
+     * Moves the published size forward while the slot at the published size is already written. A thread
+     * whose slot is not the next one to be published leaves it to the thread that writes that slot.
+     */
+    private void advancePublishedSize() {
+        int current = publishedSize.get();
+        while (current < claimedSize.get() && current < MAX_SIZE && isWritten(current)) {
+            if (publishedSize.compareAndSet(current, current + 1)) {
+                current++;
+            } else {
+                current = publishedSize.get();
+            }
+        }
+    }
+
+    private boolean isWritten(int index) {
+        var segment = segments.get(segmentIndex(index));
+        return segment != null && segment.get(offsetInSegment(index)) != null;
+    }
+
+    private static Object encode(Object element) {
+        return element == null ? NULL_ELEMENT : element;
+    }
+
+    private E decode(Object slot) {
+        return slot == NULL_ELEMENT ? null : (E) slot;
+    }
+}
@@ -0,0 +1,227 @@
+package com.mogilan.task1;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.Objects;
+
+/**
+ * Implementation of the {@link List} interface that stores elements, serialized by an {@link ElementCodec},
+ * in a file mapped into memory by {@link FileChannel#map(FileChannel.MapMode, long, long)}. The elements survive
+ * the restart of the JVM: {@link #open(Path, ElementCodec)} of an existing file gives the same list again.
+ *
+ * <p>Implements all {@link List} methods with the same semantics as {@link ArrayList}; whether {@code null}
+ * elements are permitted depends on the codec. Elements are stored as described in {@link BufferBackedList}: every
+ * chunk is a region of the file mapped by its own {@link MappedByteBuffer}, so sort() permutes the elements in place
+ * in the mapped file.</p>
+ *
+ * <p>The file starts with a header of HEADER_BYTES bytes, which contains MAGIC, the version of the format, the width
+ * of an element, the number of elements in a chunk and the number of elements in the list. The chunks follow
+ * the header one after another. The number of elements in the header is updated by every modification.</p>
+ *
+ * <p>When a new chunk doesn't fit into the file, the file is extended at once to hold 1.5 times more chunks, in the
+ * same way as grow() of {@link ArrayList} extends the array, so appending elements extends the file rarely.
+ * Opening an existing file reads only the header and maps the chunks that hold the elements; the pages of the file
+ * are read by the operating system when they are accessed for the first time, so opening takes the same time
+ * for any number of elements.</p>
+ *
+ * <p>Modifications are written to the mapped memory and reach the file when the operating system decides,
+ * even if the JVM crashes. {@link #force()} writes them to the storage device at once. {@link #close()} forces
+ * the modifications and closes the file; the list must not be used after that.</p>
+ *
+ * @param <E> the type of elements in this list
+ * @author Ilya Mogilan
+ * @see ElementCodec
+ * @see OffHeapArrayList
+ * @see List
+ */
+public class MappedArrayList<E> extends BufferBackedList<E> implements Closeable {
+
+    /**
+     * The first 4 bytes of a file of a MappedArrayList ("MAPL").
+     */
+    private static final int MAGIC = 0x4C50414D;
+
+    private static final int VERSION = 1;
+
+    /**
+     * The number of bytes of the header. Equal to the usual size of a memory page, so that chunks start
+     * at the beginning of a page.
+     */
+    private static final int HEADER_BYTES = 4096;
+
+    private static final int WIDTH_OFFSET = 8;
+
+    private static final int CHUNK_CAPACITY_OFFSET = 12;
+
+    private static final int SIZE_OFFSET = 16;
+
+    /**
+     * The number of bytes of a chunk used by {@link #open(Path, ElementCodec)} for a new file.
+     */
+    private static final int DEFAULT_CHUNK_BYTES = 1 << 26;
+
+    private final RandomAccessFile file;
+
+    private final FileChannel channel;
+
+    private final MappedByteBuffer header;
+
+    /**
+     * The length of the file in bytes
+     */
+    private long fileLength;
+
+    private MappedArrayList(ElementCodec<E> codec, int chunkCapacity, RandomAccessFile file) throws IOException {
+        super(codec, chunkCapacity);
+        this.file = file;
+        channel = file.getChannel();
+        fileLength = channel.size();
+        header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES);
+        header.order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Opens the list stored in the specified file, or creates an empty list and the file if it doesn't exist.
+     * A new file gets chunks of about DEFAULT_CHUNK_BYTES bytes.
+     *
+     * @param path  the file of the list
+     * @param codec codec that converts elements to bytes and back. Must have the same width as the codec
+     *              that wrote the file
+     * @return the list stored in the file
+     * @throws IOException              if the file can't be opened or mapped, or if it isn't a file of
+     *                                  a MappedArrayList
+     * @throws IllegalArgumentException if the width of the codec differs from the width of the stored elements
+     * @throws NullPointerException     if the specified path or codec is {@code null}
+     */
+    public static <E> MappedArrayList<E> open(Path path, ElementCodec<E> codec) throws IOException {
+        return open(path, codec, chunkCapacityFor(codec, DEFAULT_CHUNK_BYTES), false);
+    }
+
+    /**
+     * Opens the list stored in the specified file, or creates an empty list and the file if it doesn't exist.
+     * A new file gets chunks that hold the largest power of two elements that is not greater than chunkCapacity.
+     *
+     * @param path          the file of the list
+     * @param codec         codec that converts elements to bytes and back. Must have the same width as the codec
+     *                      that wrote the file
+     * @param chunkCapacity the number of elements in one chunk, rounded down to a power of two. Must be the same
+     *                      as in the existing file
+     * @return the list stored in the file
+     * @throws IOException              if the file can't be opened or mapped, or if it isn't a file of
+     *                                  a MappedArrayList
+     * @throws IllegalArgumentException if the width of the codec or the chunk capacity differs from the existing
+     *                                  file, or if they are incorrect in the same cases as for
+     *                                  {@link OffHeapArrayList#OffHeapArrayList(ElementCodec, int)}
+     * @throws NullPointerException     if the specified path or codec is {@code null}
+     */
+    public static <E> MappedArrayList<E> open(Path path, ElementCodec<E> codec, int chunkCapacity) throws IOException {
+        return open(path, codec, chunkCapacity, true);
+    }
+
+    private static <E> MappedArrayList<E> open(Path path, ElementCodec<E> codec, int chunkCapacity,
+                                               boolean checkChunkCapacity) throws IOException {
+        Objects.requireNonNull(codec);
+        var file = new RandomAccessFile(path.toFile(), "rw");
+        try {
+            if (file.length() == 0) {
+                var list = new MappedArrayList<>(codec, chunkCapacity, file);
+                list.writeHeader(codec.width());
+                return list;
+            }
+            var header = ByteBuffer.allocate(SIZE_OFFSET + Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            if (file.length() < HEADER_BYTES || file.getChannel().read(header, 0) < header.capacity()
+                    || header.getInt(0) != MAGIC) {
+                throw new IOException(path + " is not a file of MappedArrayList");
+            }
+            if (header.getInt(4) != VERSION) {
+                throw new IOException("Unsupported version " + header.getInt(4) + " of " + path);
+            }
+            int storedWidth = header.getInt(WIDTH_OFFSET);
+            int storedChunkCapacity = header.getInt(CHUNK_CAPACITY_OFFSET);
+            if (storedWidth != codec.width()) {
+                throw new IllegalArgumentException("Elements of " + path + " have width " + storedWidth
+                        + ", but the codec has width " + codec.width());
+            }
+            if (checkChunkCapacity && storedChunkCapacity != Integer.highestOneBit(chunkCapacity)) {
+                throw new IllegalArgumentException("Chunks of " + path + " have capacity " + storedChunkCapacity
+                        + ", but " + chunkCapacity + " is specified");
+            }
+            var list = new MappedArrayList<>(codec, storedChunkCapacity, file);
+            list.restoreSize(header.getInt(SIZE_OFFSET));
+            return list;
+        } catch (IOException | RuntimeException e) {
+            file.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Writes all modifications of the mapped chunks and of the header to the storage device. When the method
+     * returns, the elements survive a crash of the operating system as well.
+     *
+     * @throws UncheckedIOException if the modifications can't be written
+     */
+    public void force() {
+        for (int i = 0; i < chunkCount(); i++) {
+            ((MappedByteBuffer) chunk(i)).force();
+        }
+        header.force();
+    }
+
+    /**
+     * Forces the modifications by {@link #force()} and closes the file. The mapped memory is released when
+     * the list becomes unreachable.
+     *
+     * @throws IOException if the file can't be closed
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            force();
+        } finally {
+            file.close();
+        }
+    }
+
+    @Override
+    ByteBuffer newChunk(int chunkIndex, int bytes) {
+        long position = HEADER_BYTES + (long) chunkIndex * bytes;
+        try {
+            if (position + bytes > fileLength) {
+                long chunks = Math.max(chunkIndex + 1L, (long) Math.ceil((fileLength - HEADER_BYTES) / (double) bytes * 1.5));
+                fileLength = HEADER_BYTES + chunks * bytes;
+                file.setLength(fileLength);
+            }
+            return channel.map(FileChannel.MapMode.READ_WRITE, position, bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    void sizeChanged(int size) {
+        header.putInt(SIZE_OFFSET, size);
+    }
+
+    /**
+     * Returns the length of the file in bytes.
+     */
+    long fileLength() {
+        return fileLength;
+    }
+
+    private void writeHeader(int width) {
+        header.putInt(0, MAGIC);
+        header.putInt(4, VERSION);
+        header.putInt(WIDTH_OFFSET, width);
+        header.putInt(CHUNK_CAPACITY_OFFSET, chunkCapacity());
+        header.putInt(SIZE_OFFSET, 0);
+    }
+}
@@ -0,0 +1,61 @@
+package com.mogilan.task1;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Implementation of the {@link List} interface that stores elements outside of the heap, serialized by
+ * an {@link ElementCodec} into direct {@link ByteBuffer}s. Suited for very many fixed-size records: the garbage
+ * collector neither copies nor marks the elements, and the memory used on the heap doesn't depend on their number.
+ *
+ * <p>Implements all {@link List} methods with the same semantics as {@link ArrayList}; whether {@code null}
+ * elements are permitted depends on the codec. Elements are stored as described in {@link BufferBackedList}:
+ * in chunks of DEFAULT_CHUNK_BYTES bytes unless a chunk capacity is specified in the constructor. get() returns
+ * a new decoded object every time, so changing it doesn't change the element in the list.</p>
+ *
+ * <p>Direct buffers are freed when the garbage collector finds them unreachable, for example after clear(), which
+ * keeps only the first chunk. Their total size is limited by the JVM option {@code -XX:MaxDirectMemorySize},
+ * which is equal to the maximum heap size by default, so it usually has to be set for large lists.</p>
+ *
+ * @param <E> the type of elements in this list
+ * @author Ilya Mogilan
+ * @see ElementCodec
+ * @see List
+ */
+public class OffHeapArrayList<E> extends BufferBackedList<E> {
+
+    /**
+     * The number of bytes of a chunk used by the constructor without a chunk capacity.
+     */
+    private static final int DEFAULT_CHUNK_BYTES = 1 << 20;
+
+    /**
+     * Creates an OffHeapArrayList that stores elements by the specified codec in chunks of about DEFAULT_CHUNK_BYTES
+     * bytes.
+     *
+     * @param codec codec that converts elements to bytes and back
+     * @throws NullPointerException     if the specified codec is {@code null}
+     * @throws IllegalArgumentException if the width of the codec is not positive or greater than 2^30 bytes
+     */
+    public OffHeapArrayList(ElementCodec<E> codec) {
+        this(codec, chunkCapacityFor(codec, DEFAULT_CHUNK_BYTES));
+    }
+
+    /**
+     * Creates an OffHeapArrayList that stores elements by the specified codec in chunks that hold the largest power
+     * of two elements that is not greater than chunkCapacity.
+     *
+     * @param codec         codec that converts elements to bytes and back
+     * @param chunkCapacity the number of elements in one chunk, rounded down to a power of two
+     * @throws NullPointerException     if the specified codec is {@code null}
+     * @throws IllegalArgumentException if the width of the codec or the chunkCapacity is not positive, or if a chunk
+     *                                  would be larger than 2^30 bytes
+     */
+    public OffHeapArrayList(ElementCodec<E> codec, int chunkCapacity) {
+        super(codec, chunkCapacity);
+    }
+
+    @Override
+    ByteBuffer newChunk(int chunkIndex, int bytes) {
+        return ByteBuffer.allocateDirect(bytes);
+    }
+}
@@ -0,0 +1,53 @@
+package com.mogilan.task1;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * Java Flight Recorder event of a replacement of the array of elements of an {@link ArrayList} by a larger
+ * or a smaller one: by growing, shrinking or trimToSize(). Recorded only if the replacement took at least
+ * the threshold, 50 microseconds by default.
+ *
+ * @author Ilya Mogilan
+ * @see ShiftEvent
+ * @see SortEvent
+ */
+@Name("com.mogilan.task1.ArrayListResize")
+@Label("ArrayList Resize")
+@Category({"Collections", "ArrayList"})
+@Description("Replacement of the array of elements of an ArrayList by a larger or a smaller one")
+@Threshold("50 us")
+class ResizeEvent extends Event {
+
+    @Label("List Identity")
+    @Description("Identity hash code of the list")
+    int listIdentity;
+
+    @Label("Old Capacity")
+    int oldCapacity;
+
+    @Label("New Capacity")
+    int newCapacity;
+
+    @Label("Elements")
+    @Description("Number of elements copied into the new array")
+    int elements;
+
+    /**
+     * Ends the event and commits it with the specified values if it should be recorded.
+     */
+    void complete(Object list, int oldCapacity, int newCapacity, int elements) {
+        end();
+        if (shouldCommit()) {
+            listIdentity = System.identityHashCode(list);
+            this.oldCapacity = oldCapacity;
+            this.newCapacity = newCapacity;
+            this.elements = elements;
+            commit();
+        }
+    }
+}
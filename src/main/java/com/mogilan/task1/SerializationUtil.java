@@ -0,0 +1,421 @@
+package com.mogilan.task1;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Objects;
+
+/**
+ * Utility class that writes lists in a compact binary format to NIO channels and reads them back. Contains
+ * overloads of write method and read method for an {@link ArrayList} of any elements, serialized by an
+ * {@link ElementCodec}, and methods for {@link IntArrayList}, {@link LongArrayList} and {@link DoubleArrayList}
+ * that transfer the values between the array of the list and a {@link ByteBuffer} in bulk, without boxing.
+ *
+ * <p>A serialized list starts with a header of HEADER_BYTES bytes: MAGIC, the version of the format, the type
+ * of elements (the elements of a primitive list or elements written by a codec), the width of an element in bytes
+ * and the number of elements. The elements follow the header, width bytes each. All numbers are written in the
+ * {@link ByteOrder#LITTLE_ENDIAN} byte order.</p>
+ *
+ * <p>Lists are written and read through a buffer of at most BUFFER_BYTES bytes, so a list of any size needs only
+ * this buffer in addition to the list itself. Reading methods create the array of the new list with the length equal
+ * to the number of elements from the header, so the list is never grown while it's read, and read exactly
+ * the bytes of one list, so several lists can be written to one channel and read from it one after another.
+ * The channels must be in blocking mode.</p>
+ *
+ * <p>Elements written by a codec can be read only by a codec of the same width; the format doesn't store which
+ * codec was used. Values of a primitive list can be read as a primitive list of the same type or by a codec of
+ * the same width, such as {@link ElementCodec#ofInt()} for {@link IntArrayList}.</p>
+ *
+ * @author Ilya Mogilan
+ * @see ElementCodec
+ * @see ArrayList
+ */
+public class SerializationUtil {
+
+    /**
+     * The first 4 bytes of a serialized list ("MLST").
+     */
+    private static final int MAGIC = 0x54534C4D;
+
+    private static final byte VERSION = 1;
+
+    private static final byte CODEC = 0;
+
+    private static final byte INT = 1;
+
+    private static final byte LONG = 2;
+
+    private static final byte DOUBLE = 3;
+
+    private static final String[] TYPE_NAMES = {"codec", "int", "long", "double"};
+
+    /**
+     * The number of bytes of the header.
+     */
+    private static final int HEADER_BYTES = 16;
+
+    /**
+     * The maximal number of bytes of the buffer through which elements are written and read, unless one element
+     * is larger.
+     */
+    private static final int BUFFER_BYTES = 1 << 16;
+
+    private SerializationUtil() {
+    }
+
+    /**
+     * Writes the specified ArrayList to the specified channel, serializing every element by the specified codec.
+     *
+     * @param list    list to be written
+     * @param codec   codec that converts elements to bytes
+     * @param channel channel to write to
+     * @throws IOException              if an I/O error occurs
+     * @throws IllegalArgumentException if the width of the codec is not positive
+     * @throws NullPointerException     if any argument is {@code null}
+     */
+    public static <E> void write(ArrayList<? extends E> list, ElementCodec<E> codec, WritableByteChannel channel)
+            throws IOException {
+        Objects.requireNonNull(channel);
+        int width = checkWidth(codec.width());
+        var elements = list.elements();
+        writeElements(channel, CODEC, width, list.size(), (buffer, index, count) -> {
+            for (int i = 0; i < count; i++) {
+                codec.encode((E) elements[index + i], buffer, buffer.position() + i * width);
+            }
+        });
+    }
+
+    /**
+     * Writes the values of the specified IntArrayList to the specified channel.
+     *
+     * @param list    list to be written
+     * @param channel channel to write to
+     * @throws IOException          if an I/O error occurs
+     * @throws NullPointerException if any argument is {@code null}
+     */
+    public static void write(IntArrayList list, WritableByteChannel channel) throws IOException {
+        Objects.requireNonNull(channel);
+        var elements = list.elements();
+        writeElements(channel, INT, Integer.BYTES, list.size(),
+                (buffer, index, count) -> buffer.asIntBuffer().put(elements, index, count));
+    }
+
+    /**
+     * Writes the values of the specified LongArrayList to the specified channel.
+     *
+     * @param list    list to be written
+     * @param channel channel to write to
+     * @throws IOException          if an I/O error occurs
+     * @throws NullPointerException if any argument is {@code null}
+     */
+    public static void write(LongArrayList list, WritableByteChannel channel) throws IOException {
+        Objects.requireNonNull(channel);
+        var elements = list.elements();
+        writeElements(channel, LONG, Long.BYTES, list.size(),
+                (buffer, index, count) -> buffer.asLongBuffer().put(elements, index, count));
+    }
+
+    /**
+     * Writes the values of the specified DoubleArrayList to the specified channel.
+     *
+     * @param list    list to be written
+     * @param channel channel to write to
+     * @throws IOException          if an I/O error occurs
+     * @throws NullPointerException if any argument is {@code null}
+     */
+    public static void write(DoubleArrayList list, WritableByteChannel channel) throws IOException {
+        Objects.requireNonNull(channel);
+        var elements = list.elements();
+        writeElements(channel, DOUBLE, Double.BYTES, list.size(),
+                (buffer, index, count) -> buffer.asDoubleBuffer().put(elements, index, count));
+    }
+
+    /**
+     * Reads an ArrayList from the specified channel, deserializing every element by the specified codec.
+     *
+     * @param channel channel to read from
+     * @param codec   codec that converts bytes to elements
+     * @return new ArrayList with the elements that were read
+     * @throws IOException              if an I/O error occurs, if the channel doesn't contain a serialized list
+     *                                  or ends before the end of the list
+     * @throws IllegalArgumentException if the width of the codec differs from the width of the stored elements
+     * @throws NullPointerException     if any argument is {@code null}
+     */
+    public static <E> ArrayList<E> read(ReadableByteChannel channel, ElementCodec<E> codec) throws IOException {
+        int width = codec.width();
+        int count = readHeader(readHeader(channel), CODEC, width);
+        var elements = new Object[count];
+        readElements(channel, width, count, decodeTo(elements, codec));
+        return new ArrayList<>(elements, count);
+    }
+
+    /**
+     * Reads an ArrayList from the specified buffer, deserializing every element by the specified codec. The list
+     * is read from the position of the buffer; the position is moved to the end of the list.
+     *
+     * @param source buffer to read from
+     * @param codec  codec that converts bytes to elements
+     * @return new ArrayList with the elements that were read
+     * @throws IOException              if the buffer doesn't contain a serialized list or ends before the end
+     *                                  of the list
+     * @throws IllegalArgumentException if the width of the codec differs from the width of the stored elements
+     * @throws NullPointerException     if any argument is {@code null}
+     */
+    public static <E> ArrayList<E> read(ByteBuffer source, ElementCodec<E> codec) throws IOException {
+        int width = codec.width();
+        var buffer = source.slice().order(ByteOrder.LITTLE_ENDIAN);
+        int count = readHeader(buffer, CODEC, width);
+        var elements = new Object[count];
+        readElements(source, buffer, width, count, decodeTo(elements, codec));
+        return new ArrayList<>(elements, count);
+    }
+
+    /**
+     * Reads an IntArrayList from the specified channel.
+     *
+     * @param channel channel to read from
+     * @return new IntArrayList with the values that were read
+     * @throws IOException              if an I/O error occurs, if the channel doesn't contain a serialized list
+     *                                  or ends before the end of the list
+     * @throws IllegalArgumentException if the stored elements are not {@code int} values of an IntArrayList
+     * @throws NullPointerException     if the channel is {@code null}
+     */
+    public static IntArrayList readInts(ReadableByteChannel channel) throws IOException {
+        int count = readHeader(readHeader(channel), INT, Integer.BYTES);
+        var elements = new int[count];
+        readElements(channel, Integer.BYTES, count,
+                (buffer, index, n) -> buffer.asIntBuffer().get(elements, index, n));
+        return new IntArrayList(elements, count);
+    }
+
+    /**
+     * Reads an IntArrayList from the specified buffer by one bulk transfer into the array of the new list. The list
+     * is read from the position of the buffer; the position is moved to the end of the list.
+     *
+     * @param source buffer to read from
+     * @return new IntArrayList with the values that were read
+     * @throws IOException              if the buffer doesn't contain a serialized list or ends before the end
+     *                                  of the list
+     * @throws IllegalArgumentException if the stored elements are not {@code int} values of an IntArrayList
+     * @throws NullPointerException     if the buffer is {@code null}
+     */
+    public static IntArrayList readInts(ByteBuffer source) throws IOException {
+        var buffer = source.slice().order(ByteOrder.LITTLE_ENDIAN);
+        int count = readHeader(buffer, INT, Integer.BYTES);
+        var elements = new int[count];
+        readElements(source, buffer, Integer.BYTES, count,
+                (data, index, n) -> data.asIntBuffer().get(elements, index, n));
+        return new IntArrayList(elements, count);
+    }
+
+    /**
+     * Reads a LongArrayList from the specified channel.
+     *
+     * @param channel channel to read from
+     * @return new LongArrayList with the values that were read
+     * @throws IOException              if an I/O error occurs, if the channel doesn't contain a serialized list
+     *                                  or ends before the end of the list
+     * @throws IllegalArgumentException if the stored elements are not {@code long} values of a LongArrayList
+     * @throws NullPointerException     if the channel is {@code null}
+     */
+    public static LongArrayList readLongs(ReadableByteChannel channel) throws IOException {
+        int count = readHeader(readHeader(channel), LONG, Long.BYTES);
+        var elements = new long[count];
+        readElements(channel, Long.BYTES, count,
+                (buffer, index, n) -> buffer.asLongBuffer().get(elements, index, n));
+        return new LongArrayList(elements, count);
+    }
+
+    /**
+     * Reads a LongArrayList from the specified buffer by one bulk transfer into the array of the new list. The list
+     * is read from the position of the buffer; the position is moved to the end of the list.
+     *
+     * @param source buffer to read from
+     * @return new LongArrayList with the values that were read
+     * @throws IOException              if the buffer doesn't contain a serialized list or ends before the end
+     *                                  of the list
+     * @throws IllegalArgumentException if the stored elements are not {@code long} values of a LongArrayList
+     * @throws NullPointerException     if the buffer is {@code null}
+     */
+    public static LongArrayList readLongs(ByteBuffer source) throws IOException {
+        var buffer = source.slice().order(ByteOrder.LITTLE_ENDIAN);
+        int count = readHeader(buffer, LONG, Long.BYTES);
+        var elements = new long[count];
+        readElements(source, buffer, Long.BYTES, count,
+                (data, index, n) -> data.asLongBuffer().get(elements, index, n));
+        return new LongArrayList(elements, count);
+    }
+
+    /**
+     * Reads a DoubleArrayList from the specified channel.
+     *
+     * @param channel channel to read from
+     * @return new DoubleArrayList with the values that were read
+     * @throws IOException              if an I/O error occurs, if the channel doesn't contain a serialized list
+     *                                  or ends before the end of the list
+     * @throws IllegalArgumentException if the stored elements are not {@code double} values of a DoubleArrayList
+     * @throws NullPointerException     if the channel is {@code null}
+     */
+    public static DoubleArrayList readDoubles(ReadableByteChannel channel) throws IOException {
+        int count = readHeader(readHeader(channel), DOUBLE, Double.BYTES);
+        var elements = new double[count];
+        readElements(channel, Double.BYTES, count,
+                (buffer, index, n) -> buffer.asDoubleBuffer().get(elements, index, n));
+        return new DoubleArrayList(elements, count);
+    }
+
+    /**
+     * Reads a DoubleArrayList from the specified buffer by one bulk transfer into the array of the new list.
+     * The list is read from the position of the buffer; the position is moved to the end of the list.
+     *
+     * @param source buffer to read from
+     * @return new DoubleArrayList with the values that were read
+     * @throws IOException              if the buffer doesn't contain a serialized list or ends before the end
+     *                                  of the list
+     * @throws IllegalArgumentException if the stored elements are not {@code double} values of a DoubleArrayList
+     * @throws NullPointerException     if the buffer is {@code null}
+     */
+    public static DoubleArrayList readDoubles(ByteBuffer source) throws IOException {
+        var buffer = source.slice().order(ByteOrder.LITTLE_ENDIAN);
+        int count = readHeader(buffer, DOUBLE, Double.BYTES);
+        var elements = new double[count];
+        readElements(source, buffer, Double.BYTES, count,
+                (data, index, n) -> data.asDoubleBuffer().get(elements, index, n));
+        return new DoubleArrayList(elements, count);
+    }
+
+    private static int checkWidth(int width) {
+        if (width <= 0) {
+            throw new IllegalArgumentException("Illegal element width: " + width);
+        }
+        return width;
+    }
+
+    private static <E> Transfer decodeTo(Object[] elements, ElementCodec<E> codec) {
+        int width = codec.width();
+        return (buffer, index, count) -> {
+            for (int i = 0; i < count; i++) {
+                elements[index + i] = codec.decode(buffer, buffer.position() + i * width);
+            }
+        };
+    }
+
+    /**
+     * Writes the header and size elements of the given type through a buffer, transferring to the buffer as many
+     * elements as fit into it at once.
+     */
+    private static void writeElements(WritableByteChannel channel, byte type, int width, int size, Transfer transfer)
+            throws IOException {
+        long dataBytes = (long) size * width;
+        var buffer = ByteBuffer.allocate(HEADER_BYTES + (int) Math.min(dataBytes, Math.max(BUFFER_BYTES, width)))
+                .order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(MAGIC).put(VERSION).put(type).putShort((short) 0).putInt(width).putInt(size);
+        int index = 0;
+        do {
+            int count = Math.min(size - index, buffer.remaining() / width);
+            transfer.transfer(buffer, index, count);
+            buffer.position(buffer.position() + count * width);
+            index += count;
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        } while (index < size);
+    }
+
+    private static ByteBuffer readHeader(ReadableByteChannel channel) throws IOException {
+        var header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        readFully(channel, header);
+        return header.flip();
+    }
+
+    /**
+     * Reads the header from the position of the specified buffer, checks that it describes elements of the given
+     * type and width and returns the number of elements. Elements written by a codec are accepted only if the given
+     * type is CODEC; the CODEC type accepts elements of any type.
+     */
+    private static int readHeader(ByteBuffer header, byte type, int width) throws IOException {
+        if (header.remaining() < HEADER_BYTES) {
+            throw new EOFException("The header of the list is incomplete");
+        }
+        if (header.getInt() != MAGIC) {
+            throw new IOException("The data is not a serialized list");
+        }
+        byte version = header.get();
+        if (version != VERSION) {
+            throw new IOException("Unsupported version: " + version);
+        }
+        byte storedType = header.get();
+        header.getShort();
+        int storedWidth = header.getInt();
+        int count = header.getInt();
+        if (storedType < CODEC || storedType > DOUBLE || storedWidth <= 0 || count < 0) {
+            throw new IOException("The header of the list is corrupted");
+        }
+        if (type != CODEC && storedType != type) {
+            throw new IllegalArgumentException("The list contains " + TYPE_NAMES[storedType] + " elements instead of "
+                    + TYPE_NAMES[type] + " values");
+        }
+        if (storedWidth != width) {
+            throw new IllegalArgumentException("The elements have width " + storedWidth + ", but the codec has width "
+                    + width);
+        }
+        return count;
+    }
+
+    /**
+     * Reads count elements from the channel through a buffer, transferring from the buffer as many elements as fit
+     * into it at once. Reads no bytes after the last element.
+     */
+    private static void readElements(ReadableByteChannel channel, int width, int count, Transfer transfer)
+            throws IOException {
+        long dataBytes = (long) count * width;
+        var buffer = ByteBuffer.allocate((int) Math.min(dataBytes, Math.max(BUFFER_BYTES, width)))
+                .order(ByteOrder.LITTLE_ENDIAN);
+        int index = 0;
+        while (index < count) {
+            int n = Math.min(count - index, buffer.capacity() / width);
+            buffer.clear().limit(n * width);
+            readFully(channel, buffer);
+            buffer.flip();
+            transfer.transfer(buffer, index, n);
+            index += n;
+        }
+    }
+
+    /**
+     * Transfers all count elements from the position of the buffer at once and moves the position of the source
+     * to the end of the list.
+     */
+    private static void readElements(ByteBuffer source, ByteBuffer buffer, int width, int count, Transfer transfer)
+            throws IOException {
+        long dataBytes = (long) count * width;
+        if (buffer.remaining() < dataBytes) {
+            throw new EOFException("The list ends after " + buffer.remaining() + " of " + dataBytes + " bytes");
+        }
+        transfer.transfer(buffer, 0, count);
+        source.position(source.position() + buffer.position() + (int) dataBytes);
+    }
+
+    private static void readFully(ReadableByteChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                throw new EOFException("The list ends unexpectedly");
+            }
+        }
+    }
+
+    /**
+     * Transfers count elements, starting with the element at the specified index of a list, between the list
+     * and the buffer, starting at the position of the buffer. Doesn't move the position.
+     */
+    @FunctionalInterface
+    private interface Transfer {
+
+        void transfer(ByteBuffer buffer, int index, int count);
+    }
+}
@@ -0,0 +1,65 @@
+package com.mogilan.task1;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * Java Flight Recorder event of moving elements of an {@link ArrayList} to insert or remove elements in the middle:
+ * by add() or remove() by index, addAll() at an index or removeRange(). If the array of elements had to grow for
+ * an insertion, the event includes the copying into the new array. Recorded only if the operation took at least
+ * the threshold, 50 microseconds by default.
+ *
+ * @author Ilya Mogilan
+ * @see ResizeEvent
+ * @see SortEvent
+ */
+@Name("com.mogilan.task1.ArrayListShift")
+@Label("ArrayList Shift")
+@Category({"Collections", "ArrayList"})
+@Description("Moving elements of an ArrayList to insert or remove elements in the middle")
+@Threshold("50 us")
+class ShiftEvent extends Event {
+
+    @Label("List Identity")
+    @Description("Identity hash code of the list")
+    int listIdentity;
+
+    @Label("Index")
+    @Description("Index of the first inserted or removed element")
+    int index;
+
+    @Label("Shifted Elements")
+    @Description("Number of elements moved to another position")
+    int shiftedElements;
+
+    @Label("Size")
+    @Description("Number of elements of the list before the operation")
+    int size;
+
+    @Label("Old Capacity")
+    int oldCapacity;
+
+    @Label("New Capacity")
+    @Description("Capacity after the operation, greater than the old capacity if the array had to grow")
+    int newCapacity;
+
+    /**
+     * Ends the event and commits it with the specified values if it should be recorded.
+     */
+    void complete(Object list, int index, int shiftedElements, int size, int oldCapacity, int newCapacity) {
+        end();
+        if (shouldCommit()) {
+            listIdentity = System.identityHashCode(list);
+            this.index = index;
+            this.shiftedElements = shiftedElements;
+            this.size = size;
+            this.oldCapacity = oldCapacity;
+            this.newCapacity = newCapacity;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.mogilan.task1;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+import java.util.Comparator;
+
+/**
+ * Java Flight Recorder event of a sort of an array of Objects by {@link SortUtil}, which also sorts the elements
+ * of {@link ArrayList}. Recorded only if the sort took at least the threshold, 1 millisecond by default.
+ *
+ * @author Ilya Mogilan
+ * @see ResizeEvent
+ * @see ShiftEvent
+ */
+@Name("com.mogilan.task1.Sort")
+@Label("Sort")
+@Category({"Collections", "ArrayList"})
+@Description("Sort of an array of Objects")
+@Threshold("1 ms")
+class SortEvent extends Event {
+
+    @Label("Algorithm")
+    String algorithm;
+
+    @Label("Elements")
+    @Description("Number of sorted elements")
+    int elements;
+
+    @Label("Comparator Class")
+    @Description("Class of the comparator, or null for the natural ordering")
+    Class<?> comparatorClass;
+
+    /**
+     * Ends the event and commits it with the specified values if it should be recorded.
+     */
+    void complete(String algorithm, int elements, Comparator<?> comparator) {
+        end();
+        if (shouldCommit()) {
+            this.algorithm = algorithm;
+            this.elements = elements;
+            comparatorClass = comparator == null ? null : comparator.getClass();
+            commit();
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.mogilan.task1;
+
+import java.util.Comparator;
+
+/**
+ * Algorithms which {@link ArrayList#sort(Comparator)} can use to sort elements.
+ *
+ * @author Ilya Mogilan
+ * @see ArrayList#setSortStrategy(SortStrategy)
+ * @see SortUtil
+ */
+public enum SortStrategy {
+
+    /**
+     * Quicksort (quicksort() from {@link SortUtil}). Does not need additional memory, but is not stable:
+     * it might reorder equal elements.
+     */
+    QUICKSORT,
+
+    /**
+     * Stable adaptive merge sort (mergesort() from {@link SortUtil}). Keeps the order of equal elements and sorts
+     * already sorted or nearly sorted data in close to linear time, but needs a temporary array of up to
+     * a half of the elements.
+     */
+    MERGESORT
+}
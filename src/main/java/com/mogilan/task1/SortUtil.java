@@ -2,18 +2,39 @@ package com.mogilan.task1;
 
 import java.util.Comparator;
 import java.util.Objects;
-import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 /**
- * Utility class that provides sort functionality for arrays of Objects. Contains only one public method - quicksort.
+ * Utility class that provides sort functionality for arrays of Objects and arrays of primitive {@code int},
+ * {@code long} and {@code double} values. Contains public overloads of quicksort method,
+ * parallelQuicksort method that sorts arrays of Objects using several threads of a {@link ForkJoinPool}
+ * and mergesort method that sorts arrays of Objects stably.
  *
  * <p>Most methods are parameterized by E (type of element) as they accept a {@link Comparator} object.</p>
  *
+ * <p>If {@link ListMetrics} are enabled, sorts of arrays of Objects record the number of comparisons and their
+ * duration.</p>
+ *
+ * <p>Sorts of arrays of Objects also emit a {@link SortEvent} to Java Flight Recorder if the sort took longer than
+ * the threshold of the event.</p>
+ *
  * @author Ilya Mogilan
  * @see ArrayList
  */
 public class SortUtil {
 
+    /**
+     * Default minimal number of elements in a partition of array, that parallelQuicksort() sorts by splitting
+     * it into separate {@link ForkJoinPool} tasks. Smaller partitions are sorted sequentially.
+     */
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 1 << 13;
+
+    /**
+     * Ranges with at most this number of elements are sorted by quicksort with insertion sort.
+     */
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+
     private SortUtil() {
     }
 
@@ -25,8 +46,17 @@ public class SortUtil {
      * <p>
      * Note! The sort realisation is not stable: method might reorder equal elements.
      * </p>
-     * Based on explanation of quicksort algorithm in tutorial
-     * <a href="https://www.youtube.com/watch?v=h8eyY7dIiN4">Quicksort Sort Algorithm in Java</a>
+     * <p>
+     * The algorithm is introsort. Each range is split into elements less than, equal to and greater than a pivot
+     * (three-way partitioning), so many equal elements don't slow the sort down. The pivot is the median of five
+     * elements of the range. Ranges of at most 16 elements are sorted with insertion sort, and ranges that are
+     * still not sorted after {@code 2 * log2(n)} levels of partitioning are sorted with heapsort. This guarantees
+     * {@code O(n log n)} time in the worst case and {@code O(log n)} depth of recursion. The sort does not allocate
+     * memory.
+     * </p>
+     * Based on explanation of the algorithm in
+     * <a href="https://www.cs.rpi.edu/~musser/gp/introsort.ps">Introspective Sorting and Selection Algorithms</a>
+     * by David R. Musser
      *
      * @param array      array of Objects to be sorted. All objects should be the same type and if {@code null} is passed
      *                   instead of the {@link Comparator} all elements in this array must implement the {@link Comparable}
@@ -46,42 +76,686 @@ public class SortUtil {
         Objects.requireNonNull(array);
         Objects.checkIndex(highIndex, array.length);
 
-        quicksort(array, comparator, 0, highIndex);
+        var event = new SortEvent();
+        event.begin();
+        if (ListMetrics.ENABLED) {
+            ListMetrics.<T>recordSort(comparator, counting -> introsort(array, counting, 0, highIndex,
+                    depthLimit(highIndex + 1)));
+        } else {
+            introsort(array, comparator, 0, highIndex, depthLimit(highIndex + 1));
+        }
+        event.complete("quicksort", highIndex + 1, comparator);
+    }
+
+    /**
+     * Sorts the range from lowIndex to highIndex, both inclusive, of the specified array of Objects in the same way
+     * as {@link #quicksort(Object[], Comparator, int)} sorts the whole array. Elements outside the range are not
+     * touched.
+     *
+     * @param array      array of Objects which range should be sorted
+     * @param comparator the {@code Comparator} used to compare array elements. {@code null} value is also valid
+     *                   option indicating that the elements' {@linkplain Comparable natural ordering} should be used
+     * @param lowIndex   the index of the first element in array to be sorted
+     * @param highIndex  the index of the last element in array to be sorted
+     * @throws NullPointerException      if value of the specified array is {@code null}, or in the same cases as
+     *                                   {@link #quicksort(Object[], Comparator, int)}
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     *                                   ({@code lowIndex < 0 || lowIndex > highIndex || highIndex >= array.length})
+     * @throws ClassCastException        in the same cases as {@link #quicksort(Object[], Comparator, int)}
+     */
+    public static <T> void quicksort(Object[] array, Comparator<? super T> comparator, int lowIndex, int highIndex) {
+        Objects.requireNonNull(array);
+        Objects.checkIndex(highIndex, array.length);
+        Objects.checkIndex(lowIndex, highIndex + 1);
+
+        var event = new SortEvent();
+        event.begin();
+        if (ListMetrics.ENABLED) {
+            ListMetrics.<T>recordSort(comparator, counting -> introsort(array, counting, lowIndex, highIndex,
+                    depthLimit(highIndex - lowIndex + 1)));
+        } else {
+            introsort(array, comparator, lowIndex, highIndex, depthLimit(highIndex - lowIndex + 1));
+        }
+        event.complete("quicksort", highIndex - lowIndex + 1, comparator);
     }
 
-    private static <T> void quicksort(Object[] array, Comparator<? super T> comparator, int lowIndex, int highIndex) {
-        if (lowIndex >= highIndex) {
-            return;
+    /**
+     * Sorts specified array of Objects using stable adaptive merge sort algorithm and according to the conditions
+     * settled by specified {@link Comparator} or, if {@code null} is passed instead of the {@link Comparator},
+     * according to the array elements' {@linkplain Comparable natural ordering} settled by implementation
+     * of {@link Comparable} interface.
+     * <p>
+     * The sort is stable: equal elements are not reordered, so a list can be sorted by several keys in several
+     * passes, starting from the least significant key.
+     * </p>
+     * <p>
+     * The algorithm is a variant of TimSort. The array is split into natural runs (ascending or strictly descending
+     * sequences, the latter are reversed). Short runs are extended to a minimal length with binary insertion sort,
+     * and runs are merged with galloping, which skips long blocks of elements coming from the same run.
+     * On an already sorted or nearly sorted array the sort performs close to {@code n} comparisons, the worst case
+     * is {@code O(n log n)}. The sort uses a temporary array of at most {@code n / 2} elements.
+     * </p>
+     * Based on description of the algorithm in
+     * <a href="https://svn.python.org/projects/python/trunk/Objects/listsort.txt">listsort.txt</a> by Tim Peters
+     *
+     * @param array      array of Objects to be sorted. All objects should be the same type and if {@code null} is passed
+     *                   instead of the {@link Comparator} all elements in this array must implement the {@link Comparable}
+     *                   interface specifying natural ordering;
+     * @param comparator the {@code Comparator} used to compare array elements. {@code null} value is also valid
+     *                   option indicating that the elements' {@linkplain Comparable natural ordering} should be used
+     * @param highIndex  the index of the last element in array to be sorted.
+     * @throws NullPointerException      (1) if value of the specified array is {@code null} or (2) if specified array contains elements with {@code null} value and {@link Comparator} or
+     *                                   realisation of {@link Comparable} interface don't define how to compare elements
+     *                                   with null values.
+     * @throws IndexOutOfBoundsException if the highIndex is out of range ({@code highIndex < 0 || highIndex >= array.length})
+     * @throws ClassCastException        (1) if the array contains objects of different types that can't be cast to
+     *                                   each other or (2) if {@code null} is passed instead of the {@link Comparator}
+     *                                   and class of elements of the specified array doesn't implement {@link Comparable}.
+     * @throws IllegalArgumentException  if the comparator (or natural ordering) is found to violate the
+     *                                   {@link Comparator} contract
+     */
+    public static <T> void mergesort(Object[] array, Comparator<? super T> comparator, int highIndex) {
+        Objects.requireNonNull(array);
+        Objects.checkIndex(highIndex, array.length);
+
+        var event = new SortEvent();
+        event.begin();
+        if (ListMetrics.ENABLED) {
+            ListMetrics.<T>recordSort(comparator, counting -> new MergeState<>(array, counting).sort(0, highIndex + 1));
+        } else {
+            new MergeState<>(array, comparator).sort(0, highIndex + 1);
         }
+        event.complete("mergesort", highIndex + 1, comparator);
+    }
 
-        T pivot = getPivot(array, lowIndex, highIndex);
+    /**
+     * Sorts the range from lowIndex to highIndex, both inclusive, of the specified array of Objects in the same way
+     * as {@link #mergesort(Object[], Comparator, int)} sorts the whole array. Elements outside the range are not
+     * touched.
+     *
+     * @param array      array of Objects which range should be sorted
+     * @param comparator the {@code Comparator} used to compare array elements. {@code null} value is also valid
+     *                   option indicating that the elements' {@linkplain Comparable natural ordering} should be used
+     * @param lowIndex   the index of the first element in array to be sorted
+     * @param highIndex  the index of the last element in array to be sorted
+     * @throws NullPointerException      if value of the specified array is {@code null}, or in the same cases as
+     *                                   {@link #mergesort(Object[], Comparator, int)}
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     *                                   ({@code lowIndex < 0 || lowIndex > highIndex || highIndex >= array.length})
+     * @throws ClassCastException        in the same cases as {@link #mergesort(Object[], Comparator, int)}
+     * @throws IllegalArgumentException  in the same cases as {@link #mergesort(Object[], Comparator, int)}
+     */
+    public static <T> void mergesort(Object[] array, Comparator<? super T> comparator, int lowIndex, int highIndex) {
+        Objects.requireNonNull(array);
+        Objects.checkIndex(highIndex, array.length);
+        Objects.checkIndex(lowIndex, highIndex + 1);
 
-        int leftPointer = partition(array, comparator, lowIndex, highIndex, pivot);
-        quicksort(array, comparator, lowIndex, leftPointer - 1);
-        quicksort(array, comparator, leftPointer + 1, highIndex);
+        var event = new SortEvent();
+        event.begin();
+        if (ListMetrics.ENABLED) {
+            ListMetrics.<T>recordSort(comparator,
+                    counting -> new MergeState<>(array, counting).sort(lowIndex, highIndex + 1));
+        } else {
+            new MergeState<>(array, comparator).sort(lowIndex, highIndex + 1);
+        }
+        event.complete("mergesort", highIndex - lowIndex + 1, comparator);
     }
 
-    private static <T> T getPivot(Object[] array, int lowIndex, int highIndex) {
-        int pivotIndex = new Random().nextInt(highIndex - lowIndex) + lowIndex;
-        T pivot = (T) array[pivotIndex];
-        swap(array, pivotIndex, highIndex);
-        return pivot;
+    /**
+     * Sorts specified array of Objects in the same way as {@link #quicksort(Object[], Comparator, int)} does, but
+     * uses threads of the specified {@link ForkJoinPool}. Partitions with at least
+     * {@link #DEFAULT_PARALLEL_THRESHOLD} elements are split into separate tasks, smaller partitions are sorted
+     * sequentially.
+     * <p>
+     * Note! The sort realisation is not stable: method might reorder equal elements.
+     * </p>
+     *
+     * @param array      array of Objects to be sorted
+     * @param comparator the {@code Comparator} used to compare array elements. {@code null} value is also valid
+     *                   option indicating that the elements' {@linkplain Comparable natural ordering} should be used
+     * @param highIndex  the index of the last element in array to be sorted.
+     * @param pool       the pool which threads are used for sorting. Passing a dedicated pool allows to avoid
+     *                   occupying threads of the {@linkplain ForkJoinPool#commonPool() common pool}
+     * @throws NullPointerException      if value of the specified array or pool is {@code null}, or in the same
+     *                                   cases as {@link #quicksort(Object[], Comparator, int)}
+     * @throws IndexOutOfBoundsException if the highIndex is out of range ({@code highIndex < 0 || highIndex >= array.length})
+     * @throws ClassCastException        in the same cases as {@link #quicksort(Object[], Comparator, int)}
+     */
+    public static <T> void parallelQuicksort(Object[] array, Comparator<? super T> comparator, int highIndex,
+                                             ForkJoinPool pool) {
+        parallelQuicksort(array, comparator, highIndex, pool, DEFAULT_PARALLEL_THRESHOLD);
     }
 
-    private static <T> int partition(Object[] array, Comparator<? super T> comparator, int lowIndex, int highIndex, T pivot) {
-        int leftPointer = lowIndex;
-        int rightPointer = highIndex;
-        while (leftPointer < rightPointer) {
-            while (compare(comparator, array[leftPointer], pivot) <= 0 && leftPointer < rightPointer) {
-                leftPointer++;
+    /**
+     * Sorts specified array of Objects in the same way as {@link #quicksort(Object[], Comparator, int)} does, but
+     * uses threads of the specified {@link ForkJoinPool}. Partitions with at least threshold elements are split
+     * into separate tasks, smaller partitions are sorted sequentially.
+     * <p>
+     * Note! The sort realisation is not stable: method might reorder equal elements.
+     * </p>
+     *
+     * @param array      array of Objects to be sorted
+     * @param comparator the {@code Comparator} used to compare array elements. {@code null} value is also valid
+     *                   option indicating that the elements' {@linkplain Comparable natural ordering} should be used
+     * @param highIndex  the index of the last element in array to be sorted.
+     * @param pool       the pool which threads are used for sorting
+     * @param threshold  minimal number of elements in a partition to sort it in parallel
+     * @throws NullPointerException      if value of the specified array or pool is {@code null}, or in the same
+     *                                   cases as {@link #quicksort(Object[], Comparator, int)}
+     * @throws IndexOutOfBoundsException if the highIndex is out of range ({@code highIndex < 0 || highIndex >= array.length})
+     * @throws IllegalArgumentException  if threshold is less than 2
+     * @throws ClassCastException        in the same cases as {@link #quicksort(Object[], Comparator, int)}
+     */
+    public static <T> void parallelQuicksort(Object[] array, Comparator<? super T> comparator, int highIndex,
+                                             ForkJoinPool pool, int threshold) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(pool);
+        Objects.checkIndex(highIndex, array.length);
+        if (threshold < 2) {
+            throw new IllegalArgumentException("Threshold must be at least 2: " + threshold);
+        }
+
+        var event = new SortEvent();
+        event.begin();
+        if (ListMetrics.ENABLED) {
+            ListMetrics.<T>recordSort(comparator, counting -> pool.invoke(
+                    new ParallelQuicksortTask<>(array, counting, 0, highIndex, threshold, depthLimit(highIndex + 1))));
+        } else {
+            pool.invoke(new ParallelQuicksortTask<>(array, comparator, 0, highIndex, threshold, depthLimit(highIndex + 1)));
+        }
+        event.complete("parallelQuicksort", highIndex + 1, comparator);
+    }
+
+    /**
+     * Sorts specified array of {@code int} values into ascending numerical order using the same introsort algorithm
+     * as {@link #quicksort(Object[], Comparator, int)}.
+     * <p>Values are compared directly, without boxing and without a {@link Comparator}. The ordering is the same
+     * as the one defined by {@link Integer#compare(int, int)}.</p>
+     *
+     * @param array     array of values to be sorted
+     * @param highIndex the index of the last element in array to be sorted.
+     * @throws NullPointerException      if value of the specified array is {@code null}
+     * @throws IndexOutOfBoundsException if the highIndex is out of range ({@code highIndex < 0 || highIndex >= array.length})
+     */
+    public static void quicksort(int[] array, int highIndex) {
+        Objects.requireNonNull(array);
+        Objects.checkIndex(highIndex, array.length);
+
+        introsort(array, 0, highIndex, depthLimit(highIndex + 1));
+    }
+
+    private static void introsort(int[] array, int lowIndex, int highIndex, int depthLimit) {
+        while (highIndex - lowIndex + 1 > INSERTION_SORT_THRESHOLD) {
+            if (depthLimit-- == 0) {
+                heapsort(array, lowIndex, highIndex);
+                return;
+            }
+
+            int pivot = array[medianOfFive(array, lowIndex, highIndex)];
+            int lessEnd = lowIndex;
+            int current = lowIndex;
+            int greaterStart = highIndex;
+            while (current <= greaterStart) {
+                int comparison = Integer.compare(array[current], pivot);
+                if (comparison < 0) {
+                    swap(array, lessEnd++, current++);
+                } else if (comparison > 0) {
+                    swap(array, current, greaterStart--);
+                } else {
+                    current++;
+                }
+            }
+
+            if (lessEnd - lowIndex < highIndex - greaterStart) {
+                introsort(array, lowIndex, lessEnd - 1, depthLimit);
+                lowIndex = greaterStart + 1;
+            } else {
+                introsort(array, greaterStart + 1, highIndex, depthLimit);
+                highIndex = lessEnd - 1;
             }
-            while (compare(comparator, array[rightPointer], pivot) >= 0 && leftPointer < rightPointer) {
-                rightPointer--;
+        }
+        insertionSort(array, lowIndex, highIndex);
+    }
+
+    private static int medianOfFive(int[] array, int lowIndex, int highIndex) {
+        int step = (highIndex - lowIndex) >>> 2;
+        int first = lowIndex;
+        int second = lowIndex + step;
+        int middle = lowIndex + ((highIndex - lowIndex) >>> 1);
+        int fourth = highIndex - step;
+        int fifth = highIndex;
+
+        sortPair(array, first, second);
+        sortPair(array, fourth, fifth);
+        sortPair(array, middle, fifth);
+        sortPair(array, middle, fourth);
+        sortPair(array, second, fifth);
+        sortPair(array, first, fourth);
+        sortPair(array, first, middle);
+        sortPair(array, second, fourth);
+        sortPair(array, second, middle);
+        return middle;
+    }
+
+    private static void sortPair(int[] array, int firstIndex, int secondIndex) {
+        if (Integer.compare(array[firstIndex], array[secondIndex]) > 0) {
+            swap(array, firstIndex, secondIndex);
+        }
+    }
+
+    private static void insertionSort(int[] array, int lowIndex, int highIndex) {
+        for (int i = lowIndex + 1; i <= highIndex; i++) {
+            int current = array[i];
+            int j = i - 1;
+            while (j >= lowIndex && Integer.compare(array[j], current) > 0) {
+                array[j + 1] = array[j];
+                j--;
             }
-            swap(array, leftPointer, rightPointer);
+            array[j + 1] = current;
         }
-        swap(array, leftPointer, highIndex);
-        return leftPointer;
+    }
+
+    private static void heapsort(int[] array, int lowIndex, int highIndex) {
+        int length = highIndex - lowIndex + 1;
+        for (int i = (length >>> 1) - 1; i >= 0; i--) {
+            siftDown(array, lowIndex, i, length);
+        }
+        for (int end = length - 1; end > 0; end--) {
+            swap(array, lowIndex, lowIndex + end);
+            siftDown(array, lowIndex, 0, end);
+        }
+    }
+
+    private static void siftDown(int[] array, int offset, int index, int length) {
+        int element = array[offset + index];
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= length) {
+                break;
+            }
+            if (child + 1 < length && Integer.compare(array[offset + child], array[offset + child + 1]) < 0) {
+                child++;
+            }
+            if (Integer.compare(element, array[offset + child]) >= 0) {
+                break;
+            }
+            array[offset + index] = array[offset + child];
+            index = child;
+        }
+        array[offset + index] = element;
+    }
+
+    /**
+     * Sorts specified array of {@code long} values into ascending numerical order using the same introsort algorithm
+     * as {@link #quicksort(Object[], Comparator, int)}.
+     * <p>Values are compared directly, without boxing and without a {@link Comparator}. The ordering is the same
+     * as the one defined by {@link Long#compare(long, long)}.</p>
+     *
+     * @param array     array of values to be sorted
+     * @param highIndex the index of the last element in array to be sorted.
+     * @throws NullPointerException      if value of the specified array is {@code null}
+     * @throws IndexOutOfBoundsException if the highIndex is out of range ({@code highIndex < 0 || highIndex >= array.length})
+     */
+    public static void quicksort(long[] array, int highIndex) {
+        Objects.requireNonNull(array);
+        Objects.checkIndex(highIndex, array.length);
+
+        introsort(array, 0, highIndex, depthLimit(highIndex + 1));
+    }
+
+    private static void introsort(long[] array, int lowIndex, int highIndex, int depthLimit) {
+        while (highIndex - lowIndex + 1 > INSERTION_SORT_THRESHOLD) {
+            if (depthLimit-- == 0) {
+                heapsort(array, lowIndex, highIndex);
+                return;
+            }
+
+            long pivot = array[medianOfFive(array, lowIndex, highIndex)];
+            int lessEnd = lowIndex;
+            int current = lowIndex;
+            int greaterStart = highIndex;
+            while (current <= greaterStart) {
+                int comparison = Long.compare(array[current], pivot);
+                if (comparison < 0) {
+                    swap(array, lessEnd++, current++);
+                } else if (comparison > 0) {
+                    swap(array, current, greaterStart--);
+                } else {
+                    current++;
+                }
+            }
+
+            if (lessEnd - lowIndex < highIndex - greaterStart) {
+                introsort(array, lowIndex, lessEnd - 1, depthLimit);
+                lowIndex = greaterStart + 1;
+            } else {
+                introsort(array, greaterStart + 1, highIndex, depthLimit);
+                highIndex = lessEnd - 1;
+            }
+        }
+        insertionSort(array, lowIndex, highIndex);
+    }
+
+    private static int medianOfFive(long[] array, int lowIndex, int highIndex) {
+        int step = (highIndex - lowIndex) >>> 2;
+        int first = lowIndex;
+        int second = lowIndex + step;
+        int middle = lowIndex + ((highIndex - lowIndex) >>> 1);
+        int fourth = highIndex - step;
+        int fifth = highIndex;
+
+        sortPair(array, first, second);
+        sortPair(array, fourth, fifth);
+        sortPair(array, middle, fifth);
+        sortPair(array, middle, fourth);
+        sortPair(array, second, fifth);
+        sortPair(array, first, fourth);
+        sortPair(array, first, middle);
+        sortPair(array, second, fourth);
+        sortPair(array, second, middle);
+        return middle;
+    }
+
+    private static void sortPair(long[] array, int firstIndex, int secondIndex) {
+        if (Long.compare(array[firstIndex], array[secondIndex]) > 0) {
+            swap(array, firstIndex, secondIndex);
+        }
+    }
+
+    private static void insertionSort(long[] array, int lowIndex, int highIndex) {
+        for (int i = lowIndex + 1; i <= highIndex; i++) {
+            long current = array[i];
+            int j = i - 1;
+            while (j >= lowIndex && Long.compare(array[j], current) > 0) {
+                array[j + 1] = array[j];
+                j--;
+            }
+            array[j + 1] = current;
+        }
+    }
+
+    private static void heapsort(long[] array, int lowIndex, int highIndex) {
+        int length = highIndex - lowIndex + 1;
+        for (int i = (length >>> 1) - 1; i >= 0; i--) {
+            siftDown(array, lowIndex, i, length);
+        }
+        for (int end = length - 1; end > 0; end--) {
+            swap(array, lowIndex, lowIndex + end);
+            siftDown(array, lowIndex, 0, end);
+        }
+    }
+
+    private static void siftDown(long[] array, int offset, int index, int length) {
+        long element = array[offset + index];
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= length) {
+                break;
+            }
+            if (child + 1 < length && Long.compare(array[offset + child], array[offset + child + 1]) < 0) {
+                child++;
+            }
+            if (Long.compare(element, array[offset + child]) >= 0) {
+                break;
+            }
+            array[offset + index] = array[offset + child];
+            index = child;
+        }
+        array[offset + index] = element;
+    }
+
+    /**
+     * Sorts specified array of {@code double} values into ascending numerical order using the same introsort algorithm
+     * as {@link #quicksort(Object[], Comparator, int)}.
+     * <p>Values are compared directly, without boxing and without a {@link Comparator}. The ordering is the same
+     * as the one defined by {@link Double#compare(double, double)}.</p>
+     *
+     * @param array     array of values to be sorted
+     * @param highIndex the index of the last element in array to be sorted.
+     * @throws NullPointerException      if value of the specified array is {@code null}
+     * @throws IndexOutOfBoundsException if the highIndex is out of range ({@code highIndex < 0 || highIndex >= array.length})
+     */
+    public static void quicksort(double[] array, int highIndex) {
+        Objects.requireNonNull(array);
+        Objects.checkIndex(highIndex, array.length);
+
+        introsort(array, 0, highIndex, depthLimit(highIndex + 1));
+    }
+
+    private static void introsort(double[] array, int lowIndex, int highIndex, int depthLimit) {
+        while (highIndex - lowIndex + 1 > INSERTION_SORT_THRESHOLD) {
+            if (depthLimit-- == 0) {
+                heapsort(array, lowIndex, highIndex);
+                return;
+            }
+
+            double pivot = array[medianOfFive(array, lowIndex, highIndex)];
+            int lessEnd = lowIndex;
+            int current = lowIndex;
+            int greaterStart = highIndex;
+            while (current <= greaterStart) {
+                int comparison = Double.compare(array[current], pivot);
+                if (comparison < 0) {
+                    swap(array, lessEnd++, current++);
+                } else if (comparison > 0) {
+                    swap(array, current, greaterStart--);
+                } else {
+                    current++;
+                }
+            }
+
+            if (lessEnd - lowIndex < highIndex - greaterStart) {
+                introsort(array, lowIndex, lessEnd - 1, depthLimit);
+                lowIndex = greaterStart + 1;
+            } else {
+                introsort(array, greaterStart + 1, highIndex, depthLimit);
+                highIndex = lessEnd - 1;
+            }
+        }
+        insertionSort(array, lowIndex, highIndex);
+    }
+
+    private static int medianOfFive(double[] array, int lowIndex, int highIndex) {
+        int step = (highIndex - lowIndex) >>> 2;
+        int first = lowIndex;
+        int second = lowIndex + step;
+        int middle = lowIndex + ((highIndex - lowIndex) >>> 1);
+        int fourth = highIndex - step;
+        int fifth = highIndex;
+
+        sortPair(array, first, second);
+        sortPair(array, fourth, fifth);
+        sortPair(array, middle, fifth);
+        sortPair(array, middle, fourth);
+        sortPair(array, second, fifth);
+        sortPair(array, first, fourth);
+        sortPair(array, first, middle);
+        sortPair(array, second, fourth);
+        sortPair(array, second, middle);
+        return middle;
+    }
+
+    private static void sortPair(double[] array, int firstIndex, int secondIndex) {
+        if (Double.compare(array[firstIndex], array[secondIndex]) > 0) {
+            swap(array, firstIndex, secondIndex);
+        }
+    }
+
+    private static void insertionSort(double[] array, int lowIndex, int highIndex) {
+        for (int i = lowIndex + 1; i <= highIndex; i++) {
+            double current = array[i];
+            int j = i - 1;
+            while (j >= lowIndex && Double.compare(array[j], current) > 0) {
+                array[j + 1] = array[j];
+                j--;
+            }
+            array[j + 1] = current;
+        }
+    }
+
+    private static void heapsort(double[] array, int lowIndex, int highIndex) {
+        int length = highIndex - lowIndex + 1;
+        for (int i = (length >>> 1) - 1; i >= 0; i--) {
+            siftDown(array, lowIndex, i, length);
+        }
+        for (int end = length - 1; end > 0; end--) {
+            swap(array, lowIndex, lowIndex + end);
+            siftDown(array, lowIndex, 0, end);
+        }
+    }
+
+    private static void siftDown(double[] array, int offset, int index, int length) {
+        double element = array[offset + index];
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= length) {
+                break;
+            }
+            if (child + 1 < length && Double.compare(array[offset + child], array[offset + child + 1]) < 0) {
+                child++;
+            }
+            if (Double.compare(element, array[offset + child]) >= 0) {
+                break;
+            }
+            array[offset + index] = array[offset + child];
+            index = child;
+        }
+        array[offset + index] = element;
+    }
+
+    /**
+     * Returns the maximal depth of partitioning for a range of the specified length, {@code 2 * floor(log2(length))}.
+     * Ranges that are still not sorted at this depth are sorted with heapsort.
+     */
+    private static int depthLimit(int length) {
+        return 2 * (31 - Integer.numberOfLeadingZeros(length));
+    }
+
+    private static <T> void introsort(Object[] array, Comparator<? super T> comparator, int lowIndex, int highIndex,
+                                      int depthLimit) {
+        while (highIndex - lowIndex + 1 > INSERTION_SORT_THRESHOLD) {
+            if (depthLimit-- == 0) {
+                heapsort(array, comparator, lowIndex, highIndex);
+                return;
+            }
+
+            long equalRange = partition(array, comparator, lowIndex, highIndex);
+            int lessHighIndex = equalRangeLow(equalRange) - 1;
+            int greaterLowIndex = equalRangeHigh(equalRange) + 1;
+
+            if (lessHighIndex - lowIndex < highIndex - greaterLowIndex) {
+                introsort(array, comparator, lowIndex, lessHighIndex, depthLimit);
+                lowIndex = greaterLowIndex;
+            } else {
+                introsort(array, comparator, greaterLowIndex, highIndex, depthLimit);
+                highIndex = lessHighIndex;
+            }
+        }
+        insertionSort(array, comparator, lowIndex, highIndex);
+    }
+
+    /**
+     * Splits the range into three parts: elements less than the pivot, elements equal to the pivot and elements
+     * greater than the pivot. The pivot is the median of five elements of the range.
+     * <p>Returns the first and the last index of elements equal to the pivot packed into one long value
+     * (see equalRangeLow() and equalRangeHigh()), so that no object is allocated.</p>
+     */
+    private static <T> long partition(Object[] array, Comparator<? super T> comparator, int lowIndex, int highIndex) {
+        T pivot = (T) array[medianOfFive(array, comparator, lowIndex, highIndex)];
+        int lessEnd = lowIndex;
+        int current = lowIndex;
+        int greaterStart = highIndex;
+        while (current <= greaterStart) {
+            int comparison = compare(comparator, array[current], pivot);
+            if (comparison < 0) {
+                swap(array, lessEnd++, current++);
+            } else if (comparison > 0) {
+                swap(array, current, greaterStart--);
+            } else {
+                current++;
+            }
+        }
+        return ((long) lessEnd << 32) | (greaterStart & 0xFFFFFFFFL);
+    }
+
+    private static int equalRangeLow(long equalRange) {
+        return (int) (equalRange >>> 32);
+    }
+
+    private static int equalRangeHigh(long equalRange) {
+        return (int) equalRange;
+    }
+
+    /**
+     * Sorts five elements of the range (the first, the last, the middle one and two elements between them)
+     * in place and returns the index of the median of them. The range must contain at least five elements.
+     */
+    private static <T> int medianOfFive(Object[] array, Comparator<? super T> comparator, int lowIndex, int highIndex) {
+        int step = (highIndex - lowIndex) >>> 2;
+        int first = lowIndex;
+        int second = lowIndex + step;
+        int middle = lowIndex + ((highIndex - lowIndex) >>> 1);
+        int fourth = highIndex - step;
+        int fifth = highIndex;
+
+        sortPair(array, comparator, first, second);
+        sortPair(array, comparator, fourth, fifth);
+        sortPair(array, comparator, middle, fifth);
+        sortPair(array, comparator, middle, fourth);
+        sortPair(array, comparator, second, fifth);
+        sortPair(array, comparator, first, fourth);
+        sortPair(array, comparator, first, middle);
+        sortPair(array, comparator, second, fourth);
+        sortPair(array, comparator, second, middle);
+        return middle;
+    }
+
+    private static <T> void sortPair(Object[] array, Comparator<? super T> comparator, int firstIndex, int secondIndex) {
+        if (compare(comparator, array[firstIndex], (T) array[secondIndex]) > 0) {
+            swap(array, firstIndex, secondIndex);
+        }
+    }
+
+    private static <T> void insertionSort(Object[] array, Comparator<? super T> comparator, int lowIndex, int highIndex) {
+        for (int i = lowIndex + 1; i <= highIndex; i++) {
+            Object current = array[i];
+            int j = i - 1;
+            while (j >= lowIndex && compare(comparator, array[j], (T) current) > 0) {
+                array[j + 1] = array[j];
+                j--;
+            }
+            array[j + 1] = current;
+        }
+    }
+
+    private static <T> void heapsort(Object[] array, Comparator<? super T> comparator, int lowIndex, int highIndex) {
+        int length = highIndex - lowIndex + 1;
+        for (int i = (length >>> 1) - 1; i >= 0; i--) {
+            siftDown(array, comparator, lowIndex, i, length);
+        }
+        for (int end = length - 1; end > 0; end--) {
+            swap(array, lowIndex, lowIndex + end);
+            siftDown(array, comparator, lowIndex, 0, end);
+        }
+    }
+
+    private static <T> void siftDown(Object[] array, Comparator<? super T> comparator, int offset, int index, int length) {
+        Object element = array[offset + index];
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= length) {
+                break;
+            }
+            if (child + 1 < length && compare(comparator, array[offset + child], (T) array[offset + child + 1]) < 0) {
+                child++;
+            }
+            if (compare(comparator, element, (T) array[offset + child]) >= 0) {
+                break;
+            }
+            array[offset + index] = array[offset + child];
+            index = child;
+        }
+        array[offset + index] = element;
     }
 
     private static <T> int compare(Comparator<? super T> comparator, Object element, T pivot) {
@@ -96,4 +770,554 @@ public class SortUtil {
         array[firstIndex] = array[secondIndex];
         array[secondIndex] = temp;
     }
+
+    private static void swap(int[] array, int firstIndex, int secondIndex) {
+        int temp = array[firstIndex];
+        array[firstIndex] = array[secondIndex];
+        array[secondIndex] = temp;
+    }
+
+    private static void swap(long[] array, int firstIndex, int secondIndex) {
+        long temp = array[firstIndex];
+        array[firstIndex] = array[secondIndex];
+        array[secondIndex] = temp;
+    }
+
+    private static void swap(double[] array, int firstIndex, int secondIndex) {
+        double temp = array[firstIndex];
+        array[firstIndex] = array[secondIndex];
+        array[secondIndex] = temp;
+    }
+
+    private static class ParallelQuicksortTask<T> extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Object[] array;
+        private final Comparator<? super T> comparator;
+        private final int lowIndex;
+        private final int highIndex;
+        private final int threshold;
+        private final int depthLimit;
+
+        ParallelQuicksortTask(Object[] array, Comparator<? super T> comparator, int lowIndex, int highIndex,
+                              int threshold, int depthLimit) {
+            this.array = array;
+            this.comparator = comparator;
+            this.lowIndex = lowIndex;
+            this.highIndex = highIndex;
+            this.threshold = threshold;
+            this.depthLimit = depthLimit;
+        }
+
+        @Override
+        protected void compute() {
+            int length = highIndex - lowIndex + 1;
+            if (length < threshold || length <= INSERTION_SORT_THRESHOLD) {
+                introsort(array, comparator, lowIndex, highIndex, depthLimit);
+                return;
+            }
+            if (depthLimit == 0) {
+                heapsort(array, comparator, lowIndex, highIndex);
+                return;
+            }
+
+            long equalRange = partition(array, comparator, lowIndex, highIndex);
+            invokeAll(
+                    new ParallelQuicksortTask<>(array, comparator, lowIndex, equalRangeLow(equalRange) - 1,
+                            threshold, depthLimit - 1),
+                    new ParallelQuicksortTask<>(array, comparator, equalRangeHigh(equalRange) + 1, highIndex,
+                            threshold, depthLimit - 1)
+            );
+        }
+    }
+
+    /**
+     * State of a single run of mergesort(): the array, the stack of pending runs and the temporary array
+     * used for merging.
+     */
+    private static class MergeState<T> {
+
+        /**
+         * Arrays shorter than this are sorted with binary insertion sort only; also the upper bound
+         * of the minimal run length.
+         */
+        private static final int MIN_MERGE = 32;
+
+        /**
+         * Number of consecutive elements taken from one run after which merging switches to galloping mode.
+         */
+        private static final int MIN_GALLOP = 7;
+
+        /**
+         * Maximal number of pending runs. Run lengths on the stack grow at least as fast as Fibonacci numbers,
+         * so this is enough for any array that fits into an int index.
+         */
+        private static final int MAX_PENDING_RUNS = 49;
+
+        private final Object[] array;
+        private final Comparator<? super T> comparator;
+        private final int[] runBase = new int[MAX_PENDING_RUNS];
+        private final int[] runLength = new int[MAX_PENDING_RUNS];
+        private int pendingRuns;
+        private int minGallop = MIN_GALLOP;
+        private Object[] temp = new Object[0];
+
+        MergeState(Object[] array, Comparator<? super T> comparator) {
+            this.array = array;
+            this.comparator = comparator;
+        }
+
+        void sort(int lowIndex, int highIndexExclusive) {
+            int remaining = highIndexExclusive - lowIndex;
+            if (remaining < 2) {
+                return;
+            }
+            if (remaining < MIN_MERGE) {
+                int initialRunLength = countRunAndMakeAscending(lowIndex, highIndexExclusive);
+                binaryInsertionSort(lowIndex, highIndexExclusive, lowIndex + initialRunLength);
+                return;
+            }
+
+            int minRun = minRunLength(remaining);
+            do {
+                int currentRunLength = countRunAndMakeAscending(lowIndex, highIndexExclusive);
+                if (currentRunLength < minRun) {
+                    int forcedLength = Math.min(remaining, minRun);
+                    binaryInsertionSort(lowIndex, lowIndex + forcedLength, lowIndex + currentRunLength);
+                    currentRunLength = forcedLength;
+                }
+                pushRun(lowIndex, currentRunLength);
+                mergeCollapse();
+
+                lowIndex += currentRunLength;
+                remaining -= currentRunLength;
+            } while (remaining != 0);
+
+            mergeForceCollapse();
+        }
+
+        private int compareElements(Object first, Object second) {
+            return compare(comparator, first, (T) second);
+        }
+
+        private static int minRunLength(int length) {
+            int lowBits = 0;
+            while (length >= MIN_MERGE) {
+                lowBits |= (length & 1);
+                length >>= 1;
+            }
+            return length + lowBits;
+        }
+
+        private int countRunAndMakeAscending(int lowIndex, int highIndexExclusive) {
+            int runHigh = lowIndex + 1;
+            if (runHigh == highIndexExclusive) {
+                return 1;
+            }
+            if (compareElements(array[runHigh++], array[lowIndex]) < 0) {
+                while (runHigh < highIndexExclusive && compareElements(array[runHigh], array[runHigh - 1]) < 0) {
+                    runHigh++;
+                }
+                reverseRange(lowIndex, runHigh);
+            } else {
+                while (runHigh < highIndexExclusive && compareElements(array[runHigh], array[runHigh - 1]) >= 0) {
+                    runHigh++;
+                }
+            }
+            return runHigh - lowIndex;
+        }
+
+        private void reverseRange(int lowIndex, int highIndexExclusive) {
+            int highIndex = highIndexExclusive - 1;
+            while (lowIndex < highIndex) {
+                swap(array, lowIndex++, highIndex--);
+            }
+        }
+
+        private void binaryInsertionSort(int lowIndex, int highIndexExclusive, int start) {
+            for (; start < highIndexExclusive; start++) {
+                Object pivot = array[start];
+                int left = lowIndex;
+                int right = start;
+                while (left < right) {
+                    int middle = (left + right) >>> 1;
+                    if (compareElements(pivot, array[middle]) < 0) {
+                        right = middle;
+                    } else {
+                        left = middle + 1;
+                    }
+                }
+                System.arraycopy(array, left, array, left + 1, start - left);
+                array[left] = pivot;
+            }
+        }
+
+        private void pushRun(int base, int length) {
+            runBase[pendingRuns] = base;
+            runLength[pendingRuns] = length;
+            pendingRuns++;
+        }
+
+        /**
+         * Merges pending runs until the lengths on the stack satisfy the invariants
+         * {@code runLength[i - 2] > runLength[i - 1] + runLength[i]} and {@code runLength[i - 1] > runLength[i]}.
+         */
+        private void mergeCollapse() {
+            while (pendingRuns > 1) {
+                int n = pendingRuns - 2;
+                if (n > 0 && runLength[n - 1] <= runLength[n] + runLength[n + 1]
+                        || n > 1 && runLength[n - 2] <= runLength[n] + runLength[n - 1]) {
+                    if (runLength[n - 1] < runLength[n + 1]) {
+                        n--;
+                    }
+                } else if (runLength[n] > runLength[n + 1]) {
+                    break;
+                }
+                mergeAt(n);
+            }
+        }
+
+        private void mergeForceCollapse() {
+            while (pendingRuns > 1) {
+                int n = pendingRuns - 2;
+                if (n > 0 && runLength[n - 1] < runLength[n + 1]) {
+                    n--;
+                }
+                mergeAt(n);
+            }
+        }
+
+        private void mergeAt(int i) {
+            int base1 = runBase[i];
+            int length1 = runLength[i];
+            int base2 = runBase[i + 1];
+            int length2 = runLength[i + 1];
+
+            runLength[i] = length1 + length2;
+            if (i == pendingRuns - 3) {
+                runBase[i + 1] = runBase[i + 2];
+                runLength[i + 1] = runLength[i + 2];
+            }
+            pendingRuns--;
+
+            int skipped = gallopRight(array[base2], array, base1, length1, 0);
+            base1 += skipped;
+            length1 -= skipped;
+            if (length1 == 0) {
+                return;
+            }
+
+            length2 = gallopLeft(array[base1 + length1 - 1], array, base2, length2, length2 - 1);
+            if (length2 == 0) {
+                return;
+            }
+
+            if (length1 <= length2) {
+                mergeLow(base1, length1, base2, length2);
+            } else {
+                mergeHigh(base1, length1, base2, length2);
+            }
+        }
+
+        /**
+         * Returns the position in the sorted range {@code source[base, base + length)} at which the key should be
+         * inserted, before all elements equal to the key. The search starts near hint.
+         */
+        private int gallopLeft(Object key, Object[] source, int base, int length, int hint) {
+            int lastOffset = 0;
+            int offset = 1;
+            if (compareElements(key, source[base + hint]) > 0) {
+                int maxOffset = length - hint;
+                while (offset < maxOffset && compareElements(key, source[base + hint + offset]) > 0) {
+                    lastOffset = offset;
+                    offset = (offset << 1) + 1;
+                    if (offset <= 0) {
+                        offset = maxOffset;
+                    }
+                }
+                if (offset > maxOffset) {
+                    offset = maxOffset;
+                }
+                lastOffset += hint;
+                offset += hint;
+            } else {
+                int maxOffset = hint + 1;
+                while (offset < maxOffset && compareElements(key, source[base + hint - offset]) <= 0) {
+                    lastOffset = offset;
+                    offset = (offset << 1) + 1;
+                    if (offset <= 0) {
+                        offset = maxOffset;
+                    }
+                }
+                if (offset > maxOffset) {
+                    offset = maxOffset;
+                }
+                int temporary = lastOffset;
+                lastOffset = hint - offset;
+                offset = hint - temporary;
+            }
+
+            lastOffset++;
+            while (lastOffset < offset) {
+                int middle = lastOffset + ((offset - lastOffset) >>> 1);
+                if (compareElements(key, source[base + middle]) > 0) {
+                    lastOffset = middle + 1;
+                } else {
+                    offset = middle;
+                }
+            }
+            return offset;
+        }
+
+        /**
+         * Returns the position in the sorted range {@code source[base, base + length)} at which the key should be
+         * inserted, after all elements equal to the key. The search starts near hint.
+         */
+        private int gallopRight(Object key, Object[] source, int base, int length, int hint) {
+            int lastOffset = 0;
+            int offset = 1;
+            if (compareElements(key, source[base + hint]) < 0) {
+                int maxOffset = hint + 1;
+                while (offset < maxOffset && compareElements(key, source[base + hint - offset]) < 0) {
+                    lastOffset = offset;
+                    offset = (offset << 1) + 1;
+                    if (offset <= 0) {
+                        offset = maxOffset;
+                    }
+                }
+                if (offset > maxOffset) {
+                    offset = maxOffset;
+                }
+                int temporary = lastOffset;
+                lastOffset = hint - offset;
+                offset = hint - temporary;
+            } else {
+                int maxOffset = length - hint;
+                while (offset < maxOffset && compareElements(key, source[base + hint + offset]) >= 0) {
+                    lastOffset = offset;
+                    offset = (offset << 1) + 1;
+                    if (offset <= 0) {
+                        offset = maxOffset;
+                    }
+                }
+                if (offset > maxOffset) {
+                    offset = maxOffset;
+                }
+                lastOffset += hint;
+                offset += hint;
+            }
+
+            lastOffset++;
+            while (lastOffset < offset) {
+                int middle = lastOffset + ((offset - lastOffset) >>> 1);
+                if (compareElements(key, source[base + middle]) < 0) {
+                    offset = middle;
+                } else {
+                    lastOffset = middle + 1;
+                }
+            }
+            return offset;
+        }
+
+        /**
+         * Merges two adjacent runs in place when the first run is not longer than the second one.
+         * The first run is copied into the temporary array and merging goes from left to right.
+         */
+        private void mergeLow(int base1, int length1, int base2, int length2) {
+            Object[] runCopy = ensureTempCapacity(length1);
+            System.arraycopy(array, base1, runCopy, 0, length1);
+            int cursor1 = 0;
+            int cursor2 = base2;
+            int destination = base1;
+
+            array[destination++] = array[cursor2++];
+            if (--length2 == 0) {
+                System.arraycopy(runCopy, cursor1, array, destination, length1);
+                return;
+            }
+            if (length1 == 1) {
+                System.arraycopy(array, cursor2, array, destination, length2);
+                array[destination + length2] = runCopy[cursor1];
+                return;
+            }
+
+            int currentMinGallop = minGallop;
+            outer:
+            while (true) {
+                int count1 = 0;
+                int count2 = 0;
+                do {
+                    if (compareElements(array[cursor2], runCopy[cursor1]) < 0) {
+                        array[destination++] = array[cursor2++];
+                        count2++;
+                        count1 = 0;
+                        if (--length2 == 0) {
+                            break outer;
+                        }
+                    } else {
+                        array[destination++] = runCopy[cursor1++];
+                        count1++;
+                        count2 = 0;
+                        if (--length1 == 1) {
+                            break outer;
+                        }
+                    }
+                } while ((count1 | count2) < currentMinGallop);
+
+                do {
+                    count1 = gallopRight(array[cursor2], runCopy, cursor1, length1, 0);
+                    if (count1 != 0) {
+                        System.arraycopy(runCopy, cursor1, array, destination, count1);
+                        destination += count1;
+                        cursor1 += count1;
+                        length1 -= count1;
+                        if (length1 <= 1) {
+                            break outer;
+                        }
+                    }
+                    array[destination++] = array[cursor2++];
+                    if (--length2 == 0) {
+                        break outer;
+                    }
+
+                    count2 = gallopLeft(runCopy[cursor1], array, cursor2, length2, 0);
+                    if (count2 != 0) {
+                        System.arraycopy(array, cursor2, array, destination, count2);
+                        destination += count2;
+                        cursor2 += count2;
+                        length2 -= count2;
+                        if (length2 == 0) {
+                            break outer;
+                        }
+                    }
+                    array[destination++] = runCopy[cursor1++];
+                    if (--length1 == 1) {
+                        break outer;
+                    }
+                    currentMinGallop--;
+                } while (count1 >= MIN_GALLOP | count2 >= MIN_GALLOP);
+                if (currentMinGallop < 0) {
+                    currentMinGallop = 0;
+                }
+                currentMinGallop += 2;
+            }
+            minGallop = Math.max(currentMinGallop, 1);
+
+            if (length1 == 1) {
+                System.arraycopy(array, cursor2, array, destination, length2);
+                array[destination + length2] = runCopy[cursor1];
+            } else if (length1 == 0) {
+                throw new IllegalArgumentException("Comparison method violates its general contract!");
+            } else {
+                System.arraycopy(runCopy, cursor1, array, destination, length1);
+            }
+        }
+
+        /**
+         * Merges two adjacent runs in place when the first run is longer than the second one.
+         * The second run is copied into the temporary array and merging goes from right to left.
+         */
+        private void mergeHigh(int base1, int length1, int base2, int length2) {
+            Object[] runCopy = ensureTempCapacity(length2);
+            System.arraycopy(array, base2, runCopy, 0, length2);
+            int cursor1 = base1 + length1 - 1;
+            int cursor2 = length2 - 1;
+            int destination = base2 + length2 - 1;
+
+            array[destination--] = array[cursor1--];
+            if (--length1 == 0) {
+                System.arraycopy(runCopy, 0, array, destination - (length2 - 1), length2);
+                return;
+            }
+            if (length2 == 1) {
+                destination -= length1;
+                cursor1 -= length1;
+                System.arraycopy(array, cursor1 + 1, array, destination + 1, length1);
+                array[destination] = runCopy[cursor2];
+                return;
+            }
+
+            int currentMinGallop = minGallop;
+            outer:
+            while (true) {
+                int count1 = 0;
+                int count2 = 0;
+                do {
+                    if (compareElements(runCopy[cursor2], array[cursor1]) < 0) {
+                        array[destination--] = array[cursor1--];
+                        count1++;
+                        count2 = 0;
+                        if (--length1 == 0) {
+                            break outer;
+                        }
+                    } else {
+                        array[destination--] = runCopy[cursor2--];
+                        count2++;
+                        count1 = 0;
+                        if (--length2 == 1) {
+                            break outer;
+                        }
+                    }
+                } while ((count1 | count2) < currentMinGallop);
+
+                do {
+                    count1 = length1 - gallopRight(runCopy[cursor2], array, base1, length1, length1 - 1);
+                    if (count1 != 0) {
+                        destination -= count1;
+                        cursor1 -= count1;
+                        length1 -= count1;
+                        System.arraycopy(array, cursor1 + 1, array, destination + 1, count1);
+                        if (length1 == 0) {
+                            break outer;
+                        }
+                    }
+                    array[destination--] = runCopy[cursor2--];
+                    if (--length2 == 1) {
+                        break outer;
+                    }
+
+                    count2 = length2 - gallopLeft(array[cursor1], runCopy, 0, length2, length2 - 1);
+                    if (count2 != 0) {
+                        destination -= count2;
+                        cursor2 -= count2;
+                        length2 -= count2;
+                        System.arraycopy(runCopy, cursor2 + 1, array, destination + 1, count2);
+                        if (length2 <= 1) {
+                            break outer;
+                        }
+                    }
+                    array[destination--] = array[cursor1--];
+                    if (--length1 == 0) {
+                        break outer;
+                    }
+                    currentMinGallop--;
+                } while (count1 >= MIN_GALLOP | count2 >= MIN_GALLOP);
+                if (currentMinGallop < 0) {
+                    currentMinGallop = 0;
+                }
+                currentMinGallop += 2;
+            }
+            minGallop = Math.max(currentMinGallop, 1);
+
+            if (length2 == 1) {
+                destination -= length1;
+                cursor1 -= length1;
+                System.arraycopy(array, cursor1 + 1, array, destination + 1, length1);
+                array[destination] = runCopy[cursor2];
+            } else if (length2 == 0) {
+                throw new IllegalArgumentException("Comparison method violates its general contract!");
+            } else {
+                System.arraycopy(runCopy, 0, array, destination - (length2 - 1), length2);
+            }
+        }
+
+        private Object[] ensureTempCapacity(int minCapacity) {
+            if (temp.length < minCapacity) {
+                int newCapacity = Math.max(minCapacity, Math.min(temp.length * 2, array.length >>> 1));
+                temp = new Object[newCapacity];
+            }
+            return temp;
+        }
+    }
 }
@@ -8,8 +8,16 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -248,6 +256,65 @@ class ArrayListTest {
             assertThat(actualElementsAfterSorting).isEqualTo(expectingElements);
         }
 
+        @ParameterizedTest
+        @MethodSource("com.mogilan.task1.ArrayListTest#getArgumentsForSortSuccessTest")
+        void parallelSortSuccess(Integer[] array, Object[] expectingElements) {
+            populateListWithElements(integerArrayList, array);
+
+            integerArrayList.parallelSort(INTEGER_COMPARATOR);
+            var actualElementsAfterSorting = getElementsArrayFrom(integerArrayList);
+
+            assertThat(actualElementsAfterSorting).isEqualTo(expectingElements);
+        }
+
+        @Test
+        void parallelSortSuccessWithSpecifiedPool() {
+            var pool = new ForkJoinPool(2);
+            try {
+                var random = new Random(1);
+                var array = random.ints(50000).boxed().toArray(Integer[]::new);
+                populateListWithElements(integerArrayList, array);
+                Arrays.sort(array);
+
+                integerArrayList.parallelSort(null, pool);
+
+                assertThat(getElementsArrayFrom(integerArrayList)).isEqualTo(array);
+            } finally {
+                pool.shutdown();
+            }
+        }
+
+        @ParameterizedTest
+        @MethodSource("com.mogilan.task1.ArrayListTest#getArgumentsForSortSuccessTest")
+        void sortSuccessWhenMergesortStrategy(Integer[] array, Object[] expectingElements) {
+            populateListWithElements(integerArrayList, array);
+            integerArrayList.setSortStrategy(SortStrategy.MERGESORT);
+
+            integerArrayList.sort(INTEGER_COMPARATOR);
+            var actualElementsAfterSorting = getElementsArrayFrom(integerArrayList);
+
+            assertThat(integerArrayList.getSortStrategy()).isEqualTo(SortStrategy.MERGESORT);
+            assertThat(actualElementsAfterSorting).isEqualTo(expectingElements);
+        }
+
+        @Test
+        void sortShouldBeStableWhenMergesortStrategy() {
+            var arrayList = new ArrayList<String>();
+            arrayList.setSortStrategy(SortStrategy.MERGESORT);
+            var words = new String[]{"bb", "a", "cc", "d", "ee", "f", "gg", "h", "ii", "j", "kk", "l", "mm", "n",
+                    "oo", "p", "qq", "r", "ss", "t", "uu", "v", "ww", "x", "yy", "z", "ab", "b", "cd", "c", "ef", "e",
+                    "gh", "g"};
+            Arrays.stream(words).forEach(arrayList::add);
+            var expectingElements = words.clone();
+            Arrays.sort(expectingElements, Comparator.comparingInt(String::length));
+
+            arrayList.sort(Comparator.comparingInt(String::length));
+
+            for (int i = 0; i < words.length; i++) {
+                assertThat(arrayList.get(i)).isSameAs(expectingElements[i]);
+            }
+        }
+
         @Test
         void sortShouldTrowExceptionIfElementsAreNotComparable() {
             ArrayList<PersonNotComparable> arrayList = new ArrayList<>();
@@ -275,6 +342,881 @@ class ArrayListTest {
 
     }
 
+    @Nested
+    class BulkTest {
+
+        @ParameterizedTest
+        @ValueSource(ints = {0, 5, 10, 100})
+        void addAllArraySuccess(int initialCapacity) {
+            var arrayList = new ArrayList<Integer>(initialCapacity);
+            arrayList.add(-1);
+
+            arrayList.addAll(ARRAY_20_ELEMENTS);
+            arrayList.addAll(new Integer[0]);
+
+            assertThat(arrayList.size()).isEqualTo(21);
+            assertThat(arrayList.get(0)).isEqualTo(-1);
+            for (int i = 0; i < 20; i++) {
+                assertThat(arrayList.get(i + 1)).isEqualTo(i);
+            }
+        }
+
+        @ParameterizedTest
+        @ValueSource(ints = {0, 1, 10, 19})
+        void addAllByIndexSuccess(int index) {
+            populateListWithElements(integerArrayList, ARRAY_20_ELEMENTS);
+            var newElements = new ArrayList<Integer>();
+            populateListWithElements(newElements, new Integer[]{100, 101, 102});
+
+            integerArrayList.addAll(index, newElements);
+
+            var expectingElements = new java.util.ArrayList<>(Arrays.asList(ARRAY_20_ELEMENTS));
+            expectingElements.addAll(index, Arrays.asList(100, 101, 102));
+            assertThat(getElementsArrayFrom(integerArrayList)).isEqualTo(expectingElements.toArray(new Integer[0]));
+        }
+
+        @Test
+        void addAllByIndexSuccessWhenListIsEmptyOrAddedToItself() {
+            var otherList = new CircularArrayList<Integer>();
+            otherList.add(1);
+            otherList.add(2);
+
+            integerArrayList.addAll(0, otherList);
+            integerArrayList.addAll(1, integerArrayList);
+
+            assertThat(integerArrayList.toString()).isEqualTo("[1, 1, 2, 2]");
+        }
+
+        @ParameterizedTest
+        @MethodSource("com.mogilan.task1.ArrayListTest#getArgumentsForCheckingExceptionIfIndexIncorrect")
+        void addAllByIndexShouldTrowExceptionIfIndexIncorrect(int numberOfElements, int index) {
+            populateListWithElements(integerArrayList, numberOfElements);
+
+            assertThrows(IndexOutOfBoundsException.class, () -> integerArrayList.addAll(index, new ArrayList<>()));
+        }
+
+        @Test
+        void removeRangeSuccess() {
+            populateListWithElements(integerArrayList, ARRAY_20_ELEMENTS);
+
+            integerArrayList.removeRange(5, 15);
+            integerArrayList.removeRange(3, 3);
+
+            assertThat(integerArrayList.toString()).isEqualTo("[0, 1, 2, 3, 4, 15, 16, 17, 18, 19]");
+            assertThat(integerArrayList.elements()[10]).isNull();
+
+            integerArrayList.removeRange(0, integerArrayList.size());
+
+            assertThat(integerArrayList.size()).isZero();
+        }
+
+        @Test
+        void setAllSuccess() {
+            populateListWithElements(integerArrayList, 5);
+
+            integerArrayList.setAll(2, new Integer[]{20, 30, 40});
+
+            assertThat(integerArrayList.toString()).isEqualTo("[0, 1, 20, 30, 40]");
+        }
+
+        @Test
+        void rangeMethodsShouldTrowExceptionIfRangeIncorrect() {
+            populateListWithElements(integerArrayList, 5);
+
+            assertThrows(IndexOutOfBoundsException.class, () -> integerArrayList.removeRange(-1, 2));
+            assertThrows(IndexOutOfBoundsException.class, () -> integerArrayList.removeRange(3, 2));
+            assertThrows(IndexOutOfBoundsException.class, () -> integerArrayList.removeRange(3, 6));
+            assertThrows(IndexOutOfBoundsException.class, () -> integerArrayList.setAll(-1, new Integer[]{1}));
+            assertThrows(IndexOutOfBoundsException.class, () -> integerArrayList.setAll(3, new Integer[]{1, 2, 3}));
+            assertThrows(NullPointerException.class, () -> integerArrayList.addAll(null));
+        }
+
+        @Test
+        void removeIfSuccess() {
+            populateListWithElements(integerArrayList, ARRAY_20_ELEMENTS);
+
+            assertThat(integerArrayList.removeIf(element -> element % 3 != 0)).isTrue();
+            assertThat(integerArrayList.removeIf(element -> element > 100)).isFalse();
+
+            assertThat(integerArrayList.toString()).isEqualTo("[0, 3, 6, 9, 12, 15, 18]");
+            assertThat(integerArrayList.elements()[7]).isNull();
+            assertThrows(NullPointerException.class, () -> integerArrayList.removeIf(null));
+        }
+
+        @Test
+        void removeIfShouldKeepUntestedElementsIfPredicateThrows() {
+            populateListWithElements(integerArrayList, ARRAY_20_ELEMENTS);
+            var iterator = integerArrayList.iterator();
+
+            assertThrows(IllegalStateException.class, () -> integerArrayList.removeIf(element -> {
+                if (element == 10) {
+                    throw new IllegalStateException();
+                }
+                return element % 2 == 0;
+            }));
+
+            assertThat(integerArrayList.toString())
+                    .isEqualTo("[1, 3, 5, 7, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19]");
+            assertThrows(ConcurrentModificationException.class, iterator::next);
+        }
+
+        @Test
+        void removeIfShouldRemoveNothingIfPredicateModifiesList() {
+            var list = new ArrayList<Integer>(5);
+            populateListWithElements(list, 5);
+
+            assertThrows(ConcurrentModificationException.class, () -> list.removeIf(element -> {
+                if (element == 3) {
+                    list.add(100);
+                }
+                return element % 2 == 0;
+            }));
+
+            assertThat(list.toString()).isEqualTo("[0, 1, 2, 3, 4, 100]");
+        }
+
+        @Test
+        void removeAllAndRetainAllSuccess() {
+            populateListWithElements(integerArrayList, ARRAY_20_ELEMENTS);
+            integerArrayList.setHashIndexEnabled(true);
+            var removing = new CircularArrayList<Integer>();
+            removing.addAll(new Integer[]{1, 5, 19, 100});
+            var retaining = new ArrayList<Integer>();
+            retaining.addAll(new Integer[]{0, 5, 6, 18, 19});
+
+            assertThat(integerArrayList.removeAll(removing)).isTrue();
+            assertThat(integerArrayList.retainAll(retaining)).isTrue();
+            assertThat(integerArrayList.retainAll(retaining)).isFalse();
+
+            assertThat(integerArrayList.toString()).isEqualTo("[0, 6, 18]");
+            assertThat(integerArrayList.indexOf(18)).isEqualTo(2);
+            assertThat(integerArrayList.contains(5)).isFalse();
+        }
+
+        @Test
+        void replaceAllSuccess() {
+            populateListWithElements(integerArrayList, ARRAY_16_ELEMENTS);
+            integerArrayList.setHashIndexEnabled(true);
+
+            integerArrayList.replaceAll(element -> element * 10);
+
+            assertThat(integerArrayList.get(15)).isEqualTo(150);
+            assertThat(integerArrayList.indexOf(30)).isEqualTo(3);
+            assertThat(integerArrayList.contains(3)).isFalse();
+            assertThrows(ConcurrentModificationException.class, () -> integerArrayList.replaceAll(element -> {
+                integerArrayList.add(element);
+                return element;
+            }));
+        }
+
+        @ParameterizedTest
+        @ValueSource(ints = {100, 16384, 100000})
+        void parallelRemoveIfShouldMatchRemoveIf(int numberOfElements) {
+            var random = new Random(numberOfElements);
+            var expected = new ArrayList<Integer>();
+            for (int i = 0; i < numberOfElements; i++) {
+                int element = random.nextInt(1000);
+                integerArrayList.add(element);
+                expected.add(element);
+            }
+            integerArrayList.setHashIndexEnabled(true);
+            var pool = new ForkJoinPool(4);
+
+            try {
+                assertThat(integerArrayList.parallelRemoveIf(element -> element % 7 == 0, pool)).isTrue();
+                assertThat(integerArrayList.parallelRemoveIf(element -> element < 0, pool)).isFalse();
+            } finally {
+                pool.shutdown();
+            }
+            expected.removeIf(element -> element % 7 == 0);
+
+            assertThat(integerArrayList.toString(Integer.MAX_VALUE)).isEqualTo(expected.toString(Integer.MAX_VALUE));
+            assertThat(integerArrayList.elements()[integerArrayList.size()]).isNull();
+            assertThat(integerArrayList.indexOf(expected.get(expected.size() - 1)))
+                    .isEqualTo(expected.indexOf(expected.get(expected.size() - 1)));
+        }
+
+        @Test
+        void parallelRemoveIfShouldNotChangeListIfPredicateThrows() {
+            populateListWithElements(integerArrayList, 50000);
+
+            assertThrows(IllegalStateException.class, () -> integerArrayList.parallelRemoveIf(element -> {
+                if (element == 40000) {
+                    throw new IllegalStateException();
+                }
+                return element % 2 == 0;
+            }));
+
+            assertThat(integerArrayList.size()).isEqualTo(50000);
+            assertThat(integerArrayList.get(49999)).isEqualTo(49999);
+        }
+    }
+
+    @Nested
+    class IterationTest {
+
+        @ParameterizedTest
+        @ValueSource(ints = {0, 1, 10, 500})
+        void iteratorSuccess(int numberOfElements) {
+            populateListWithElements(integerArrayList, numberOfElements);
+
+            var expectingElement = 0;
+            for (Integer element : integerArrayList) {
+                assertThat(element).isEqualTo(expectingElement++);
+            }
+
+            assertThat(expectingElement).isEqualTo(numberOfElements);
+        }
+
+        @Test
+        void iteratorShouldTrowExceptionIfNoElementsLeft() {
+            integerArrayList.add(1);
+            var iterator = integerArrayList.iterator();
+            iterator.next();
+
+            assertThat(iterator.hasNext()).isFalse();
+            assertThrows(NoSuchElementException.class, iterator::next);
+        }
+
+        @Test
+        void iteratorRemoveSuccess() {
+            populateListWithElements(integerArrayList, 10);
+
+            var iterator = integerArrayList.iterator();
+            while (iterator.hasNext()) {
+                if (iterator.next() % 2 == 0) {
+                    iterator.remove();
+                }
+            }
+
+            assertThat(integerArrayList.toString()).isEqualTo("[1, 3, 5, 7, 9]");
+            assertThrows(IllegalStateException.class, () -> integerArrayList.iterator().remove());
+        }
+
+        @Test
+        void iteratorShouldTrowExceptionIfListModified() {
+            populateListWithElements(integerArrayList, 10);
+
+            var iterator = integerArrayList.iterator();
+            iterator.next();
+            integerArrayList.set(5, 50);
+            iterator.next();
+            integerArrayList.add(10);
+
+            assertThrows(ConcurrentModificationException.class, iterator::next);
+
+            var sortedIterator = integerArrayList.iterator();
+            integerArrayList.sort(null);
+
+            assertThrows(ConcurrentModificationException.class, sortedIterator::next);
+        }
+
+        @Test
+        void forEachSuccess() {
+            populateListWithElements(integerArrayList, ARRAY_20_ELEMENTS);
+            var visitedElements = new ArrayList<Integer>();
+
+            integerArrayList.forEach(visitedElements::add);
+
+            assertThat(getElementsArrayFrom(visitedElements)).isEqualTo(ARRAY_20_ELEMENTS);
+        }
+
+        @Test
+        void forEachIndexedSuccess() {
+            populateListWithElements(integerArrayList, ARRAY_20_ELEMENTS);
+            var visitedElements = new Integer[ARRAY_20_ELEMENTS.length];
+
+            integerArrayList.forEachIndexed((index, element) -> visitedElements[index] = element);
+
+            assertThat(visitedElements).isEqualTo(ARRAY_20_ELEMENTS);
+        }
+
+        @Test
+        void forEachShouldTrowExceptionIfActionModifiesList() {
+            populateListWithElements(integerArrayList, 5);
+
+            assertThrows(ConcurrentModificationException.class,
+                    () -> integerArrayList.forEach(element -> integerArrayList.add(element)));
+            assertThrows(ConcurrentModificationException.class,
+                    () -> integerArrayList.forEachIndexed((index, element) -> integerArrayList.remove(0)));
+            assertThrows(NullPointerException.class, () -> integerArrayList.forEach(null));
+        }
+    }
+
+    @Nested
+    class StreamTest {
+
+        @ParameterizedTest
+        @ValueSource(ints = {0, 1, 10, 100000})
+        void streamsSuccess(int numberOfElements) {
+            populateListWithElements(integerArrayList, numberOfElements);
+            var expectingSum = (long) numberOfElements * (numberOfElements - 1) / 2;
+
+            assertThat(integerArrayList.stream().mapToLong(Integer::longValue).sum()).isEqualTo(expectingSum);
+            assertThat(integerArrayList.parallelStream().mapToLong(Integer::longValue).sum()).isEqualTo(expectingSum);
+            assertThat(integerArrayList.parallelStream().filter(element -> element % 2 == 0).count())
+                    .isEqualTo((numberOfElements + 1) / 2);
+        }
+
+        @Test
+        void parallelStreamShouldKeepEncounterOrder() {
+            populateListWithElements(integerArrayList, 10000);
+
+            var collectedElements = integerArrayList.parallelStream()
+                    .map(String::valueOf)
+                    .collect(Collectors.toList());
+
+            for (int i = 0; i < 10000; i++) {
+                assertThat(collectedElements.get(i)).isEqualTo(String.valueOf(i));
+            }
+        }
+
+        @Test
+        void spliteratorShouldSplitEvenly() {
+            populateListWithElements(integerArrayList, 101);
+
+            var spliterator = integerArrayList.spliterator();
+            var prefix = spliterator.trySplit();
+
+            assertThat(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED))
+                    .isTrue();
+            assertThat(prefix.estimateSize()).isEqualTo(50);
+            assertThat(spliterator.estimateSize()).isEqualTo(51);
+            assertThat(prefix.tryAdvance(element -> assertThat(element).isZero())).isTrue();
+            spliterator.forEachRemaining(element -> assertThat(element).isGreaterThanOrEqualTo(50));
+            assertThat(spliterator.tryAdvance(element -> {
+            })).isFalse();
+        }
+
+        @Test
+        void spliteratorShouldTrowExceptionIfListModifiedAfterBinding() {
+            populateListWithElements(integerArrayList, 10);
+
+            var spliterator = integerArrayList.spliterator();
+            integerArrayList.add(10);
+
+            assertThat(spliterator.estimateSize()).isEqualTo(11);
+
+            integerArrayList.remove(0);
+
+            assertThrows(ConcurrentModificationException.class, () -> spliterator.forEachRemaining(element -> {
+            }));
+        }
+    }
+
+    @Nested
+    class SubListTest {
+
+        @Test
+        void subListShouldReadAndWriteBackingList() {
+            populateListWithElements(integerArrayList, ARRAY_20_ELEMENTS);
+
+            var subList = integerArrayList.subList(5, 10);
+
+            assertThat(subList.size()).isEqualTo(5);
+            assertThat(subList.get(0)).isEqualTo(5);
+            assertThat(subList.toString()).isEqualTo("[5, 6, 7, 8, 9]");
+
+            subList.set(0, 50);
+
+            assertThat(integerArrayList.get(5)).isEqualTo(50);
+        }
+
+        @Test
+        void subListStructuralModificationsSuccess() {
+            populateListWithElements(integerArrayList, 10);
+            var subList = integerArrayList.subList(2, 6);
+
+            subList.add(100);
+            subList.add(0, 200);
+            subList.remove(Integer.valueOf(3));
+            subList.remove(1);
+
+            assertThat(subList.toString()).isEqualTo("[200, 4, 5, 100]");
+            assertThat(integerArrayList.toString()).isEqualTo("[0, 1, 200, 4, 5, 100, 6, 7, 8, 9]");
+
+            subList.clear();
+
+            assertThat(subList.size()).isZero();
+            assertThat(integerArrayList.toString()).isEqualTo("[0, 1, 6, 7, 8, 9]");
+        }
+
+        @Test
+        void subListAtEndOfListSuccess() {
+            populateListWithElements(integerArrayList, 3);
+            var subList = integerArrayList.subList(3, 3);
+
+            subList.add(0, 3);
+            subList.add(4);
+
+            assertThat(integerArrayList.toString()).isEqualTo("[0, 1, 2, 3, 4]");
+        }
+
+        @Test
+        void nestedSubListsShouldUpdateEachOther() {
+            populateListWithElements(integerArrayList, ARRAY_20_ELEMENTS);
+            var subList = integerArrayList.subList(2, 18);
+            var nestedSubList = subList.subList(3, 6);
+
+            assertThat(nestedSubList.toString()).isEqualTo("[5, 6, 7]");
+
+            nestedSubList.add(-1);
+            nestedSubList.sort(null);
+
+            assertThat(nestedSubList.toString()).isEqualTo("[-1, 5, 6, 7]");
+            assertThat(subList.size()).isEqualTo(17);
+            assertThat(subList.get(3)).isEqualTo(-1);
+            assertThat(integerArrayList.size()).isEqualTo(21);
+
+            subList.add(0, 100);
+
+            assertThat(subList.get(0)).isEqualTo(100);
+            assertThrows(ConcurrentModificationException.class, nestedSubList::size);
+        }
+
+        @Test
+        void subListShouldBecomeInvalidAfterStructuralModificationOfBackingList() {
+            populateListWithElements(integerArrayList, 10);
+            var subList = integerArrayList.subList(2, 6);
+            var otherSubList = integerArrayList.subList(0, 1);
+
+            integerArrayList.set(3, 30);
+
+            assertThat(subList.get(1)).isEqualTo(30);
+
+            otherSubList.remove(0);
+
+            assertThrows(ConcurrentModificationException.class, () -> subList.get(0));
+            assertThrows(ConcurrentModificationException.class, () -> subList.add(1));
+            assertThrows(ConcurrentModificationException.class, subList::toString);
+        }
+
+        @Test
+        void subListSortShouldSortOnlyRange() {
+            populateListWithElements(integerArrayList, new Integer[]{9, 8, 7, 6, 5, 4, 3, 2, 1, 0});
+            integerArrayList.setSortStrategy(SortStrategy.MERGESORT);
+
+            integerArrayList.subList(2, 6).sort(null);
+            integerArrayList.setSortStrategy(SortStrategy.QUICKSORT);
+            integerArrayList.subList(6, 10).sort(Comparator.reverseOrder());
+
+            assertThat(integerArrayList.toString()).isEqualTo("[9, 8, 4, 5, 6, 7, 3, 2, 1, 0]");
+        }
+
+        @Test
+        void subListShouldTrowExceptionIfIndexIncorrect() {
+            populateListWithElements(integerArrayList, 10);
+            var subList = integerArrayList.subList(2, 6);
+
+            assertThrows(IndexOutOfBoundsException.class, () -> integerArrayList.subList(-1, 5));
+            assertThrows(IndexOutOfBoundsException.class, () -> integerArrayList.subList(5, 4));
+            assertThrows(IndexOutOfBoundsException.class, () -> integerArrayList.subList(0, 11));
+            assertThrows(IndexOutOfBoundsException.class, () -> subList.get(4));
+            assertThrows(IndexOutOfBoundsException.class, () -> subList.set(-1, 1));
+            assertThrows(IndexOutOfBoundsException.class, () -> subList.add(4, 1));
+            assertThrows(IndexOutOfBoundsException.class, () -> subList.subList(0, 5));
+            assertThrows(IndexOutOfBoundsException.class, () -> subList.removeRange(3, 5));
+        }
+
+        @Test
+        void subListShouldBeGenericViewByDefault() {
+            var circularList = new CircularArrayList<Integer>();
+            circularList.add(1);
+
+            assertThat(circularList.subList(0, 1)).isInstanceOf(ListView.class);
+            assertThat(integerArrayList.subList(0, 0)).isNotInstanceOf(ListView.class);
+        }
+    }
+
+    @Nested
+    class HashIndexTest {
+
+        @ParameterizedTest
+        @ValueSource(booleans = {false, true})
+        void indexOfAndContainsSuccess(boolean indexed) {
+            populateListWithElements(integerArrayList, new Integer[]{5, null, 7, 5, null});
+            integerArrayList.setHashIndexEnabled(indexed);
+
+            assertThat(integerArrayList.isHashIndexEnabled()).isEqualTo(indexed);
+            assertThat(integerArrayList.indexOf(5)).isEqualTo(0);
+            assertThat(integerArrayList.indexOf(7)).isEqualTo(2);
+            assertThat(integerArrayList.indexOf(null)).isEqualTo(1);
+            assertThat(integerArrayList.indexOf(6)).isEqualTo(-1);
+            assertThat(integerArrayList.contains(null)).isTrue();
+            assertThat(integerArrayList.contains(6)).isFalse();
+
+            assertThat(integerArrayList.remove(Integer.valueOf(5))).isTrue();
+            assertThat(integerArrayList.remove((Integer) null)).isTrue();
+
+            assertThat(integerArrayList.toString()).isEqualTo("[7, 5, null]");
+            assertThat(integerArrayList.indexOf(5)).isEqualTo(1);
+            assertThat(integerArrayList.indexOf(null)).isEqualTo(2);
+        }
+
+        @ParameterizedTest
+        @ValueSource(ints = {1, 10, 1000})
+        void randomOperationsShouldKeepIndexCorrect(int numberOfDistinctValues) {
+            var random = new Random(numberOfDistinctValues);
+            var expected = new java.util.ArrayList<Integer>();
+            integerArrayList.setHashIndexEnabled(true);
+            for (int operation = 0; operation < 5000; operation++) {
+                Integer value = random.nextInt(20) == 0 ? null : random.nextInt(numberOfDistinctValues);
+                switch (random.nextInt(10)) {
+                    case 0, 1 -> {
+                        integerArrayList.add(value);
+                        expected.add(value);
+                    }
+                    case 2 -> {
+                        var index = expected.isEmpty() ? 0 : random.nextInt(expected.size());
+                        integerArrayList.add(index, value);
+                        expected.add(index, value);
+                    }
+                    case 3 -> {
+                        if (!expected.isEmpty()) {
+                            var index = random.nextInt(expected.size());
+                            assertThat(integerArrayList.remove(index)).isEqualTo(expected.remove(index));
+                        }
+                    }
+                    case 4 -> assertThat(integerArrayList.remove(value)).isEqualTo(expected.remove(value));
+                    case 5 -> {
+                        if (!expected.isEmpty()) {
+                            var index = random.nextInt(expected.size());
+                            assertThat(integerArrayList.set(index, value)).isEqualTo(expected.set(index, value));
+                        }
+                    }
+                    case 6 -> {
+                        integerArrayList.addAll(new Integer[]{value, value});
+                        expected.add(value);
+                        expected.add(value);
+                    }
+                    case 7 -> {
+                        if (expected.size() > 2) {
+                            var subList = integerArrayList.subList(1, expected.size() - 1);
+                            subList.set(0, value);
+                            subList.remove(subList.size() - 1);
+                            expected.set(1, value);
+                            expected.remove(expected.size() - 2);
+                        }
+                    }
+                    case 8 -> {
+                        if (random.nextInt(50) == 0) {
+                            integerArrayList.removeRange(0, expected.size() / 2);
+                            expected.subList(0, expected.size() / 2).clear();
+                        }
+                    }
+                    default -> {
+                        if (random.nextInt(100) == 0) {
+                            integerArrayList.sort(Comparator.nullsFirst(INTEGER_COMPARATOR));
+                            expected.sort(Comparator.nullsFirst(INTEGER_COMPARATOR));
+                        }
+                    }
+                }
+                assertThat(integerArrayList.indexOf(value)).isEqualTo(expected.indexOf(value));
+            }
+
+            assertThat(integerArrayList.toString()).isEqualTo(expected.toString());
+            for (int value = 0; value < numberOfDistinctValues; value++) {
+                assertThat(integerArrayList.indexOf(value)).isEqualTo(expected.indexOf(value));
+            }
+            assertThat(integerArrayList.indexOf(null)).isEqualTo(expected.indexOf(null));
+        }
+
+        @Test
+        void lookupsAfterMovesShouldFindMovedElements() {
+            populateListWithElements(integerArrayList, 1000);
+            integerArrayList.setHashIndexEnabled(true);
+
+            integerArrayList.remove(0);
+            integerArrayList.add(500, -1);
+
+            for (int round = 0; round < 3; round++) {
+                for (int value = 1; value < 1000; value++) {
+                    assertThat(integerArrayList.indexOf(value)).isEqualTo(value <= 500 ? value - 1 : value);
+                }
+            }
+            assertThat(integerArrayList.indexOf(-1)).isEqualTo(500);
+            assertThat(integerArrayList.indexOf(0)).isEqualTo(-1);
+        }
+
+        @Test
+        void indexShouldHandleCollidingHashCodes() {
+            var keys = new ArrayList<CollidingKey>();
+            keys.setHashIndexEnabled(true);
+            for (int i = 0; i < 100; i++) {
+                keys.add(new CollidingKey(i));
+            }
+
+            for (int i = 0; i < 100; i += 2) {
+                assertThat(keys.remove(new CollidingKey(i))).isTrue();
+            }
+
+            assertThat(keys.size()).isEqualTo(50);
+            for (int i = 0; i < 100; i++) {
+                assertThat(keys.indexOf(new CollidingKey(i))).isEqualTo(i % 2 == 0 ? -1 : i / 2);
+            }
+        }
+
+        @Test
+        void indexShouldBeUpdatedAfterClearAndDisabling() {
+            populateListWithElements(integerArrayList, 10);
+            integerArrayList.setHashIndexEnabled(true);
+
+            integerArrayList.clear();
+            integerArrayList.add(3);
+
+            assertThat(integerArrayList.indexOf(3)).isEqualTo(0);
+            assertThat(integerArrayList.contains(5)).isFalse();
+
+            integerArrayList.setHashIndexEnabled(false);
+            integerArrayList.add(0, 5);
+
+            assertThat(integerArrayList.isHashIndexEnabled()).isFalse();
+            assertThat(integerArrayList.indexOf(3)).isEqualTo(1);
+        }
+
+        @Test
+        void defaultSearchMethodsSuccess() {
+            var circularList = new CircularArrayList<String>();
+            circularList.addFirst("b");
+            circularList.addFirst(null);
+            circularList.add("b");
+
+            assertThat(circularList.indexOf("b")).isEqualTo(1);
+            assertThat(circularList.indexOf(null)).isEqualTo(0);
+            assertThat(circularList.contains("c")).isFalse();
+        }
+    }
+
+    @Nested
+    class CapacityTest {
+
+        @Test
+        void defaultGrowthShouldKeepCapacities() {
+            var arrayList = new ArrayList<Integer>(0);
+            arrayList.add(1);
+
+            assertThat(arrayList.capacity()).isEqualTo(10);
+
+            populateListWithElements(arrayList, 10);
+
+            assertThat(arrayList.capacity()).isEqualTo(16);
+            assertThat(arrayList.getGrowthPolicy()).isNotNull();
+        }
+
+        @Test
+        void growthPolicyShouldChooseCapacityOnAllPaths() {
+            var arrayList = new ArrayList<Integer>(1, GrowthPolicy.additive(7));
+            arrayList.add(0);
+            arrayList.add(1);
+
+            assertThat(arrayList.capacity()).isEqualTo(8);
+
+            populateListWithElements(arrayList, 6);
+            arrayList.add(0, -1);
+
+            assertThat(arrayList.capacity()).isEqualTo(15);
+
+            arrayList.addAll(ARRAY_16_ELEMENTS);
+
+            assertThat(arrayList.capacity()).isEqualTo(25);
+
+            arrayList.addAll(3, arrayList);
+
+            assertThat(arrayList.capacity()).isEqualTo(50);
+            assertThat(arrayList.size()).isEqualTo(50);
+        }
+
+        @Test
+        void ensureCapacityAndTrimToSizeSuccess() {
+            populateListWithElements(integerArrayList, ARRAY_20_ELEMENTS);
+
+            integerArrayList.ensureCapacity(1000);
+
+            assertThat(integerArrayList.capacity()).isEqualTo(1000);
+
+            integerArrayList.ensureCapacity(10);
+            integerArrayList.trimToSize();
+
+            assertThat(integerArrayList.capacity()).isEqualTo(20);
+            assertThat(getElementsArrayFrom(integerArrayList)).isEqualTo(ARRAY_20_ELEMENTS);
+
+            integerArrayList.clear();
+            integerArrayList.trimToSize();
+            integerArrayList.add(5);
+
+            assertThat(integerArrayList.capacity()).isEqualTo(10);
+            assertThat(integerArrayList.get(0)).isEqualTo(5);
+        }
+
+        @Test
+        void shrinkingPolicyShouldReleaseCapacity() {
+            var arrayList = new ArrayList<Integer>(GrowthPolicy.shrinking(GrowthPolicy.geometric(1.5), 0.25));
+            arrayList.setHashIndexEnabled(true);
+            populateListWithElements(arrayList, 10000);
+            int fullCapacity = arrayList.capacity();
+
+            arrayList.removeRange(0, 6000);
+
+            assertThat(arrayList.capacity()).isEqualTo(fullCapacity);
+
+            arrayList.removeRange(0, 2000);
+
+            assertThat(arrayList.capacity()).isEqualTo(4000);
+
+            while (arrayList.size() > 100) {
+                arrayList.remove(arrayList.size() - 1);
+            }
+
+            assertThat(arrayList.capacity()).isLessThan(400);
+            assertThat(arrayList.get(99)).isEqualTo(8099);
+            assertThat(arrayList.indexOf(8050)).isEqualTo(50);
+            assertThat(arrayList.remove(Integer.valueOf(8000))).isTrue();
+
+            arrayList.clear();
+
+            assertThat(arrayList.capacity()).isEqualTo(GrowthPolicy.INITIAL_CAPACITY);
+        }
+
+        @Test
+        void constructorShouldTrowExceptionIfGrowthPolicyIsNull() {
+            assertThrows(NullPointerException.class, () -> new ArrayList<Integer>((GrowthPolicy) null));
+            assertThrows(NullPointerException.class, () -> new ArrayList<Integer>(5, null));
+        }
+    }
+
+    @Nested
+    class SortedTest {
+
+        @Test
+        void binarySearchShouldFindFirstOfEqualElements() {
+            populateListWithElements(integerArrayList, new Integer[]{7, 3, 5, 3, 9, 3});
+            integerArrayList.sort(null);
+
+            assertThat(integerArrayList.isSortedBy(null)).isTrue();
+            assertThat(integerArrayList.binarySearch(3, null)).isEqualTo(0);
+            assertThat(integerArrayList.binarySearch(7, null)).isEqualTo(4);
+            assertThat(integerArrayList.binarySearch(9, null)).isEqualTo(5);
+            assertThat(integerArrayList.binarySearch(1, null)).isEqualTo(-1);
+            assertThat(integerArrayList.binarySearch(6, null)).isEqualTo(-5);
+            assertThat(integerArrayList.binarySearch(10, null)).isEqualTo(-7);
+        }
+
+        @Test
+        void binarySearchShouldScanIfElementsAreNotKnownToBeSorted() {
+            populateListWithElements(integerArrayList, new Integer[]{7, 3, 5});
+
+            assertThat(integerArrayList.isSortedBy(null)).isFalse();
+            assertThat(integerArrayList.binarySearch(5, null)).isEqualTo(2);
+            assertThat(integerArrayList.binarySearch(4, null)).isEqualTo(-4);
+
+            integerArrayList.sort(INTEGER_COMPARATOR);
+
+            assertThat(integerArrayList.isSortedBy(INTEGER_COMPARATOR)).isTrue();
+            assertThat(integerArrayList.isSortedBy(Comparator.reverseOrder())).isFalse();
+            assertThat(integerArrayList.binarySearch(5, Comparator.reverseOrder())).isEqualTo(1);
+        }
+
+        @Test
+        void insertSortedShouldKeepElementsSorted() {
+            var random = new Random(7);
+            var expected = new java.util.ArrayList<Integer>();
+            for (int i = 0; i < 1000; i++) {
+                var value = random.nextInt(100);
+                var index = integerArrayList.insertSorted(value, Comparator.reverseOrder());
+                expected.add(value);
+
+                assertThat(integerArrayList.get(index)).isEqualTo(value);
+                assertThat(index == integerArrayList.size() - 1 || integerArrayList.get(index + 1) < value).isTrue();
+            }
+            expected.sort(Comparator.reverseOrder());
+
+            assertThat(integerArrayList.isSortedBy(Comparator.reverseOrder())).isTrue();
+            assertThat(integerArrayList.toString()).isEqualTo(expected.toString());
+        }
+
+        @Test
+        void insertSortedShouldCheckOrderOfListNotKnownToBeSorted() {
+            populateListWithElements(integerArrayList, new Integer[]{1, 4, 5});
+
+            assertThat(integerArrayList.insertSorted(2, Comparator.comparing(Integer::intValue))).isEqualTo(1);
+            assertThat(integerArrayList.toString()).isEqualTo("[1, 2, 4, 5]");
+            assertThat(integerArrayList.isSortedBy(null)).isFalse();
+            assertThat(integerArrayList.insertSorted(3, null)).isEqualTo(2);
+            assertThat(integerArrayList.isSortedBy(null)).isTrue();
+        }
+
+        @Test
+        void insertSortedShouldTrowExceptionIfListUnsorted() {
+            populateListWithElements(integerArrayList, new Integer[]{5, 1, 4});
+
+            assertThrows(IllegalStateException.class, () -> integerArrayList.insertSorted(2, null));
+            assertThat(integerArrayList.toString()).isEqualTo("[5, 1, 4]");
+        }
+
+        @Test
+        void modificationsShouldResetSortState() {
+            populateListWithElements(integerArrayList, new Integer[]{5, 1, 4, 2});
+            integerArrayList.sort(null);
+
+            integerArrayList.remove(0);
+            integerArrayList.remove(Integer.valueOf(4));
+            integerArrayList.subList(0, 1).clear();
+
+            assertThat(integerArrayList.isSortedBy(null)).isTrue();
+
+            integerArrayList.set(0, 0);
+
+            assertThat(integerArrayList.isSortedBy(null)).isFalse();
+
+            integerArrayList.sort(null);
+            integerArrayList.add(-1);
+
+            assertThat(integerArrayList.isSortedBy(null)).isFalse();
+
+            integerArrayList.sort(null);
+            integerArrayList.subList(0, 1).add(3);
+
+            assertThat(integerArrayList.isSortedBy(null)).isFalse();
+
+            integerArrayList.sort(null);
+
+            assertThat(integerArrayList.toString()).isEqualTo("[-1, 0, 3]");
+        }
+
+        @Test
+        void sortShouldNotModifyListKnownToBeSorted() {
+            populateListWithElements(integerArrayList, new Integer[]{3, 1, 2});
+            integerArrayList.sort(null);
+            var iterator = integerArrayList.iterator();
+
+            integerArrayList.sort(null);
+            integerArrayList.parallelSort(null);
+
+            assertThat(iterator.next()).isEqualTo(1);
+
+            integerArrayList.sort(Comparator.reverseOrder());
+
+            assertThat(integerArrayList.toString()).isEqualTo("[3, 2, 1]");
+            assertThrows(ConcurrentModificationException.class, iterator::next);
+        }
+
+        @Test
+        void binarySearchShouldTrowExceptionIfElementsAreNotComparable() {
+            var objects = new ArrayList<Object>();
+            objects.add(new Object());
+
+            assertThrows(ClassCastException.class, () -> objects.binarySearch(new Object(), null));
+        }
+    }
+
+    private record CollidingKey(int value) {
+
+        @Override
+        public int hashCode() {
+            return value % 3;
+        }
+    }
+
     @ParameterizedTest
     @MethodSource("getArgumentsForToStringSuccessTest")
     void toStringSuccess(Object[] elements, String expectingResult) {
@@ -286,6 +1228,70 @@ class ArrayListTest {
         assertThat(objectArrayList.toString()).isEqualTo(expectingResult);
     }
 
+    @ParameterizedTest
+    @MethodSource("getArgumentsForToStringWithMaxElementsSuccessTest")
+    void toStringWithMaxElementsSuccess(int numberOfElements, int maxElements, String expectingResult) {
+        for (int i = 0; i < numberOfElements; i++) {
+            integerArrayList.add(i);
+        }
+
+        assertThat(integerArrayList.toString(maxElements)).isEqualTo(expectingResult);
+    }
+
+    @Test
+    void appendToAndWriteToShouldMatchToString() throws IOException {
+        integerArrayList.addAll(ARRAY_20_ELEMENTS);
+        integerArrayList.add(null);
+        var stringBuilder = new StringBuilder("list: ");
+        var stringWriter = new StringWriter();
+
+        integerArrayList.appendTo(stringBuilder);
+        integerArrayList.writeTo(stringWriter);
+
+        assertThat(stringBuilder.toString()).isEqualTo("list: " + integerArrayList);
+        assertThat(stringWriter.toString()).isEqualTo(integerArrayList.toString());
+        assertThat(integerArrayList.toString()).isEqualTo(Arrays.toString(integerArrayList.stream().toArray()));
+    }
+
+    @Test
+    void writeToShouldWriteLargeListInLargeParts() throws IOException {
+        for (int i = 0; i < 100000; i++) {
+            integerArrayList.add(i);
+        }
+        var writes = new int[1];
+        var stringWriter = new StringWriter() {
+            @Override
+            public void write(char[] buffer, int offset, int length) {
+                writes[0]++;
+                super.write(buffer, offset, length);
+            }
+        };
+
+        integerArrayList.writeTo(stringWriter);
+
+        assertThat(stringWriter.toString()).isEqualTo(integerArrayList.toString());
+        assertThat(writes[0]).isLessThan(100);
+    }
+
+    @Test
+    void toStringShouldTrowExceptionIfElementModifiesList() {
+        integerArrayList.add(1);
+        var objectArrayList = new ArrayList<Object>();
+        objectArrayList.add(new Object() {
+            @Override
+            public String toString() {
+                objectArrayList.add(2);
+                return "modifying";
+            }
+        });
+        objectArrayList.add(3);
+
+        assertThrows(ConcurrentModificationException.class, objectArrayList::toString);
+        assertThrows(IllegalArgumentException.class, () -> integerArrayList.toString(-1));
+        assertThrows(NullPointerException.class, () -> integerArrayList.appendTo(null));
+        assertThrows(NullPointerException.class, () -> integerArrayList.writeTo(null));
+    }
+
     private Integer[] getElementsArrayFrom(ArrayList<Integer> integerArrayList) {
         Integer[] result = new Integer[integerArrayList.size()];
         for (int i = 0; i < integerArrayList.size(); i++) {
@@ -502,6 +1508,18 @@ class ArrayListTest {
         );
     }
 
+    static Stream<Arguments> getArgumentsForToStringWithMaxElementsSuccessTest() {
+        return Stream.of(
+                Arguments.of(0, 0, "[]"),
+                Arguments.of(0, 5, "[]"),
+                Arguments.of(3, 0, "[... (3 more)]"),
+                Arguments.of(3, 3, "[0, 1, 2]"),
+                Arguments.of(3, 10, "[0, 1, 2]"),
+                Arguments.of(10, 2, "[0, 1, ... (8 more)]"),
+                Arguments.of(1000000, 1, "[0, ... (999999 more)]")
+        );
+    }
+
     static class PersonNotComparable {
         String name;
 
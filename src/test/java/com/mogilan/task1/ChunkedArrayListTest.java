@@ -0,0 +1,179 @@
+package com.mogilan.task1;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ChunkedArrayListTest extends ListContractTest {
+
+    private static final int PAGE_SIZE = ChunkedArrayList.PAGE_SIZE;
+
+    private ChunkedArrayList<Integer> list;
+
+    @BeforeEach
+    void prepare() {
+        list = new ChunkedArrayList<>();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, PAGE_SIZE - 1, PAGE_SIZE, PAGE_SIZE + 1, 20 * PAGE_SIZE + 7})
+    void addAndGetSuccessAcrossPages(int numberOfElements) {
+        for (int i = 0; i < numberOfElements; i++) {
+            list.add(i);
+        }
+
+        assertThat(list.size()).isEqualTo(numberOfElements);
+        for (int i = 0; i < numberOfElements; i++) {
+            assertThat(list.get(i)).isEqualTo(i);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, PAGE_SIZE - 1, PAGE_SIZE, PAGE_SIZE + 1, 3 * PAGE_SIZE - 1})
+    void addByIndexAndRemoveByIndexSuccessAcrossPages(int index) {
+        for (int i = 0; i < 3 * PAGE_SIZE; i++) {
+            list.add(i);
+        }
+
+        list.add(index, -1);
+
+        assertThat(list.size()).isEqualTo(3 * PAGE_SIZE + 1);
+        for (int i = 0; i < list.size(); i++) {
+            assertThat(list.get(i)).isEqualTo(i < index ? i : i == index ? -1 : i - 1);
+        }
+
+        assertThat(list.remove(index)).isEqualTo(-1);
+
+        assertThat(list.size()).isEqualTo(3 * PAGE_SIZE);
+        for (int i = 0; i < list.size(); i++) {
+            assertThat(list.get(i)).isEqualTo(i);
+        }
+    }
+
+    @Override
+    List<Integer> newList(int variant) {
+        return new ChunkedArrayList<>(new int[]{0, 1, PAGE_SIZE - 1, 2 * PAGE_SIZE}[variant]);
+    }
+
+    @Test
+    void defaultBulkMethodsSuccess() {
+        list.addAll(new Integer[]{0, 1, 2, 3, 4, 5});
+        var newElements = new ArrayList<Integer>();
+        newElements.add(10);
+        newElements.add(11);
+
+        list.addAll(2, newElements);
+        list.removeRange(0, 1);
+        list.setAll(5, new Integer[]{40, 50});
+
+        assertThat(list.toString()).isEqualTo("[1, 10, 11, 2, 3, 40, 50]");
+        assertThrows(IndexOutOfBoundsException.class, () -> list.removeRange(5, 8));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.setAll(6, new Integer[]{1, 2}));
+    }
+
+    @Test
+    void removeByValueSuccessWithNull() {
+        list.add(1);
+        list.add(null);
+        list.add(2);
+
+        assertThat(list.remove(null)).isTrue();
+        assertThat(list.remove(null)).isFalse();
+        assertThat(list.toString()).isEqualTo("[1, 2]");
+    }
+
+    @Test
+    void clearSuccess() {
+        for (int i = 0; i < 5 * PAGE_SIZE; i++) {
+            list.add(i);
+        }
+
+        list.clear();
+
+        assertThat(list.size()).isZero();
+        assertThat(list.toString()).isEqualTo("[]");
+
+        list.add(7);
+
+        assertThat(list.toString()).isEqualTo("[7]");
+    }
+
+    @ParameterizedTest
+    @MethodSource("com.mogilan.task1.ArrayListTest#getArgumentsForCheckingExceptionIfIndexIncorrect")
+    void methodsShouldTrowExceptionIfIndexIncorrect(int numberOfElements, int index) {
+        for (int i = 0; i < numberOfElements; i++) {
+            list.add(i);
+        }
+
+        assertThrows(IndexOutOfBoundsException.class, () -> list.add(index, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(index));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.set(index, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.remove(index));
+    }
+
+    @Test
+    void constructorShouldTrowExceptionIfCapacityNegative() {
+        assertThrows(IllegalArgumentException.class, () -> new ChunkedArrayList<Integer>(-1));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {2, 100, PAGE_SIZE, PAGE_SIZE + 1, 5 * PAGE_SIZE + 3, 8 * PAGE_SIZE})
+    void sortSuccessAcrossPages(int numberOfElements) {
+        var random = new Random(numberOfElements);
+        var expected = new Integer[numberOfElements];
+        for (int i = 0; i < numberOfElements; i++) {
+            expected[i] = random.nextInt(1000);
+            list.add(expected[i]);
+        }
+        list.remove(Integer.valueOf(expected[0]));
+        list.add(expected[0]);
+        Arrays.sort(expected);
+
+        list.sort(null);
+
+        var actual = new Integer[list.size()];
+        for (int i = 0; i < actual.length; i++) {
+            actual[i] = list.get(i);
+        }
+        assertThat(actual).isEqualTo(expected);
+
+        list.add(-1);
+
+        assertThat(list.get(numberOfElements)).isEqualTo(-1);
+    }
+
+    @Test
+    void sortShouldBeStable() {
+        var keys = new ChunkedArrayList<int[]>();
+        var numberOfElements = 3 * PAGE_SIZE + 11;
+        for (int i = 0; i < numberOfElements; i++) {
+            keys.add(new int[]{(i * 7919) % 10, i});
+        }
+
+        keys.sort(Comparator.comparingInt(pair -> pair[0]));
+
+        for (int i = 1; i < numberOfElements; i++) {
+            var previous = keys.get(i - 1);
+            var current = keys.get(i);
+            assertThat(previous[0] < current[0] || previous[0] == current[0] && previous[1] < current[1]).isTrue();
+        }
+    }
+
+    @Test
+    void sortShouldTrowExceptionIfElementsAreNotComparable() {
+        var objects = new ChunkedArrayList<Object>();
+        objects.add(new Object());
+        objects.add(new Object());
+
+        assertThrows(ClassCastException.class, () -> objects.sort(null));
+    }
+}
@@ -0,0 +1,197 @@
+package com.mogilan.task1;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CircularArrayListTest extends ListContractTest {
+
+    private CircularArrayList<Integer> list;
+
+    @BeforeEach
+    void prepare() {
+        list = new CircularArrayList<>();
+    }
+
+    @Test
+    void dequeOperationsSuccess() {
+        for (int i = 0; i < 40; i++) {
+            list.addLast(i);
+            list.addFirst(-i - 1);
+        }
+
+        assertThat(list.size()).isEqualTo(80);
+        assertThat(list.getFirst()).isEqualTo(-40);
+        assertThat(list.getLast()).isEqualTo(39);
+        for (int i = 0; i < 80; i++) {
+            assertThat(list.get(i)).isEqualTo(i - 40);
+        }
+        for (int i = 0; i < 40; i++) {
+            assertThat(list.removeFirst()).isEqualTo(i - 40);
+            assertThat(list.removeLast()).isEqualTo(39 - i);
+        }
+        assertThat(list.size()).isZero();
+    }
+
+    @Test
+    void dequeOperationsShouldTrowExceptionIfListEmpty() {
+        assertThrows(NoSuchElementException.class, list::getFirst);
+        assertThrows(NoSuchElementException.class, list::getLast);
+        assertThrows(NoSuchElementException.class, list::removeFirst);
+        assertThrows(NoSuchElementException.class, list::removeLast);
+    }
+
+    @Test
+    void drainFromFrontSuccess() {
+        for (int i = 0; i < 100000; i++) {
+            list.add(i);
+        }
+
+        for (int i = 0; i < 100000; i++) {
+            assertThat(list.remove(0)).isEqualTo(i);
+        }
+
+        assertThat(list.size()).isZero();
+        assertThat(list.toString()).isEqualTo("[]");
+    }
+
+    @Override
+    List<Integer> newList(int variant) {
+        return new CircularArrayList<>(new int[]{0, 1, 3, 16}[variant]);
+    }
+
+    @Override
+    void extraOperation(List<Integer> list, java.util.List<Integer> expected, Random random, int value) {
+        var circularList = (CircularArrayList<Integer>) list;
+        if (random.nextBoolean()) {
+            circularList.addFirst(value);
+            expected.add(0, value);
+        } else if (!expected.isEmpty()) {
+            assertThat(circularList.removeFirst()).isEqualTo(expected.remove(0));
+        }
+    }
+
+    @Test
+    void defaultIterationMethodsSuccess() {
+        for (int i = 0; i < 5; i++) {
+            list.addFirst(i);
+        }
+        var visitedElements = new StringBuilder();
+
+        for (Integer element : list) {
+            visitedElements.append(element);
+        }
+        list.forEachIndexed((index, element) -> assertThat(list.get(index)).isEqualTo(element));
+
+        assertThat(visitedElements.toString()).isEqualTo("43210");
+        var iterator = list.iterator();
+        for (int i = 0; i < 5; i++) {
+            iterator.next();
+        }
+        assertThrows(NoSuchElementException.class, iterator::next);
+        assertThrows(UnsupportedOperationException.class, iterator::remove);
+        assertThat(list.stream().mapToInt(Integer::intValue).sum()).isEqualTo(10);
+        assertThat(list.parallelStream().filter(element -> element > 1).count()).isEqualTo(3);
+    }
+
+    @Test
+    void defaultBulkRemovalMethodsSuccess() {
+        for (int i = 0; i < 10; i++) {
+            list.addFirst(i);
+        }
+        var removing = new ArrayList<Integer>();
+        removing.addAll(new Integer[]{0, 9});
+
+        assertThat(list.removeIf(element -> element % 3 == 0 && element != 0 && element != 9)).isTrue();
+        assertThat(list.removeAll(removing)).isTrue();
+        assertThat(list.retainAll(list)).isFalse();
+        list.replaceAll(element -> -element);
+
+        assertThat(list.toString()).isEqualTo("[-8, -7, -5, -4, -2, -1]");
+        assertThrows(IllegalStateException.class, () -> list.removeIf(element -> {
+            throw new IllegalStateException();
+        }));
+        assertThat(list.size()).isEqualTo(6);
+    }
+
+    @Test
+    void removeByValueSuccessWithNull() {
+        list.add(1);
+        list.addFirst(null);
+        list.add(null);
+
+        assertThat(list.remove(null)).isTrue();
+        assertThat(list.toString()).isEqualTo("[1, null]");
+    }
+
+    @Test
+    void clearSuccess() {
+        for (int i = 0; i < 20; i++) {
+            list.addFirst(i);
+        }
+
+        list.clear();
+
+        assertThat(list.size()).isZero();
+        assertThat(list.toString()).isEqualTo("[]");
+
+        list.add(0, 5);
+
+        assertThat(list.toString()).isEqualTo("[5]");
+    }
+
+    @ParameterizedTest
+    @MethodSource("com.mogilan.task1.ArrayListTest#getArgumentsForCheckingExceptionIfIndexIncorrect")
+    void methodsShouldTrowExceptionIfIndexIncorrect(int numberOfElements, int index) {
+        for (int i = 0; i < numberOfElements; i++) {
+            list.addFirst(i);
+        }
+
+        assertThrows(IndexOutOfBoundsException.class, () -> list.add(index, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(index));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.set(index, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.remove(index));
+    }
+
+    @Test
+    void constructorShouldTrowExceptionIfCapacityIncorrect() {
+        assertThrows(IllegalArgumentException.class, () -> new CircularArrayList<Integer>(-1));
+        assertThrows(IllegalArgumentException.class, () -> new CircularArrayList<Integer>(Integer.MAX_VALUE));
+    }
+
+    @Test
+    void sortSuccessWhenElementsWrapAround() {
+        for (int i = 0; i < 10; i++) {
+            list.add(i);
+        }
+        for (int i = 10; i < 16; i++) {
+            list.addFirst(i);
+        }
+
+        list.sort(null);
+
+        assertThat(list.toString()).isEqualTo("[0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15]");
+
+        list.addFirst(-1);
+        list.sort(Integer::compare);
+
+        assertThat(list.getFirst()).isEqualTo(-1);
+        assertThat(list.getLast()).isEqualTo(15);
+    }
+
+    @Test
+    void sortShouldTrowExceptionIfElementsAreNotComparable() {
+        var objects = new CircularArrayList<Object>();
+        objects.add(new Object());
+        objects.add(new Object());
+
+        assertThrows(ClassCastException.class, () -> objects.sort(null));
+    }
+}
@@ -0,0 +1,253 @@
+package com.mogilan.task1;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ConcurrentArrayListTest {
+
+    private static final int WRITERS = 4;
+    private static final int READERS = 4;
+    private static final int ELEMENTS_PER_WRITER = 50000;
+
+    private ConcurrentArrayList<Integer> list;
+
+    @BeforeEach
+    void prepare() {
+        list = new ConcurrentArrayList<>(0);
+    }
+
+    @Test
+    void singleThreadedOperationsSuccess() {
+        for (int i = 0; i < 20; i++) {
+            list.add(i);
+        }
+        list.add(0, -1);
+        list.add(5, null);
+
+        assertThat(list.size()).isEqualTo(22);
+        assertThat(list.remove(0)).isEqualTo(-1);
+        assertThat(list.remove(null)).isTrue();
+        assertThat(list.remove(Integer.valueOf(100))).isFalse();
+        assertThat(list.set(0, 100)).isEqualTo(0);
+
+        list.sort(null);
+
+        assertThat(list.get(0)).isEqualTo(1);
+        assertThat(list.get(19)).isEqualTo(100);
+        assertThat(list.toString()).isEqualTo("[1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19, 100]");
+
+        list.clear();
+
+        assertThat(list.size()).isZero();
+        assertThat(list.toString()).isEqualTo("[]");
+    }
+
+    @Test
+    void bulkOperationsSuccess() {
+        list.addAll(new Integer[]{0, 1, 2, 3, 4, 5});
+        list.addAll(1, list);
+        list.removeRange(2, 8);
+        list.setAll(0, new Integer[]{-1, -2});
+
+        assertThat(list.toString()).isEqualTo("[-1, -2, 2, 3, 4, 5]");
+        assertThrows(IndexOutOfBoundsException.class, () -> list.addAll(6, new ArrayList<>()));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.removeRange(0, 7));
+
+        assertThat(list.removeIf(element -> element < 0)).isTrue();
+        list.replaceAll(element -> element * 2);
+        assertThat(list.toString()).isEqualTo("[4, 6, 8, 10]");
+    }
+
+    @Test
+    void iteratorShouldTraverseCopy() {
+        list.add(1);
+        list.add(2);
+
+        var iterator = list.iterator();
+        list.clear();
+        var visitedElements = new StringBuilder();
+        iterator.forEachRemaining(visitedElements::append);
+
+        assertThat(visitedElements.toString()).isEqualTo("12");
+    }
+
+    @Test
+    void forEachIndexedAndSpliteratorShouldTraverseCopy() {
+        for (int i = 0; i < 5; i++) {
+            list.add(i);
+        }
+
+        var spliterator = list.spliterator();
+        var visitedElements = new StringBuilder();
+        list.forEachIndexed((index, element) -> {
+            list.remove(0);
+            visitedElements.append(index).append(element);
+        });
+        spliterator.forEachRemaining(visitedElements::append);
+
+        assertThat(list.size()).isZero();
+        assertThat(spliterator.estimateSize()).isZero();
+        assertThat(visitedElements.toString()).isEqualTo("001122334401234");
+    }
+
+    @ParameterizedTest
+    @MethodSource("com.mogilan.task1.ArrayListTest#getArgumentsForCheckingExceptionIfIndexIncorrect")
+    void methodsShouldTrowExceptionIfIndexIncorrect(int numberOfElements, int index) {
+        for (int i = 0; i < numberOfElements; i++) {
+            list.add(i);
+        }
+
+        assertThrows(IndexOutOfBoundsException.class, () -> list.add(index, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(index));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.set(index, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.remove(index));
+    }
+
+    @Test
+    void concurrentAddShouldNotLoseElements() throws Exception {
+        var executor = Executors.newFixedThreadPool(WRITERS);
+        try {
+            var start = new CountDownLatch(1);
+            var futures = new Future<?>[WRITERS];
+            for (int writer = 0; writer < WRITERS; writer++) {
+                var firstValue = writer * ELEMENTS_PER_WRITER;
+                futures[writer] = executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < ELEMENTS_PER_WRITER; i++) {
+                        list.add(firstValue + i);
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            shutdown(executor);
+        }
+
+        var values = new int[list.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = list.get(i);
+        }
+        Arrays.sort(values);
+        assertThat(values.length).isEqualTo(WRITERS * ELEMENTS_PER_WRITER);
+        for (int i = 0; i < values.length; i++) {
+            assertThat(values[i]).isEqualTo(i);
+        }
+    }
+
+    /**
+     * Readers observe the list while writers make it grow and shrink: every index below an observed size must
+     * either return an element that was written, or fail with IndexOutOfBoundsException if the list shrank
+     * in the meantime. A {@code null}, a foreign value or any other exception means a torn read of the fields
+     * elements and size.
+     */
+    @Test
+    void concurrentReadsDuringResizeShouldBeConsistent() throws Exception {
+        var executor = Executors.newFixedThreadPool(WRITERS + READERS);
+        var writersFinished = new AtomicBoolean();
+        try {
+            var writers = new Future<?>[WRITERS];
+            for (int writer = 0; writer < WRITERS; writer++) {
+                writers[writer] = executor.submit(() -> {
+                    for (int i = 0; i < ELEMENTS_PER_WRITER; i++) {
+                        list.add(i);
+                        if (i % 3 == 0) {
+                            list.add(0, i);
+                        }
+                        if (i % 5 == 0) {
+                            list.remove(list.size() > 1 ? 1 : 0);
+                        }
+                    }
+                    return null;
+                });
+            }
+            var readers = new Future<?>[READERS];
+            for (int reader = 0; reader < READERS; reader++) {
+                readers[reader] = executor.submit(() -> {
+                    while (!writersFinished.get()) {
+                        var observedSize = list.size();
+                        for (int index = observedSize - 1; index >= Math.max(0, observedSize - 64); index--) {
+                            try {
+                                var element = list.get(index);
+                                if (element == null || element < 0 || element >= ELEMENTS_PER_WRITER) {
+                                    throw new AssertionError("Inconsistent element " + element + " at " + index);
+                                }
+                            } catch (IndexOutOfBoundsException ignored) {
+                                // the list shrank after its size was observed
+                            }
+                        }
+                    }
+                    return null;
+                });
+            }
+            for (Future<?> writer : writers) {
+                writer.get(60, TimeUnit.SECONDS);
+            }
+            writersFinished.set(true);
+            for (Future<?> reader : readers) {
+                reader.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            writersFinished.set(true);
+            shutdown(executor);
+        }
+
+        var expectingSize = WRITERS * (ELEMENTS_PER_WRITER + (ELEMENTS_PER_WRITER + 2) / 3 - (ELEMENTS_PER_WRITER + 4) / 5);
+        assertThat(list.size()).isEqualTo(expectingSize);
+    }
+
+    @Test
+    void searchDuringConcurrentRemovalsShouldNotFail() throws Exception {
+        for (int i = 0; i < 1000; i++) {
+            list.add(i);
+        }
+        var executor = Executors.newFixedThreadPool(2);
+        var searchFinished = new AtomicBoolean();
+        try {
+            var remover = executor.submit(() -> {
+                while (!searchFinished.get()) {
+                    list.removeRange(100, 1000);
+                    for (int i = 100; i < 1000; i++) {
+                        list.add(i);
+                    }
+                }
+                return null;
+            });
+            var searcher = executor.submit(() -> {
+                for (int i = 0; i < 200000; i++) {
+                    if (list.contains(-1) || list.indexOf(50) != 50) {
+                        throw new AssertionError("Element found that is not in the list or not found that is");
+                    }
+                }
+                return null;
+            });
+            searcher.get(60, TimeUnit.SECONDS);
+            searchFinished.set(true);
+            remover.get(30, TimeUnit.SECONDS);
+        } finally {
+            searchFinished.set(true);
+            shutdown(executor);
+        }
+    }
+
+    private static void shutdown(ExecutorService executor) throws InterruptedException {
+        executor.shutdownNow();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+    }
+}
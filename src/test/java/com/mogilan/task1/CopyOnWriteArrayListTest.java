@@ -0,0 +1,287 @@
+package com.mogilan.task1;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ConcurrentModificationException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CopyOnWriteArrayListTest {
+
+    private CopyOnWriteArrayList<Integer> list;
+
+    @BeforeEach
+    void prepare() {
+        list = new CopyOnWriteArrayList<>();
+    }
+
+    @Test
+    void singleElementOperationsSuccess() {
+        for (int i = 0; i < 5; i++) {
+            list.add(i);
+        }
+        list.add(0, -1);
+        list.add(3, null);
+
+        assertThat(list.toString()).isEqualTo("[-1, 0, 1, null, 2, 3, 4]");
+        assertThat(list.remove(0)).isEqualTo(-1);
+        assertThat(list.remove(null)).isTrue();
+        assertThat(list.remove(Integer.valueOf(100))).isFalse();
+        assertThat(list.set(4, -4)).isEqualTo(4);
+
+        list.sort(null);
+
+        assertThat(list.toString()).isEqualTo("[-4, 0, 1, 2, 3]");
+        assertThat(list.size()).isEqualTo(5);
+
+        list.clear();
+
+        assertThat(list.size()).isZero();
+        assertThat(list.toString()).isEqualTo("[]");
+    }
+
+    @Test
+    void bulkOperationsSuccess() {
+        list.addAll(new Integer[]{0, 1, 2, 3, 4, 5});
+        var before = list.snapshot();
+        list.addAll(1, list);
+        list.removeRange(2, 8);
+        list.setAll(0, new Integer[]{-1, -2});
+
+        assertThat(before.toString()).isEqualTo("[0, 1, 2, 3, 4, 5]");
+        assertThat(list.toString()).isEqualTo("[-1, -2, 2, 3, 4, 5]");
+        assertThrows(IndexOutOfBoundsException.class, () -> list.removeRange(0, 7));
+        assertThat(list.size()).isEqualTo(6);
+
+        var beforeRemoval = list.snapshot();
+        assertThat(list.removeIf(element -> element < 0)).isTrue();
+        assertThat(list.removeIf(element -> element > 100)).isFalse();
+        list.replaceAll(element -> element * 2);
+
+        assertThat(list.toString()).isEqualTo("[4, 6, 8, 10]");
+        assertThat(beforeRemoval.toString()).isEqualTo("[-1, -2, 2, 3, 4, 5]");
+    }
+
+    @ParameterizedTest
+    @MethodSource("com.mogilan.task1.ArrayListTest#getArgumentsForCheckingExceptionIfIndexIncorrect")
+    void methodsShouldTrowExceptionIfIndexIncorrect(int numberOfElements, int index) {
+        list.update(elements -> {
+            for (int i = 0; i < numberOfElements; i++) {
+                elements.add(i);
+            }
+        });
+
+        assertThrows(IndexOutOfBoundsException.class, () -> list.add(index, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(index));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.set(index, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.remove(index));
+    }
+
+    @Test
+    void updateShouldPublishAllModificationsAtOnce() {
+        list.add(1);
+        var before = list.snapshot();
+
+        list.update(elements -> {
+            elements.add(2);
+            elements.add(3);
+            elements.set(0, 10);
+            elements.add(0, 0);
+        });
+
+        assertThat(before.toString()).isEqualTo("[1]");
+        assertThat(list.toString()).isEqualTo("[0, 10, 2, 3]");
+    }
+
+    @Test
+    void updateShouldDetachWorkingCopyFromPublishedElements() {
+        list.add(1);
+        list.add(2);
+        var leaked = new java.util.ArrayList<ArrayList<Integer>>();
+        var leakedViews = new java.util.ArrayList<List<Integer>>();
+
+        list.update(elements -> {
+            leaked.add(elements);
+            leakedViews.add(elements.subList(0, 2));
+        });
+        var published = list.snapshot();
+        leaked.get(0).add(99);
+
+        assertThat(list.toString()).isEqualTo("[1, 2]");
+        assertThat(published.get(0)).isEqualTo(1);
+        assertThrows(ConcurrentModificationException.class, () -> leakedViews.get(0).set(0, 99));
+        assertThat(list.get(0)).isEqualTo(1);
+    }
+
+    @Test
+    void updateShouldCopyArrayOnceForBatchOfAppends() {
+        for (int i = 0; i < 100; i++) {
+            list.add(i);
+        }
+        var workingArrays = new java.util.ArrayList<Object[]>();
+
+        list.update(elements -> {
+            workingArrays.add(elements.elements());
+            for (int i = 0; i < 50; i++) {
+                elements.add(100 + i);
+            }
+            workingArrays.add(elements.elements());
+        });
+
+        assertThat(workingArrays.get(1)).isSameAs(workingArrays.get(0));
+        assertThat(list.capacity()).isEqualTo(151);
+        assertThat(list.size()).isEqualTo(150);
+        assertThat(list.get(149)).isEqualTo(149);
+    }
+
+    @Test
+    void updateShouldPublishNothingIfMutationFails() {
+        list.add(1);
+
+        assertThrows(IllegalStateException.class, () -> list.update(elements -> {
+            elements.add(2);
+            throw new IllegalStateException();
+        }));
+
+        assertThat(list.toString()).isEqualTo("[1]");
+    }
+
+    @Test
+    void snapshotShouldBeImmutableAndUnaffectedByModifications() {
+        list.add(1);
+        list.add(2);
+
+        var snapshot = list.snapshot();
+        list.set(0, 100);
+        list.add(3);
+
+        assertThat(snapshot.size()).isEqualTo(2);
+        assertThat(snapshot.get(0)).isEqualTo(1);
+        assertThat(snapshot.toString()).isEqualTo("[1, 2]");
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.add(1));
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.set(0, 1));
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.remove(0));
+        assertThrows(UnsupportedOperationException.class, snapshot::clear);
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.sort(null));
+    }
+
+    @Test
+    void iteratorShouldTraverseSnapshot() {
+        list.add(1);
+        list.add(2);
+
+        var iterator = list.iterator();
+        list.add(3);
+        var visitedElements = new StringBuilder();
+        iterator.forEachRemaining(visitedElements::append);
+
+        assertThat(visitedElements.toString()).isEqualTo("12");
+    }
+
+    @Test
+    void forEachIndexedAndSpliteratorShouldTraverseSnapshot() {
+        for (int i = 0; i < 5; i++) {
+            list.add(i);
+        }
+
+        var spliterator = list.spliterator();
+        var visitedElements = new StringBuilder();
+        list.forEachIndexed((index, element) -> {
+            list.remove(0);
+            visitedElements.append(index).append(element);
+        });
+        spliterator.forEachRemaining(visitedElements::append);
+
+        assertThat(list.size()).isZero();
+        assertThat(spliterator.estimateSize()).isZero();
+        assertThat(visitedElements.toString()).isEqualTo("001122334401234");
+    }
+
+    @Test
+    void searchDuringConcurrentRemovalsShouldNotFail() throws Exception {
+        for (int i = 0; i < 1000; i++) {
+            list.add(i);
+        }
+        var executor = Executors.newFixedThreadPool(2);
+        var searchFinished = new AtomicBoolean();
+        try {
+            var remover = executor.submit(() -> {
+                while (!searchFinished.get()) {
+                    list.removeRange(100, 1000);
+                    for (int i = 100; i < 1000; i++) {
+                        list.add(i);
+                    }
+                }
+                return null;
+            });
+            var searcher = executor.submit(() -> {
+                for (int i = 0; i < 200000; i++) {
+                    if (list.contains(-1) || list.indexOf(50) != 50) {
+                        throw new AssertionError("Element found that is not in the list or not found that is");
+                    }
+                }
+                return null;
+            });
+            searcher.get(60, TimeUnit.SECONDS);
+            searchFinished.set(true);
+            remover.get(30, TimeUnit.SECONDS);
+        } finally {
+            searchFinished.set(true);
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void readersShouldAlwaysSeeCompleteUpdates() throws Exception {
+        var length = 100;
+        list.update(elements -> {
+            for (int i = 0; i < length; i++) {
+                elements.add(0);
+            }
+        });
+        var executor = Executors.newFixedThreadPool(4);
+        var writerFinished = new AtomicBoolean();
+        try {
+            var readers = new Future<?>[3];
+            for (int reader = 0; reader < readers.length; reader++) {
+                readers[reader] = executor.submit(() -> {
+                    while (!writerFinished.get()) {
+                        var snapshot = list.snapshot();
+                        var first = snapshot.get(0);
+                        for (int i = 1; i < length; i++) {
+                            if (!first.equals(snapshot.get(i))) {
+                                throw new AssertionError("Partially applied update");
+                            }
+                        }
+                    }
+                    return null;
+                });
+            }
+            for (int version = 1; version <= 1000; version++) {
+                var value = version;
+                list.update(elements -> {
+                    for (int i = 0; i < length; i++) {
+                        elements.set(i, value);
+                    }
+                });
+            }
+            writerFinished.set(true);
+            for (Future<?> reader : readers) {
+                reader.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            writerFinished.set(true);
+            executor.shutdownNow();
+        }
+
+        assertThat(list.get(length - 1)).isEqualTo(1000);
+    }
+}
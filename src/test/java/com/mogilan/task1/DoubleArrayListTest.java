@@ -0,0 +1,75 @@
+package com.mogilan.task1;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DoubleArrayListTest extends PrimitiveArrayListTest<Double> {
+
+    @Override
+    List<Double> newList() {
+        return new DoubleArrayList();
+    }
+
+    @Override
+    List<Double> newList(int initialCapacity, GrowthPolicy growthPolicy) {
+        return new DoubleArrayList(initialCapacity, growthPolicy);
+    }
+
+    @Override
+    Double valueOf(int value) {
+        return (double) value;
+    }
+
+    @Override
+    int capacity(List<Double> list) {
+        return ((DoubleArrayList) list).elements().length;
+    }
+
+    @Test
+    void unboxedMethodsSuccess() {
+        var list = new DoubleArrayList(0);
+        for (int i = 0; i < 20; i++) {
+            list.addDouble(0, i);
+        }
+        list.addDouble(100.0);
+
+        assertThat(list.setDouble(1, 1000.0)).isEqualTo(18.0);
+        assertThat(list.removeDouble(0)).isEqualTo(19.0);
+        assertThat(list.removeValue(1000.0)).isTrue();
+        assertThat(list.removeValue(1000.0)).isFalse();
+        assertThat(list.size()).isEqualTo(19);
+        assertThat(list.getDouble(0)).isEqualTo(17.0);
+        assertThat(list.getDouble(18)).isEqualTo(100.0);
+    }
+
+    @ParameterizedTest
+    @MethodSource("getArgumentsForUnboxedSortTest")
+    void sortShouldOrderUnboxedValues(double[] elements, double[] expectingElements) {
+        var list = new DoubleArrayList();
+        for (double element : elements) {
+            list.addDouble(element);
+        }
+
+        list.sort(null);
+
+        var sortedElements = new double[list.size()];
+        for (int i = 0; i < sortedElements.length; i++) {
+            sortedElements[i] = list.getDouble(i);
+        }
+        assertThat(sortedElements).isEqualTo(expectingElements);
+    }
+
+    static Stream<Arguments> getArgumentsForUnboxedSortTest() {
+        return Stream.of(
+                Arguments.of(
+                        new double[]{Double.NaN, 0.0, -0.0, Double.POSITIVE_INFINITY, -1.5, Double.NEGATIVE_INFINITY, 3.25},
+                        new double[]{Double.NEGATIVE_INFINITY, -1.5, -0.0, 0.0, 3.25, Double.POSITIVE_INFINITY, Double.NaN})
+        );
+    }
+}
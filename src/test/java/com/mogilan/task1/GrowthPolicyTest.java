@@ -0,0 +1,84 @@
+package com.mogilan.task1;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class GrowthPolicyTest {
+
+    @Test
+    void geometricSuccess() {
+        var policy = GrowthPolicy.geometric(1.5);
+
+        assertThat(policy.grow(0, 1)).isEqualTo(GrowthPolicy.INITIAL_CAPACITY);
+        assertThat(policy.grow(10, 11)).isEqualTo(16);
+        assertThat(policy.grow(10, 100)).isEqualTo(100);
+        assertThat(policy.grow(2_000_000_000, 2_000_000_001)).isEqualTo(GrowthPolicy.MAX_CAPACITY);
+        assertThat(policy.grow(GrowthPolicy.MAX_CAPACITY, Integer.MAX_VALUE)).isEqualTo(Integer.MAX_VALUE);
+        assertThat(policy.shrink(1000, 0)).isEqualTo(1000);
+        assertThat(GrowthPolicy.geometric(2).grow(16, 17)).isEqualTo(33);
+    }
+
+    @Test
+    void additiveSuccess() {
+        var policy = GrowthPolicy.additive(100);
+
+        assertThat(policy.grow(0, 1)).isEqualTo(100);
+        assertThat(policy.grow(100, 101)).isEqualTo(200);
+        assertThat(policy.grow(100, 500)).isEqualTo(500);
+        assertThat(policy.grow(GrowthPolicy.MAX_CAPACITY - 10, GrowthPolicy.MAX_CAPACITY - 9))
+                .isEqualTo(GrowthPolicy.MAX_CAPACITY);
+    }
+
+    @Test
+    void powerOfTwoSuccess() {
+        var policy = GrowthPolicy.powerOfTwo();
+
+        assertThat(policy.grow(0, 1)).isEqualTo(16);
+        assertThat(policy.grow(16, 17)).isEqualTo(32);
+        assertThat(policy.grow(10, 11)).isEqualTo(16);
+        assertThat(policy.grow(16, 1000)).isEqualTo(1024);
+        assertThat(policy.grow(1 << 30, (1 << 30) + 1)).isEqualTo(GrowthPolicy.MAX_CAPACITY);
+    }
+
+    @Test
+    void cappedSuccess() {
+        var policy = GrowthPolicy.capped(GrowthPolicy.geometric(2), 1000);
+
+        assertThat(policy.grow(100, 101)).isEqualTo(201);
+        assertThat(policy.grow(10000, 10001)).isEqualTo(11000);
+        assertThat(policy.grow(10000, 20000)).isEqualTo(20000);
+    }
+
+    @Test
+    void shrinkingSuccess() {
+        var policy = GrowthPolicy.shrinking(GrowthPolicy.geometric(1.5), 0.25);
+
+        assertThat(policy.grow(10, 11)).isEqualTo(16);
+        assertThat(policy.shrink(1000, 250)).isEqualTo(1000);
+        assertThat(policy.shrink(1000, 249)).isEqualTo(498);
+        assertThat(policy.shrink(498, 200)).isEqualTo(498);
+        assertThat(policy.shrink(1000, 0)).isEqualTo(GrowthPolicy.INITIAL_CAPACITY);
+        assertThat(policy.shrink(8, 0)).isEqualTo(8);
+        assertThat(GrowthPolicy.capped(policy, 10).shrink(1000, 100)).isEqualTo(200);
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {1.0, 0.5, -2.0, Double.NaN, Double.POSITIVE_INFINITY})
+    void geometricShouldTrowExceptionIfFactorIncorrect(double factor) {
+        assertThrows(IllegalArgumentException.class, () -> GrowthPolicy.geometric(factor));
+    }
+
+    @Test
+    void factoriesShouldTrowExceptionIfArgumentsIncorrect() {
+        assertThrows(IllegalArgumentException.class, () -> GrowthPolicy.additive(0));
+        assertThrows(IllegalArgumentException.class, () -> GrowthPolicy.capped(GrowthPolicy.powerOfTwo(), 0));
+        assertThrows(NullPointerException.class, () -> GrowthPolicy.capped(null, 10));
+        assertThrows(IllegalArgumentException.class, () -> GrowthPolicy.shrinking(GrowthPolicy.powerOfTwo(), 0));
+        assertThrows(IllegalArgumentException.class, () -> GrowthPolicy.shrinking(GrowthPolicy.powerOfTwo(), 0.6));
+        assertThrows(NullPointerException.class, () -> GrowthPolicy.shrinking(null, 0.25));
+    }
+}
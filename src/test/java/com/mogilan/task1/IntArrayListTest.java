@@ -0,0 +1,75 @@
+package com.mogilan.task1;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IntArrayListTest extends PrimitiveArrayListTest<Integer> {
+
+    @Override
+    List<Integer> newList() {
+        return new IntArrayList();
+    }
+
+    @Override
+    List<Integer> newList(int initialCapacity, GrowthPolicy growthPolicy) {
+        return new IntArrayList(initialCapacity, growthPolicy);
+    }
+
+    @Override
+    Integer valueOf(int value) {
+        return value;
+    }
+
+    @Override
+    int capacity(List<Integer> list) {
+        return ((IntArrayList) list).elements().length;
+    }
+
+    @Test
+    void unboxedMethodsSuccess() {
+        var list = new IntArrayList(0);
+        for (int i = 0; i < 20; i++) {
+            list.addInt(0, i);
+        }
+        list.addInt(100);
+
+        assertThat(list.setInt(1, 1000)).isEqualTo(18);
+        assertThat(list.removeInt(0)).isEqualTo(19);
+        assertThat(list.removeValue(1000)).isTrue();
+        assertThat(list.removeValue(1000)).isFalse();
+        assertThat(list.size()).isEqualTo(19);
+        assertThat(list.getInt(0)).isEqualTo(17);
+        assertThat(list.getInt(18)).isEqualTo(100);
+    }
+
+    @ParameterizedTest
+    @MethodSource("getArgumentsForUnboxedSortTest")
+    void sortShouldOrderUnboxedValues(int[] elements, int[] expectingElements) {
+        var list = new IntArrayList();
+        for (int element : elements) {
+            list.addInt(element);
+        }
+
+        list.sort(null);
+
+        var sortedElements = new int[list.size()];
+        for (int i = 0; i < sortedElements.length; i++) {
+            sortedElements[i] = list.getInt(i);
+        }
+        assertThat(sortedElements).isEqualTo(expectingElements);
+    }
+
+    static Stream<Arguments> getArgumentsForUnboxedSortTest() {
+        return Stream.of(
+                Arguments.of(
+                        new int[]{10, Integer.MAX_VALUE, 9, 6, 2, 3, Integer.MIN_VALUE, 8, 1, 0, -1, -32},
+                        new int[]{Integer.MIN_VALUE, -32, -1, 0, 1, 2, 3, 6, 8, 9, 10, Integer.MAX_VALUE})
+        );
+    }
+}
@@ -0,0 +1,124 @@
+package com.mogilan.task1;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JfrEventsTest {
+
+    private static final String RESIZE = "com.mogilan.task1.ArrayListResize";
+    private static final String SHIFT = "com.mogilan.task1.ArrayListShift";
+    private static final String SORT = "com.mogilan.task1.Sort";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void growShouldEmitResizeEvent() throws IOException {
+        var list = new ArrayList<Integer>();
+
+        var events = record(() -> {
+            for (int i = 0; i < 11; i++) {
+                list.add(i);
+            }
+        });
+
+        var resizes = events.stream().filter(event -> event.getEventType().getName().equals(RESIZE)).toList();
+        assertThat(resizes).hasSize(1);
+        assertThat(resizes.get(0).getInt("listIdentity")).isEqualTo(System.identityHashCode(list));
+        assertThat(resizes.get(0).getInt("oldCapacity")).isEqualTo(10);
+        assertThat(resizes.get(0).getInt("newCapacity")).isEqualTo(16);
+        assertThat(resizes.get(0).getInt("elements")).isEqualTo(10);
+    }
+
+    @Test
+    void trimToSizeShouldEmitResizeEvent() throws IOException {
+        var list = new ArrayList<Integer>(100);
+        list.add(1);
+
+        var events = record(list::trimToSize);
+
+        assertThat(events).singleElement().satisfies(event -> {
+            assertThat(event.getEventType().getName()).isEqualTo(RESIZE);
+            assertThat(event.getInt("oldCapacity")).isEqualTo(100);
+            assertThat(event.getInt("newCapacity")).isEqualTo(1);
+        });
+    }
+
+    @Test
+    void insertionAndRemovalShouldEmitShiftEvents() throws IOException {
+        var list = new ArrayList<Integer>();
+        for (int i = 0; i < 10; i++) {
+            list.add(i);
+        }
+
+        var events = record(() -> {
+            list.add(2, 100);
+            list.remove(5);
+            list.removeRange(0, 3);
+        });
+
+        var shifts = events.stream().filter(event -> event.getEventType().getName().equals(SHIFT)).toList();
+        assertThat(shifts).hasSize(3);
+        assertThat(shifts.get(0).getInt("index")).isEqualTo(2);
+        assertThat(shifts.get(0).getInt("shiftedElements")).isEqualTo(8);
+        assertThat(shifts.get(0).getInt("size")).isEqualTo(10);
+        assertThat(shifts.get(0).getInt("oldCapacity")).isEqualTo(10);
+        assertThat(shifts.get(0).getInt("newCapacity")).isEqualTo(16);
+        assertThat(shifts.get(1).getInt("index")).isEqualTo(5);
+        assertThat(shifts.get(1).getInt("shiftedElements")).isEqualTo(5);
+        assertThat(shifts.get(2).getInt("index")).isZero();
+        assertThat(shifts.get(2).getInt("shiftedElements")).isEqualTo(7);
+    }
+
+    @Test
+    void sortShouldEmitSortEventWithComparatorClass() throws IOException {
+        var array = new Object[]{3, 1, 2, 5, 4};
+        Comparator<Integer> comparator = Comparator.reverseOrder();
+
+        var events = record(() -> {
+            SortUtil.quicksort(array, comparator, 4);
+            SortUtil.<Integer>mergesort(array, null, 1, 3);
+        });
+
+        var sorts = events.stream().filter(event -> event.getEventType().getName().equals(SORT)).toList();
+        assertThat(sorts).hasSize(2);
+        assertThat(sorts.get(0).getString("algorithm")).isEqualTo("quicksort");
+        assertThat(sorts.get(0).getInt("elements")).isEqualTo(5);
+        assertThat(sorts.get(0).getClass("comparatorClass").getName()).isEqualTo(comparator.getClass().getName());
+        assertThat(sorts.get(1).getString("algorithm")).isEqualTo("mergesort");
+        assertThat(sorts.get(1).getInt("elements")).isEqualTo(3);
+        assertThat(sorts.get(1).getClass("comparatorClass")).isNull();
+    }
+
+    private List<RecordedEvent> record(Runnable action) throws IOException {
+        try (var recording = new Recording()) {
+            recording.enable(RESIZE).withThreshold(Duration.ZERO);
+            recording.enable(SHIFT).withThreshold(Duration.ZERO);
+            recording.enable(SORT).withThreshold(Duration.ZERO);
+            recording.start();
+            action.run();
+            recording.stop();
+            return dump(recording);
+        }
+    }
+
+    private List<RecordedEvent> dump(Recording recording) throws IOException {
+        var file = Files.createTempFile(directory, "recording", ".jfr");
+        recording.dump(file);
+        return RecordingFile.readAllEvents(file).stream()
+                .sorted(Comparator.comparing(RecordedEvent::getStartTime))
+                .toList();
+    }
+}
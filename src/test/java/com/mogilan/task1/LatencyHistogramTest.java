@@ -0,0 +1,94 @@
+package com.mogilan.task1;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LatencyHistogramTest {
+
+    @Test
+    void smallValuesShouldBeExact() {
+        var histogram = new LatencyHistogram();
+        for (int i = 1; i <= 20; i++) {
+            histogram.record(i);
+        }
+
+        assertThat(histogram.getCount()).isEqualTo(20);
+        assertThat(histogram.getMax()).isEqualTo(20);
+        assertThat(histogram.getMean()).isEqualTo(10.5);
+        assertThat(histogram.getValueAtPercentile(0)).isEqualTo(1);
+        assertThat(histogram.getValueAtPercentile(50)).isEqualTo(10);
+        assertThat(histogram.getValueAtPercentile(100)).isEqualTo(20);
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {100, 12345, 1_000_000_007L, Long.MAX_VALUE / 3})
+    void largeValuesShouldBeKeptWithSmallRelativeError(long value) {
+        var histogram = new LatencyHistogram();
+        histogram.record(value / 2);
+        histogram.record(value);
+        histogram.record(value);
+
+        assertThat(histogram.getValueAtPercentile(100)).isEqualTo(value);
+        assertThat((double) histogram.getValueAtPercentile(30)).isCloseTo(value / 2.0, within(value / 2.0 / 32));
+        assertThat(histogram.getValueAtPercentile(30)).isGreaterThanOrEqualTo(value / 2);
+    }
+
+    @Test
+    void percentilesShouldMatchDistribution() {
+        var histogram = new LatencyHistogram();
+        for (int i = 1; i <= 100000; i++) {
+            histogram.record(i * 1000L);
+        }
+
+        assertThat((double) histogram.getValueAtPercentile(50)).isCloseTo(50_000_000, within(50_000_000 / 32.0));
+        assertThat((double) histogram.getValueAtPercentile(99)).isCloseTo(99_000_000, within(99_000_000 / 32.0));
+        assertThat(histogram.getValueAtPercentile(99.99)).isLessThanOrEqualTo(histogram.getMax());
+    }
+
+    @Test
+    void concurrentRecordingShouldNotLoseValues() {
+        var histogram = new LatencyHistogram();
+        var pool = new ForkJoinPool(4);
+
+        pool.submit(() -> IntStream.range(0, 100000).parallel().forEach(histogram::record)).join();
+        pool.shutdown();
+
+        assertThat(histogram.getCount()).isEqualTo(100000);
+        assertThat(histogram.getMax()).isEqualTo(99999);
+    }
+
+    @Test
+    void copyAndResetSuccess() {
+        var histogram = new LatencyHistogram();
+        histogram.record(-5);
+        histogram.record(70);
+
+        var copy = histogram.copy();
+        histogram.reset();
+        histogram.record(3);
+
+        assertThat(copy.getCount()).isEqualTo(2);
+        assertThat(copy.getValueAtPercentile(50)).isZero();
+        assertThat(copy.getMax()).isEqualTo(70);
+        assertThat(histogram.getCount()).isEqualTo(1);
+        assertThat(histogram.getMax()).isEqualTo(3);
+        assertThat(new LatencyHistogram().getValueAtPercentile(99)).isZero();
+    }
+
+    @Test
+    void getValueAtPercentileShouldTrowExceptionIfPercentileIncorrect() {
+        var histogram = new LatencyHistogram();
+
+        assertThrows(IllegalArgumentException.class, () -> histogram.getValueAtPercentile(-1));
+        assertThrows(IllegalArgumentException.class, () -> histogram.getValueAtPercentile(100.5));
+        assertThrows(IllegalArgumentException.class, () -> histogram.getValueAtPercentile(Double.NaN));
+    }
+}
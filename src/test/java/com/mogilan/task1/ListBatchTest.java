@@ -0,0 +1,173 @@
+package com.mogilan.task1;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ConcurrentModificationException;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ListBatchTest {
+
+    @Test
+    void commitShouldApplyOperationsByOriginalIndexes() {
+        var list = listOf(0, 1, 2, 3, 4, 5);
+
+        var batch = list.batch()
+                .add(3, 30)
+                .remove(1)
+                .add(0, 100)
+                .set(4, 40)
+                .add(3, 31)
+                .remove(5)
+                .add(70);
+        assertThat(batch.size()).isEqualTo(8);
+        batch.commit();
+
+        assertThat(list.toString()).isEqualTo("[100, 0, 2, 30, 31, 3, 40, 70]");
+        assertThat(list.size()).isEqualTo(8);
+    }
+
+    @Test
+    void commitShouldApplyOnlyRemovals() {
+        var list = listOf(0, 1, 2, 3, 4, 5, 6, 7);
+
+        list.batch().remove(7).remove(0).remove(3).remove(4).commit();
+
+        assertThat(list.toString()).isEqualTo("[1, 2, 5, 6]");
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void commitShouldMatchOperationsAppliedOneByOne(boolean indexed) {
+        var random = new Random(24);
+        var list = new ArrayList<Integer>();
+        var expected = new java.util.ArrayList<Integer>();
+        for (int i = 0; i < 1000; i++) {
+            list.add(i % 50);
+            expected.add(i % 50);
+        }
+        list.setHashIndexEnabled(indexed);
+
+        for (int round = 0; round < 20; round++) {
+            int size = list.size();
+            var batch = list.batch();
+            var removed = new boolean[size];
+            var replaced = new Integer[size];
+            var inserted = new java.util.ArrayList<java.util.List<Integer>>();
+            for (int i = 0; i <= size; i++) {
+                inserted.add(new java.util.ArrayList<>());
+            }
+            for (int operation = 0; operation < 100; operation++) {
+                int kind = random.nextInt(3);
+                int value = random.nextInt(1000) + 1000;
+                if (kind == 0) {
+                    int index = random.nextInt(size + 1);
+                    batch.add(index, value);
+                    inserted.get(index).add(value);
+                } else {
+                    int index = random.nextInt(size);
+                    if (removed[index]) {
+                        continue;
+                    }
+                    if (kind == 1) {
+                        batch.remove(index);
+                        removed[index] = true;
+                    } else {
+                        batch.set(index, value);
+                        replaced[index] = value;
+                    }
+                }
+            }
+            var next = new java.util.ArrayList<Integer>();
+            for (int i = 0; i <= size; i++) {
+                next.addAll(inserted.get(i));
+                if (i < size && !removed[i]) {
+                    next.add(replaced[i] != null ? replaced[i] : expected.get(i));
+                }
+            }
+            expected = next;
+            assertThat(batch.size()).isEqualTo(expected.size());
+
+            batch.commit();
+
+            assertThat(list.toString()).isEqualTo(expected.toString());
+            for (int value : new int[]{7, 49, expected.get(0), expected.get(expected.size() - 1)}) {
+                assertThat(list.indexOf(value)).isEqualTo(expected.indexOf(value));
+            }
+        }
+    }
+
+    @Test
+    void commitShouldGrowArrayOnce() {
+        var list = new ArrayList<Integer>(GrowthPolicy.additive(1));
+        for (int i = 0; i < 10; i++) {
+            list.add(i);
+        }
+        var batch = list.batch();
+        for (int i = 0; i < 100; i++) {
+            batch.add(i % 11, i);
+        }
+
+        batch.commit();
+
+        assertThat(list.size()).isEqualTo(110);
+        assertThat(list.capacity()).isEqualTo(110);
+        assertThat(list.get(9)).isEqualTo(99);
+        assertThat(list.get(10)).isEqualTo(0);
+        assertThat(list.get(11)).isEqualTo(1);
+        assertThat(list.get(109)).isEqualTo(98);
+    }
+
+    @Test
+    void commitShouldKeepSortedFlagIfOnlyRemoving() {
+        var list = listOf(3, 1, 2);
+        list.sort(null);
+
+        list.batch().remove(1).commit();
+
+        assertThat(list.binarySearch(3, null)).isEqualTo(1);
+        list.batch().add(0, 5).commit();
+        assertThat(list.toString()).isEqualTo("[5, 1, 3]");
+    }
+
+    @Test
+    void batchShouldTrowExceptionIfUsedIncorrectly() {
+        var list = listOf(0, 1, 2);
+        var batch = list.batch();
+
+        assertThrows(IndexOutOfBoundsException.class, () -> batch.add(4, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> batch.remove(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> batch.set(-1, 0));
+        batch.remove(1);
+        assertThrows(IllegalArgumentException.class, () -> batch.remove(1));
+        assertThrows(IllegalArgumentException.class, () -> batch.set(1, 0));
+        batch.commit();
+        assertThrows(IllegalStateException.class, batch::commit);
+        assertThrows(IllegalStateException.class, () -> batch.add(0));
+
+        var staleBatch = list.batch().add(0, 10);
+        list.add(3);
+        assertThrows(ConcurrentModificationException.class, staleBatch::commit);
+        assertThat(list.toString()).isEqualTo("[0, 2, 3]");
+    }
+
+    @Test
+    void commitShouldInvalidateIterators() {
+        var list = listOf(0, 1, 2);
+        var iterator = list.iterator();
+
+        list.batch().remove(0).commit();
+
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+    }
+
+    private static ArrayList<Integer> listOf(Integer... elements) {
+        var list = new ArrayList<Integer>();
+        list.addAll(elements);
+        return list;
+    }
+}
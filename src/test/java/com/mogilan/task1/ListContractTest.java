@@ -0,0 +1,80 @@
+package com.mogilan.task1;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests shared by the implementations of {@link List}: a long random sequence of operations applied both to a list
+ * and to a {@link java.util.ArrayList} must give the same results. A test class of an implementation extends this
+ * class, creates its list in newList() and can add operations specific to the implementation
+ * in extraOperation().
+ */
+abstract class ListContractTest {
+
+    private static final int OPERATIONS = 20000;
+
+    /**
+     * Returns a new empty list to be tested. Each variant from 0 to 3 may configure the list differently,
+     * for example by a different initial capacity.
+     */
+    abstract List<Integer> newList(int variant);
+
+    /**
+     * Applies an operation specific to the implementation both to the list and to the expected list.
+     * By default adds the value to the end.
+     */
+    void extraOperation(List<Integer> list, java.util.List<Integer> expected, Random random, int value) {
+        list.add(value);
+        expected.add(value);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 2, 3})
+    void randomOperationsShouldMatchJdkArrayList(int variant) {
+        var list = newList(variant);
+        var random = new Random(variant);
+        var expected = new java.util.ArrayList<Integer>();
+        for (int operation = 0; operation < OPERATIONS; operation++) {
+            var value = random.nextInt(100);
+            switch (random.nextInt(8)) {
+                case 0 -> {
+                    list.add(value);
+                    expected.add(value);
+                }
+                case 1 -> {
+                    var index = expected.isEmpty() ? 0 : random.nextInt(expected.size());
+                    list.add(index, value);
+                    expected.add(index, value);
+                }
+                case 2 -> {
+                    if (!expected.isEmpty()) {
+                        var index = random.nextInt(expected.size());
+                        assertThat(list.remove(index)).isEqualTo(expected.remove(index));
+                    }
+                }
+                case 3 -> assertThat(list.remove(Integer.valueOf(value))).isEqualTo(expected.remove(Integer.valueOf(value)));
+                case 4 -> {
+                    if (expected.size() > 40) {
+                        var fromIndex = random.nextInt(expected.size() - 40);
+                        list.removeRange(fromIndex, fromIndex + 35);
+                        expected.subList(fromIndex, fromIndex + 35).clear();
+                    }
+                }
+                case 5 -> {
+                    if (!expected.isEmpty()) {
+                        var index = random.nextInt(expected.size());
+                        assertThat(list.set(index, value)).isEqualTo(expected.set(index, value));
+                    }
+                }
+                default -> extraOperation(list, expected, random, value);
+            }
+        }
+
+        assertThat(list.size()).isEqualTo(expected.size());
+        assertThat(list.toString()).isEqualTo(expected.toString());
+    }
+}
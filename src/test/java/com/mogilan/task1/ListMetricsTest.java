@@ -0,0 +1,128 @@
+package com.mogilan.task1;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Runs with metrics enabled by the system property set in the separate surefire execution metrics-test.
+ * All other tests run with metrics disabled.
+ */
+class ListMetricsTest {
+
+    @BeforeEach
+    void prepare() {
+        assumeTrue(ListMetrics.ENABLED);
+        ListMetrics.reset();
+    }
+
+    @Test
+    void resizesShouldBeCounted() {
+        var list = new ArrayList<Integer>(GrowthPolicy.additive(10));
+        for (int i = 0; i < 31; i++) {
+            list.add(i);
+        }
+        list.trimToSize();
+
+        var metrics = ListMetrics.snapshot();
+
+        assertThat(metrics.getResizes()).isEqualTo(4);
+        assertThat(metrics.getElementsCopied()).isEqualTo(10 + 20 + 30 + 31);
+        assertThat(metrics.getShifts()).isZero();
+    }
+
+    @Test
+    void shiftsShouldBeCounted() {
+        var list = new ArrayList<Integer>(100);
+        for (int i = 0; i < 10; i++) {
+            list.add(i);
+        }
+
+        list.add(0, -1);
+        list.add(10, -2);
+        list.remove(0);
+        list.remove(list.size() - 1);
+        list.removeRange(2, 4);
+        var metrics = ListMetrics.snapshot();
+
+        assertThat(metrics.getResizes()).isZero();
+        assertThat(metrics.getShifts()).isEqualTo(4);
+        assertThat(metrics.getShiftedElements()).isEqualTo(10 + 1 + 10 + 7);
+        assertThat(metrics.getElementsCopied()).isEqualTo(metrics.getShiftedElements());
+    }
+
+    @Test
+    void insertionWithResizeShouldCountAllCopiedElements() {
+        var list = new ArrayList<Integer>(4);
+        for (int i = 0; i < 4; i++) {
+            list.add(i);
+        }
+
+        list.add(1, 10);
+        var metrics = ListMetrics.snapshot();
+
+        assertThat(metrics.getResizes()).isEqualTo(1);
+        assertThat(metrics.getShifts()).isEqualTo(1);
+        assertThat(metrics.getShiftedElements()).isEqualTo(3);
+        assertThat(metrics.getElementsCopied()).isEqualTo(4);
+    }
+
+    @Test
+    void sortsShouldBeCountedAndTimed() {
+        var list = new ArrayList<Integer>();
+        for (int i = 0; i < 1000; i++) {
+            list.add((i * 7919) % 1000);
+        }
+
+        list.sort(null);
+        list.sort(Comparator.reverseOrder());
+        list.setSortStrategy(SortStrategy.MERGESORT);
+        list.sort(Comparator.naturalOrder());
+        list.parallelSort(Comparator.reverseOrder(), new ForkJoinPool(2));
+        var metrics = ListMetrics.snapshot();
+
+        assertThat(metrics.getSorts()).isEqualTo(4);
+        assertThat(metrics.getComparisons()).isGreaterThan(4 * 999);
+        assertThat(metrics.getSortLatency().getCount()).isEqualTo(4);
+        assertThat(metrics.getSortLatency().getMax()).isPositive();
+        assertThat(list.get(0)).isEqualTo(999);
+        assertThat(list.get(999)).isZero();
+    }
+
+    @Test
+    void snapshotShouldNotChange() {
+        var list = new ArrayList<Integer>(1);
+        list.add(1);
+        var metrics = ListMetrics.snapshot();
+
+        list.add(2);
+        list.sort(null);
+
+        assertThat(metrics.getResizes()).isZero();
+        assertThat(metrics.getSortLatency().getCount()).isZero();
+        assertThat(ListMetrics.snapshot().getResizes()).isEqualTo(1);
+    }
+
+    @Test
+    void metricsShouldBePublishedToJmx() throws Exception {
+        var list = new ArrayList<Integer>(1);
+        list.add(1);
+        list.add(2);
+        var server = ManagementFactory.getPlatformMBeanServer();
+        var name = new ObjectName(ListMetrics.OBJECT_NAME);
+
+        assertThat(server.isRegistered(name)).isTrue();
+        assertThat(server.getAttribute(name, "Resizes")).isEqualTo(1L);
+
+        server.invoke(name, "reset", null, null);
+
+        assertThat(ListMetrics.snapshot().getResizes()).isZero();
+    }
+}
@@ -0,0 +1,79 @@
+package com.mogilan.task1;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ConcurrentModificationException;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ListViewTest {
+
+    static Stream<Arguments> lists() {
+        return Stream.of(
+                Arguments.of((Supplier<List<Integer>>) CircularArrayList::new),
+                Arguments.of((Supplier<List<Integer>>) ChunkedArrayList::new),
+                Arguments.of((Supplier<List<Integer>>) ConcurrentArrayList::new),
+                Arguments.of((Supplier<List<Integer>>) CopyOnWriteArrayList::new));
+    }
+
+    @ParameterizedTest
+    @MethodSource("lists")
+    void subListShouldReadAndWriteViewedList(Supplier<List<Integer>> factory) {
+        var list = listOf(factory, 10);
+
+        var view = list.subList(2, 8);
+        view.set(0, 20);
+        view.add(80);
+        view.add(0, -1);
+        view.remove(Integer.valueOf(5));
+        view.removeRange(4, 6);
+
+        assertThat(view.toString()).isEqualTo("[-1, 20, 3, 4, 80]");
+        assertThat(list.toString()).isEqualTo("[0, 1, -1, 20, 3, 4, 80, 8, 9]");
+        assertThat(view.size()).isEqualTo(5);
+        assertThat(view.get(4)).isEqualTo(80);
+    }
+
+    @ParameterizedTest
+    @MethodSource("lists")
+    void subListOfSubListShouldUpdateBothViews(Supplier<List<Integer>> factory) {
+        var list = listOf(factory, 10);
+        var view = list.subList(1, 9);
+
+        var innerView = view.subList(2, 5);
+        innerView.sort((first, second) -> second - first);
+        innerView.clear();
+        innerView.add(100);
+
+        assertThat(view.toString()).isEqualTo("[1, 2, 100, 6, 7, 8]");
+        assertThat(list.toString()).isEqualTo("[0, 1, 2, 100, 6, 7, 8, 9]");
+        assertThat(list.subList(8, 8).size()).isZero();
+    }
+
+    @ParameterizedTest
+    @MethodSource("lists")
+    void subListShouldTrowExceptionIfListResizedOrIndexIncorrect(Supplier<List<Integer>> factory) {
+        var list = listOf(factory, 5);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> list.subList(3, 6));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.subList(3, 2));
+        var view = list.subList(1, 3);
+        assertThrows(IndexOutOfBoundsException.class, () -> view.get(2));
+        list.add(5);
+        assertThrows(ConcurrentModificationException.class, view::size);
+        assertThrows(ConcurrentModificationException.class, () -> view.get(0));
+    }
+
+    private static List<Integer> listOf(Supplier<List<Integer>> factory, int numberOfElements) {
+        var list = factory.get();
+        for (int i = 0; i < numberOfElements; i++) {
+            list.add(i);
+        }
+        return list;
+    }
+}
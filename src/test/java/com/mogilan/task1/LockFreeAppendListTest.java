@@ -0,0 +1,123 @@
+package com.mogilan.task1;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LockFreeAppendListTest {
+
+    private LockFreeAppendList<Integer> list;
+
+    @BeforeEach
+    void prepare() {
+        list = new LockFreeAppendList<>();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 15, 16, 17, 47, 48, 49, 100000})
+    void addAndGetSuccessAcrossSegments(int numberOfElements) {
+        for (int i = 0; i < numberOfElements; i++) {
+            list.add(i);
+        }
+
+        assertThat(list.size()).isEqualTo(numberOfElements);
+        for (int i = 0; i < numberOfElements; i++) {
+            assertThat(list.get(i)).isEqualTo(i);
+        }
+    }
+
+    @Test
+    void setAndNullElementsSuccess() {
+        list.add(null);
+        list.add(1);
+
+        var replaced = list.set(1, null);
+        var replacedNull = list.set(0, 0);
+
+        assertThat(replaced).isEqualTo(1);
+        assertThat(replacedNull).isNull();
+        assertThat(list.toString()).isEqualTo("[0, null]");
+    }
+
+    @ParameterizedTest
+    @MethodSource("com.mogilan.task1.ArrayListTest#getArgumentsForCheckingExceptionIfIndexIncorrect")
+    void getAndSetShouldTrowExceptionIfIndexIncorrect(int numberOfElements, int index) {
+        for (int i = 0; i < numberOfElements; i++) {
+            list.add(i);
+        }
+
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(index));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.set(index, 1));
+    }
+
+    @Test
+    void nonAppendingModificationsShouldTrowException() {
+        list.add(1);
+
+        assertThrows(UnsupportedOperationException.class, () -> list.add(0, 1));
+        assertThrows(UnsupportedOperationException.class, () -> list.remove(0));
+        assertThrows(UnsupportedOperationException.class, () -> list.remove(Integer.valueOf(1)));
+        assertThrows(UnsupportedOperationException.class, list::clear);
+        assertThrows(UnsupportedOperationException.class, () -> list.sort(null));
+    }
+
+    @Test
+    void concurrentAddShouldPublishEveryElementExactlyOnce() throws Exception {
+        var producers = 8;
+        var elementsPerProducer = 100000;
+        var executor = Executors.newFixedThreadPool(producers + 1);
+        var producersFinished = new AtomicBoolean();
+        try {
+            var start = new CountDownLatch(1);
+            var futures = new Future<?>[producers];
+            for (int producer = 0; producer < producers; producer++) {
+                var firstValue = producer * elementsPerProducer;
+                futures[producer] = executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < elementsPerProducer; i++) {
+                        list.add(firstValue + i);
+                    }
+                    return null;
+                });
+            }
+            var reader = executor.submit(() -> {
+                while (!producersFinished.get()) {
+                    var observedSize = list.size();
+                    if (observedSize > 0 && list.get(observedSize - 1) == null) {
+                        throw new AssertionError("Unwritten element below published size");
+                    }
+                }
+                return null;
+            });
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+            producersFinished.set(true);
+            reader.get(60, TimeUnit.SECONDS);
+        } finally {
+            producersFinished.set(true);
+            executor.shutdownNow();
+        }
+
+        var total = producers * elementsPerProducer;
+        var seen = new boolean[total];
+        assertThat(list.size()).isEqualTo(total);
+        for (int i = 0; i < total; i++) {
+            var value = list.get(i);
+            assertThat(seen[value]).isFalse();
+            seen[value] = true;
+        }
+    }
+}
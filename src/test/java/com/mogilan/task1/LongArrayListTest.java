@@ -0,0 +1,75 @@
+package com.mogilan.task1;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LongArrayListTest extends PrimitiveArrayListTest<Long> {
+
+    @Override
+    List<Long> newList() {
+        return new LongArrayList();
+    }
+
+    @Override
+    List<Long> newList(int initialCapacity, GrowthPolicy growthPolicy) {
+        return new LongArrayList(initialCapacity, growthPolicy);
+    }
+
+    @Override
+    Long valueOf(int value) {
+        return (long) value;
+    }
+
+    @Override
+    int capacity(List<Long> list) {
+        return ((LongArrayList) list).elements().length;
+    }
+
+    @Test
+    void unboxedMethodsSuccess() {
+        var list = new LongArrayList(0);
+        for (int i = 0; i < 20; i++) {
+            list.addLong(0, i);
+        }
+        list.addLong(100L);
+
+        assertThat(list.setLong(1, 1000L)).isEqualTo(18L);
+        assertThat(list.removeLong(0)).isEqualTo(19L);
+        assertThat(list.removeValue(1000L)).isTrue();
+        assertThat(list.removeValue(1000L)).isFalse();
+        assertThat(list.size()).isEqualTo(19);
+        assertThat(list.getLong(0)).isEqualTo(17L);
+        assertThat(list.getLong(18)).isEqualTo(100L);
+    }
+
+    @ParameterizedTest
+    @MethodSource("getArgumentsForUnboxedSortTest")
+    void sortShouldOrderUnboxedValues(long[] elements, long[] expectingElements) {
+        var list = new LongArrayList();
+        for (long element : elements) {
+            list.addLong(element);
+        }
+
+        list.sort(null);
+
+        var sortedElements = new long[list.size()];
+        for (int i = 0; i < sortedElements.length; i++) {
+            sortedElements[i] = list.getLong(i);
+        }
+        assertThat(sortedElements).isEqualTo(expectingElements);
+    }
+
+    static Stream<Arguments> getArgumentsForUnboxedSortTest() {
+        return Stream.of(
+                Arguments.of(
+                        new long[]{10L, Long.MAX_VALUE, 9L, 6L, 2L, 3L, Long.MIN_VALUE, 8L, 1L, 0L, -1L, -32L},
+                        new long[]{Long.MIN_VALUE, -32L, -1L, 0L, 1L, 2L, 3L, 6L, 8L, 9L, 10L, Long.MAX_VALUE})
+        );
+    }
+}
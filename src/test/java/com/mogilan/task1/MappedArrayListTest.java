@@ -0,0 +1,137 @@
+package com.mogilan.task1;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MappedArrayListTest {
+
+    @TempDir
+    Path directory;
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 16, 17, 1000})
+    void reopenShouldRestoreElements(int numberOfElements) throws IOException {
+        var path = directory.resolve("list");
+        try (var list = MappedArrayList.open(path, ElementCodec.ofLong(), 16)) {
+            for (long i = 0; i < numberOfElements; i++) {
+                list.add(i * i);
+            }
+        }
+
+        try (var list = MappedArrayList.open(path, ElementCodec.ofLong())) {
+            assertThat(list.size()).isEqualTo(numberOfElements);
+            for (int i = 0; i < numberOfElements; i++) {
+                assertThat(list.get(i)).isEqualTo((long) i * i);
+            }
+            list.add(-1L);
+            assertThat(list.get(numberOfElements)).isEqualTo(-1L);
+        }
+    }
+
+    @Test
+    void modificationsShouldPersist() throws IOException {
+        var path = directory.resolve("list");
+        var random = new Random(7);
+        var expected = new java.util.ArrayList<Integer>();
+        try (var list = MappedArrayList.open(path, ElementCodec.ofInt(), 8)) {
+            for (int i = 0; i < 500; i++) {
+                var value = random.nextInt(1000);
+                list.add(value);
+                expected.add(value);
+            }
+            list.add(3, -5);
+            expected.add(3, -5);
+            list.remove(100);
+            expected.remove(100);
+            list.removeRange(10, 50);
+            expected.subList(10, 50).clear();
+            list.set(0, 42);
+            expected.set(0, 42);
+        }
+
+        try (var list = MappedArrayList.open(path, ElementCodec.ofInt(), 8)) {
+            assertThat(list.toString()).isEqualTo(expected.toString());
+        }
+    }
+
+    @Test
+    void sortShouldPersist() throws IOException {
+        var path = directory.resolve("list");
+        var random = new Random(3);
+        try (var list = MappedArrayList.open(path, ElementCodec.ofInt(), 32)) {
+            for (int i = 0; i < 1000; i++) {
+                list.add(random.nextInt());
+            }
+            list.sort(Comparator.reverseOrder());
+        }
+
+        try (var list = MappedArrayList.open(path, ElementCodec.ofInt(), 32)) {
+            assertThat(list.size()).isEqualTo(1000);
+            for (int i = 1; i < list.size(); i++) {
+                assertThat(list.get(i - 1)).isGreaterThanOrEqualTo(list.get(i));
+            }
+        }
+    }
+
+    @Test
+    void clearShouldPersist() throws IOException {
+        var path = directory.resolve("list");
+        try (var list = MappedArrayList.open(path, ElementCodec.ofInt(), 4)) {
+            for (int i = 0; i < 100; i++) {
+                list.add(i);
+            }
+            list.clear();
+            list.add(7);
+        }
+
+        try (var list = MappedArrayList.open(path, ElementCodec.ofInt(), 4)) {
+            assertThat(list.toString()).isEqualTo("[7]");
+        }
+    }
+
+    @Test
+    void fileShouldGrowByManyChunksAtOnce() throws IOException {
+        var path = directory.resolve("list");
+        try (var list = MappedArrayList.open(path, ElementCodec.ofInt(), 1024)) {
+            long chunkBytes = 1024 * Integer.BYTES;
+            var lengths = new java.util.TreeSet<Long>();
+            for (int i = 0; i < 100 * 1024; i++) {
+                list.add(i);
+                lengths.add(list.fileLength());
+            }
+
+            assertThat(lengths.size()).isLessThan(15);
+            assertThat(list.fileLength()).isGreaterThanOrEqualTo(4096 + 100 * chunkBytes);
+            assertThat(Files.size(path)).isEqualTo(list.fileLength());
+        }
+    }
+
+    @Test
+    void openShouldTrowExceptionIfFileDoesNotMatch() throws IOException {
+        var path = directory.resolve("list");
+        try (var list = MappedArrayList.open(path, ElementCodec.ofInt(), 16)) {
+            list.add(1);
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> MappedArrayList.open(path, ElementCodec.ofLong()));
+        assertThrows(IllegalArgumentException.class, () -> MappedArrayList.open(path, ElementCodec.ofInt(), 32));
+
+        var other = directory.resolve("other");
+        Files.write(other, new byte[8192]);
+        assertThrows(IOException.class, () -> MappedArrayList.open(other, ElementCodec.ofInt()));
+        Files.write(other, new byte[10]);
+        assertThrows(IOException.class, () -> MappedArrayList.open(other, ElementCodec.ofInt()));
+        assertThrows(NullPointerException.class, () -> MappedArrayList.open(other, null));
+    }
+}
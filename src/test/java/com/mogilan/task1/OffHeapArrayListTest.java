@@ -0,0 +1,181 @@
+package com.mogilan.task1;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class OffHeapArrayListTest extends ListContractTest {
+
+    private static final ElementCodec<Point> POINT_CODEC = new ElementCodec<>() {
+
+        @Override
+        public int width() {
+            return 12;
+        }
+
+        @Override
+        public void encode(Point element, ByteBuffer buffer, int index) {
+            buffer.putInt(index, element.x());
+            buffer.putLong(index + 4, element.y());
+        }
+
+        @Override
+        public Point decode(ByteBuffer buffer, int index) {
+            return new Point(buffer.getInt(index), buffer.getLong(index + 4));
+        }
+    };
+
+    private OffHeapArrayList<Integer> list;
+
+    @BeforeEach
+    void prepare() {
+        list = new OffHeapArrayList<>(ElementCodec.ofInt(), 16);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 15, 16, 17, 1000})
+    void addAndGetSuccessAcrossChunks(int numberOfElements) {
+        for (int i = 0; i < numberOfElements; i++) {
+            list.add(i);
+        }
+
+        assertThat(list.size()).isEqualTo(numberOfElements);
+        for (int i = 0; i < numberOfElements; i++) {
+            assertThat(list.get(i)).isEqualTo(i);
+        }
+    }
+
+    @Override
+    List<Integer> newList(int variant) {
+        return new OffHeapArrayList<>(ElementCodec.ofInt(), new int[]{1, 3, 16, 1 << 20}[variant]);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {2, 17, 1000, 4097})
+    void sortSuccessAcrossChunks(int numberOfElements) {
+        var random = new Random(numberOfElements);
+        var expected = new Integer[numberOfElements];
+        for (int i = 0; i < numberOfElements; i++) {
+            expected[i] = random.nextInt(500);
+            list.add(expected[i]);
+        }
+        Arrays.sort(expected);
+
+        list.sort(null);
+
+        var actual = new Integer[list.size()];
+        for (int i = 0; i < actual.length; i++) {
+            actual[i] = list.get(i);
+        }
+        assertThat(actual).isEqualTo(expected);
+
+        list.sort(Comparator.reverseOrder());
+
+        assertThat(list.get(0)).isEqualTo(expected[numberOfElements - 1]);
+        assertThat(list.get(numberOfElements - 1)).isEqualTo(expected[0]);
+    }
+
+    @Test
+    void customCodecSuccess() {
+        var points = new OffHeapArrayList<>(POINT_CODEC, 5);
+        for (int i = 0; i < 20; i++) {
+            points.add(new Point(i % 7, (long) i << 40));
+        }
+
+        points.add(3, new Point(-1, -1L));
+        points.sort(Comparator.comparingInt(Point::x).thenComparingLong(Point::y));
+
+        assertThat(points.size()).isEqualTo(21);
+        assertThat(points.get(0)).isEqualTo(new Point(-1, -1L));
+        assertThat(points.get(1)).isEqualTo(new Point(0, 0L));
+        assertThat(points.get(20)).isEqualTo(new Point(6, 13L << 40));
+        assertThat(points.remove(new Point(6, 13L << 40))).isTrue();
+        assertThat(points.remove(new Point(6, 13L << 40))).isFalse();
+    }
+
+    @Test
+    void defaultBulkAndTraversalMethodsSuccess() {
+        var longs = new OffHeapArrayList<>(ElementCodec.ofLong(), 4);
+        longs.addAll(new Long[]{0L, 1L, 2L, 3L, 4L, 5L});
+        var newElements = new ArrayList<Long>();
+        newElements.add(10L);
+        newElements.add(11L);
+
+        longs.addAll(2, newElements);
+        longs.setAll(6, new Long[]{40L, 50L});
+
+        assertThat(longs.toString()).isEqualTo("[0, 1, 10, 11, 2, 3, 40, 50]");
+        assertThat(longs.stream().mapToLong(Long::longValue).sum()).isEqualTo(117L);
+        assertThat(longs.indexOf(40L)).isEqualTo(6);
+    }
+
+    @Test
+    void addShouldNotChangeListIfCodecThrowsException() {
+        list.add(1);
+        list.add(2);
+
+        assertThrows(NullPointerException.class, () -> list.add(0, null));
+        assertThrows(NullPointerException.class, () -> list.add(null));
+
+        assertThat(list.toString()).isEqualTo("[1, 2]");
+    }
+
+    @Test
+    void clearSuccess() {
+        for (int i = 0; i < 100; i++) {
+            list.add(i);
+        }
+
+        list.clear();
+
+        assertThat(list.size()).isZero();
+        assertThat(list.toString()).isEqualTo("[]");
+
+        list.add(0, 7);
+        list.add(8);
+
+        assertThat(list.toString()).isEqualTo("[7, 8]");
+    }
+
+    @ParameterizedTest
+    @MethodSource("com.mogilan.task1.ArrayListTest#getArgumentsForCheckingExceptionIfIndexIncorrect")
+    void methodsShouldTrowExceptionIfIndexIncorrect(int numberOfElements, int index) {
+        for (int i = 0; i < numberOfElements; i++) {
+            list.add(i);
+        }
+
+        assertThrows(IndexOutOfBoundsException.class, () -> list.add(index, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(index));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.set(index, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.remove(index));
+    }
+
+    @Test
+    void constructorShouldTrowExceptionIfArgumentsIncorrect() {
+        assertThrows(NullPointerException.class, () -> new OffHeapArrayList<Integer>(null));
+        assertThrows(IllegalArgumentException.class, () -> new OffHeapArrayList<>(ElementCodec.ofInt(), 0));
+        assertThrows(IllegalArgumentException.class, () -> new OffHeapArrayList<>(ElementCodec.ofInt(), 1 << 29));
+    }
+
+    @Test
+    void sortShouldTrowExceptionIfElementsAreNotComparable() {
+        var points = new OffHeapArrayList<>(POINT_CODEC);
+        points.add(new Point(1, 1L));
+        points.add(new Point(2, 2L));
+
+        assertThrows(ClassCastException.class, () -> points.sort(null));
+    }
+
+    private record Point(int x, long y) {
+    }
+}
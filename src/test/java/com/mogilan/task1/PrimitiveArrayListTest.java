@@ -0,0 +1,206 @@
+package com.mogilan.task1;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Comparator;
+import java.util.StringJoiner;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests shared by {@link IntArrayList}, {@link LongArrayList} and {@link DoubleArrayList}, written against
+ * the boxed {@link List} methods. A test class of a primitive list extends this class, creates its lists and
+ * converts int values to its element type; the methods that work with unboxed values are tested in the subclass.
+ */
+abstract class PrimitiveArrayListTest<E extends Comparable<? super E>> {
+
+    private List<E> list;
+
+    @BeforeEach
+    void prepare() {
+        list = newList();
+    }
+
+    abstract List<E> newList();
+
+    abstract List<E> newList(int initialCapacity, GrowthPolicy growthPolicy);
+
+    abstract E valueOf(int value);
+
+    /**
+     * Returns the length of the array of elements of the specified list.
+     */
+    abstract int capacity(List<E> list);
+
+    @Test
+    void addSuccessWhenCapacityIsExceeded() {
+        var initialCapacityList = newList(0, GrowthPolicy.geometric(1.5));
+        for (int i = 0; i < 30; i++) {
+            initialCapacityList.add(valueOf(i));
+        }
+
+        assertThat(initialCapacityList.size()).isEqualTo(30);
+        for (int i = 0; i < 30; i++) {
+            assertThat(initialCapacityList.get(i)).isEqualTo(valueOf(i));
+        }
+    }
+
+    @Test
+    void growthShouldBeChosenByGrowthPolicy() {
+        var additiveList = newList(0, GrowthPolicy.additive(4));
+        for (int i = 0; i < 12; i++) {
+            additiveList.add(valueOf(i));
+        }
+
+        assertThat(capacity(additiveList)).isEqualTo(12);
+
+        additiveList.add(0, valueOf(-1));
+
+        assertThat(capacity(additiveList)).isEqualTo(16);
+        assertThat(additiveList.get(0)).isEqualTo(valueOf(-1));
+        assertThat(additiveList.get(12)).isEqualTo(valueOf(11));
+    }
+
+    @Test
+    void defaultGrowthShouldBeGeometric() {
+        populateList(11);
+
+        assertThat(capacity(list)).isEqualTo(16);
+    }
+
+    @Test
+    void addByIndexSuccess() {
+        for (int i = 0; i < 20; i++) {
+            list.add(0, valueOf(i));
+        }
+        list.add(5, valueOf(1000));
+
+        assertThat(list.size()).isEqualTo(21);
+        assertThat(list.get(0)).isEqualTo(valueOf(19));
+        assertThat(list.get(5)).isEqualTo(valueOf(1000));
+        assertThat(list.get(6)).isEqualTo(valueOf(14));
+        assertThat(list.get(20)).isEqualTo(valueOf(0));
+    }
+
+    @Test
+    void addShouldTrowExceptionIfElementIsNull() {
+        assertThrows(NullPointerException.class, () -> list.add(null));
+    }
+
+    @ParameterizedTest
+    @MethodSource("com.mogilan.task1.ArrayListTest#getArgumentsForCheckingExceptionIfIndexIncorrect")
+    void methodsShouldTrowExceptionIfIndexIncorrect(int numberOfElements, int index) {
+        populateList(numberOfElements);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> list.add(index, valueOf(1)));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(index));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.set(index, valueOf(1)));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.remove(index));
+    }
+
+    @Test
+    void setSuccess() {
+        populateList(10);
+
+        var actualResult = list.set(3, valueOf(1000));
+
+        assertThat(actualResult).isEqualTo(valueOf(3));
+        assertThat(list.get(3)).isEqualTo(valueOf(1000));
+        assertThat(list.size()).isEqualTo(10);
+    }
+
+    @Test
+    void removeSuccess() {
+        populateList(10);
+
+        var removedByIndex = list.remove(0);
+        var removedByValue = list.remove(valueOf(5));
+        var removedMissingValue = list.remove(valueOf(1000));
+        var removedNull = list.remove(null);
+
+        assertThat(removedByIndex).isEqualTo(valueOf(0));
+        assertThat(removedByValue).isTrue();
+        assertThat(removedMissingValue).isFalse();
+        assertThat(removedNull).isFalse();
+        assertThat(list.toString()).isEqualTo(toString(1, 2, 3, 4, 6, 7, 8, 9));
+    }
+
+    @Test
+    void clearSuccess() {
+        populateList(20);
+
+        list.clear();
+
+        assertThat(list.size()).isZero();
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(0));
+    }
+
+    @ParameterizedTest
+    @MethodSource("getArgumentsForSortSuccessTest")
+    void sortSuccessWhenComparatorIsNull(int[] elements, int[] expectingElements) {
+        for (int element : elements) {
+            list.add(valueOf(element));
+        }
+
+        list.sort(null);
+
+        assertThat(list.toString()).isEqualTo(toString(expectingElements));
+    }
+
+    @ParameterizedTest
+    @MethodSource("getArgumentsForSortSuccessTest")
+    void sortSuccessWhenComparatorIsNotNull(int[] elements, int[] expectingElements) {
+        for (int element : elements) {
+            list.add(valueOf(element));
+        }
+
+        list.sort(Comparator.reverseOrder());
+        var reversed = list.toString();
+        list.sort(Comparator.naturalOrder());
+
+        var expectingReversed = new int[expectingElements.length];
+        for (int i = 0; i < expectingElements.length; i++) {
+            expectingReversed[i] = expectingElements[expectingElements.length - 1 - i];
+        }
+        assertThat(reversed).isEqualTo(toString(expectingReversed));
+        assertThat(list.toString()).isEqualTo(toString(expectingElements));
+    }
+
+    @Test
+    void toStringSuccess() {
+        assertThat(list.toString()).isEqualTo("[]");
+
+        populateList(3);
+
+        assertThat(list.toString()).isEqualTo(toString(0, 1, 2));
+    }
+
+    private void populateList(int numberOfElements) {
+        for (int i = 0; i < numberOfElements; i++) {
+            list.add(valueOf(i));
+        }
+    }
+
+    private String toString(int... values) {
+        var joiner = new StringJoiner(", ", "[", "]");
+        for (int value : values) {
+            joiner.add(valueOf(value).toString());
+        }
+        return joiner.toString();
+    }
+
+    static Stream<Arguments> getArgumentsForSortSuccessTest() {
+        return Stream.of(
+                Arguments.of(new int[]{}, new int[]{}),
+                Arguments.of(new int[]{1}, new int[]{1}),
+                Arguments.of(new int[]{1, 3, 2, 4, 7, 6, 5, 8, 10, 9}, new int[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10}),
+                Arguments.of(new int[]{2, 2, 2, 3, 3, 3, 1, 1, 1}, new int[]{1, 1, 1, 2, 2, 2, 3, 3, 3})
+        );
+    }
+}
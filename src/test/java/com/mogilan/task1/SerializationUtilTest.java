@@ -0,0 +1,146 @@
+package com.mogilan.task1;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SerializationUtilTest {
+
+    private static final ElementCodec<String> FIXED_STRING_CODEC = new ElementCodec<>() {
+
+        @Override
+        public int width() {
+            return 6;
+        }
+
+        @Override
+        public void encode(String element, ByteBuffer buffer, int index) {
+            for (int i = 0; i < 3; i++) {
+                buffer.putChar(index + i * 2, i < element.length() ? element.charAt(i) : 0);
+            }
+        }
+
+        @Override
+        public String decode(ByteBuffer buffer, int index) {
+            var builder = new StringBuilder();
+            for (int i = 0; i < 3 && buffer.getChar(index + i * 2) != 0; i++) {
+                builder.append(buffer.getChar(index + i * 2));
+            }
+            return builder.toString();
+        }
+    };
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 100, 20000})
+    void writeAndReadWithCodecSuccess(int numberOfElements) throws IOException {
+        var list = new ArrayList<String>();
+        for (int i = 0; i < numberOfElements; i++) {
+            list.add(Integer.toString(i % 1000));
+        }
+
+        var bytes = write(list, FIXED_STRING_CODEC);
+        var fromChannel = SerializationUtil.read(Channels.newChannel(new ByteArrayInputStream(bytes)), FIXED_STRING_CODEC);
+        var fromBuffer = SerializationUtil.read(ByteBuffer.wrap(bytes), FIXED_STRING_CODEC);
+
+        assertThat(bytes).hasSize(16 + numberOfElements * 6);
+        assertThat(fromChannel.toString()).isEqualTo(list.toString());
+        assertThat(fromBuffer.toString()).isEqualTo(list.toString());
+        fromChannel.add("new");
+        assertThat(fromChannel.get(numberOfElements)).isEqualTo("new");
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 16384, 16385, 100000})
+    void writeAndReadPrimitivesSuccess(int numberOfElements) throws IOException {
+        var random = new Random(numberOfElements);
+        var ints = new IntArrayList();
+        var longs = new LongArrayList();
+        var doubles = new DoubleArrayList();
+        for (int i = 0; i < numberOfElements; i++) {
+            ints.addInt(random.nextInt());
+            longs.addLong(random.nextLong());
+            doubles.addDouble(random.nextDouble());
+        }
+
+        var output = new ByteArrayOutputStream();
+        var channel = Channels.newChannel(output);
+        SerializationUtil.write(ints, channel);
+        SerializationUtil.write(longs, channel);
+        SerializationUtil.write(doubles, channel);
+        var bytes = output.toByteArray();
+
+        var input = Channels.newChannel(new ByteArrayInputStream(bytes));
+        assertThat(SerializationUtil.readInts(input).toString()).isEqualTo(ints.toString());
+        assertThat(SerializationUtil.readLongs(input).toString()).isEqualTo(longs.toString());
+        assertThat(SerializationUtil.readDoubles(input).toString()).isEqualTo(doubles.toString());
+        assertThat(input.read(ByteBuffer.allocate(1))).isEqualTo(-1);
+
+        var buffer = ByteBuffer.allocateDirect(bytes.length + 3).put(bytes).flip();
+        assertThat(SerializationUtil.readInts(buffer).toString()).isEqualTo(ints.toString());
+        assertThat(SerializationUtil.readLongs(buffer).toString()).isEqualTo(longs.toString());
+        assertThat(SerializationUtil.readDoubles(buffer).toString()).isEqualTo(doubles.toString());
+        assertThat(buffer.remaining()).isZero();
+    }
+
+    @Test
+    void primitiveListShouldBeReadableByCodec() throws IOException {
+        var ints = new IntArrayList();
+        ints.addInt(-1);
+        ints.addInt(Integer.MAX_VALUE);
+
+        var output = new ByteArrayOutputStream();
+        SerializationUtil.write(ints, Channels.newChannel(output));
+        var list = SerializationUtil.read(ByteBuffer.wrap(output.toByteArray()), ElementCodec.ofInt());
+
+        assertThat(list.toString()).isEqualTo("[-1, 2147483647]");
+    }
+
+    @Test
+    void readShouldTrowExceptionIfDataIncorrect() throws IOException {
+        var list = new ArrayList<Long>();
+        list.addAll(new Long[]{1L, 2L, 3L});
+        var bytes = write(list, ElementCodec.ofLong());
+
+        assertThrows(IllegalArgumentException.class, () -> SerializationUtil.read(ByteBuffer.wrap(bytes), ElementCodec.ofInt()));
+        assertThrows(IllegalArgumentException.class, () -> SerializationUtil.readLongs(ByteBuffer.wrap(bytes)));
+        assertThrows(EOFException.class, () -> SerializationUtil.read(ByteBuffer.wrap(bytes, 0, 30), ElementCodec.ofLong()));
+        assertThrows(EOFException.class, () -> SerializationUtil.read(
+                Channels.newChannel(new ByteArrayInputStream(Arrays.copyOf(bytes, 30))), ElementCodec.ofLong()));
+        assertThrows(EOFException.class, () -> SerializationUtil.readInts(ByteBuffer.allocate(10)));
+
+        var corrupted = bytes.clone();
+        corrupted[0]++;
+        assertThrows(IOException.class, () -> SerializationUtil.read(ByteBuffer.wrap(corrupted), ElementCodec.ofLong()));
+        corrupted[0]--;
+        corrupted[15] = -1;
+        assertThrows(IOException.class, () -> SerializationUtil.read(ByteBuffer.wrap(corrupted), ElementCodec.ofLong()));
+    }
+
+    @Test
+    void readFromBufferShouldNotMovePositionIfDataIncorrect() {
+        var buffer = ByteBuffer.allocate(40);
+        buffer.position(5);
+
+        assertThrows(IOException.class, () -> SerializationUtil.readDoubles(buffer));
+
+        assertThat(buffer.position()).isEqualTo(5);
+    }
+
+    private static <E> byte[] write(ArrayList<E> list, ElementCodec<E> codec) throws IOException {
+        var output = new ByteArrayOutputStream();
+        SerializationUtil.write(list, codec, Channels.newChannel(output));
+        return output.toByteArray();
+    }
+}
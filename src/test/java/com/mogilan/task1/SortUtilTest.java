@@ -6,8 +6,12 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.NullSource;
+import org.junit.jupiter.params.provider.ValueSource;
 
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -63,6 +67,231 @@ class SortUtilTest {
                 SortUtil.quicksort(integers, null, integers.length - 1));
     }
 
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 10, 1000, 100000})
+    void primitiveQuicksortSuccess(int length) {
+        var random = new Random(length);
+        var ints = random.ints(length, -100, 100).toArray();
+        var longs = random.longs(length).toArray();
+        var doubles = random.doubles(length).toArray();
+        doubles[0] = Double.NaN;
+        var expectingInts = ints.clone();
+        var expectingLongs = longs.clone();
+        var expectingDoubles = doubles.clone();
+        Arrays.sort(expectingInts);
+        Arrays.sort(expectingLongs);
+        Arrays.sort(expectingDoubles);
+
+        SortUtil.quicksort(ints, length - 1);
+        SortUtil.quicksort(longs, length - 1);
+        SortUtil.quicksort(doubles, length - 1);
+
+        assertThat(ints).isEqualTo(expectingInts);
+        assertThat(longs).isEqualTo(expectingLongs);
+        assertThat(doubles).isEqualTo(expectingDoubles);
+    }
+
+    @Test
+    void primitiveQuicksortShouldTrowExceptionIfArrayIsNullOrIndexIncorrect() {
+        assertThrows(NullPointerException.class, () -> SortUtil.quicksort((int[]) null, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> SortUtil.quicksort(new long[5], 5));
+        assertThrows(IndexOutOfBoundsException.class, () -> SortUtil.quicksort(new double[0], 0));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {2, 16, 1024, SortUtil.DEFAULT_PARALLEL_THRESHOLD})
+    void parallelQuicksortSuccess(int threshold) {
+        var pool = new ForkJoinPool(4);
+        try {
+            var random = new Random(threshold);
+            var array = random.ints(100000, -1000, 1000).boxed().toArray(Integer[]::new);
+            var expectingArray = array.clone();
+            Arrays.sort(expectingArray);
+
+            SortUtil.parallelQuicksort(array, Integer::compare, array.length - 1, pool, threshold);
+
+            assertThat(array).isEqualTo(expectingArray);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("getArgumentsForQuicksortSuccessWhenComparatorIsNullTest")
+    void parallelQuicksortSuccessWhenComparatorIsNull(Object[] array, Object[] expectingArray) {
+        SortUtil.parallelQuicksort(array, null, array.length - 1, ForkJoinPool.commonPool(), 2);
+
+        assertThat(array).isEqualTo(expectingArray);
+    }
+
+    @Test
+    void parallelQuicksortShouldTrowExceptionIfArgumentsIncorrect() {
+        var array = new Object[]{3, 2, 1};
+        var pool = ForkJoinPool.commonPool();
+
+        assertThrows(NullPointerException.class, () ->
+                SortUtil.parallelQuicksort(null, Integer::compare, 2, pool));
+        assertThrows(NullPointerException.class, () ->
+                SortUtil.parallelQuicksort(array, Integer::compare, 2, null));
+        assertThrows(IndexOutOfBoundsException.class, () ->
+                SortUtil.parallelQuicksort(array, Integer::compare, 3, pool));
+        assertThrows(IllegalArgumentException.class, () ->
+                SortUtil.parallelQuicksort(array, Integer::compare, 2, pool, 1));
+        assertThrows(ClassCastException.class, () ->
+                SortUtil.parallelQuicksort(new Object[]{"1", 1, 1.0}, null, 2, pool, 2));
+    }
+
+    @ParameterizedTest
+    @MethodSource("getArgumentsForQuicksortSuccessWhenComparatorIsNotNullTest")
+    void mergesortSuccessWhenComparatorIsNotNull(Object[] array, Comparator<? extends Object> comparator, Object[] expectingArray) {
+        SortUtil.mergesort(array, comparator, array.length - 1);
+
+        assertThat(array).isEqualTo(expectingArray);
+    }
+
+    @ParameterizedTest
+    @MethodSource("getArgumentsForQuicksortSuccessWhenComparatorIsNullTest")
+    void mergesortSuccessWhenComparatorIsNull(Object[] array, Object[] expectingArray) {
+        SortUtil.mergesort(array, null, array.length - 1);
+
+        assertThat(array).isEqualTo(expectingArray);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 31, 32, 33, 1000, 100000})
+    void mergesortSuccessAndStable(int length) {
+        var random = new Random(length);
+        var array = new PersonComparable[length];
+        for (int i = 0; i < length; i++) {
+            array[i] = new PersonComparable(random.nextInt(Math.max(1, length / 10)));
+        }
+        var expectingArray = array.clone();
+        Arrays.sort(expectingArray);
+
+        SortUtil.mergesort(array, null, length - 1);
+
+        assertThat(array).containsExactly(expectingArray);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {100, 10000})
+    void mergesortShouldBeAdaptiveForSortedInput(int length) {
+        var ascending = new Integer[length];
+        var descending = new Integer[length];
+        for (int i = 0; i < length; i++) {
+            ascending[i] = i;
+            descending[i] = length - i;
+        }
+        var comparisons = new int[1];
+        Comparator<Integer> countingComparator = (first, second) -> {
+            comparisons[0]++;
+            return Integer.compare(first, second);
+        };
+
+        SortUtil.mergesort(ascending, countingComparator, length - 1);
+        var comparisonsForAscending = comparisons[0];
+        comparisons[0] = 0;
+        SortUtil.mergesort(descending, countingComparator, length - 1);
+
+        assertThat(comparisonsForAscending).isEqualTo(length - 1);
+        assertThat(comparisons[0]).isEqualTo(length - 1);
+        assertThat(descending[0]).isEqualTo(1);
+        assertThat(descending[length - 1]).isEqualTo(length);
+    }
+
+    @Test
+    void mergesortShouldTrowExceptionIfArgumentsIncorrect() {
+        assertThrows(NullPointerException.class, () ->
+                SortUtil.mergesort(null, Integer::compare, 10));
+        assertThrows(IndexOutOfBoundsException.class, () ->
+                SortUtil.mergesort(new Integer[]{0, 1, 2, 3, 4}, Integer::compare, 5));
+        assertThrows(NullPointerException.class, () ->
+                SortUtil.mergesort(new Integer[]{0, 1, null, 3, 4}, null, 4));
+        assertThrows(ClassCastException.class, () ->
+                SortUtil.mergesort(new Object[]{"1", 1, 1.0}, null, 2));
+    }
+
+    @ParameterizedTest
+    @MethodSource("getArgumentsForQuicksortSuccessOnLargeInputTest")
+    void quicksortSuccessOnLargeInput(Integer[] array) {
+        var expectingArray = array.clone();
+        Arrays.sort(expectingArray);
+
+        SortUtil.quicksort(array, Integer::compare, array.length - 1);
+
+        assertThat(array).isEqualTo(expectingArray);
+    }
+
+    @Test
+    void quicksortShouldBeLinearIfAllElementsAreEqual() {
+        var length = 100000;
+        var array = new Integer[length];
+        Arrays.fill(array, 7);
+        var comparisons = new int[1];
+        Comparator<Integer> countingComparator = (first, second) -> {
+            comparisons[0]++;
+            return Integer.compare(first, second);
+        };
+
+        SortUtil.quicksort(array, countingComparator, length - 1);
+
+        assertThat(comparisons[0]).isLessThan(2 * length);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 31, 32, 1000, 10000})
+    void rangeSortsSuccessAndDontTouchOtherElements(int rangeLength) {
+        var random = new Random(rangeLength);
+        var array = new Integer[rangeLength + 20];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = random.nextInt(100);
+        }
+        var expectingArray = array.clone();
+        Arrays.sort(expectingArray, 10, 10 + rangeLength);
+        var mergesortedArray = array.clone();
+
+        SortUtil.quicksort(array, Integer::compare, 10, 9 + rangeLength);
+        SortUtil.mergesort(mergesortedArray, null, 10, 9 + rangeLength);
+
+        assertThat(array).isEqualTo(expectingArray);
+        assertThat(mergesortedArray).isEqualTo(expectingArray);
+    }
+
+    @Test
+    void rangeSortsShouldTrowExceptionIfRangeIncorrect() {
+        var array = new Integer[]{0, 1, 2, 3, 4};
+
+        assertThrows(IndexOutOfBoundsException.class, () -> SortUtil.quicksort(array, null, -1, 3));
+        assertThrows(IndexOutOfBoundsException.class, () -> SortUtil.quicksort(array, null, 3, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> SortUtil.quicksort(array, null, 0, 5));
+        assertThrows(IndexOutOfBoundsException.class, () -> SortUtil.mergesort(array, null, 4, 3));
+        assertThrows(NullPointerException.class, () -> SortUtil.mergesort(null, null, 0, 1));
+    }
+
+    static Stream<Arguments> getArgumentsForQuicksortSuccessOnLargeInputTest() {
+        var length = 1000000;
+        var random = new Random(length);
+        var ascending = new Integer[length];
+        var descending = new Integer[length];
+        var organPipe = new Integer[length];
+        var sawtooth = new Integer[length];
+        var fewDistinct = new Integer[length];
+        for (int i = 0; i < length; i++) {
+            ascending[i] = i;
+            descending[i] = length - i;
+            organPipe[i] = i < length / 2 ? i : length - i;
+            sawtooth[i] = i % 1000;
+            fewDistinct[i] = random.nextInt(3);
+        }
+        return Stream.of(
+                Arguments.of((Object) ascending),
+                Arguments.of((Object) descending),
+                Arguments.of((Object) organPipe),
+                Arguments.of((Object) sawtooth),
+                Arguments.of((Object) fewDistinct)
+        );
+    }
+
     static Stream<Arguments> getArgumentsForQuicksortShouldTrowExceptionIfIndexIncorrectTest() {
         return Stream.of(
                 Arguments.of(new Integer[]{}, 100),